@@ -1,6 +1,8 @@
 package io.github.flashlack1314.smartschedulecore.config;
 
+import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,6 +15,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class MybatisPlusConfig {
 
+    /**
+     * 单页最大行数（与列表接口的 pageSize 上限一致）
+     */
+    private static final long MAX_PAGE_SIZE = 100L;
+
     /**
      * MyBatis Plus拦截器配置
      *
@@ -22,10 +29,12 @@ public class MybatisPlusConfig {
     public MybatisPlusInterceptor mybatisPlusInterceptor() {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
 
-        // TODO: 确认MyBatis Plus 3.5.15的正确分页插件类名
-        // 暂时不添加分页插件，需要找到正确的类名
-        // interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.POSTGRE_SQL));
+        // 分页插件（3.5.9 起位于 mybatis-plus-jsqlparser 模块）：分页查询追加 LIMIT/OFFSET，
+        // 统计总数时去掉 ORDER BY 并优化掉无关的 LEFT JOIN
+        PaginationInnerInterceptor pagination = new PaginationInnerInterceptor(DbType.POSTGRE_SQL);
+        pagination.setMaxLimit(MAX_PAGE_SIZE);
+        interceptor.addInnerInterceptor(pagination);
 
         return interceptor;
     }
-}
\ No newline at end of file
+}
@@ -23,6 +23,8 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * 数据库初始化配置类
@@ -36,6 +38,16 @@ import java.util.List;
 @EnableConfigurationProperties(DatabaseInitializationConfig.DatabaseInitProperties.class)
 public class DatabaseInitializationConfig {
 
+    /**
+     * 表结构检查时识别的表类型（按学期分区的表为 PARTITIONED TABLE）
+     */
+    private static final String[] TABLE_TYPES = {"TABLE", "PARTITIONED TABLE"};
+
+    /**
+     * PostgreSQL 美元引用标记（$$ 或 $tag$），其中的分号属于函数体
+     */
+    private static final Pattern DOLLAR_QUOTE = Pattern.compile("\\$([A-Za-z_][A-Za-z0-9_]*)?\\$");
+
     private final JdbcTemplate jdbcTemplate;
     private final DatabaseInitProperties properties;
     private final BasicDataInitializer basicDataInitializer;
@@ -71,6 +83,11 @@ public class DatabaseInitializationConfig {
          * SQL文件路径（与tables顺序一一对应）
          */
         private List<String> sqlFiles = new ArrayList<>();
+
+        /**
+         * 增量SQL文件（表结构检查完成后每次启动都执行，需保证可重复执行）
+         */
+        private List<String> migrationFiles = new ArrayList<>();
     }
 
     @Bean
@@ -95,6 +112,7 @@ public class DatabaseInitializationConfig {
                     dropAllTables();
                     createAllTables();
                     basicDataInitializer.initializeBasicData();
+                    runMigrations();
                     log.info("强制重新创建模式完成");
                     return;
                 }
@@ -102,6 +120,7 @@ public class DatabaseInitializationConfig {
                 // 场景2: 表都存在 - 不做任何操作
                 if (missingTables.isEmpty()) {
                     log.info("数据库表结构检查通过，所有必需的表都存在，跳过初始化");
+                    runMigrations();
                     return;
                 }
 
@@ -115,6 +134,7 @@ public class DatabaseInitializationConfig {
                     createMissingTables(missingTables);
                 }
                 basicDataInitializer.initializeBasicData();
+                runMigrations();
                 log.info("表结构修复和数据初始化完成");
 
             } catch (DatabaseInitializationException e) {
@@ -138,7 +158,7 @@ public class DatabaseInitializationConfig {
                 DatabaseMetaData metaData = connection.getMetaData();
 
                 for (String tableName : properties.getTables()) {
-                    try (ResultSet tables = metaData.getTables(null, "public", tableName, new String[]{"TABLE"})) {
+                    try (ResultSet tables = metaData.getTables(null, "public", tableName, TABLE_TYPES)) {
                         if (!tables.next()) {
                             missingTables.add(tableName);
                             log.warn("表 {} 不存在", tableName);
@@ -215,6 +235,16 @@ public class DatabaseInitializationConfig {
         log.info("缺失表创建完成");
     }
 
+    /**
+     * 执行增量SQL文件
+     */
+    private void runMigrations() throws Exception {
+        for (String migrationFile : properties.getMigrationFiles()) {
+            log.debug("执行增量脚本: {}", migrationFile);
+            executeSqlFile(migrationFile);
+        }
+    }
+
     /**
      * 执行SQL文件
      */
@@ -241,8 +271,8 @@ public class DatabaseInitializationConfig {
             }
         }
 
-        // 分割SQL语句（以分号结尾）
-        String[] sqlStatements = cleanedSql.toString().split(";");
+        // 分割SQL语句（以分号结尾，字符串和函数体内的分号除外）
+        List<String> sqlStatements = splitStatements(cleanedSql.toString());
 
         int statementCount = 0;
         for (String sql : sqlStatements) {
@@ -267,6 +297,47 @@ public class DatabaseInitializationConfig {
         }
     }
 
+    /**
+     * 按分号分割SQL语句，跳过单引号字符串和美元引用函数体（$$ ... $$）内的分号
+     */
+    static List<String> splitStatements(String sql) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        Matcher dollar = DOLLAR_QUOTE.matcher(sql);
+        String dollarTag = null;
+        boolean quoted = false;
+        int i = 0;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (dollarTag != null) {
+                if (sql.startsWith(dollarTag, i)) {
+                    current.append(dollarTag);
+                    i += dollarTag.length();
+                    dollarTag = null;
+                    continue;
+                }
+            } else if (quoted) {
+                quoted = c != '\'';
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '$' && dollar.region(i, sql.length()).lookingAt()) {
+                dollarTag = dollar.group();
+                current.append(dollarTag);
+                i += dollarTag.length();
+                continue;
+            } else if (c == ';') {
+                statements.add(current.toString());
+                current.setLength(0);
+                i++;
+                continue;
+            }
+            current.append(c);
+            i++;
+        }
+        statements.add(current.toString());
+        return statements;
+    }
+
     /**
      * 执行单条SQL语句
      */
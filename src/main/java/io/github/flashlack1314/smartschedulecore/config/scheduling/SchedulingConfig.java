@@ -0,0 +1,185 @@
+package io.github.flashlack1314.smartschedulecore.config.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.PropagationOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.AnnealingOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.GeneticOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.PortfolioOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TabuOptions;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 排课配置类
+ * 读取 app.scheduling.* 下的排课时间网格与求解参数
+ *
+ * @author flash
+ */
+@Configuration
+@EnableConfigurationProperties(SchedulingConfig.SchedulingProperties.class)
+public class SchedulingConfig {
+
+    /**
+     * 排课求解专用线程池
+     * 与 Web 请求线程、公共 ForkJoinPool 隔离，避免长时间求解占满共享线程
+     *
+     * @param schedulingProperties 排课配置属性
+     * @return ForkJoinPool 实例
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool schedulingPool(SchedulingProperties schedulingProperties) {
+        int parallelism = schedulingProperties.getParallelism() > 0
+                ? schedulingProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * 后台排课任务线程池
+     * 长时间的求解在此执行，不占用 Web 请求线程；超出并发数的任务排队等待，队列满时拒绝提交
+     *
+     * @param schedulingProperties 排课配置属性
+     * @return 线程池
+     */
+    @Bean
+    public ThreadPoolTaskExecutor schedulingRunExecutor(SchedulingProperties schedulingProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int runs = Math.max(1, schedulingProperties.getMaxConcurrentRuns());
+        executor.setCorePoolSize(runs);
+        executor.setMaxPoolSize(runs);
+        executor.setQueueCapacity(Math.max(0, schedulingProperties.getMaxQueuedRuns()));
+        executor.setThreadNamePrefix("scheduling-run-");
+        return executor;
+    }
+
+    /**
+     * 组合求解线程池
+     * 每个组合求解任务的每个优化策略占用一个线程，容量按同时执行的后台任务数预留
+     *
+     * @param schedulingProperties 排课配置属性
+     * @return 线程池
+     */
+    @Bean
+    public ThreadPoolTaskExecutor schedulingPortfolioExecutor(SchedulingProperties schedulingProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int threads = Math.max(1, schedulingProperties.getMaxConcurrentRuns())
+                * Math.max(1, schedulingProperties.getPortfolio().getStrategies().size());
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("scheduling-portfolio-");
+        return executor;
+    }
+
+    /**
+     * 院系分区求解线程池
+     * 按院系分解求解时每个分区占用一个线程，线程数与求解线程池并行度相同，超出的分区排队等待
+     *
+     * @param schedulingProperties 排课配置属性
+     * @return 线程池
+     */
+    @Bean
+    public ThreadPoolTaskExecutor schedulingPartitionExecutor(SchedulingProperties schedulingProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int threads = schedulingProperties.getParallelism() > 0
+                ? schedulingProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("scheduling-partition-");
+        return executor;
+    }
+
+    /**
+     * 排课进度推送调度器
+     *
+     * @return 调度器
+     */
+    @Bean
+    public ThreadPoolTaskScheduler schedulingProgressScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-progress-");
+        return scheduler;
+    }
+
+    /**
+     * 排课配置属性
+     */
+    @Getter
+    @Setter
+    @ConfigurationProperties(prefix = "app.scheduling")
+    public static class SchedulingProperties {
+        /**
+         * 每周可排课天数（从星期一开始）
+         */
+        private int daysPerWeek = 5;
+
+        /**
+         * 每天节次数
+         */
+        private int periodsPerDay = 12;
+
+        /**
+         * 求解线程池并行度，0 表示使用全部 CPU 核心
+         */
+        private int parallelism = 0;
+
+        /**
+         * 同时执行的后台排课任务数
+         */
+        private int maxConcurrentRuns = 2;
+
+        /**
+         * 排队等待执行的后台排课任务数上限，超出时拒绝提交
+         */
+        private int maxQueuedRuns = 8;
+
+        /**
+         * 后台排课任务的进度推送间隔（毫秒）
+         */
+        private long progressIntervalMillis = 1_000L;
+
+        /**
+         * 后台排课任务结束后保留结果的时长（毫秒）
+         */
+        private long runRetentionMillis = 600_000L;
+
+        /**
+         * 遗传算法参数
+         */
+        private GeneticOptions genetic = new GeneticOptions();
+
+        /**
+         * 模拟退火参数
+         */
+        private AnnealingOptions annealing = new AnnealingOptions();
+
+        /**
+         * 禁忌搜索参数
+         */
+        private TabuOptions tabu = new TabuOptions();
+
+        /**
+         * 组合求解参数
+         */
+        private PortfolioOptions portfolio = new PortfolioOptions();
+
+        /**
+         * 跨校区通行约束参数
+         */
+        private CampusTravelOptions travel = new CampusTravelOptions();
+
+        /**
+         * 求解前约束传播参数
+         */
+        private PropagationOptions propagation = new PropagationOptions();
+    }
+}
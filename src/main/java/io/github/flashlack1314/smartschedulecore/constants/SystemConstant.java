@@ -110,4 +110,81 @@ public class SystemConstant {
             throw new UnsupportedOperationException("Utility class");
         }
     }
+
+    /**
+     * 排课时间网格相关常量
+     */
+    public static class Scheduling {
+        /**
+         * 学期最大周数（周次位图使用一个 long 表示）
+         */
+        public static final int MAX_WEEKS = 64;
+
+        /**
+         * 每周天数（星期 1-7）
+         */
+        public static final int DAYS_PER_WEEK = 7;
+
+        /**
+         * 每天最大节次数（节次位图使用一个 int 的低位表示）
+         */
+        public static final int MAX_PERIODS_PER_DAY = 16;
+
+        /**
+         * 时间网格单元数（星期 × 节次）
+         */
+        public static final int GRID_CELLS = DAYS_PER_WEEK * MAX_PERIODS_PER_DAY;
+
+        /**
+         * 流式加载时每次从数据库抓取的行数
+         */
+        public static final int STREAM_FETCH_SIZE = 1000;
+
+        private Scheduling() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+    }
+
+    /**
+     * 课表版本状态（与 sc_schedule_version.version_status 取值一致）
+     */
+    public static class ScheduleVersion {
+        /**
+         * 草稿
+         */
+        public static final int DRAFT = 0;
+
+        /**
+         * 已发布（学期内至多一个）
+         */
+        public static final int PUBLISHED = 1;
+
+        /**
+         * 已归档
+         */
+        public static final int ARCHIVED = 2;
+
+        private ScheduleVersion() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+    }
+
+    /**
+     * 批量导入相关常量
+     */
+    public static class Import {
+        /**
+         * 每次 COPY 写入的行数（内存中最多缓存一批）
+         */
+        public static final int CHUNK_SIZE = 1000;
+
+        /**
+         * 返回的行级错误上限（超出只计数）
+         */
+        public static final int MAX_ERRORS = 500;
+
+        private Import() {
+            throw new UnsupportedOperationException("Utility class");
+        }
+    }
 }
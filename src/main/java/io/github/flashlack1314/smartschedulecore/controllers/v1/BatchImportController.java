@@ -0,0 +1,110 @@
+package io.github.flashlack1314.smartschedulecore.controllers.v1;
+
+import io.github.flashlack1314.smartschedulecore.annotation.RequireRole;
+import io.github.flashlack1314.smartschedulecore.models.dto.BatchImportDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ResultVO;
+import io.github.flashlack1314.smartschedulecore.services.BatchImportService;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 批量导入控制器
+ * <p>上传 csv/xlsx/xls 文件（表单字段 file），第一行为列名</p>
+ *
+ * @author flash
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class BatchImportController {
+
+    private final BatchImportService batchImportService;
+
+    /**
+     * 批量导入学校
+     *
+     * @param file 导入文件
+     * @return 导入结果
+     */
+    @PostMapping(value = "/schools/batch-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequireRole("admin")
+    public ResultVO<BatchImportDTO> importSchools(@RequestPart("file") MultipartFile file) {
+        BatchImportDTO result = batchImportService.importSchools(file);
+        return ResultVO.success("导入完成", result);
+    }
+
+    /**
+     * 批量导入院系
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    @PostMapping(value = "/departments/batch-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequireRole({"admin", "academic"})
+    public ResultVO<BatchImportDTO> importDepartments(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestPart("file") MultipartFile file
+    ) {
+        BatchImportDTO result = batchImportService.importDepartments(schoolUuid, file);
+        return ResultVO.success("导入完成", result);
+    }
+
+    /**
+     * 批量导入专业
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    @PostMapping(value = "/majors/batch-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequireRole({"admin", "academic"})
+    public ResultVO<BatchImportDTO> importMajors(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestPart("file") MultipartFile file
+    ) {
+        BatchImportDTO result = batchImportService.importMajors(schoolUuid, file);
+        return ResultVO.success("导入完成", result);
+    }
+
+    /**
+     * 批量导入教师
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    @PostMapping(value = "/teachers/batch-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequireRole({"admin", "academic"})
+    public ResultVO<BatchImportDTO> importTeachers(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestPart("file") MultipartFile file
+    ) {
+        BatchImportDTO result = batchImportService.importTeachers(schoolUuid, file);
+        return ResultVO.success("导入完成", result);
+    }
+
+    /**
+     * 批量导入学生
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    @PostMapping(value = "/students/batch-import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RequireRole({"admin", "academic"})
+    public ResultVO<BatchImportDTO> importStudents(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestPart("file") MultipartFile file
+    ) {
+        BatchImportDTO result = batchImportService.importStudents(schoolUuid, file);
+        return ResultVO.success("导入完成", result);
+    }
+}
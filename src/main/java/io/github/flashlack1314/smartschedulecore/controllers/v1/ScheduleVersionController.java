@@ -0,0 +1,106 @@
+package io.github.flashlack1314.smartschedulecore.controllers.v1;
+
+import io.github.flashlack1314.smartschedulecore.annotation.RequireRole;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDiffDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ResultVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ScheduleVersionCreateVO;
+import io.github.flashlack1314.smartschedulecore.services.ScheduleVersionService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 课表版本控制器
+ *
+ * @author flash
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scheduling/versions")
+public class ScheduleVersionController {
+
+    private final ScheduleVersionService scheduleVersionService;
+
+    /**
+     * 把学期当前课表保存为草稿版本
+     *
+     * @param scheduleVersionCreateVO 版本参数
+     * @return 新版本
+     */
+    @PostMapping
+    @RequireRole({"admin", "academic"})
+    public ResultVO<ScheduleVersionDTO> createVersion(
+            @Valid @RequestBody ScheduleVersionCreateVO scheduleVersionCreateVO
+    ) {
+        ScheduleVersionDTO result = scheduleVersionService.createVersion(scheduleVersionCreateVO);
+        return ResultVO.success("版本保存成功", result);
+    }
+
+    /**
+     * 查询学期的课表版本
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 版本列表
+     */
+    @GetMapping
+    @RequireRole({"admin", "academic"})
+    public ResultVO<List<ScheduleVersionDTO>> listVersions(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestParam("semesterUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确") String semesterUuid
+    ) {
+        List<ScheduleVersionDTO> result = scheduleVersionService.listVersions(schoolUuid, semesterUuid);
+        return ResultVO.success("查询成功", result);
+    }
+
+    /**
+     * 发布版本（写回学期当前课表）
+     *
+     * @param versionUuid 版本UUID
+     * @return 发布后的版本
+     */
+    @PostMapping("/{versionUuid}/publish")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<ScheduleVersionDTO> publishVersion(
+            @PathVariable("versionUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "版本UUID格式不正确") String versionUuid
+    ) {
+        ScheduleVersionDTO result = scheduleVersionService.publishVersion(versionUuid);
+        return ResultVO.success("版本发布成功", result);
+    }
+
+    /**
+     * 归档草稿版本
+     *
+     * @param versionUuid 版本UUID
+     * @return 归档后的版本
+     */
+    @PostMapping("/{versionUuid}/archive")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<ScheduleVersionDTO> archiveVersion(
+            @PathVariable("versionUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "版本UUID格式不正确") String versionUuid
+    ) {
+        ScheduleVersionDTO result = scheduleVersionService.archiveVersion(versionUuid);
+        return ResultVO.success("版本归档成功", result);
+    }
+
+    /**
+     * 比较两个版本
+     *
+     * @param fromVersionUuid 基准版本UUID
+     * @param toVersionUuid   目标版本UUID
+     * @return 版本差异
+     */
+    @GetMapping("/diff")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<ScheduleVersionDiffDTO> diffVersions(
+            @RequestParam("from") @Pattern(regexp = "^[a-f0-9]{32}$", message = "基准版本UUID格式不正确") String fromVersionUuid,
+            @RequestParam("to") @Pattern(regexp = "^[a-f0-9]{32}$", message = "目标版本UUID格式不正确") String toVersionUuid
+    ) {
+        ScheduleVersionDiffDTO result = scheduleVersionService.diffVersions(fromVersionUuid, toVersionUuid);
+        return ResultVO.success("比较完成", result);
+    }
+}
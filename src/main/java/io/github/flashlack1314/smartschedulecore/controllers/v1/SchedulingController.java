@@ -0,0 +1,230 @@
+package io.github.flashlack1314.smartschedulecore.controllers.v1;
+
+import io.github.flashlack1314.smartschedulecore.annotation.RequireRole;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AutoScheduleDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ConflictDetectDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.DomainPropagationDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.FreeRoomDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.SchedulingRunDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TeacherSatisfactionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TimeSlotAssignmentDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AssignmentAdjustVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ConflictDetectVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.FreeRoomQueryVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ResultVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.TimeSlotQueryVO;
+import io.github.flashlack1314.smartschedulecore.services.ConflictService;
+import io.github.flashlack1314.smartschedulecore.services.SchedulingRunService;
+import io.github.flashlack1314.smartschedulecore.services.SchedulingService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 排课控制器
+ *
+ * @author flash
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/scheduling")
+public class SchedulingController {
+
+    private final SchedulingService schedulingService;
+    private final ConflictService conflictService;
+    private final SchedulingRunService schedulingRunService;
+
+    /**
+     * 自动排课
+     *
+     * @param autoScheduleVO 自动排课参数
+     * @return 排课结果
+     */
+    @PostMapping("/auto")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<AutoScheduleDTO> autoSchedule(
+            @Valid @RequestBody AutoScheduleVO autoScheduleVO
+    ) {
+        AutoScheduleDTO result = schedulingService.autoSchedule(autoScheduleVO);
+        return ResultVO.success("排课完成", result);
+    }
+
+    /**
+     * 提交后台自动排课任务
+     *
+     * @param autoScheduleVO 自动排课参数
+     * @return 任务状态（含任务ID）
+     */
+    @PostMapping("/runs")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<SchedulingRunDTO> startRun(
+            @Valid @RequestBody AutoScheduleVO autoScheduleVO
+    ) {
+        SchedulingRunDTO result = schedulingRunService.startRun(autoScheduleVO);
+        return ResultVO.success("排课任务已提交", result);
+    }
+
+    /**
+     * 订阅后台排课任务进度（SSE）
+     *
+     * @param runId 任务ID
+     * @return SSE 连接
+     */
+    @GetMapping(value = "/runs/{runId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequireRole({"admin", "academic"})
+    public SseEmitter subscribeRun(
+            @PathVariable("runId") @Pattern(regexp = "^[a-f0-9]{32}$", message = "任务ID格式不正确") String runId
+    ) {
+        return schedulingRunService.subscribe(runId);
+    }
+
+    /**
+     * 查询后台排课任务状态
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    @GetMapping("/runs/{runId}")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<SchedulingRunDTO> getRun(
+            @PathVariable("runId") @Pattern(regexp = "^[a-f0-9]{32}$", message = "任务ID格式不正确") String runId
+    ) {
+        SchedulingRunDTO result = schedulingRunService.getRun(runId);
+        return ResultVO.success("查询成功", result);
+    }
+
+    /**
+     * 提前结束后台排课任务并采用当前最优解
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    @PostMapping("/runs/{runId}/accept")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<SchedulingRunDTO> acceptRun(
+            @PathVariable("runId") @Pattern(regexp = "^[a-f0-9]{32}$", message = "任务ID格式不正确") String runId
+    ) {
+        SchedulingRunDTO result = schedulingRunService.acceptRun(runId);
+        return ResultVO.success("已请求停止", result);
+    }
+
+    /**
+     * 取消后台排课任务（不写回结果）
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    @DeleteMapping("/runs/{runId}")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<SchedulingRunDTO> cancelRun(
+            @PathVariable("runId") @Pattern(regexp = "^[a-f0-9]{32}$", message = "任务ID格式不正确") String runId
+    ) {
+        SchedulingRunDTO result = schedulingRunService.cancelRun(runId);
+        return ResultVO.success("已请求取消", result);
+    }
+
+    /**
+     * 手动调整单条排课
+     *
+     * @param uuid               排课UUID
+     * @param assignmentAdjustVO 调整参数
+     * @return 调整结果（含调整后的冲突）
+     */
+    @PutMapping("/adjust/{uuid}")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<AssignmentAdjustDTO> adjustAssignment(
+            @PathVariable("uuid") @NotBlank String uuid,
+            @Valid @RequestBody AssignmentAdjustVO assignmentAdjustVO
+    ) {
+        assignmentAdjustVO.setAssignmentUuid(uuid);
+        AssignmentAdjustDTO result = schedulingService.adjustAssignment(assignmentAdjustVO);
+        return ResultVO.success("调整成功", result);
+    }
+
+    /**
+     * 批量检测学期冲突
+     *
+     * @param conflictDetectVO 检测参数
+     * @return 检测结果
+     */
+    @PostMapping("/conflicts/detect")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<ConflictDetectDTO> detectConflicts(
+            @Valid @RequestBody ConflictDetectVO conflictDetectVO
+    ) {
+        ConflictDetectDTO result = conflictService.detectConflicts(conflictDetectVO);
+        return ResultVO.success("冲突检测完成", result);
+    }
+
+    /**
+     * 查询教师偏好满意度
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 每位教师的满意度明细
+     */
+    @GetMapping("/preferences/satisfaction")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<List<TeacherSatisfactionDTO>> getTeacherSatisfaction(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestParam("semesterUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确") String semesterUuid
+    ) {
+        List<TeacherSatisfactionDTO> result = schedulingService.getTeacherSatisfaction(schoolUuid, semesterUuid);
+        return ResultVO.success("查询成功", result);
+    }
+
+    /**
+     * 按固定排课执行约束传播，查询各排课的可选位置与不可行的排课
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 约束传播结果
+     */
+    @GetMapping("/domains")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<DomainPropagationDTO> getDomainPropagation(
+            @RequestParam("schoolUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确") String schoolUuid,
+            @RequestParam("semesterUuid") @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确") String semesterUuid
+    ) {
+        DomainPropagationDTO result = schedulingService.getDomainPropagation(schoolUuid, semesterUuid);
+        return ResultVO.success("查询成功", result);
+    }
+
+    /**
+     * 查询空闲教室
+     *
+     * @param freeRoomQueryVO 查询参数
+     * @return 空闲教室（按容量升序）
+     */
+    @PostMapping("/rooms/free")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<List<FreeRoomDTO>> searchFreeRooms(
+            @Valid @RequestBody FreeRoomQueryVO freeRoomQueryVO
+    ) {
+        List<FreeRoomDTO> result = schedulingService.searchFreeRooms(freeRoomQueryVO);
+        return ResultVO.success("查询成功", result);
+    }
+
+    /**
+     * 查询指定周次、星期、节次的排课
+     *
+     * @param timeSlotQueryVO 查询参数
+     * @return 排课列表
+     */
+    @PostMapping("/assignments/at")
+    @RequireRole({"admin", "academic"})
+    public ResultVO<List<TimeSlotAssignmentDTO>> searchAssignmentsAt(
+            @Valid @RequestBody TimeSlotQueryVO timeSlotQueryVO
+    ) {
+        List<TimeSlotAssignmentDTO> result = schedulingService.searchAssignmentsAt(timeSlotQueryVO);
+        return ResultVO.success("查询成功", result);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.flashlack1314.smartschedulecore.controllers.v1;
 
 import io.github.flashlack1314.smartschedulecore.annotation.RequireRole;
+import io.github.flashlack1314.smartschedulecore.models.dto.KeysetPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.vo.ResultVO;
@@ -57,6 +58,38 @@ public class SchoolController {
         return ResultVO.success("查询成功", schoolPage);
     }
 
+    /**
+     * 游标分页查询学校列表
+     *
+     * @param cursor     上一页返回的游标（首页不传）
+     * @param pageSize   每页大小
+     * @param withTotal  首页是否统计总数
+     * @param schoolName 学校名称（模糊查询）
+     * @param schoolCode 学校代码
+     * @param schoolType 学校类型
+     * @return 学校游标分页列表
+     */
+    @GetMapping("/cursor")
+    public ResultVO<KeysetPageDTO<SchoolDTO>> getSchoolsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "pageSize", defaultValue = "10") @Min(value = 1, message = "每页大小必须大于0") @Max(value = 100, message = "每页大小不能超过100") Integer pageSize,
+            @RequestParam(value = "withTotal", defaultValue = "false") Boolean withTotal,
+            @RequestParam(value = "schoolName", required = false) String schoolName,
+            @RequestParam(value = "schoolCode", required = false) String schoolCode,
+            @RequestParam(value = "schoolType", required = false) String schoolType) {
+
+        SchoolQueryVO queryVO = new SchoolQueryVO();
+        queryVO.setCursor(cursor);
+        queryVO.setPageSize(pageSize);
+        queryVO.setWithTotal(withTotal);
+        queryVO.setSchoolName(schoolName);
+        queryVO.setSchoolCode(schoolCode);
+        queryVO.setSchoolType(schoolType);
+
+        KeysetPageDTO<SchoolDTO> schoolPage = schoolService.getSchoolKeysetPage(queryVO);
+        return ResultVO.success("查询成功", schoolPage);
+    }
+
     /**
      * 根据UUID获取学校详情
      *
@@ -1,10 +1,13 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.AdministrativeClassMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.AdministrativeClassDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 行政班数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class AdministrativeClassDAO extends ServiceImpl<AdministrativeClassMapper, AdministrativeClassDO> {
 
+    /**
+     * 查询指定学校的全部行政班
+     *
+     * @param schoolUuid 学校UUID
+     * @return 行政班列表
+     */
+    public List<AdministrativeClassDO> selectBySchool(String schoolUuid) {
+        LambdaQueryWrapper<AdministrativeClassDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(AdministrativeClassDO::getSchoolUuid, schoolUuid);
+        return this.list(wrapper);
+    }
 }
@@ -0,0 +1,92 @@
+package io.github.flashlack1314.smartschedulecore.daos;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * 通用批量写入器
+ * <p>
+ * 通过 PostgreSQL COPY 一次写入多行，连接取自当前 Spring 事务（与 MyBatis 共用），
+ * 事务回滚时已写入的行一并回滚。未列出的列取数据库默认值（如 created_at）
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BulkCopyWriter {
+
+    private final DataSource dataSource;
+
+    /**
+     * 批量写入（需在事务内调用）
+     *
+     * @param table   表名
+     * @param columns 列名（与每行取值一一对应）
+     * @param rows    行数据（null 写为 NULL）
+     * @return 写入的行数
+     */
+    public long copy(String table, String[] columns, Collection<String[]> rows) {
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(sql, new StringReader(toCsv(rows)));
+        } catch (SQLException | IOException e) {
+            log.error("批量写入失败: table={}", table, e);
+            throw new BusinessException("批量写入失败: " + e.getMessage(), ErrorCode.DATABASE_ERROR);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 把行数据编码为 COPY 使用的 CSV：null 写为空（COPY 读作 NULL），其余加引号并转义引号
+     *
+     * @param rows 行数据
+     * @return CSV 文本
+     */
+    static String toCsv(Collection<String[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 160);
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                String value = row[i];
+                if (value == null) {
+                    continue;
+                }
+                csv.append('"');
+                for (int c = 0; c < value.length(); c++) {
+                    char ch = value.charAt(c);
+                    if (ch == '"') {
+                        csv.append('"');
+                    }
+                    csv.append(ch);
+                }
+                csv.append('"');
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
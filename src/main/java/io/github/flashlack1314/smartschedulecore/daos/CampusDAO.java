@@ -1,10 +1,13 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.CampusMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.CampusDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 校区数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,19 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class CampusDAO extends ServiceImpl<CampusMapper, CampusDO> {
 
+    /**
+     * 查询学校的全部启用校区（仅排课所需列）
+     *
+     * @param schoolUuid 学校UUID
+     * @return 校区列表
+     */
+    public List<CampusDO> selectEnabledBySchool(String schoolUuid) {
+        LambdaQueryWrapper<CampusDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(CampusDO::getCampusUuid, CampusDO::getSchoolUuid, CampusDO::getLatitude,
+                        CampusDO::getLongitude)
+                .eq(CampusDO::getSchoolUuid, schoolUuid)
+                .eq(CampusDO::getIsEnabled, true)
+                .orderByAsc(CampusDO::getCampusUuid);
+        return this.list(wrapper);
+    }
 }
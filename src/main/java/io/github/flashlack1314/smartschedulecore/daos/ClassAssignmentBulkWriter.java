@@ -0,0 +1,188 @@
+package io.github.flashlack1314.smartschedulecore.daos;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 排课批量写入器
+ * <p>
+ * 排课结果先通过 PostgreSQL COPY 写入事务级临时表，再用一条 UPDATE ... FROM 合并到 `sc_class_assignment`，
+ * 整个学期只需三条语句。连接取自当前 Spring 事务（与 MyBatis 共用），合并语句执行后行锁保持到事务提交；
+ * PostgreSQL 的读操作不受行锁影响，调用方应把写回放在事务的最后一步以缩短写锁时间。
+ * 写回基于较早读取的数据时，可同时暂存读取时的教师、上课时间与教室，只更新数据库中仍与之相同的行，
+ * 避免覆盖期间其它操作（如手工调整）的修改。
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ClassAssignmentBulkWriter {
+
+    private static final String CREATE_STAGE = """
+            CREATE TEMP TABLE IF NOT EXISTS tmp_assignment_placement
+            (
+                class_assignment_uuid VARCHAR(32) NOT NULL,
+                teacher_uuid          VARCHAR(32),
+                class_time            JSONB,
+                classroom_uuid        VARCHAR(32),
+                building_uuid         VARCHAR(32),
+                campus_uuid           VARCHAR(32),
+                prev_teacher_uuid     VARCHAR(32),
+                prev_class_time       JSONB,
+                prev_classroom_uuid   VARCHAR(32)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGE = """
+            COPY tmp_assignment_placement (class_assignment_uuid, teacher_uuid, class_time, classroom_uuid,
+                                           building_uuid, campus_uuid, prev_teacher_uuid, prev_class_time,
+                                           prev_classroom_uuid)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    /**
+     * 暂存列为 null 表示保持原值（用于只写回变化字段的排课结果）。
+     * 按学期过滤使合并只扫描该学期的分区
+     */
+    private static final String MERGE_STAGE = """
+            UPDATE sc_class_assignment t
+            SET teacher_uuid   = COALESCE(s.teacher_uuid, t.teacher_uuid),
+                class_time     = COALESCE(s.class_time, t.class_time),
+                classroom_uuid = COALESCE(s.classroom_uuid, t.classroom_uuid),
+                building_uuid  = COALESCE(s.building_uuid, t.building_uuid),
+                campus_uuid    = COALESCE(s.campus_uuid, t.campus_uuid),
+                updated_at     = CURRENT_TIMESTAMP
+            FROM tmp_assignment_placement s
+            WHERE t.semester_uuid = ?
+              AND t.class_assignment_uuid = s.class_assignment_uuid
+            """;
+
+    /**
+     * 只更新教师、上课时间、教室仍与读取时相同的行（JSONB 按内容比较，与键顺序无关）
+     */
+    private static final String UNCHANGED_SINCE_LOAD = """
+              AND t.teacher_uuid IS NOT DISTINCT FROM s.prev_teacher_uuid
+              AND t.class_time IS NOT DISTINCT FROM s.prev_class_time
+              AND t.classroom_uuid IS NOT DISTINCT FROM s.prev_classroom_uuid
+            """;
+
+    /**
+     * 按暂存值原样写入（null 写为 NULL，用于恢复课表版本）
+     */
+    private static final String REPLACE_STAGE = """
+            UPDATE sc_class_assignment t
+            SET teacher_uuid   = s.teacher_uuid,
+                class_time     = s.class_time,
+                classroom_uuid = s.classroom_uuid,
+                building_uuid  = s.building_uuid,
+                campus_uuid    = s.campus_uuid,
+                updated_at     = CURRENT_TIMESTAMP
+            FROM tmp_assignment_placement s
+            WHERE t.semester_uuid = ?
+              AND t.class_assignment_uuid = s.class_assignment_uuid
+            """;
+
+    private static final String RETURNING = "RETURNING t.class_assignment_uuid";
+
+    private static final String DROP_STAGE = "DROP TABLE IF EXISTS tmp_assignment_placement";
+
+    private final DataSource dataSource;
+
+    /**
+     * 批量写入排课的教师、上课时间与教室（需在事务内调用），各字段按给定值原样写入，null 写为 NULL
+     *
+     * @param semesterUuid 排课所属学期UUID
+     * @param rows         完整的排课位置（五个字段均为目标值）
+     * @return 实际更新的排课UUID
+     */
+    public Set<String> replace(String semesterUuid, Collection<ClassAssignmentDO> rows) {
+        return execute(REPLACE_STAGE + RETURNING, semesterUuid, rows, null);
+    }
+
+    /**
+     * 批量写回排课结果（需在事务内调用），只更新数据库中教师、上课时间、教室仍与读取时相同的排课，
+     * changed 中为 null 的字段保持原值
+     *
+     * @param semesterUuid 排课所属学期UUID
+     * @param changed      需要更新教师、上课时间或教室的排课
+     * @param loaded       读取时的排课（按排课UUID）
+     * @return 实际更新的排课UUID；不在其中的排课已在读取后被修改，未写回
+     */
+    public Set<String> mergeIfUnchanged(String semesterUuid, Collection<ClassAssignmentDO> changed,
+                                        Map<String, ClassAssignmentDO> loaded) {
+        return execute(MERGE_STAGE + UNCHANGED_SINCE_LOAD + RETURNING, semesterUuid, changed, loaded);
+    }
+
+    /**
+     * 暂存排课（loaded 为空时不暂存原值）后执行合并语句
+     */
+    private Set<String> execute(String sql, String semesterUuid, Collection<ClassAssignmentDO> changed,
+                                Map<String, ClassAssignmentDO> loaded) {
+        Map<String, String[]> rows = new LinkedHashMap<>(changed.size() * 2);
+        for (ClassAssignmentDO assignment : changed) {
+            ClassAssignmentDO previous = loaded == null ? null : loaded.get(assignment.getClassAssignmentUuid());
+            rows.put(assignment.getClassAssignmentUuid(), new String[]{
+                    assignment.getClassAssignmentUuid(),
+                    assignment.getTeacherUuid(),
+                    assignment.getClassTime(),
+                    assignment.getClassroomUuid(),
+                    assignment.getBuildingUuid(),
+                    assignment.getCampusUuid(),
+                    previous == null ? null : previous.getTeacherUuid(),
+                    previous == null ? null : previous.getClassTime(),
+                    previous == null ? null : previous.getClassroomUuid()});
+        }
+        if (rows.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        long start = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement();
+             PreparedStatement merge = connection.prepareStatement(sql)) {
+            statement.execute(CREATE_STAGE);
+            long staged = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(COPY_STAGE, new StringReader(BulkCopyWriter.toCsv(rows.values())));
+            merge.setString(1, semesterUuid);
+            Set<String> updated = new HashSet<>(rows.size() * 2);
+            try (ResultSet resultSet = merge.executeQuery()) {
+                while (resultSet.next()) {
+                    updated.add(resultSet.getString(1));
+                }
+            }
+            statement.execute(DROP_STAGE);
+            log.info("批量写回排课: staged={}, updated={}, cost={}ms", staged, updated.size(),
+                    (System.nanoTime() - start) / 1_000_000L);
+            return updated;
+        } catch (SQLException | IOException e) {
+            log.error("批量写回排课失败", e);
+            throw new BusinessException("批量写回排课失败: " + e.getMessage(), ErrorCode.DATABASE_ERROR);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
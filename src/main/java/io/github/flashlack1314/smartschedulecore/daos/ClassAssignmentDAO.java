@@ -1,10 +1,15 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.ClassAssignmentMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * 排课数据访问对象 (DAO)
  * <p>
@@ -19,4 +24,62 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ClassAssignmentDAO extends ServiceImpl<ClassAssignmentMapper, ClassAssignmentDO> {
 
+    /**
+     * 查询指定学校学期的全部排课
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 排课列表
+     */
+    public List<ClassAssignmentDO> selectBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<ClassAssignmentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ClassAssignmentDO::getSchoolUuid, schoolUuid)
+                .eq(ClassAssignmentDO::getSemesterUuid, semesterUuid);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 查询在指定周次、星期、节次上课的排课
+     * <p>
+     * 星期与节次转为时间网格单元，命中 `sc_time_cells(class_day_periods)` 上的 GIN 索引；
+     * 周次在命中行上按位过滤。筛选参数为 null 表示不限
+     * </p>
+     *
+     * @param schoolUuid    学校UUID
+     * @param semesterUuid  学期UUID
+     * @param weekMask      周次位图
+     * @param cell          时间网格单元序号
+     * @param teacherUuid   教师UUID
+     * @param classroomUuid 教室UUID
+     * @param buildingUuid  教学楼UUID
+     * @param campusUuid    校区UUID
+     * @return 排课列表
+     */
+    public List<ClassAssignmentDO> selectByTimeCell(String schoolUuid, String semesterUuid, long weekMask, int cell,
+                                                    String teacherUuid, String classroomUuid,
+                                                    String buildingUuid, String campusUuid) {
+        LambdaQueryWrapper<ClassAssignmentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ClassAssignmentDO::getSchoolUuid, schoolUuid)
+                .eq(ClassAssignmentDO::getSemesterUuid, semesterUuid)
+                .apply("sc_time_cells(class_day_periods) @> ARRAY[{0}]", cell)
+                .apply("class_week_mask & {0} <> 0", weekMask)
+                .eq(teacherUuid != null, ClassAssignmentDO::getTeacherUuid, teacherUuid)
+                .eq(classroomUuid != null, ClassAssignmentDO::getClassroomUuid, classroomUuid)
+                .eq(buildingUuid != null, ClassAssignmentDO::getBuildingUuid, buildingUuid)
+                .eq(campusUuid != null, ClassAssignmentDO::getCampusUuid, campusUuid)
+                .orderByAsc(ClassAssignmentDO::getClassAssignmentUuid);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 流式遍历学期全部排课（含时间打包列，需在事务内调用）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @param consumer     行处理器
+     * @return 行数
+     */
+    public int streamBySemester(String schoolUuid, String semesterUuid, Consumer<ClassAssignmentDO> consumer) {
+        return CursorUtils.forEach(baseMapper.streamBySemester(schoolUuid, semesterUuid), consumer);
+    }
 }
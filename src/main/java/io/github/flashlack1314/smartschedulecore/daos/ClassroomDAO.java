@@ -1,10 +1,15 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.ClassroomMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * 教室数据访问对象 (DAO)
  * <p>
@@ -19,4 +24,27 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ClassroomDAO extends ServiceImpl<ClassroomMapper, ClassroomDO> {
 
+    /**
+     * 查询学校的全部启用教室
+     *
+     * @param schoolUuid 学校UUID
+     * @return 教室列表
+     */
+    public List<ClassroomDO> selectEnabledBySchool(String schoolUuid) {
+        LambdaQueryWrapper<ClassroomDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ClassroomDO::getSchoolUuid, schoolUuid)
+                .eq(ClassroomDO::getIsEnabled, true);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 流式遍历学校全部启用的教室（仅排课所需列，需在事务内调用）
+     *
+     * @param schoolUuid 学校UUID
+     * @param consumer   行处理器
+     * @return 行数
+     */
+    public int streamEnabledBySchool(String schoolUuid, Consumer<ClassroomDO> consumer) {
+        return CursorUtils.forEach(baseMapper.streamEnabledBySchool(schoolUuid), consumer);
+    }
 }
@@ -3,8 +3,11 @@ package io.github.flashlack1314.smartschedulecore.daos;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.CourseMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.CourseDO;
+import io.github.flashlack1314.smartschedulecore.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.function.Consumer;
+
 /**
  * 课程数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class CourseDAO extends ServiceImpl<CourseMapper, CourseDO> {
 
+    /**
+     * 流式遍历学校全部课程（仅排课所需列，需在事务内调用）
+     *
+     * @param schoolUuid 学校UUID
+     * @param consumer   行处理器
+     * @return 行数
+     */
+    public int streamBySchool(String schoolUuid, Consumer<CourseDO> consumer) {
+        return CursorUtils.forEach(baseMapper.streamBySchool(schoolUuid), consumer);
+    }
 }
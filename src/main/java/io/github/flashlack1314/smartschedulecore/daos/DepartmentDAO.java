@@ -1,10 +1,15 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.DepartmentMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.DepartmentDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 院系数据访问对象 (DAO)
  * <p>
@@ -19,4 +24,26 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class DepartmentDAO extends ServiceImpl<DepartmentMapper, DepartmentDO> {
 
+    /**
+     * 查询全部院系代码（院系代码全局唯一，批量导入时一次性加载用于查重）
+     *
+     * @return 院系代码集合
+     */
+    public Set<String> selectAllCodes() {
+        LambdaQueryWrapper<DepartmentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(DepartmentDO::getDepartmentCode);
+        return new HashSet<>(this.listObjs(wrapper, String::valueOf));
+    }
+
+    /**
+     * 查询指定学校的全部院系
+     *
+     * @param schoolUuid 学校UUID
+     * @return 院系列表
+     */
+    public List<DepartmentDO> selectBySchool(String schoolUuid) {
+        LambdaQueryWrapper<DepartmentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(DepartmentDO::getSchoolUuid, schoolUuid);
+        return this.list(wrapper);
+    }
 }
@@ -1,10 +1,13 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.GradeMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.GradeDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 年级数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class GradeDAO extends ServiceImpl<GradeMapper, GradeDO> {
 
+    /**
+     * 查询指定学校的全部年级
+     *
+     * @param schoolUuid 学校UUID
+     * @return 年级列表
+     */
+    public List<GradeDO> selectBySchool(String schoolUuid) {
+        LambdaQueryWrapper<GradeDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(GradeDO::getSchoolUuid, schoolUuid);
+        return this.list(wrapper);
+    }
 }
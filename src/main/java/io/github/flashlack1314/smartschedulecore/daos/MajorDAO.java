@@ -1,10 +1,15 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.MajorMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.MajorDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 专业数据访问对象 (DAO)
  * <p>
@@ -19,4 +24,26 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class MajorDAO extends ServiceImpl<MajorMapper, MajorDO> {
 
+    /**
+     * 查询全部专业代码（专业代码全局唯一，批量导入时一次性加载用于查重）
+     *
+     * @return 专业代码集合
+     */
+    public Set<String> selectAllCodes() {
+        LambdaQueryWrapper<MajorDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(MajorDO::getMajorCode);
+        return new HashSet<>(this.listObjs(wrapper, String::valueOf));
+    }
+
+    /**
+     * 查询指定学校的全部专业
+     *
+     * @param schoolUuid 学校UUID
+     * @return 专业列表
+     */
+    public List<MajorDO> selectBySchool(String schoolUuid) {
+        LambdaQueryWrapper<MajorDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(MajorDO::getSchoolUuid, schoolUuid);
+        return this.list(wrapper);
+    }
 }
@@ -0,0 +1,37 @@
+package io.github.flashlack1314.smartschedulecore.daos;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import io.github.flashlack1314.smartschedulecore.mappers.ScheduleVersionAssignmentMapper;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionAssignmentDO;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 课表版本排课数据访问对象 (DAO)
+ * <p>
+ * 封装 ScheduleVersionAssignmentMapper，提供课表版本排课表的数据访问操作
+ * 对应数据库表：`sc_schedule_version_assignment`
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Repository
+public class ScheduleVersionAssignmentDAO extends ServiceImpl<ScheduleVersionAssignmentMapper, ScheduleVersionAssignmentDO> {
+
+    /**
+     * 查询多个版本存储的排课
+     *
+     * @param versionUuids 版本UUID列表
+     * @return 排课列表
+     */
+    public List<ScheduleVersionAssignmentDO> selectByVersions(Collection<String> versionUuids) {
+        LambdaQueryWrapper<ScheduleVersionAssignmentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.in(ScheduleVersionAssignmentDO::getScheduleVersionUuid, versionUuids);
+        return this.list(wrapper);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.flashlack1314.smartschedulecore.daos;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.mappers.ScheduleVersionMapper;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionDO;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 课表版本数据访问对象 (DAO)
+ * <p>
+ * 封装 ScheduleVersionMapper，提供课表版本表的数据访问操作
+ * 对应数据库表：`sc_schedule_version`
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Repository
+public class ScheduleVersionDAO extends ServiceImpl<ScheduleVersionMapper, ScheduleVersionDO> {
+
+    /**
+     * 查询学期的全部课表版本（按创建时间倒序）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 版本列表
+     */
+    public List<ScheduleVersionDO> selectBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<ScheduleVersionDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ScheduleVersionDO::getSchoolUuid, schoolUuid)
+                .eq(ScheduleVersionDO::getSemesterUuid, semesterUuid)
+                .orderByDesc(ScheduleVersionDO::getCreatedAt);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 查询学期当前已发布的课表版本
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 已发布的版本，不存在时返回 null
+     */
+    public ScheduleVersionDO selectPublished(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<ScheduleVersionDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ScheduleVersionDO::getSchoolUuid, schoolUuid)
+                .eq(ScheduleVersionDO::getSemesterUuid, semesterUuid)
+                .eq(ScheduleVersionDO::getVersionStatus, SystemConstant.ScheduleVersion.PUBLISHED)
+                .last("LIMIT 1");
+        return this.getOne(wrapper);
+    }
+
+    /**
+     * 将草稿版本标记为已发布（仅当版本仍为草稿时更新，并发发布同一版本时只有一个成功）
+     *
+     * @param versionUuid 版本UUID
+     * @param publishedAt 发布时间
+     * @return 是否更新成功
+     */
+    public boolean publishDraft(String versionUuid, LocalDateTime publishedAt) {
+        LambdaUpdateWrapper<ScheduleVersionDO> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(ScheduleVersionDO::getScheduleVersionUuid, versionUuid)
+                .eq(ScheduleVersionDO::getVersionStatus, SystemConstant.ScheduleVersion.DRAFT)
+                .set(ScheduleVersionDO::getVersionStatus, SystemConstant.ScheduleVersion.PUBLISHED)
+                .set(ScheduleVersionDO::getPublishedAt, publishedAt)
+                .set(ScheduleVersionDO::getUpdatedAt, publishedAt);
+        return this.update(wrapper);
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.SchedulingConflictMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.SchedulingConflictDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 排课冲突数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,52 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class SchedulingConflictDAO extends ServiceImpl<SchedulingConflictMapper, SchedulingConflictDO> {
 
+
+    /**
+     * 查询学期内已处理（已解决或忽略）的冲突
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 冲突列表
+     */
+    public List<SchedulingConflictDO> selectHandledBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<SchedulingConflictDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SchedulingConflictDO::getSchoolUuid, schoolUuid)
+                .eq(SchedulingConflictDO::getSemesterUuid, semesterUuid)
+                .ne(SchedulingConflictDO::getResolutionStatus, 0);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 删除学期内未解决的冲突
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 是否成功
+     */
+    public boolean deleteUnresolvedBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<SchedulingConflictDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SchedulingConflictDO::getSchoolUuid, schoolUuid)
+                .eq(SchedulingConflictDO::getSemesterUuid, semesterUuid)
+                .eq(SchedulingConflictDO::getResolutionStatus, 0);
+        return this.remove(wrapper);
+    }
+
+    /**
+     * 查询涉及指定排课的全部冲突（任一方为该排课）
+     *
+     * @param schoolUuid     学校UUID
+     * @param semesterUuid   学期UUID
+     * @param assignmentUuid 排课UUID
+     * @return 冲突列表
+     */
+    public List<SchedulingConflictDO> selectByAssignment(String schoolUuid, String semesterUuid, String assignmentUuid) {
+        LambdaQueryWrapper<SchedulingConflictDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SchedulingConflictDO::getSchoolUuid, schoolUuid)
+                .eq(SchedulingConflictDO::getSemesterUuid, semesterUuid)
+                .and(w -> w.eq(SchedulingConflictDO::getFirstAssignmentUuid, assignmentUuid)
+                        .or()
+                        .eq(SchedulingConflictDO::getSecondAssignmentUuid, assignmentUuid));
+        return this.list(wrapper);
+    }
 }
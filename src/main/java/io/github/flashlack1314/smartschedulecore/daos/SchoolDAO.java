@@ -6,6 +6,8 @@ import io.github.flashlack1314.smartschedulecore.mappers.SchoolMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.SchoolDO;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 学校表数据访问对象
  *
@@ -41,4 +43,15 @@ public class SchoolDAO extends ServiceImpl<SchoolMapper, SchoolDO> {
                         .eq(SchoolDO::getSchoolName, schoolName)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 查询全部学校的代码与名称（批量导入时一次性加载用于查重）
+     *
+     * @return 仅含学校代码与名称的学校列表
+     */
+    public List<SchoolDO> selectCodesAndNames() {
+        LambdaQueryWrapper<SchoolDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(SchoolDO::getSchoolCode, SchoolDO::getSchoolName);
+        return this.list(wrapper);
+    }
+}
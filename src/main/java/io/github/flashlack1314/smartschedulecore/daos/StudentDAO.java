@@ -1,10 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.StudentMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.StudentDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * 学生数据访问对象 (DAO)
  * <p>
@@ -19,4 +23,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class StudentDAO extends ServiceImpl<StudentMapper, StudentDO> {
 
+    /**
+     * 查询全部学号（学号全局唯一，批量导入时一次性加载用于查重）
+     *
+     * @return 学号集合
+     */
+    public Set<String> selectAllCodes() {
+        LambdaQueryWrapper<StudentDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(StudentDO::getStudentCode);
+        return new HashSet<>(this.listObjs(wrapper, String::valueOf));
+    }
 }
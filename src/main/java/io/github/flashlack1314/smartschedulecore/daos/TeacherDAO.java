@@ -1,10 +1,16 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.TeacherMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeacherDO;
+import io.github.flashlack1314.smartschedulecore.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
 /**
  * 教师数据访问对象 (DAO)
  * <p>
@@ -19,4 +25,25 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class TeacherDAO extends ServiceImpl<TeacherMapper, TeacherDO> {
 
+    /**
+     * 流式遍历学校全部教师（仅排课所需列，需在事务内调用）
+     *
+     * @param schoolUuid 学校UUID
+     * @param consumer   行处理器
+     * @return 行数
+     */
+    public int streamBySchool(String schoolUuid, Consumer<TeacherDO> consumer) {
+        return CursorUtils.forEach(baseMapper.streamBySchool(schoolUuid), consumer);
+    }
+
+    /**
+     * 查询全部工号（工号全局唯一，批量导入时一次性加载用于查重）
+     *
+     * @return 工号集合
+     */
+    public Set<String> selectAllCodes() {
+        LambdaQueryWrapper<TeacherDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(TeacherDO::getTeacherCode);
+        return new HashSet<>(this.listObjs(wrapper, String::valueOf));
+    }
 }
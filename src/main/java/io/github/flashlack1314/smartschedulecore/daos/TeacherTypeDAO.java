@@ -1,10 +1,13 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.TeacherTypeMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeacherTypeDO;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 教师类型数据访问对象 (DAO)
  * <p>
@@ -19,4 +22,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class TeacherTypeDAO extends ServiceImpl<TeacherTypeMapper, TeacherTypeDO> {
 
+    /**
+     * 查询指定学校的全部教师类型
+     *
+     * @param schoolUuid 学校UUID
+     * @return 教师类型列表
+     */
+    public List<TeacherTypeDO> selectBySchool(String schoolUuid) {
+        LambdaQueryWrapper<TeacherTypeDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(TeacherTypeDO::getSchoolUuid, schoolUuid);
+        return this.list(wrapper);
+    }
 }
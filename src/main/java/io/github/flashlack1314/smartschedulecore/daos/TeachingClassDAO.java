@@ -1,10 +1,15 @@
 package io.github.flashlack1314.smartschedulecore.daos;
 
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import io.github.flashlack1314.smartschedulecore.mappers.TeachingClassMapper;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.utils.CursorUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * 教学班数据访问对象 (DAO)
  * <p>
@@ -19,4 +24,44 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class TeachingClassDAO extends ServiceImpl<TeachingClassMapper, TeachingClassDO> {
 
+    /**
+     * 查询指定学校学期的全部教学班
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 教学班列表
+     */
+    public List<TeachingClassDO> selectBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<TeachingClassDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(TeachingClassDO::getSchoolUuid, schoolUuid)
+                .eq(TeachingClassDO::getSemesterUuid, semesterUuid);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 查询学期全部教学班包含的行政班（仅教学班UUID与行政班列）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 教学班列表
+     */
+    public List<TeachingClassDO> selectAdministrativeClassesBySemester(String schoolUuid, String semesterUuid) {
+        LambdaQueryWrapper<TeachingClassDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(TeachingClassDO::getTeachingClassUuid, TeachingClassDO::getAdministrativeClasses)
+                .eq(TeachingClassDO::getSchoolUuid, schoolUuid)
+                .eq(TeachingClassDO::getSemesterUuid, semesterUuid);
+        return this.list(wrapper);
+    }
+
+    /**
+     * 流式遍历学期全部教学班（仅排课所需列，需在事务内调用）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @param consumer     行处理器
+     * @return 行数
+     */
+    public int streamBySemester(String schoolUuid, String semesterUuid, Consumer<TeachingClassDO> consumer) {
+        return CursorUtils.forEach(baseMapper.streamBySemester(schoolUuid, semesterUuid), consumer);
+    }
 }
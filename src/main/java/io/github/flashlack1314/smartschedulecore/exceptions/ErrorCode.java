@@ -37,6 +37,7 @@ public enum ErrorCode {
     VALIDATION_FAILED("ValidationFailed", 5005, "验证失败"),
     EMAIL_SEND_FAILED("EmailSendFailed", 5006, "邮件发送失败"),
     EMAIL_SEND_TOO_FREQUENT("EmailSendTooFrequent", 5007, "邮件发送过于频繁"),
+    IMPORT_FILE_INVALID("ImportFileInvalid", 5008, "导入文件格式错误"),
 
     // ========== 业务相关错误码 ==========
 
@@ -64,6 +65,14 @@ public enum ErrorCode {
     // 课程相关 2100-2999
 
     // 排课相关 3001-3999
+    CLASS_TIME_INVALID("ClassTimeInvalid", 3001, "上课时间格式错误"),
+    SEMESTER_NOT_FOUND("SemesterNotFound", 3002, "学期不存在"),
+    SCHEDULING_FAILED("SchedulingFailed", 3003, "排课失败"),
+    ASSIGNMENT_NOT_FOUND("AssignmentNotFound", 3004, "排课不存在"),
+    VERSION_NOT_FOUND("VersionNotFound", 3005, "课表版本不存在"),
+    VERSION_STATUS_INVALID("VersionStatusInvalid", 3006, "课表版本状态不允许该操作"),
+    SCHEDULING_RUN_ACTIVE("SchedulingRunActive", 3007, "该学期已有进行中的排课任务"),
+    SCHEDULING_QUEUE_FULL("SchedulingQueueFull", 3008, "排课任务队列已满"),
 
     // 数据库相关 5100-5199
     DATABASE_ERROR("DatabaseError", 5100, "数据库操作失败");
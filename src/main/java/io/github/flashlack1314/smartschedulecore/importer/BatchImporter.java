@@ -0,0 +1,129 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.BatchImportDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ImportErrorDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 批量导入流水线
+ * <p>
+ * 逐行接收文件数据：校验失败的行记录行级错误后跳过，通过的行攒满一批后整批写入；
+ * 内存中只保留当前批次与至多 maxErrors 条错误，与文件行数无关
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class BatchImporter implements Consumer<ImportRow> {
+
+    private final RowImporter importer;
+
+    private final ChunkWriter writer;
+
+    private final int chunkSize;
+
+    private final int maxErrors;
+
+    private final List<String[]> chunk;
+
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+    private final long start = System.nanoTime();
+
+    private boolean headerChecked;
+
+    private int totalRows;
+
+    private int failedRows;
+
+    private long importedRows;
+
+    /**
+     * @param importer  表导入规则
+     * @param writer    批量写入
+     * @param chunkSize 每批写入的行数
+     * @param maxErrors 返回的行级错误上限
+     */
+    public BatchImporter(RowImporter importer, ChunkWriter writer, int chunkSize, int maxErrors) {
+        this.importer = importer;
+        this.writer = writer;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.chunk = new ArrayList<>(chunkSize);
+    }
+
+    @Override
+    public void accept(ImportRow row) {
+        if (!headerChecked) {
+            for (String column : importer.requiredColumns()) {
+                if (!row.hasColumn(column)) {
+                    throw new BusinessException("导入文件缺少列: " + column, ErrorCode.IMPORT_FILE_INVALID);
+                }
+            }
+            headerChecked = true;
+        }
+        totalRows++;
+        try {
+            chunk.add(importer.parse(row));
+        } catch (ImportRowException e) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorDTO().setRowNumber(row.rowNumber()).setMessage(e.getMessage()));
+            }
+            return;
+        }
+        if (chunk.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 写入剩余行并汇总结果
+     *
+     * @return 导入结果
+     */
+    public BatchImportDTO finish() {
+        flush();
+        long cost = (System.nanoTime() - start) / 1_000_000L;
+        log.info("批量导入结束: table={}, total={}, imported={}, failed={}, cost={}ms",
+                importer.table(), totalRows, importedRows, failedRows, cost);
+        return new BatchImportDTO()
+                .setTotalRows(totalRows)
+                .setImportedRows(importedRows)
+                .setFailedRows(failedRows)
+                .setErrors(errors)
+                .setErrorsTruncated(failedRows > errors.size())
+                .setCostMillis(cost);
+    }
+
+    private void flush() {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        importedRows += writer.write(importer.table(), importer.columns(), chunk);
+        chunk.clear();
+    }
+
+    /**
+     * 批量写入
+     */
+    @FunctionalInterface
+    public interface ChunkWriter {
+
+        /**
+         * 写入一批行
+         *
+         * @param table   表名
+         * @param columns 列名
+         * @param rows    行数据
+         * @return 写入的行数
+         */
+        long write(String table, String[] columns, List<String[]> rows);
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.util.IdUtil;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 院系导入规则
+ * <p>
+ * 列：departmentCode*、departmentName*、departmentEnglishName、departmentShortName、
+ * isTeachingDepartment（默认是）、isEnabled（默认是）
+ * </p>
+ *
+ * @author flash
+ */
+public class DepartmentRowImporter implements RowImporter {
+
+    private static final String[] COLUMNS = {"department_uuid", "school_uuid", "department_code", "department_name",
+            "department_english_name", "department_short_name", "is_teaching_department", "is_enabled"};
+
+    private final String schoolUuid;
+
+    private final Set<String> codes;
+
+    /**
+     * @param schoolUuid 学校UUID
+     * @param codes      已有的院系代码（全局唯一，导入过程中会登记新代码）
+     */
+    public DepartmentRowImporter(String schoolUuid, Set<String> codes) {
+        this.schoolUuid = schoolUuid;
+        this.codes = codes;
+    }
+
+    @Override
+    public String table() {
+        return "sc_department";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("departmentCode", "departmentName");
+    }
+
+    @Override
+    public String[] parse(ImportRow row) {
+        String code = row.required("departmentCode", 32);
+        String[] values = {IdUtil.simpleUUID(), schoolUuid, code, row.required("departmentName", 64),
+                row.text("departmentEnglishName", 128), row.text("departmentShortName", 32),
+                String.valueOf(!Boolean.FALSE.equals(row.bool("isTeachingDepartment"))),
+                String.valueOf(!Boolean.FALSE.equals(row.bool("isEnabled")))};
+        if (!codes.add(code)) {
+            throw new ImportRowException("院系代码已存在: " + code);
+        }
+        return values;
+    }
+}
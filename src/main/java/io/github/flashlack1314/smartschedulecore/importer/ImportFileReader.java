@@ -0,0 +1,134 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.text.csv.CsvReadConfig;
+import cn.hutool.core.text.csv.CsvUtil;
+import cn.hutool.poi.excel.ExcelUtil;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 导入文件流式读取
+ * <p>
+ * CSV（UTF-8，可带 BOM）逐行解析；Excel 使用 SAX 模式逐行读取第一个工作表，不在内存中构建整个工作簿。
+ * 第一个非空行为表头（列名），其后每个非空行交给行处理器
+ * </p>
+ *
+ * @author flash
+ */
+public class ImportFileReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private ImportFileReader() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 按文件扩展名读取导入文件
+     *
+     * @param filename 原始文件名（用于判断格式）
+     * @param in       文件内容（由调用方关闭）
+     * @param consumer 行处理器
+     */
+    public static void read(String filename, InputStream in, Consumer<ImportRow> consumer) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        HeaderTracker tracker = new HeaderTracker(consumer);
+        try {
+            if (name.endsWith(".csv")) {
+                CsvReadConfig config = CsvReadConfig.defaultConfig().setSkipEmptyRows(true);
+                CsvUtil.getReader(config).read(
+                        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)),
+                        row -> tracker.accept(row.getOriginalLineNumber() + 1, row.getRawList()));
+            } else if (name.endsWith(".xlsx") || name.endsWith(".xls")) {
+                ExcelUtil.readBySax(in, 0, (sheetIndex, rowIndex, cells) -> {
+                    List<String> values = new ArrayList<>(cells.size());
+                    for (Object cell : cells) {
+                        values.add(cellText(cell));
+                    }
+                    tracker.accept(rowIndex + 1, values);
+                });
+            } else {
+                throw new BusinessException("仅支持 csv、xlsx、xls 文件", ErrorCode.IMPORT_FILE_INVALID);
+            }
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // SAX 读取会把行处理器抛出的异常包装一层
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof BusinessException business) {
+                    throw business;
+                }
+            }
+            throw new BusinessException("无法读取导入文件: " + e.getMessage(), ErrorCode.IMPORT_FILE_INVALID);
+        }
+    }
+
+    /**
+     * Excel 单元格转文本：整数数值不带小数位（编码、学制等常被识别为数字）
+     */
+    private static String cellText(Object cell) {
+        if (cell == null) {
+            return null;
+        }
+        if (cell instanceof Number number) {
+            return new BigDecimal(number.toString()).stripTrailingZeros().toPlainString();
+        }
+        return cell.toString();
+    }
+
+    /**
+     * 记录表头并把数据行转换为 {@link ImportRow}
+     */
+    private static final class HeaderTracker {
+
+        private final Consumer<ImportRow> consumer;
+
+        private Map<String, Integer> header;
+
+        private HeaderTracker(Consumer<ImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void accept(long rowNumber, List<String> cells) {
+            if (isBlank(cells)) {
+                return;
+            }
+            if (header == null) {
+                header = new HashMap<>(cells.size() * 2);
+                for (int i = 0; i < cells.size(); i++) {
+                    String column = cells.get(i);
+                    if (column == null) {
+                        continue;
+                    }
+                    if (i == 0 && !column.isEmpty() && column.charAt(0) == BOM) {
+                        column = column.substring(1);
+                    }
+                    header.putIfAbsent(column.trim(), i);
+                }
+                return;
+            }
+            consumer.accept(new ImportRow(rowNumber, header, cells));
+        }
+
+        private static boolean isBlank(List<String> cells) {
+            for (String cell : cells) {
+                if (cell != null && !cell.isBlank()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
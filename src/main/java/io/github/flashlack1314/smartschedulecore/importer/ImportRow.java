@@ -0,0 +1,143 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 导入文件中的一行数据
+ * <p>按表头列名取值，取值去除首尾空白，空白单元格视为未填写</p>
+ *
+ * @author flash
+ */
+public class ImportRow {
+
+    private final long rowNumber;
+
+    private final Map<String, Integer> header;
+
+    private final List<String> cells;
+
+    /**
+     * @param rowNumber 行号（与文件中的行号一致，表头为第 1 行）
+     * @param header    列名到列序号的映射
+     * @param cells     单元格取值
+     */
+    public ImportRow(long rowNumber, Map<String, Integer> header, List<String> cells) {
+        this.rowNumber = rowNumber;
+        this.header = header;
+        this.cells = cells;
+    }
+
+    /**
+     * 行号（与文件中的行号一致，表头为第 1 行）
+     *
+     * @return 行号
+     */
+    public long rowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * 表头是否包含指定列
+     *
+     * @param column 列名
+     * @return 是否包含
+     */
+    public boolean hasColumn(String column) {
+        return header.containsKey(column);
+    }
+
+    /**
+     * 读取可选文本
+     *
+     * @param column    列名
+     * @param maxLength 最大长度（与数据库列长度一致）
+     * @return 文本（未填写为 null）
+     */
+    public String text(String column, int maxLength) {
+        Integer index = header.get(column);
+        if (index == null || index >= cells.size() || cells.get(index) == null) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > maxLength) {
+            throw new ImportRowException(column + " 长度不能超过 " + maxLength);
+        }
+        return value;
+    }
+
+    /**
+     * 读取必填文本
+     *
+     * @param column    列名
+     * @param maxLength 最大长度（与数据库列长度一致）
+     * @return 文本
+     */
+    public String required(String column, int maxLength) {
+        String value = text(column, maxLength);
+        if (value == null) {
+            throw new ImportRowException(column + " 不能为空");
+        }
+        return value;
+    }
+
+    /**
+     * 读取可选整数
+     *
+     * @param column 列名
+     * @param min    最小值
+     * @param max    最大值
+     * @return 整数（未填写为 null）
+     */
+    public Integer integer(String column, int min, int max) {
+        String value = text(column, 11);
+        if (value == null) {
+            return null;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ImportRowException(column + " 必须是整数");
+        }
+        if (number < min || number > max) {
+            throw new ImportRowException(column + " 必须在" + min + "-" + max + "之间");
+        }
+        return number;
+    }
+
+    /**
+     * 读取可选布尔值（是/否、true/false、1/0）
+     *
+     * @param column 列名
+     * @return 布尔值（未填写为 null）
+     */
+    public Boolean bool(String column) {
+        String value = text(column, 8);
+        if (value == null) {
+            return null;
+        }
+        return switch (value.toLowerCase()) {
+            case "是", "true", "1" -> Boolean.TRUE;
+            case "否", "false", "0" -> Boolean.FALSE;
+            default -> throw new ImportRowException(column + " 只能填写 是/否");
+        };
+    }
+
+    /**
+     * 读取可选性别（男/女）
+     *
+     * @param column 列名
+     * @return 性别（未填写为 null）
+     */
+    public String gender(String column) {
+        String value = text(column, 4);
+        if (value != null && !"男".equals(value) && !"女".equals(value)) {
+            throw new ImportRowException(column + " 只能填写 男/女");
+        }
+        return value;
+    }
+}
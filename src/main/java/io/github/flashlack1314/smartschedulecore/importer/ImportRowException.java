@@ -0,0 +1,17 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+/**
+ * 导入行校验失败
+ * <p>只影响当前行：由 {@link BatchImporter} 记录为行级错误后跳过该行，不中断导入</p>
+ *
+ * @author flash
+ */
+public class ImportRowException extends RuntimeException {
+
+    /**
+     * @param message 错误描述（直接返回给调用方）
+     */
+    public ImportRowException(String message) {
+        super(message);
+    }
+}
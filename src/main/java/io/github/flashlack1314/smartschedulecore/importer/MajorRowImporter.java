@@ -0,0 +1,74 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.util.IdUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 专业导入规则
+ * <p>
+ * 列：majorCode*、majorName*、departmentCode*、educationYears（默认 4）、trainingLevel（默认本科）、
+ * isEnabled（默认是）
+ * </p>
+ *
+ * @author flash
+ */
+public class MajorRowImporter implements RowImporter {
+
+    private static final String[] COLUMNS = {"major_uuid", "school_uuid", "department_uuid", "major_code",
+            "major_name", "education_years", "training_level", "is_enabled"};
+
+    private final String schoolUuid;
+
+    private final Map<String, String> departmentUuidByCode;
+
+    private final Set<String> codes;
+
+    /**
+     * @param schoolUuid           学校UUID
+     * @param departmentUuidByCode 本校院系代码到UUID的映射
+     * @param codes                已有的专业代码（全局唯一，导入过程中会登记新代码）
+     */
+    public MajorRowImporter(String schoolUuid, Map<String, String> departmentUuidByCode, Set<String> codes) {
+        this.schoolUuid = schoolUuid;
+        this.departmentUuidByCode = departmentUuidByCode;
+        this.codes = codes;
+    }
+
+    @Override
+    public String table() {
+        return "sc_major";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("majorCode", "majorName", "departmentCode");
+    }
+
+    @Override
+    public String[] parse(ImportRow row) {
+        String code = row.required("majorCode", 32);
+        String departmentCode = row.required("departmentCode", 32);
+        String departmentUuid = departmentUuidByCode.get(departmentCode);
+        if (departmentUuid == null) {
+            throw new ImportRowException("院系不存在: " + departmentCode);
+        }
+        Integer educationYears = row.integer("educationYears", 1, 8);
+        String trainingLevel = row.text("trainingLevel", 32);
+        String[] values = {IdUtil.simpleUUID(), schoolUuid, departmentUuid, code, row.required("majorName", 64),
+                String.valueOf(educationYears == null ? 4 : educationYears),
+                trainingLevel == null ? "本科" : trainingLevel,
+                String.valueOf(!Boolean.FALSE.equals(row.bool("isEnabled")))};
+        if (!codes.add(code)) {
+            throw new ImportRowException("专业代码已存在: " + code);
+        }
+        return values;
+    }
+}
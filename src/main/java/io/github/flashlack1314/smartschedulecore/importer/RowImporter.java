@@ -0,0 +1,45 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import java.util.List;
+
+/**
+ * 单张表的导入规则
+ * <p>
+ * 实现类在构造时一次性加载唯一性校验所需的已有编码与外键编码映射，逐行校验时只查内存；
+ * 行校验通过后登记其唯一键，使文件内的重复行同样被拒绝
+ * </p>
+ *
+ * @author flash
+ */
+public interface RowImporter {
+
+    /**
+     * 目标表名
+     *
+     * @return 表名
+     */
+    String table();
+
+    /**
+     * 写入的列（与 {@link #parse} 返回的取值一一对应）
+     *
+     * @return 列名
+     */
+    String[] columns();
+
+    /**
+     * 文件表头必须包含的列
+     *
+     * @return 列名
+     */
+    List<String> requiredColumns();
+
+    /**
+     * 校验并转换一行
+     *
+     * @param row 文件行
+     * @return 按 {@link #columns()} 排列的取值
+     * @throws ImportRowException 行校验失败
+     */
+    String[] parse(ImportRow row);
+}
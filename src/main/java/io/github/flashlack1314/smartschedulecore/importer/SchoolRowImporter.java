@@ -0,0 +1,63 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.util.IdUtil;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 学校导入规则
+ * <p>列：schoolCode*、schoolName*、schoolNameEn、schoolType、schoolAddress、schoolPhone、schoolEmail</p>
+ *
+ * @author flash
+ */
+public class SchoolRowImporter implements RowImporter {
+
+    private static final String[] COLUMNS = {"school_uuid", "school_code", "school_name", "school_name_en",
+            "school_type", "school_address", "school_phone", "school_email"};
+
+    private final Set<String> codes;
+
+    private final Set<String> names;
+
+    /**
+     * @param codes 已有的学校代码（导入过程中会登记新代码）
+     * @param names 已有的学校名称（导入过程中会登记新名称）
+     */
+    public SchoolRowImporter(Set<String> codes, Set<String> names) {
+        this.codes = codes;
+        this.names = names;
+    }
+
+    @Override
+    public String table() {
+        return "sc_school";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("schoolCode", "schoolName");
+    }
+
+    @Override
+    public String[] parse(ImportRow row) {
+        String code = row.required("schoolCode", 32);
+        String name = row.required("schoolName", 128);
+        String[] values = {IdUtil.simpleUUID(), code, name, row.text("schoolNameEn", 128),
+                row.text("schoolType", 32), row.text("schoolAddress", 256), row.text("schoolPhone", 32),
+                row.text("schoolEmail", 64)};
+        if (codes.contains(code)) {
+            throw new ImportRowException("学校代码已存在: " + code);
+        }
+        if (!names.add(name)) {
+            throw new ImportRowException("学校名称已存在: " + name);
+        }
+        codes.add(code);
+        return values;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.util.IdUtil;
+import io.github.flashlack1314.smartschedulecore.models.entity.AdministrativeClassDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.MajorDO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 学生导入规则
+ * <p>
+ * 列：studentCode*、studentName*、departmentCode*、majorCode*、gradeName*、classCode、
+ * gender（默认男）、isGraduated（默认否）。专业须属于所填院系，行政班须属于所填专业与年级
+ * </p>
+ *
+ * @author flash
+ */
+public class StudentRowImporter implements RowImporter {
+
+    private static final String[] COLUMNS = {"student_uuid", "school_uuid", "department_uuid", "major_uuid",
+            "grade_uuid", "administrative_class_uuid", "student_code", "student_name", "gender", "is_graduated"};
+
+    private final String schoolUuid;
+
+    private final Map<String, String> departmentUuidByCode;
+
+    private final Map<String, MajorDO> majorByCode;
+
+    private final Map<String, String> gradeUuidByName;
+
+    private final Map<String, AdministrativeClassDO> classByCode;
+
+    private final Set<String> codes;
+
+    /**
+     * @param schoolUuid           学校UUID
+     * @param departmentUuidByCode 本校院系代码到UUID的映射
+     * @param majorByCode          本校专业代码到专业的映射
+     * @param gradeUuidByName      本校年级名称到UUID的映射
+     * @param classByCode          本校行政班代码到行政班的映射
+     * @param codes                已有的学号（全局唯一，导入过程中会登记新学号）
+     */
+    public StudentRowImporter(String schoolUuid, Map<String, String> departmentUuidByCode,
+                              Map<String, MajorDO> majorByCode, Map<String, String> gradeUuidByName,
+                              Map<String, AdministrativeClassDO> classByCode, Set<String> codes) {
+        this.schoolUuid = schoolUuid;
+        this.departmentUuidByCode = departmentUuidByCode;
+        this.majorByCode = majorByCode;
+        this.gradeUuidByName = gradeUuidByName;
+        this.classByCode = classByCode;
+        this.codes = codes;
+    }
+
+    @Override
+    public String table() {
+        return "sc_student";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("studentCode", "studentName", "departmentCode", "majorCode", "gradeName");
+    }
+
+    @Override
+    public String[] parse(ImportRow row) {
+        String code = row.required("studentCode", 32);
+        String departmentCode = row.required("departmentCode", 32);
+        String departmentUuid = departmentUuidByCode.get(departmentCode);
+        if (departmentUuid == null) {
+            throw new ImportRowException("院系不存在: " + departmentCode);
+        }
+        String majorCode = row.required("majorCode", 32);
+        MajorDO major = majorByCode.get(majorCode);
+        if (major == null || !departmentUuid.equals(major.getDepartmentUuid())) {
+            throw new ImportRowException("院系 " + departmentCode + " 下不存在专业: " + majorCode);
+        }
+        String gradeName = row.required("gradeName", 32);
+        String gradeUuid = gradeUuidByName.get(gradeName);
+        if (gradeUuid == null) {
+            throw new ImportRowException("年级不存在: " + gradeName);
+        }
+        String classCode = row.text("classCode", 32);
+        String classUuid = null;
+        if (classCode != null) {
+            AdministrativeClassDO administrativeClass = classByCode.get(classCode);
+            if (administrativeClass == null || !major.getMajorUuid().equals(administrativeClass.getMajorUuid())
+                    || !gradeUuid.equals(administrativeClass.getGradeUuid())) {
+                throw new ImportRowException("专业 " + majorCode + " 的 " + gradeName + " 下不存在行政班: " + classCode);
+            }
+            classUuid = administrativeClass.getAdministrativeClassUuid();
+        }
+        String gender = row.gender("gender");
+        String[] values = {IdUtil.simpleUUID(), schoolUuid, departmentUuid, major.getMajorUuid(), gradeUuid,
+                classUuid, code, row.required("studentName", 32), gender == null ? "男" : gender,
+                String.valueOf(Boolean.TRUE.equals(row.bool("isGraduated")))};
+        if (!codes.add(code)) {
+            throw new ImportRowException("学号已存在: " + code);
+        }
+        return values;
+    }
+}
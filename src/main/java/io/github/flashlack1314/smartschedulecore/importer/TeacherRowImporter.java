@@ -0,0 +1,83 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import cn.hutool.core.util.IdUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 教师导入规则
+ * <p>
+ * 列：teacherCode*、teacherName*、departmentCode*、teacherTypeCode*、teacherEnglishName、
+ * gender（默认男）、jobTitle、phone、email
+ * </p>
+ *
+ * @author flash
+ */
+public class TeacherRowImporter implements RowImporter {
+
+    private static final String[] COLUMNS = {"teacher_uuid", "school_uuid", "department_uuid", "teacher_type_uuid",
+            "teacher_code", "teacher_name", "teacher_english_name", "gender", "job_title", "phone", "email"};
+
+    private final String schoolUuid;
+
+    private final Map<String, String> departmentUuidByCode;
+
+    private final Map<String, String> teacherTypeUuidByCode;
+
+    private final Set<String> codes;
+
+    /**
+     * @param schoolUuid            学校UUID
+     * @param departmentUuidByCode  本校院系代码到UUID的映射
+     * @param teacherTypeUuidByCode 本校教师类型代码到UUID的映射
+     * @param codes                 已有的工号（全局唯一，导入过程中会登记新工号）
+     */
+    public TeacherRowImporter(String schoolUuid, Map<String, String> departmentUuidByCode,
+                              Map<String, String> teacherTypeUuidByCode, Set<String> codes) {
+        this.schoolUuid = schoolUuid;
+        this.departmentUuidByCode = departmentUuidByCode;
+        this.teacherTypeUuidByCode = teacherTypeUuidByCode;
+        this.codes = codes;
+    }
+
+    @Override
+    public String table() {
+        return "sc_teacher";
+    }
+
+    @Override
+    public String[] columns() {
+        return COLUMNS;
+    }
+
+    @Override
+    public List<String> requiredColumns() {
+        return List.of("teacherCode", "teacherName", "departmentCode", "teacherTypeCode");
+    }
+
+    @Override
+    public String[] parse(ImportRow row) {
+        String code = row.required("teacherCode", 32);
+        String departmentCode = row.required("departmentCode", 32);
+        String departmentUuid = departmentUuidByCode.get(departmentCode);
+        if (departmentUuid == null) {
+            throw new ImportRowException("院系不存在: " + departmentCode);
+        }
+        String typeCode = row.required("teacherTypeCode", 32);
+        String typeUuid = teacherTypeUuidByCode.get(typeCode);
+        if (typeUuid == null) {
+            throw new ImportRowException("教师类型不存在: " + typeCode);
+        }
+        String gender = row.gender("gender");
+        String[] values = {IdUtil.simpleUUID(), schoolUuid, departmentUuid, typeUuid, code,
+                row.required("teacherName", 32), row.text("teacherEnglishName", 128),
+                gender == null ? "男" : gender, row.text("jobTitle", 32), row.text("phone", 16),
+                row.text("email", 64)};
+        if (!codes.add(code)) {
+            throw new ImportRowException("工号已存在: " + code);
+        }
+        return values;
+    }
+}
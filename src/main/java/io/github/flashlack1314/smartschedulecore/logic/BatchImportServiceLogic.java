@@ -0,0 +1,161 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.daos.AdministrativeClassDAO;
+import io.github.flashlack1314.smartschedulecore.daos.BulkCopyWriter;
+import io.github.flashlack1314.smartschedulecore.daos.DepartmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.GradeDAO;
+import io.github.flashlack1314.smartschedulecore.daos.MajorDAO;
+import io.github.flashlack1314.smartschedulecore.daos.SchoolDAO;
+import io.github.flashlack1314.smartschedulecore.daos.StudentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeacherDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeacherTypeDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.importer.BatchImporter;
+import io.github.flashlack1314.smartschedulecore.importer.DepartmentRowImporter;
+import io.github.flashlack1314.smartschedulecore.importer.ImportFileReader;
+import io.github.flashlack1314.smartschedulecore.importer.MajorRowImporter;
+import io.github.flashlack1314.smartschedulecore.importer.RowImporter;
+import io.github.flashlack1314.smartschedulecore.importer.SchoolRowImporter;
+import io.github.flashlack1314.smartschedulecore.importer.StudentRowImporter;
+import io.github.flashlack1314.smartschedulecore.importer.TeacherRowImporter;
+import io.github.flashlack1314.smartschedulecore.models.dto.BatchImportDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.AdministrativeClassDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.DepartmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.GradeDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.MajorDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SchoolDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherTypeDO;
+import io.github.flashlack1314.smartschedulecore.services.BatchImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 批量导入服务实现类
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchImportServiceLogic implements BatchImportService {
+
+    private final SchoolDAO schoolDAO;
+    private final DepartmentDAO departmentDAO;
+    private final MajorDAO majorDAO;
+    private final GradeDAO gradeDAO;
+    private final AdministrativeClassDAO administrativeClassDAO;
+    private final TeacherTypeDAO teacherTypeDAO;
+    private final TeacherDAO teacherDAO;
+    private final StudentDAO studentDAO;
+    private final BulkCopyWriter bulkCopyWriter;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchImportDTO importSchools(MultipartFile file) {
+        Set<String> codes = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (SchoolDO school : schoolDAO.selectCodesAndNames()) {
+            codes.add(school.getSchoolCode());
+            names.add(school.getSchoolName());
+        }
+        return run(file, new SchoolRowImporter(codes, names));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchImportDTO importDepartments(String schoolUuid, MultipartFile file) {
+        requireSchool(schoolUuid);
+        return run(file, new DepartmentRowImporter(schoolUuid, departmentDAO.selectAllCodes()));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchImportDTO importMajors(String schoolUuid, MultipartFile file) {
+        requireSchool(schoolUuid);
+        return run(file, new MajorRowImporter(schoolUuid, departmentUuidByCode(schoolUuid),
+                majorDAO.selectAllCodes()));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchImportDTO importTeachers(String schoolUuid, MultipartFile file) {
+        requireSchool(schoolUuid);
+        Map<String, String> teacherTypeUuidByCode = new HashMap<>();
+        for (TeacherTypeDO type : teacherTypeDAO.selectBySchool(schoolUuid)) {
+            if (type.getTypeCode() != null) {
+                teacherTypeUuidByCode.put(type.getTypeCode(), type.getTeacherTypeUuid());
+            }
+        }
+        return run(file, new TeacherRowImporter(schoolUuid, departmentUuidByCode(schoolUuid),
+                teacherTypeUuidByCode, teacherDAO.selectAllCodes()));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public BatchImportDTO importStudents(String schoolUuid, MultipartFile file) {
+        requireSchool(schoolUuid);
+        Map<String, String> gradeUuidByName = new HashMap<>();
+        for (GradeDO grade : gradeDAO.selectBySchool(schoolUuid)) {
+            gradeUuidByName.put(grade.getGradeName(), grade.getGradeUuid());
+        }
+        return run(file, new StudentRowImporter(schoolUuid, departmentUuidByCode(schoolUuid),
+                indexBy(majorDAO.selectBySchool(schoolUuid), MajorDO::getMajorCode),
+                gradeUuidByName,
+                indexBy(administrativeClassDAO.selectBySchool(schoolUuid), AdministrativeClassDO::getClassCode),
+                studentDAO.selectAllCodes()));
+    }
+
+    /**
+     * 流式读取文件并按批写入
+     */
+    private BatchImportDTO run(MultipartFile file, RowImporter importer) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException("导入文件不能为空", ErrorCode.IMPORT_FILE_INVALID);
+        }
+        log.info("批量导入: table={}, file={}, size={}", importer.table(), file.getOriginalFilename(), file.getSize());
+        BatchImporter pipeline = new BatchImporter(importer, bulkCopyWriter::copy,
+                SystemConstant.Import.CHUNK_SIZE, SystemConstant.Import.MAX_ERRORS);
+        try (InputStream in = file.getInputStream()) {
+            ImportFileReader.read(file.getOriginalFilename(), in, pipeline);
+        } catch (IOException e) {
+            throw new BusinessException("无法读取导入文件: " + e.getMessage(), ErrorCode.IMPORT_FILE_INVALID);
+        }
+        return pipeline.finish();
+    }
+
+    private void requireSchool(String schoolUuid) {
+        if (schoolDAO.getById(schoolUuid) == null) {
+            throw new BusinessException(ErrorCode.SCHOOL_NOT_FOUND);
+        }
+    }
+
+    private Map<String, String> departmentUuidByCode(String schoolUuid) {
+        Map<String, String> result = new HashMap<>();
+        for (DepartmentDO department : departmentDAO.selectBySchool(schoolUuid)) {
+            result.put(department.getDepartmentCode(), department.getDepartmentUuid());
+        }
+        return result;
+    }
+
+    private static <T> Map<String, T> indexBy(List<T> rows, Function<T, String> key) {
+        Map<String, T> result = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            result.put(key.apply(row), row);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.daos.ClassroomDAO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ClassroomIndex;
+import io.github.flashlack1314.smartschedulecore.services.ClassroomIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 教室查找索引服务实现类
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClassroomIndexServiceLogic implements ClassroomIndexService {
+
+    private final ClassroomDAO classroomDAO;
+
+    /**
+     * 索引缓存，key 为 schoolUuid
+     */
+    private final Map<String, ClassroomIndex> indexCache = new ConcurrentHashMap<>();
+
+    @Override
+    public ClassroomIndex getIndex(String schoolUuid) {
+        return indexCache.computeIfAbsent(schoolUuid, this::loadIndex);
+    }
+
+    @Override
+    public void evictIndex(String schoolUuid) {
+        indexCache.remove(schoolUuid);
+        log.debug("清除教室查找索引: schoolUuid={}", schoolUuid);
+    }
+
+    /**
+     * 从数据库加载启用的教室并构建索引
+     */
+    private ClassroomIndex loadIndex(String schoolUuid) {
+        long start = System.currentTimeMillis();
+        ClassroomIndex index = ClassroomIndex.build(classroomDAO.selectEnabledBySchool(schoolUuid));
+        log.info("构建教室查找索引: schoolUuid={}, classrooms={}, cost={}ms",
+                schoolUuid, index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+}
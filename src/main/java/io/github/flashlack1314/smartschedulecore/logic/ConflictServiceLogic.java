@@ -0,0 +1,188 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.SchedulingConflictDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeachingClassDAO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentConflictDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ConflictDetectDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SchedulingConflictDO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ConflictDetectVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.SweepConflictDetector;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.AdministrativeClassMembership;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.services.ConflictService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 排课冲突服务实现类
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConflictServiceLogic implements ConflictService {
+
+    /**
+     * 冲突记录批量写入大小
+     */
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final ClassAssignmentDAO classAssignmentDAO;
+    private final SchedulingConflictDAO schedulingConflictDAO;
+    private final TeachingClassDAO teachingClassDAO;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ConflictDetectDTO detectConflicts(ConflictDetectVO conflictDetectVO) {
+        long start = System.currentTimeMillis();
+        String schoolUuid = conflictDetectVO.getSchoolUuid();
+        String semesterUuid = conflictDetectVO.getSemesterUuid();
+
+        List<ClassAssignmentDO> assignments = classAssignmentDAO.selectBySemester(schoolUuid, semesterUuid);
+        AdministrativeClassMembership membership = AdministrativeClassMembership.build(
+                teachingClassDAO.selectAdministrativeClassesBySemester(schoolUuid, semesterUuid));
+        long detectStart = System.currentTimeMillis();
+        List<DetectedConflict> conflicts = new SweepConflictDetector().detect(assignments, membership);
+        long detectMillis = System.currentTimeMillis() - detectStart;
+
+        // 已解决或忽略的冲突不重复写入
+        Set<String> handled = new HashSet<>();
+        for (SchedulingConflictDO existing : schedulingConflictDAO.selectHandledBySemester(schoolUuid, semesterUuid)) {
+            handled.add(DetectedConflict.key(existing.getConflictType(),
+                    existing.getFirstAssignmentUuid(), existing.getSecondAssignmentUuid()));
+        }
+
+        Map<ResourceType, Integer> counts = new EnumMap<>(ResourceType.class);
+        List<SchedulingConflictDO> records = new ArrayList<>(conflicts.size());
+        for (DetectedConflict conflict : conflicts) {
+            counts.merge(conflict.getType(), 1, Integer::sum);
+            if (!handled.contains(conflict.key())) {
+                records.add(toRecord(schoolUuid, semesterUuid, conflict));
+            }
+        }
+
+        schedulingConflictDAO.deleteUnresolvedBySemester(schoolUuid, semesterUuid);
+        if (!records.isEmpty()) {
+            schedulingConflictDAO.saveBatch(records, INSERT_BATCH_SIZE);
+        }
+
+        long cost = System.currentTimeMillis() - start;
+        log.info("冲突检测完成: schoolUuid={}, semesterUuid={}, assignments={}, conflicts={}, inserted={}, detect={}ms, cost={}ms",
+                schoolUuid, semesterUuid, assignments.size(), conflicts.size(), records.size(), detectMillis, cost);
+
+        return new ConflictDetectDTO()
+                .setAssignmentCount(assignments.size())
+                .setConflictCount(conflicts.size())
+                .setTeacherConflictCount(counts.getOrDefault(ResourceType.TEACHER, 0))
+                .setClassroomConflictCount(counts.getOrDefault(ResourceType.CLASSROOM, 0))
+                .setClassConflictCount(counts.getOrDefault(ResourceType.TEACHING_CLASS, 0))
+                .setInsertedCount(records.size())
+                .setSkippedCount(conflicts.size() - records.size())
+                .setDetectMillis(detectMillis)
+                .setCostMillis(cost);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public AssignmentAdjustDTO syncAssignmentConflicts(String schoolUuid, String semesterUuid, String assignmentUuid,
+                                                       List<DetectedConflict> conflicts) {
+        Map<String, DetectedConflict> detected = new LinkedHashMap<>();
+        for (DetectedConflict conflict : conflicts) {
+            detected.putIfAbsent(conflict.key(), conflict);
+        }
+
+        Set<String> recorded = new HashSet<>();
+        List<SchedulingConflictDO> updates = new ArrayList<>();
+        int resolved = 0;
+        LocalDateTime now = LocalDateTime.now();
+        List<SchedulingConflictDO> existingConflicts =
+                schedulingConflictDAO.selectByAssignment(schoolUuid, semesterUuid, assignmentUuid);
+        for (SchedulingConflictDO existing : existingConflicts) {
+            if (ResourceType.ofConflictType(existing.getConflictType()) == null) {
+                continue;
+            }
+            String key = DetectedConflict.key(existing.getConflictType(),
+                    existing.getFirstAssignmentUuid(), existing.getSecondAssignmentUuid());
+            recorded.add(key);
+            if (existing.getResolutionStatus() == null || existing.getResolutionStatus() != 0) {
+                continue;
+            }
+            DetectedConflict current = detected.get(key);
+            if (current == null) {
+                // 调整后不再冲突：由被调整的一方解除
+                updates.add(new SchedulingConflictDO()
+                        .setConflictUuid(existing.getConflictUuid())
+                        .setResolutionStatus(1)
+                        .setResolutionMethod(assignmentUuid.equals(existing.getFirstAssignmentUuid()) ? 1 : 2)
+                        .setResolutionNotes("调整排课后冲突消除")
+                        .setResolvedAt(now));
+                resolved++;
+            } else {
+                String conflictTime = TimeSlotCodec.encode(current.getConflictTime());
+                if (!conflictTime.equals(existing.getConflictTime())) {
+                    updates.add(new SchedulingConflictDO()
+                            .setConflictUuid(existing.getConflictUuid())
+                            .setConflictTime(conflictTime));
+                }
+            }
+        }
+
+        List<SchedulingConflictDO> records = new ArrayList<>();
+        for (Map.Entry<String, DetectedConflict> entry : detected.entrySet()) {
+            if (!recorded.contains(entry.getKey())) {
+                records.add(toRecord(schoolUuid, semesterUuid, entry.getValue()));
+            }
+        }
+        if (!updates.isEmpty()) {
+            schedulingConflictDAO.updateBatchById(updates);
+        }
+        if (!records.isEmpty()) {
+            schedulingConflictDAO.saveBatch(records);
+        }
+
+        List<AssignmentConflictDTO> items = new ArrayList<>(detected.size());
+        for (DetectedConflict conflict : detected.values()) {
+            items.add(new AssignmentConflictDTO()
+                    .setConflictType(conflict.getType().getConflictType())
+                    .setResourceUuid(conflict.getResourceUuid())
+                    .setOtherAssignmentUuid(conflict.getSecondAssignmentUuid())
+                    .setWeeks(conflict.getConflictTime().weeks())
+                    .setWeekday(conflict.getConflictTime().getWeekday())
+                    .setPeriods(conflict.getConflictTime().periods()));
+        }
+        return new AssignmentAdjustDTO()
+                .setAssignmentUuid(assignmentUuid)
+                .setConflicts(items)
+                .setInsertedCount(records.size())
+                .setResolvedCount(resolved);
+    }
+
+    private static SchedulingConflictDO toRecord(String schoolUuid, String semesterUuid, DetectedConflict conflict) {
+        return new SchedulingConflictDO()
+                .setSchoolUuid(schoolUuid)
+                .setSemesterUuid(semesterUuid)
+                .setFirstAssignmentUuid(conflict.getFirstAssignmentUuid())
+                .setSecondAssignmentUuid(conflict.getSecondAssignmentUuid())
+                .setConflictType(conflict.getType().getConflictType())
+                .setConflictTime(TimeSlotCodec.encode(conflict.getConflictTime()))
+                .setDescription(conflict.getType().getLabel() + "冲突: " + conflict.getResourceUuid())
+                .setResolutionStatus(0);
+    }
+}
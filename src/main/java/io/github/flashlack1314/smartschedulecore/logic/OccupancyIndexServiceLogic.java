@@ -0,0 +1,119 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeachingClassDAO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.AdministrativeClassMembership;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+import io.github.flashlack1314.smartschedulecore.services.OccupancyIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 学期占用索引服务实现类
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OccupancyIndexServiceLogic implements OccupancyIndexService {
+
+    private final ClassAssignmentDAO classAssignmentDAO;
+    private final TeachingClassDAO teachingClassDAO;
+
+    /**
+     * 索引缓存，key 为 schoolUuid:semesterUuid
+     */
+    private final Map<String, OccupancyIndex> indexCache = new ConcurrentHashMap<>();
+
+    @Override
+    public OccupancyIndex getIndex(String schoolUuid, String semesterUuid) {
+        return indexCache.computeIfAbsent(cacheKey(schoolUuid, semesterUuid),
+                key -> loadIndex(schoolUuid, semesterUuid));
+    }
+
+    @Override
+    public OccupancyIndex rebuildIndex(String schoolUuid, String semesterUuid) {
+        OccupancyIndex index = loadIndex(schoolUuid, semesterUuid);
+        indexCache.put(cacheKey(schoolUuid, semesterUuid), index);
+        return index;
+    }
+
+    @Override
+    public void onAssignmentChanged(ClassAssignmentDO assignment) {
+        OccupancyIndex index = indexCache.get(cacheKey(assignment.getSchoolUuid(), assignment.getSemesterUuid()));
+        if (index != null) {
+            index.put(assignment);
+        }
+    }
+
+    @Override
+    public void onAssignmentRemoved(String schoolUuid, String semesterUuid, String assignmentUuid) {
+        OccupancyIndex index = indexCache.get(cacheKey(schoolUuid, semesterUuid));
+        if (index != null) {
+            index.remove(assignmentUuid);
+        }
+    }
+
+    @Override
+    public void evictIndex(String schoolUuid, String semesterUuid) {
+        indexCache.remove(cacheKey(schoolUuid, semesterUuid));
+        log.debug("清除学期占用索引: schoolUuid={}, semesterUuid={}", schoolUuid, semesterUuid);
+    }
+
+    @Override
+    public void evictIndexAfterCommit(String schoolUuid, String semesterUuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictIndex(schoolUuid, semesterUuid);
+            return;
+        }
+        // 提交前清除会让并发请求按未提交的旧数据重建索引，因此推迟到提交之后
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictIndex(schoolUuid, semesterUuid);
+            }
+        });
+    }
+
+    @Override
+    public void evictIndexOnRollback(String schoolUuid, String semesterUuid) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evictIndex(schoolUuid, semesterUuid);
+                }
+            }
+        });
+    }
+
+    /**
+     * 从数据库加载排课记录与行政班成员关系并构建索引
+     */
+    private OccupancyIndex loadIndex(String schoolUuid, String semesterUuid) {
+        long start = System.currentTimeMillis();
+        List<ClassAssignmentDO> assignments = classAssignmentDAO.selectBySemester(schoolUuid, semesterUuid);
+        AdministrativeClassMembership membership = AdministrativeClassMembership.build(
+                teachingClassDAO.selectAdministrativeClassesBySemester(schoolUuid, semesterUuid));
+        OccupancyIndex index = OccupancyIndex.build(schoolUuid, semesterUuid, assignments, membership);
+        log.info("构建学期占用索引: schoolUuid={}, semesterUuid={}, assignments={}, cost={}ms",
+                schoolUuid, semesterUuid, index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    private static String cacheKey(String schoolUuid, String semesterUuid) {
+        return schoolUuid + ":" + semesterUuid;
+    }
+}
@@ -0,0 +1,336 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import cn.hutool.core.util.IdUtil;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentBulkWriter;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ScheduleVersionAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ScheduleVersionDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentChangeDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDiffDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionDO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ScheduleVersionCreateVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.services.OccupancyIndexService;
+import io.github.flashlack1314.smartschedulecore.services.ScheduleVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 课表版本服务实现类
+ * <p>
+ * 版本按写时复制保存：新版本只存储与父版本解析结果不同的排课，解析版本时从根版本起沿版本链逐层覆盖。
+ * 第一个版本（根版本）保存学期的全部排课，之后每个版本只增加实际变化的行。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleVersionServiceLogic implements ScheduleVersionService {
+
+    /**
+     * 批量插入版本排课时每批的行数
+     */
+    private static final int SAVE_BATCH_SIZE = 1000;
+
+    private final ScheduleVersionDAO scheduleVersionDAO;
+    private final ScheduleVersionAssignmentDAO scheduleVersionAssignmentDAO;
+    private final ClassAssignmentDAO classAssignmentDAO;
+    private final ClassAssignmentBulkWriter classAssignmentBulkWriter;
+    private final OccupancyIndexService occupancyIndexService;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ScheduleVersionDTO createVersion(ScheduleVersionCreateVO scheduleVersionCreateVO) {
+        long start = System.currentTimeMillis();
+        String schoolUuid = scheduleVersionCreateVO.getSchoolUuid();
+        String semesterUuid = scheduleVersionCreateVO.getSemesterUuid();
+        ScheduleVersionDO parent = scheduleVersionCreateVO.getParentVersionUuid() == null
+                ? scheduleVersionDAO.selectPublished(schoolUuid, semesterUuid)
+                : findVersion(scheduleVersionCreateVO.getParentVersionUuid());
+        if (parent != null && !isSameSemester(parent, schoolUuid, semesterUuid)) {
+            throw new BusinessException("父版本不属于该学期", ErrorCode.PARAM_ERROR);
+        }
+        Map<String, ScheduleVersionAssignmentDO> inherited = parent == null ? Map.of() : resolve(parent);
+
+        ScheduleVersionDO version = new ScheduleVersionDO()
+                .setScheduleVersionUuid(IdUtil.simpleUUID())
+                .setSchoolUuid(schoolUuid)
+                .setSemesterUuid(semesterUuid)
+                .setParentVersionUuid(parent == null ? null : parent.getScheduleVersionUuid())
+                .setVersionName(scheduleVersionCreateVO.getVersionName())
+                .setVersionStatus(SystemConstant.ScheduleVersion.DRAFT)
+                .setRemark(scheduleVersionCreateVO.getRemark())
+                .setCreatedAt(LocalDateTime.now());
+        List<ScheduleVersionAssignmentDO> stored = new ArrayList<>();
+        for (ClassAssignmentDO assignment : classAssignmentDAO.selectBySemester(schoolUuid, semesterUuid)) {
+            ScheduleVersionAssignmentDO row = toVersionRow(assignment)
+                    .setScheduleVersionUuid(version.getScheduleVersionUuid());
+            if (!changedFields(inherited.get(assignment.getClassAssignmentUuid()), row).isEmpty()) {
+                stored.add(row.setVersionAssignmentUuid(IdUtil.simpleUUID()));
+            }
+        }
+        version.setStoredCount(stored.size());
+        scheduleVersionDAO.save(version);
+        if (!stored.isEmpty()) {
+            scheduleVersionAssignmentDAO.saveBatch(stored, SAVE_BATCH_SIZE);
+        }
+        log.info("保存课表版本: versionUuid={}, parent={}, stored={}, cost={}ms", version.getScheduleVersionUuid(),
+                version.getParentVersionUuid(), stored.size(), System.currentTimeMillis() - start);
+        return toDTO(version);
+    }
+
+    @Override
+    public List<ScheduleVersionDTO> listVersions(String schoolUuid, String semesterUuid) {
+        List<ScheduleVersionDTO> result = new ArrayList<>();
+        for (ScheduleVersionDO version : scheduleVersionDAO.selectBySemester(schoolUuid, semesterUuid)) {
+            result.add(toDTO(version));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ScheduleVersionDTO publishVersion(String versionUuid) {
+        long start = System.currentTimeMillis();
+        ScheduleVersionDO version = findVersion(versionUuid);
+        if (!Objects.equals(version.getVersionStatus(), SystemConstant.ScheduleVersion.DRAFT)) {
+            throw new BusinessException("只能发布草稿版本", ErrorCode.VERSION_STATUS_INVALID);
+        }
+        String schoolUuid = version.getSchoolUuid();
+        String semesterUuid = version.getSemesterUuid();
+        LocalDateTime now = LocalDateTime.now();
+        markPublished(version, now);
+        Map<String, ScheduleVersionAssignmentDO> resolved = resolve(version);
+
+        // 只写回与当前课表不同的排课，按版本中的值原样写入（版本中教师为空时恢复为待分配）；
+        // 版本保存之后新增的排课不受影响
+        List<ClassAssignmentDO> changed = new ArrayList<>();
+        for (ClassAssignmentDO assignment : classAssignmentDAO.selectBySemester(schoolUuid, semesterUuid)) {
+            ScheduleVersionAssignmentDO target = resolved.get(assignment.getClassAssignmentUuid());
+            if (target == null || changedFields(toVersionRow(assignment), target).isEmpty()) {
+                continue;
+            }
+            changed.add(new ClassAssignmentDO()
+                    .setClassAssignmentUuid(assignment.getClassAssignmentUuid())
+                    .setTeacherUuid(target.getTeacherUuid())
+                    .setClassTime(target.getClassTime())
+                    .setClassroomUuid(target.getClassroomUuid())
+                    .setBuildingUuid(target.getBuildingUuid())
+                    .setCampusUuid(target.getCampusUuid()));
+        }
+        int changedCount = classAssignmentBulkWriter.replace(semesterUuid, changed).size();
+        occupancyIndexService.evictIndexAfterCommit(schoolUuid, semesterUuid);
+
+        log.info("发布课表版本: versionUuid={}, changed={}, cost={}ms", versionUuid, changedCount,
+                System.currentTimeMillis() - start);
+        return toDTO(version).setChangedCount(changedCount);
+    }
+
+    /**
+     * 归档学期原已发布的版本并将草稿版本标记为已发布
+     * <p>
+     * 先于写回执行：草稿按状态条件更新，并发发布同一版本时后到者更新不到记录；
+     * 学期内已发布版本由部分唯一索引 uk_version_published 保证唯一，并发发布不同版本时后提交者违反唯一约束。
+     * 两种情况都在写回课表之前失败并回滚。
+     * </p>
+     */
+    private void markPublished(ScheduleVersionDO version, LocalDateTime now) {
+        ScheduleVersionDO previous = scheduleVersionDAO.selectPublished(version.getSchoolUuid(), version.getSemesterUuid());
+        try {
+            if (previous != null) {
+                scheduleVersionDAO.updateById(new ScheduleVersionDO()
+                        .setScheduleVersionUuid(previous.getScheduleVersionUuid())
+                        .setVersionStatus(SystemConstant.ScheduleVersion.ARCHIVED)
+                        .setUpdatedAt(now));
+            }
+            if (!scheduleVersionDAO.publishDraft(version.getScheduleVersionUuid(), now)) {
+                throw new BusinessException("只能发布草稿版本", ErrorCode.VERSION_STATUS_INVALID);
+            }
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("该学期已有其他版本正在发布", ErrorCode.VERSION_STATUS_INVALID);
+        }
+        version.setVersionStatus(SystemConstant.ScheduleVersion.PUBLISHED)
+                .setPublishedAt(now)
+                .setUpdatedAt(now);
+    }
+
+    @Override
+    public ScheduleVersionDTO archiveVersion(String versionUuid) {
+        ScheduleVersionDO version = findVersion(versionUuid);
+        if (!Objects.equals(version.getVersionStatus(), SystemConstant.ScheduleVersion.DRAFT)) {
+            throw new BusinessException("只能归档草稿版本", ErrorCode.VERSION_STATUS_INVALID);
+        }
+        version.setVersionStatus(SystemConstant.ScheduleVersion.ARCHIVED)
+                .setUpdatedAt(LocalDateTime.now());
+        scheduleVersionDAO.updateById(version);
+        return toDTO(version);
+    }
+
+    @Override
+    public ScheduleVersionDiffDTO diffVersions(String fromVersionUuid, String toVersionUuid) {
+        long start = System.currentTimeMillis();
+        ScheduleVersionDO from = findVersion(fromVersionUuid);
+        ScheduleVersionDO to = findVersion(toVersionUuid);
+        if (!isSameSemester(to, from.getSchoolUuid(), from.getSemesterUuid())) {
+            throw new BusinessException("只能比较同一学期的版本", ErrorCode.PARAM_ERROR);
+        }
+        Map<String, ScheduleVersionAssignmentDO> before = resolve(from);
+        Map<String, ScheduleVersionAssignmentDO> after = resolve(to);
+
+        Set<String> assignmentUuids = new LinkedHashSet<>(before.keySet());
+        assignmentUuids.addAll(after.keySet());
+        List<AssignmentChangeDTO> changes = new ArrayList<>();
+        for (String assignmentUuid : assignmentUuids) {
+            ScheduleVersionAssignmentDO previous = before.get(assignmentUuid);
+            ScheduleVersionAssignmentDO current = after.get(assignmentUuid);
+            List<String> fields = changedFields(previous, current);
+            if (!fields.isEmpty()) {
+                changes.add(toChange(assignmentUuid, fields, previous, current));
+            }
+        }
+        return new ScheduleVersionDiffDTO()
+                .setFromVersionUuid(fromVersionUuid)
+                .setToVersionUuid(toVersionUuid)
+                .setTotalCount(assignmentUuids.size())
+                .setChangedCount(changes.size())
+                .setChanges(changes)
+                .setCostMillis(System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 解析版本的完整内容：从根版本起沿版本链逐层覆盖
+     *
+     * @return 排课UUID到排课内容的映射
+     */
+    private Map<String, ScheduleVersionAssignmentDO> resolve(ScheduleVersionDO version) {
+        List<String> chain = new ArrayList<>();
+        Set<String> visited = new LinkedHashSet<>();
+        ScheduleVersionDO current = version;
+        while (current != null) {
+            if (!visited.add(current.getScheduleVersionUuid())) {
+                throw new BusinessException("课表版本链存在循环: " + version.getScheduleVersionUuid(),
+                        ErrorCode.OPERATION_FAILED);
+            }
+            chain.add(current.getScheduleVersionUuid());
+            current = current.getParentVersionUuid() == null
+                    ? null
+                    : scheduleVersionDAO.getById(current.getParentVersionUuid());
+        }
+        Collections.reverse(chain);
+
+        Map<String, List<ScheduleVersionAssignmentDO>> byVersion = new HashMap<>(chain.size() * 2);
+        for (ScheduleVersionAssignmentDO row : scheduleVersionAssignmentDAO.selectByVersions(chain)) {
+            byVersion.computeIfAbsent(row.getScheduleVersionUuid(), key -> new ArrayList<>()).add(row);
+        }
+        Map<String, ScheduleVersionAssignmentDO> resolved = new LinkedHashMap<>();
+        for (String versionUuid : chain) {
+            for (ScheduleVersionAssignmentDO row : byVersion.getOrDefault(versionUuid, List.of())) {
+                resolved.put(row.getClassAssignmentUuid(), row);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 比较两份排课内容，返回发生变化的字段（时间按解码后的时间片比较；任一方为 null 时视为全部字段为空）
+     */
+    private static List<String> changedFields(ScheduleVersionAssignmentDO previous, ScheduleVersionAssignmentDO current) {
+        ScheduleVersionAssignmentDO before = previous == null ? new ScheduleVersionAssignmentDO() : previous;
+        ScheduleVersionAssignmentDO after = current == null ? new ScheduleVersionAssignmentDO() : current;
+        List<String> fields = new ArrayList<>(5);
+        if (!Objects.equals(before.getTeacherUuid(), after.getTeacherUuid())) {
+            fields.add("teacherUuid");
+        }
+        if (!TimeSlotCodec.decode(before.getClassTime()).equals(TimeSlotCodec.decode(after.getClassTime()))) {
+            fields.add("classTime");
+        }
+        if (!Objects.equals(before.getClassroomUuid(), after.getClassroomUuid())) {
+            fields.add("classroomUuid");
+        }
+        if (!Objects.equals(before.getBuildingUuid(), after.getBuildingUuid())) {
+            fields.add("buildingUuid");
+        }
+        if (!Objects.equals(before.getCampusUuid(), after.getCampusUuid())) {
+            fields.add("campusUuid");
+        }
+        return fields;
+    }
+
+    private static AssignmentChangeDTO toChange(String assignmentUuid, List<String> fields,
+                                                ScheduleVersionAssignmentDO previous,
+                                                ScheduleVersionAssignmentDO current) {
+        ScheduleVersionAssignmentDO before = previous == null ? new ScheduleVersionAssignmentDO() : previous;
+        ScheduleVersionAssignmentDO after = current == null ? new ScheduleVersionAssignmentDO() : current;
+        return new AssignmentChangeDTO()
+                .setAssignmentUuid(assignmentUuid)
+                .setChangedFields(fields)
+                .setPreviousTeacherUuid(before.getTeacherUuid())
+                .setTeacherUuid(after.getTeacherUuid())
+                .setPreviousClassTime(before.getClassTime())
+                .setClassTime(after.getClassTime())
+                .setPreviousClassroomUuid(before.getClassroomUuid())
+                .setClassroomUuid(after.getClassroomUuid())
+                .setPreviousBuildingUuid(before.getBuildingUuid())
+                .setBuildingUuid(after.getBuildingUuid())
+                .setPreviousCampusUuid(before.getCampusUuid())
+                .setCampusUuid(after.getCampusUuid());
+    }
+
+    private static ScheduleVersionAssignmentDO toVersionRow(ClassAssignmentDO assignment) {
+        return new ScheduleVersionAssignmentDO()
+                .setClassAssignmentUuid(assignment.getClassAssignmentUuid())
+                .setTeacherUuid(assignment.getTeacherUuid())
+                .setClassTime(assignment.getClassTime())
+                .setClassroomUuid(assignment.getClassroomUuid())
+                .setBuildingUuid(assignment.getBuildingUuid())
+                .setCampusUuid(assignment.getCampusUuid());
+    }
+
+    private ScheduleVersionDO findVersion(String versionUuid) {
+        ScheduleVersionDO version = scheduleVersionDAO.getById(versionUuid);
+        if (version == null) {
+            throw new BusinessException("课表版本不存在: " + versionUuid, ErrorCode.VERSION_NOT_FOUND);
+        }
+        return version;
+    }
+
+    private static boolean isSameSemester(ScheduleVersionDO version, String schoolUuid, String semesterUuid) {
+        return version.getSchoolUuid().equals(schoolUuid) && version.getSemesterUuid().equals(semesterUuid);
+    }
+
+    private static ScheduleVersionDTO toDTO(ScheduleVersionDO version) {
+        return new ScheduleVersionDTO()
+                .setScheduleVersionUuid(version.getScheduleVersionUuid())
+                .setSchoolUuid(version.getSchoolUuid())
+                .setSemesterUuid(version.getSemesterUuid())
+                .setParentVersionUuid(version.getParentVersionUuid())
+                .setVersionName(version.getVersionName())
+                .setVersionStatus(version.getVersionStatus())
+                .setStoredCount(version.getStoredCount())
+                .setRemark(version.getRemark())
+                .setPublishedAt(version.getPublishedAt())
+                .setCreatedAt(version.getCreatedAt());
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentBulkWriter;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentChangeDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleWriteBackDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import io.github.flashlack1314.smartschedulecore.services.OccupancyIndexService;
+import io.github.flashlack1314.smartschedulecore.services.ScheduleWriteBackService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 排课结果写回服务实现类
+ * <p>
+ * 只把实际变化的排课和字段经临时表批量合并写回数据库，并把变更同步到已缓存的占用索引（事务回滚时清除索引）。
+ * 未能安排的排课保留原有的上课时间与教室（相关列非空），只写回教师变化。
+ * 求解基于较早加载的快照且不持有事务，写回时只更新数据库中仍与快照相同的排课，
+ * 期间被手工调整或其它任务修改的排课保留其修改并在结果中报告
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleWriteBackServiceLogic implements ScheduleWriteBackService {
+
+    private final ClassAssignmentBulkWriter classAssignmentBulkWriter;
+    private final OccupancyIndexService occupancyIndexService;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public ScheduleWriteBackDTO writeBack(SchedulingProblem problem, List<ClassAssignmentDO> assignments,
+                                          Timetable timetable) {
+        List<AssignmentChangeDTO> changes = new ArrayList<>();
+        List<ClassAssignmentDO> changed = new ArrayList<>();
+        List<ClassAssignmentDO> current = new ArrayList<>();
+        Map<String, ClassAssignmentDO> loaded = new HashMap<>();
+        for (int a = 0; a < timetable.size(); a++) {
+            ClassAssignmentDO before = assignments.get(a);
+            String teacherUuid = problem.getTeacherIds().uuidOf(problem.getTeacherOf()[a]);
+            int slot = timetable.slotOf(a);
+            int room = timetable.roomOf(a);
+            boolean assigned = timetable.isAssigned(a);
+            boolean teacherChanged = !Objects.equals(teacherUuid, before.getTeacherUuid());
+            boolean placementChanged = assigned
+                    && (slot != problem.getInitialSlotOf()[a] || room != problem.getInitialRoomOf()[a]);
+            if (!teacherChanged && !placementChanged) {
+                continue;
+            }
+
+            TimeSlot timeSlot = assigned
+                    ? problem.timeSlotOf(a, slot)
+                    : TimeSlotCodec.decode(before.getClassTime());
+            String classTime = assigned ? TimeSlotCodec.encode(timeSlot) : before.getClassTime();
+            String roomUuid = assigned ? problem.getRoomIds().uuidOf(room) : before.getClassroomUuid();
+            String buildingUuid = assigned ? problem.getRoomBuildingUuids()[room] : before.getBuildingUuid();
+            String campusUuid = assigned ? problem.getRoomCampusUuids()[room] : before.getCampusUuid();
+
+            // 时间按解码后的时间片比较，避免 JSONB 序列化格式不同造成的误判
+            List<String> fields = new ArrayList<>(5);
+            ClassAssignmentDO row = new ClassAssignmentDO().setClassAssignmentUuid(before.getClassAssignmentUuid());
+            if (teacherChanged) {
+                fields.add("teacherUuid");
+                row.setTeacherUuid(teacherUuid);
+            }
+            if (!timeSlot.equals(TimeSlotCodec.decode(before.getClassTime()))) {
+                fields.add("classTime");
+                row.setClassTime(classTime);
+            }
+            if (!Objects.equals(roomUuid, before.getClassroomUuid())) {
+                fields.add("classroomUuid");
+                row.setClassroomUuid(roomUuid);
+            }
+            if (!Objects.equals(buildingUuid, before.getBuildingUuid())) {
+                fields.add("buildingUuid");
+                row.setBuildingUuid(buildingUuid);
+            }
+            if (!Objects.equals(campusUuid, before.getCampusUuid())) {
+                fields.add("campusUuid");
+                row.setCampusUuid(campusUuid);
+            }
+            if (fields.isEmpty()) {
+                continue;
+            }
+
+            changed.add(row);
+            loaded.put(before.getClassAssignmentUuid(), before);
+            current.add(new ClassAssignmentDO()
+                    .setClassAssignmentUuid(before.getClassAssignmentUuid())
+                    .setSchoolUuid(before.getSchoolUuid())
+                    .setSemesterUuid(before.getSemesterUuid())
+                    .setTeacherUuid(teacherUuid)
+                    .setTeachingClassUuid(before.getTeachingClassUuid())
+                    .setClassTime(classTime)
+                    .setClassroomUuid(roomUuid));
+            changes.add(new AssignmentChangeDTO()
+                    .setAssignmentUuid(before.getClassAssignmentUuid())
+                    .setChangedFields(fields)
+                    .setPreviousTeacherUuid(before.getTeacherUuid())
+                    .setTeacherUuid(teacherUuid)
+                    .setPreviousClassTime(before.getClassTime())
+                    .setClassTime(classTime)
+                    .setPreviousClassroomUuid(before.getClassroomUuid())
+                    .setClassroomUuid(roomUuid)
+                    .setPreviousBuildingUuid(before.getBuildingUuid())
+                    .setBuildingUuid(buildingUuid)
+                    .setPreviousCampusUuid(before.getCampusUuid())
+                    .setCampusUuid(campusUuid));
+        }
+        ScheduleWriteBackDTO result = new ScheduleWriteBackDTO()
+                .setChanges(changes)
+                .setSkippedAssignmentUuids(new ArrayList<>());
+        if (changes.isEmpty()) {
+            return result;
+        }
+
+        Set<String> updated = classAssignmentBulkWriter.mergeIfUnchanged(problem.getSemesterUuid(), changed, loaded);
+        if (updated.size() < changes.size()) {
+            changes.removeIf(change -> {
+                if (updated.contains(change.getAssignmentUuid())) {
+                    return false;
+                }
+                result.getSkippedAssignmentUuids().add(change.getAssignmentUuid());
+                return true;
+            });
+            log.warn("排课在求解期间已被修改，未写回: semesterUuid={}, skipped={}",
+                    problem.getSemesterUuid(), result.getSkippedAssignmentUuids());
+        }
+        for (ClassAssignmentDO assignment : current) {
+            if (updated.contains(assignment.getClassAssignmentUuid())) {
+                occupancyIndexService.onAssignmentChanged(assignment);
+            }
+        }
+        occupancyIndexService.evictIndexOnRollback(problem.getSchoolUuid(), problem.getSemesterUuid());
+        return result;
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import cn.hutool.core.util.IdUtil;
+import io.github.flashlack1314.smartschedulecore.config.scheduling.SchedulingConfig;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.AutoScheduleDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.SchedulingRunDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SolveControl;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TimetableEvaluator;
+import io.github.flashlack1314.smartschedulecore.services.SchedulingRunService;
+import io.github.flashlack1314.smartschedulecore.services.SchedulingService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 后台排课任务服务实现类
+ * <p>
+ * 任务在 schedulingRunExecutor 中执行，提交请求立即返回任务ID，不占用 Web 请求线程；
+ * 进度由单线程调度器按固定间隔读取 {@link SolveControl} 并推送给订阅者，求解线程本身不做任何 I/O。
+ * 任务结束后保留一段时间供查询，之后由同一调度器清理。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulingRunServiceLogic implements SchedulingRunService {
+
+    private static final String QUEUED = "queued";
+    private static final String RUNNING = "running";
+    private static final String STOPPING = "stopping";
+    private static final String COMPLETED = "completed";
+    private static final String CANCELLED = "cancelled";
+    private static final String FAILED = "failed";
+
+    /**
+     * SSE 连接超时（毫秒）
+     */
+    private static final long SSE_TIMEOUT_MILLIS = 3_600_000L;
+
+    private final SchedulingService schedulingService;
+    private final SchedulingConfig.SchedulingProperties schedulingProperties;
+    private final ThreadPoolTaskExecutor schedulingRunExecutor;
+    private final ThreadPoolTaskScheduler schedulingProgressScheduler;
+
+    /**
+     * 任务表，key 为任务ID
+     */
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void startProgressPush() {
+        long interval = Math.max(100L, schedulingProperties.getProgressIntervalMillis());
+        schedulingProgressScheduler.scheduleAtFixedRate(this::pushProgress, Duration.ofMillis(interval));
+    }
+
+    @Override
+    public SchedulingRunDTO startRun(AutoScheduleVO autoScheduleVO) {
+        Run run = new Run(IdUtil.simpleUUID(), autoScheduleVO);
+        synchronized (runs) {
+            for (Run other : runs.values()) {
+                if (!other.isFinished()
+                        && Objects.equals(other.request.getSchoolUuid(), autoScheduleVO.getSchoolUuid())
+                        && Objects.equals(other.request.getSemesterUuid(), autoScheduleVO.getSemesterUuid())) {
+                    throw new BusinessException("该学期已有进行中的排课任务: " + other.runId,
+                            ErrorCode.SCHEDULING_RUN_ACTIVE);
+                }
+            }
+            runs.put(run.runId, run);
+        }
+        try {
+            schedulingRunExecutor.execute(() -> execute(run));
+        } catch (TaskRejectedException e) {
+            runs.remove(run.runId);
+            log.warn("后台排课任务队列已满，拒绝提交: schoolUuid={}, semesterUuid={}",
+                    autoScheduleVO.getSchoolUuid(), autoScheduleVO.getSemesterUuid());
+            throw new BusinessException("排课任务队列已满，请稍后再试", ErrorCode.SCHEDULING_QUEUE_FULL);
+        }
+        log.info("提交后台排课任务: runId={}, schoolUuid={}, semesterUuid={}, strategy={}",
+                run.runId, autoScheduleVO.getSchoolUuid(), autoScheduleVO.getSemesterUuid(), run.strategy);
+        return toDTO(run);
+    }
+
+    @Override
+    public SseEmitter subscribe(String runId) {
+        Run run = findRun(runId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> run.emitters.remove(emitter));
+        emitter.onTimeout(() -> run.emitters.remove(emitter));
+        emitter.onError(e -> run.emitters.remove(emitter));
+        synchronized (run) {
+            if (run.isFinished()) {
+                send(emitter, "finished", toDTO(run));
+                emitter.complete();
+                return emitter;
+            }
+            run.emitters.add(emitter);
+        }
+        send(emitter, "progress", toDTO(run));
+        return emitter;
+    }
+
+    @Override
+    public SchedulingRunDTO getRun(String runId) {
+        return toDTO(findRun(runId));
+    }
+
+    @Override
+    public SchedulingRunDTO acceptRun(String runId) {
+        Run run = findRun(runId);
+        synchronized (run) {
+            if (!run.isFinished()) {
+                run.control.requestStop();
+                run.status = STOPPING;
+            }
+        }
+        return toDTO(run);
+    }
+
+    @Override
+    public SchedulingRunDTO cancelRun(String runId) {
+        Run run = findRun(runId);
+        synchronized (run) {
+            if (!run.isFinished()) {
+                run.control.cancel();
+                run.status = STOPPING;
+            }
+        }
+        return toDTO(run);
+    }
+
+    /**
+     * 在后台线程中执行任务
+     */
+    private void execute(Run run) {
+        synchronized (run) {
+            if (run.control.isCancelled()) {
+                finish(run, CANCELLED);
+                return;
+            }
+            if (!run.control.isStopRequested()) {
+                run.status = RUNNING;
+            }
+        }
+        String status;
+        try {
+            run.result = schedulingService.autoSchedule(run.request, run.control);
+            status = run.control.isCancelled() ? CANCELLED : COMPLETED;
+        } catch (BusinessException e) {
+            run.errorMessage = e.getMessage();
+            status = FAILED;
+        } catch (Exception e) {
+            log.error("后台排课任务失败: runId={}", run.runId, e);
+            run.errorMessage = ErrorCode.SCHEDULING_FAILED.getErrorMessage();
+            status = FAILED;
+        }
+        synchronized (run) {
+            finish(run, status);
+        }
+        log.info("后台排课任务结束: runId={}, status={}, cost={}ms",
+                run.runId, status, run.control.getElapsedMillis());
+    }
+
+    /**
+     * 标记任务结束，推送 finished 事件并关闭全部订阅（调用方持有任务锁）
+     */
+    private void finish(Run run, String status) {
+        run.status = status;
+        run.finishedAt = System.currentTimeMillis();
+        SchedulingRunDTO dto = toDTO(run);
+        for (SseEmitter emitter : run.emitters) {
+            send(emitter, "finished", dto);
+            emitter.complete();
+        }
+        run.emitters.clear();
+    }
+
+    /**
+     * 定期推送进度并清理过期任务
+     */
+    private void pushProgress() {
+        long now = System.currentTimeMillis();
+        for (Run run : runs.values()) {
+            if (run.isFinished()) {
+                if (now - run.finishedAt > schedulingProperties.getRunRetentionMillis()) {
+                    runs.remove(run.runId);
+                }
+                continue;
+            }
+            if (run.emitters.isEmpty()) {
+                continue;
+            }
+            SchedulingRunDTO dto = toDTO(run);
+            for (SseEmitter emitter : run.emitters) {
+                if (!send(emitter, "progress", dto)) {
+                    run.emitters.remove(emitter);
+                }
+            }
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, String event, SchedulingRunDTO dto) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(dto, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("推送排课进度失败，订阅已断开: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Run findRun(String runId) {
+        Run run = runs.get(runId);
+        if (run == null) {
+            throw new BusinessException("排课任务不存在: " + runId, ErrorCode.DATA_NOT_FOUND);
+        }
+        return run;
+    }
+
+    private static SchedulingRunDTO toDTO(Run run) {
+        SolveControl control = run.control;
+        long elapsed = control.getElapsedMillis();
+        long iterations = control.getIterations();
+        SchedulingRunDTO dto = new SchedulingRunDTO()
+                .setRunId(run.runId)
+                .setSchoolUuid(run.request.getSchoolUuid())
+                .setSemesterUuid(run.request.getSemesterUuid())
+                .setStrategy(run.strategy)
+                .setStatus(run.status)
+                .setIterations(iterations)
+                .setIterationsPerSecond(elapsed > 0 ? iterations * 1000.0 / elapsed : 0.0)
+                .setBudgetUsed(control.getBudgetUsed())
+                .setElapsedMillis(elapsed)
+                .setBestStrategy(control.getBestStrategy())
+                .setResult(run.result)
+                .setErrorMessage(run.errorMessage);
+        TimetableEvaluator.Score score = control.getBestScore();
+        if (score != null) {
+            dto.setBestCost(score.cost())
+                    .setHardViolations(score.hardViolations())
+                    .setUnassignedCount(score.unassigned())
+                    .setSoftPenalty(score.softPenalty());
+        }
+        return dto;
+    }
+
+    /**
+     * 后台排课任务
+     */
+    private static final class Run {
+        private final String runId;
+        private final AutoScheduleVO request;
+        private final String strategy;
+        private final SolveControl control = new SolveControl();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile String status = QUEUED;
+        private volatile AutoScheduleDTO result;
+        private volatile String errorMessage;
+        private volatile long finishedAt;
+
+        private Run(String runId, AutoScheduleVO request) {
+            this.runId = runId;
+            this.request = request;
+            this.strategy = request.getStrategy() == null ? "greedy" : request.getStrategy();
+        }
+
+        private boolean isFinished() {
+            return finishedAt != 0L;
+        }
+    }
+}
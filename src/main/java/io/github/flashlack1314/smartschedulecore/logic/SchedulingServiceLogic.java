@@ -0,0 +1,464 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.config.scheduling.SchedulingConfig;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ClassroomDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentChangeDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentDomainDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AutoScheduleDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.DomainPropagationDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.FreeRoomDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleWriteBackDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TeacherSatisfactionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TimeSlotAssignmentDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AssignmentAdjustVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.FreeRoomQueryVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.TimeSlotQueryVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ClassroomIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.QualificationIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.DomainPropagation;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.PropagationOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TeacherPreferenceScorer;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.DepartmentDecomposer;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.GreedyScheduler;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.IslandGeneticSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.PortfolioSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SolveControl;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TabuSearchSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TeacherAssigner;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TimetableEvaluator;
+import io.github.flashlack1314.smartschedulecore.services.ClassroomIndexService;
+import io.github.flashlack1314.smartschedulecore.services.ConflictService;
+import io.github.flashlack1314.smartschedulecore.services.OccupancyIndexService;
+import io.github.flashlack1314.smartschedulecore.services.ScheduleWriteBackService;
+import io.github.flashlack1314.smartschedulecore.services.SchedulingService;
+import io.github.flashlack1314.smartschedulecore.services.SemesterSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 排课服务实现类
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulingServiceLogic implements SchedulingService {
+
+    /**
+     * 空闲教室查询默认返回条数
+     */
+    private static final int FREE_ROOM_LIMIT = 50;
+
+    private final ClassAssignmentDAO classAssignmentDAO;
+    private final ClassroomDAO classroomDAO;
+    private final SemesterSnapshotService semesterSnapshotService;
+    private final ScheduleWriteBackService scheduleWriteBackService;
+    private final ConflictService conflictService;
+    private final OccupancyIndexService occupancyIndexService;
+    private final ClassroomIndexService classroomIndexService;
+    private final SchedulingConfig.SchedulingProperties schedulingProperties;
+    private final ForkJoinPool schedulingPool;
+    private final ThreadPoolTaskExecutor schedulingPortfolioExecutor;
+    private final ThreadPoolTaskExecutor schedulingPartitionExecutor;
+
+    /**
+     * 正在自动排课的学期，key 为 schoolUuid:semesterUuid
+     */
+    private final Set<String> activeSemesters = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public AutoScheduleDTO autoSchedule(AutoScheduleVO autoScheduleVO) {
+        return autoSchedule(autoScheduleVO, new SolveControl());
+    }
+
+    @Override
+    public AutoScheduleDTO autoSchedule(AutoScheduleVO autoScheduleVO, SolveControl control) {
+        // 同一学期同时只允许一个自动排课，避免两次求解基于同一快照互相覆盖
+        String semesterKey = autoScheduleVO.getSchoolUuid() + ":" + autoScheduleVO.getSemesterUuid();
+        if (!activeSemesters.add(semesterKey)) {
+            throw new BusinessException("该学期已有进行中的自动排课", ErrorCode.SCHEDULING_RUN_ACTIVE);
+        }
+        try {
+            return schedule(autoScheduleVO, control);
+        } finally {
+            activeSemesters.remove(semesterKey);
+        }
+    }
+
+    /**
+     * 加载快照、求解并写回
+     */
+    private AutoScheduleDTO schedule(AutoScheduleVO autoScheduleVO, SolveControl control) {
+        // 不在事务中求解：快照在其自身的只读事务中加载，写回在独立的短事务中完成
+        long start = System.currentTimeMillis();
+        String schoolUuid = autoScheduleVO.getSchoolUuid();
+        String semesterUuid = autoScheduleVO.getSemesterUuid();
+        boolean decompose = Boolean.TRUE.equals(autoScheduleVO.getDecompose());
+        if (decompose && "portfolio".equals(autoScheduleVO.getStrategy())) {
+            throw new BusinessException("按院系分解求解不支持组合策略", ErrorCode.PARAM_ERROR);
+        }
+
+        SemesterSnapshot snapshot = semesterSnapshotService.loadSnapshot(schoolUuid, semesterUuid);
+        TeacherAssigner.Result staffing = Boolean.TRUE.equals(autoScheduleVO.getAssignTeachers())
+                ? new TeacherAssigner().assign(snapshot, QualificationIndex.build(snapshot.getQualifications()))
+                : null;
+        SchedulingProblem unrestricted = problemBuilder(snapshot, staffing).build();
+        DomainPropagation propagation = propagate(unrestricted);
+        SchedulingProblem problem = propagation == null ? unrestricted : propagation.getProblem();
+
+        boolean keepExisting = !Boolean.FALSE.equals(autoScheduleVO.getKeepExisting());
+        Timetable seed = keepExisting
+                ? Timetable.initial(problem)
+                : new Timetable(problem.assignmentCount());
+        String strategy = autoScheduleVO.getStrategy() == null ? "greedy" : autoScheduleVO.getStrategy();
+        Timetable timetable;
+        String winningStrategy = strategy;
+        Map<String, Long> strategyCosts = Map.of();
+        DepartmentDecomposer.Result decomposed = null;
+        if (decompose) {
+            decomposed = new DepartmentDecomposer(schedulingPartitionExecutor).solve(problem, seed,
+                    DepartmentDecomposer.partition(snapshot),
+                    partition -> {
+                        SchedulingProblem sub = problemBuilder(snapshot, staffing)
+                                .assignments(partition.getAssignments())
+                                .classrooms(partition.getClassrooms())
+                                .build();
+                        DomainPropagation subPropagation = propagate(sub);
+                        return subPropagation == null ? sub : subPropagation.getProblem();
+                    },
+                    (sub, subSeed, subControl) -> solve(sub, subSeed, strategy, subControl),
+                    control);
+            timetable = decomposed.getTimetable();
+        } else if ("portfolio".equals(strategy)) {
+            PortfolioSolver.Result portfolio = new PortfolioSolver(schedulingPortfolioExecutor, schedulingPool,
+                    schedulingProperties.getPortfolio(), schedulingProperties.getAnnealing(),
+                    schedulingProperties.getTabu(), schedulingProperties.getGenetic())
+                    .solve(problem, seed, control);
+            timetable = portfolio.getTimetable();
+            winningStrategy = portfolio.getStrategy();
+            strategyCosts = portfolio.getCosts();
+        } else {
+            timetable = solve(problem, seed, strategy, control);
+        }
+        control.publish(problem, timetable);
+        long cost = new TimetableEvaluator(problem).evaluate(timetable);
+
+        // 取消的任务不写回，保持数据库中原有的课表（紧接写回前检查）
+        ScheduleWriteBackDTO writeBack = control.isCancelled()
+                ? new ScheduleWriteBackDTO().setChanges(List.of()).setSkippedAssignmentUuids(List.of())
+                : scheduleWriteBackService.writeBack(problem, snapshot.getAssignments(), timetable);
+        List<AssignmentChangeDTO> changes = writeBack.getChanges();
+
+        List<String> unscheduled = new ArrayList<>();
+        for (int a = 0; a < timetable.size(); a++) {
+            if (!timetable.isAssigned(a)) {
+                unscheduled.add(problem.getAssignmentIds().uuidOf(a));
+            }
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("自动排课完成: schoolUuid={}, semesterUuid={}, strategy={}, winner={}, total={}, scheduled={}, "
+                        + "updated={}, cost={}ms", schoolUuid, semesterUuid, strategy, winningStrategy,
+                timetable.size(), timetable.assignedCount(), changes.size(), elapsed);
+
+        return new AutoScheduleDTO()
+                .setStrategy(strategy)
+                .setWinningStrategy(winningStrategy)
+                .setStrategyCosts(strategyCosts)
+                .setPartitionCount(decomposed == null ? 0 : decomposed.getPartitionCount())
+                .setReconciledCount(decomposed == null ? 0 : decomposed.getReconciledCount())
+                .setInitialDomainSize(propagation == null ? 0L : propagation.totalInitialSize())
+                .setPrunedDomainSize(propagation == null ? 0L : propagation.totalPrunedSize())
+                .setInfeasibleAssignmentUuids(propagation == null
+                        ? List.of()
+                        : infeasibleUuids(problem, propagation))
+                .setTotalCount(timetable.size())
+                .setScheduledCount(timetable.assignedCount())
+                .setUnscheduledCount(unscheduled.size())
+                .setUpdatedCount(changes.size())
+                .setCost(cost)
+                .setUnscheduledAssignmentUuids(unscheduled)
+                .setChanges(changes)
+                .setSkippedAssignmentUuids(writeBack.getSkippedAssignmentUuids())
+                .setTeacherAssignedCount(staffing == null ? 0 : staffing.getTeacherByTeachingClass().size())
+                .setUnstaffedTeachingClassUuids(staffing == null
+                        ? List.of()
+                        : staffing.getUnstaffedTeachingClassUuids())
+                .setCostMillis(elapsed);
+    }
+
+    @Override
+    public List<TeacherSatisfactionDTO> getTeacherSatisfaction(String schoolUuid, String semesterUuid) {
+        SemesterSnapshot snapshot = semesterSnapshotService.loadSnapshot(schoolUuid, semesterUuid);
+        SchedulingProblem problem = SchedulingProblem.builder()
+                .snapshot(snapshot)
+                .daysPerWeek(schedulingProperties.getDaysPerWeek())
+                .periodsPerDay(schedulingProperties.getPeriodsPerDay())
+                .travel(schedulingProperties.getTravel())
+                .build();
+        Timetable timetable = Timetable.initial(problem);
+
+        List<TeacherSatisfactionDTO> result = new ArrayList<>(problem.teacherCount());
+        for (TeacherPreferenceScorer.TeacherSatisfaction row
+                : problem.getPreferenceScorer().breakdown(problem, timetable.slots(), timetable.rooms())) {
+            if (row.getTeacherUuid() == null) {
+                continue;
+            }
+            result.add(new TeacherSatisfactionDTO()
+                    .setTeacherUuid(row.getTeacherUuid())
+                    .setAssignedPeriods(row.getAssignedPeriods())
+                    .setSatisfiedPeriods(row.getSatisfiedPeriods())
+                    .setOutsidePreferredPeriods(row.getOutsidePreferredPeriods())
+                    .setAvoidedPeriods(row.getAvoidedPeriods())
+                    .setCampusMisses(row.getCampusMisses())
+                    .setRoomTypeMisses(row.getRoomTypeMisses())
+                    .setOverloadedDays(row.getOverloadedDays())
+                    .setExcessConsecutivePeriods(row.getExcessConsecutivePeriods())
+                    .setTimeSatisfaction(row.timeSatisfaction())
+                    .setPenalty(row.getPenalty()));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public AssignmentAdjustDTO adjustAssignment(AssignmentAdjustVO assignmentAdjustVO) {
+        long start = System.currentTimeMillis();
+        String assignmentUuid = assignmentAdjustVO.getAssignmentUuid();
+        ClassAssignmentDO current = classAssignmentDAO.getById(assignmentUuid);
+        if (current == null) {
+            throw new BusinessException("排课不存在: " + assignmentUuid, ErrorCode.ASSIGNMENT_NOT_FOUND);
+        }
+        String schoolUuid = current.getSchoolUuid();
+        String semesterUuid = current.getSemesterUuid();
+
+        List<Integer> weeks = assignmentAdjustVO.getWeeks();
+        long weekMask = weeks == null || weeks.isEmpty()
+                ? TimeSlotCodec.decodeWeekMask(current.getClassTime())
+                : TimeSlotCodec.maskOf(weeks, SystemConstant.Scheduling.MAX_WEEKS);
+        if (weekMask == 0L) {
+            throw new BusinessException("周次不能为空", ErrorCode.CLASS_TIME_INVALID);
+        }
+        int periodMask = (int) TimeSlotCodec.maskOf(assignmentAdjustVO.getPeriods(),
+                SystemConstant.Scheduling.MAX_PERIODS_PER_DAY);
+        TimeSlot slot = TimeSlot.of(weekMask, assignmentAdjustVO.getWeekday(), periodMask);
+
+        ClassAssignmentDO adjusted = new ClassAssignmentDO()
+                .setClassAssignmentUuid(assignmentUuid)
+                .setSchoolUuid(schoolUuid)
+                .setSemesterUuid(semesterUuid)
+                .setTeacherUuid(current.getTeacherUuid())
+                .setTeachingClassUuid(current.getTeachingClassUuid())
+                .setClassroomUuid(current.getClassroomUuid())
+                .setBuildingUuid(current.getBuildingUuid())
+                .setCampusUuid(current.getCampusUuid())
+                .setClassTime(TimeSlotCodec.encode(slot));
+        String classroomUuid = assignmentAdjustVO.getClassroomUuid();
+        if (classroomUuid != null && !classroomUuid.equals(current.getClassroomUuid())) {
+            ClassroomDO classroom = classroomDAO.getById(classroomUuid);
+            if (classroom == null || !schoolUuid.equals(classroom.getSchoolUuid())
+                    || Boolean.FALSE.equals(classroom.getIsEnabled())) {
+                throw new BusinessException("教室不存在或未启用: " + classroomUuid, ErrorCode.DATA_NOT_FOUND);
+            }
+            adjusted.setClassroomUuid(classroomUuid)
+                    .setBuildingUuid(classroom.getBuildingUuid())
+                    .setCampusUuid(classroom.getCampusUuid());
+        }
+
+        // 只复查该排课的教师、教室、教学班及其所含行政班，不做全学期检测
+        OccupancyIndex index = occupancyIndexService.getIndex(schoolUuid, semesterUuid);
+        List<DetectedConflict> conflicts = index.findConflicts(adjusted, slot);
+
+        classAssignmentDAO.updateById(new ClassAssignmentDO()
+                .setClassAssignmentUuid(assignmentUuid)
+                .setClassTime(adjusted.getClassTime())
+                .setClassroomUuid(adjusted.getClassroomUuid())
+                .setBuildingUuid(adjusted.getBuildingUuid())
+                .setCampusUuid(adjusted.getCampusUuid()));
+        index.put(adjusted);
+        occupancyIndexService.evictIndexOnRollback(schoolUuid, semesterUuid);
+
+        AssignmentAdjustDTO result = conflictService.syncAssignmentConflicts(
+                schoolUuid, semesterUuid, assignmentUuid, conflicts);
+        long elapsed = System.currentTimeMillis() - start;
+        log.debug("调整排课: assignmentUuid={}, classTime={}, classroomUuid={}, conflicts={}, cost={}ms",
+                assignmentUuid, adjusted.getClassTime(), adjusted.getClassroomUuid(), conflicts.size(), elapsed);
+        return result
+                .setClassTime(adjusted.getClassTime())
+                .setClassroomUuid(adjusted.getClassroomUuid())
+                .setCostMillis(elapsed);
+    }
+
+    @Override
+    public List<FreeRoomDTO> searchFreeRooms(FreeRoomQueryVO freeRoomQueryVO) {
+        long weekMask = TimeSlotCodec.maskOf(freeRoomQueryVO.getWeeks(), SystemConstant.Scheduling.MAX_WEEKS);
+        int periodMask = (int) TimeSlotCodec.maskOf(freeRoomQueryVO.getPeriods(),
+                SystemConstant.Scheduling.MAX_PERIODS_PER_DAY);
+        if (weekMask == 0L || periodMask == 0) {
+            throw new BusinessException("周次或节次不合法", ErrorCode.CLASS_TIME_INVALID);
+        }
+        TimeSlot slot = TimeSlot.of(weekMask, freeRoomQueryVO.getWeekday(), periodMask);
+        int flags = (Boolean.TRUE.equals(freeRoomQueryVO.getMultimedia()) ? ClassroomIndex.MULTIMEDIA : 0)
+                | (Boolean.TRUE.equals(freeRoomQueryVO.getAirConditioned()) ? ClassroomIndex.AIR_CONDITIONED : 0)
+                | (Boolean.TRUE.equals(freeRoomQueryVO.getExaminationRoom()) ? ClassroomIndex.EXAMINATION_ROOM : 0);
+        int limit = freeRoomQueryVO.getLimit() == null ? FREE_ROOM_LIMIT : freeRoomQueryVO.getLimit();
+
+        ClassroomIndex rooms = classroomIndexService.getIndex(freeRoomQueryVO.getSchoolUuid());
+        OccupancyIndex occupancy = occupancyIndexService.getIndex(
+                freeRoomQueryVO.getSchoolUuid(), freeRoomQueryVO.getSemesterUuid());
+        ClassroomIndex.Requirement requirement = rooms.requirement(freeRoomQueryVO.getClassroomTypeUuid(),
+                freeRoomQueryVO.getCampusUuid(),
+                freeRoomQueryVO.getMinCapacity() == null ? 0 : freeRoomQueryVO.getMinCapacity(),
+                flags, freeRoomQueryVO.getTags());
+
+        List<FreeRoomDTO> result = new ArrayList<>();
+        for (int room : rooms.find(requirement)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            ClassroomDO classroom = rooms.roomOf(room);
+            if (occupancy.isFree(ResourceType.CLASSROOM, classroom.getClassroomUuid(), slot)) {
+                result.add(new FreeRoomDTO()
+                        .setClassroomUuid(classroom.getClassroomUuid())
+                        .setClassroomNumber(classroom.getClassroomNumber())
+                        .setClassroomName(classroom.getClassroomName())
+                        .setCampusUuid(classroom.getCampusUuid())
+                        .setBuildingUuid(classroom.getBuildingUuid())
+                        .setClassroomTypeUuid(classroom.getClassroomTypeUuid())
+                        .setFloor(classroom.getFloor())
+                        .setCapacity(classroom.getCapacity()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<TimeSlotAssignmentDTO> searchAssignmentsAt(TimeSlotQueryVO timeSlotQueryVO) {
+        List<ClassAssignmentDO> assignments = classAssignmentDAO.selectByTimeCell(
+                timeSlotQueryVO.getSchoolUuid(), timeSlotQueryVO.getSemesterUuid(),
+                1L << (timeSlotQueryVO.getWeek() - 1),
+                TimeSlotCodec.cellOf(timeSlotQueryVO.getWeekday(), timeSlotQueryVO.getPeriod()),
+                timeSlotQueryVO.getTeacherUuid(), timeSlotQueryVO.getClassroomUuid(),
+                timeSlotQueryVO.getBuildingUuid(), timeSlotQueryVO.getCampusUuid());
+        List<TimeSlotAssignmentDTO> result = new ArrayList<>(assignments.size());
+        for (ClassAssignmentDO assignment : assignments) {
+            result.add(new TimeSlotAssignmentDTO()
+                    .setAssignmentUuid(assignment.getClassAssignmentUuid())
+                    .setCourseUuid(assignment.getCourseUuid())
+                    .setTeachingClassUuid(assignment.getTeachingClassUuid())
+                    .setTeacherUuid(assignment.getTeacherUuid())
+                    .setClassroomUuid(assignment.getClassroomUuid())
+                    .setBuildingUuid(assignment.getBuildingUuid())
+                    .setCampusUuid(assignment.getCampusUuid())
+                    .setClassTime(assignment.getClassTime()));
+        }
+        return result;
+    }
+
+    @Override
+    public DomainPropagationDTO getDomainPropagation(String schoolUuid, String semesterUuid) {
+        SemesterSnapshot snapshot = semesterSnapshotService.loadSnapshot(schoolUuid, semesterUuid);
+        SchedulingProblem problem = problemBuilder(snapshot, null).build();
+        DomainPropagation propagation = DomainPropagation.propagate(problem, schedulingProperties.getPropagation());
+
+        int[] fixed = problem.getFixedSlotOf();
+        List<AssignmentDomainDTO> assignments = new ArrayList<>(problem.assignmentCount());
+        for (int a = 0; a < problem.assignmentCount(); a++) {
+            assignments.add(new AssignmentDomainDTO()
+                    .setAssignmentUuid(problem.getAssignmentIds().uuidOf(a))
+                    .setFixed(fixed[a] != SchedulingProblem.UNASSIGNED)
+                    .setInitialDomainSize(propagation.initialSizeOf(a))
+                    .setPrunedDomainSize(propagation.prunedSizeOf(a))
+                    .setInfeasible(propagation.isInfeasible(a)));
+        }
+        return new DomainPropagationDTO()
+                .setFeasible(propagation.isFeasible())
+                .setInitialDomainSize(propagation.totalInitialSize())
+                .setPrunedDomainSize(propagation.totalPrunedSize())
+                .setInfeasibleAssignmentUuids(infeasibleUuids(problem, propagation))
+                .setAssignments(assignments)
+                .setCostMillis(propagation.getElapsedMillis());
+    }
+
+    /**
+     * 按配置对排课问题执行约束传播（收缩后的问题见 {@link DomainPropagation#getProblem()}），未启用时返回 null
+     */
+    private DomainPropagation propagate(SchedulingProblem problem) {
+        PropagationOptions options = schedulingProperties.getPropagation();
+        if (!options.isEnabled()) {
+            return null;
+        }
+        DomainPropagation propagation = DomainPropagation.propagate(problem, options);
+        if (!propagation.isFeasible()) {
+            log.warn("约束传播发现不可行的排课: infeasible={}", infeasibleUuids(problem, propagation).size());
+        }
+        return propagation;
+    }
+
+    private static List<String> infeasibleUuids(SchedulingProblem problem, DomainPropagation propagation) {
+        List<String> result = new ArrayList<>();
+        for (int a = 0; a < propagation.size(); a++) {
+            if (propagation.isInfeasible(a)) {
+                result.add(problem.getAssignmentIds().uuidOf(a));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 按快照与排课配置创建排课问题构建器（全校问题与院系子问题共用）
+     */
+    private SchedulingProblem.Builder problemBuilder(SemesterSnapshot snapshot, TeacherAssigner.Result staffing) {
+        return SchedulingProblem.builder()
+                .snapshot(snapshot)
+                .teacherOverrides(staffing == null ? Map.of() : staffing.getTeacherByTeachingClass())
+                .daysPerWeek(schedulingProperties.getDaysPerWeek())
+                .periodsPerDay(schedulingProperties.getPeriodsPerDay())
+                .travel(schedulingProperties.getTravel());
+    }
+
+    /**
+     * 按策略求解；优化类策略以贪心解为起点，结果经修复后保证无冲突
+     */
+    private Timetable solve(SchedulingProblem problem, Timetable seed, String strategy, SolveControl control) {
+        GreedyScheduler greedy = new GreedyScheduler();
+        Timetable initial = greedy.solve(problem, seed);
+        return switch (strategy) {
+            case "greedy" -> initial;
+            case "genetic" -> greedy.repair(problem, new IslandGeneticSolver(schedulingPool,
+                    schedulingProperties.getGenetic()).solve(problem, initial, control));
+            case "annealing" -> greedy.repair(problem,
+                    new SimulatedAnnealingSolver(schedulingProperties.getAnnealing()).solve(problem, initial, control));
+            case "tabu" -> greedy.repair(problem,
+                    new TabuSearchSolver(schedulingProperties.getTabu()).solve(problem, initial, control));
+            default -> throw new BusinessException("不支持的求解策略: " + strategy, ErrorCode.PARAM_ERROR);
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import io.github.flashlack1314.smartschedulecore.daos.SchoolDAO;
 import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
 import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.KeysetPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.entity.SchoolDO;
@@ -14,6 +15,7 @@ import io.github.flashlack1314.smartschedulecore.models.vo.SchoolCreateVO;
 import io.github.flashlack1314.smartschedulecore.models.vo.SchoolQueryVO;
 import io.github.flashlack1314.smartschedulecore.models.vo.SchoolUpdateVO;
 import io.github.flashlack1314.smartschedulecore.services.SchoolService;
+import io.github.flashlack1314.smartschedulecore.utils.KeysetPageUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -38,64 +40,31 @@ public class SchoolServiceLogic implements SchoolService {
                 queryVO.getPageNum(), queryVO.getPageSize(),
                 queryVO.getSchoolName(), queryVO.getSchoolCode(), queryVO.getSchoolType());
 
-        // 构建查询条件
-        LambdaQueryWrapper<SchoolDO> wrapper = new LambdaQueryWrapper<>();
-
-        // 添加查询条件 - 修复：只构建一次wrapper
-        if (StringUtils.hasText(queryVO.getSchoolName())) {
-            log.info("添加学校名称模糊查询条件: {}", queryVO.getSchoolName());
-            wrapper.like(SchoolDO::getSchoolName, queryVO.getSchoolName());
-        }
-        if (StringUtils.hasText(queryVO.getSchoolCode())) {
-            log.info("添加学校代码精确查询条件: {}", queryVO.getSchoolCode());
-            wrapper.eq(SchoolDO::getSchoolCode, queryVO.getSchoolCode());
-        }
-        if (StringUtils.hasText(queryVO.getSchoolType())) {
-            log.info("添加学校类型精确查询条件: {}", queryVO.getSchoolType());
-            wrapper.eq(SchoolDO::getSchoolType, queryVO.getSchoolType());
-        }
-        // 注意：先获取总数，不要添加ORDER BY
-
-        // 修复：获取总数时不要包含ORDER BY
-        long total = schoolDAO.count(wrapper);
-        log.info("查询总数: {}", total);
-
-        // 修复：创建分页对象时才添加ORDER BY
-        Page<SchoolDO> page = new Page<>(queryVO.getPageNum(), queryVO.getPageSize());
-        // 设置手动计算的总数
-        page.setTotal(total);
-
-        LambdaQueryWrapper<SchoolDO> pageWrapper = new LambdaQueryWrapper<>();
-
-        // 重新构建查询条件用于分页查询
-        if (StringUtils.hasText(queryVO.getSchoolName())) {
-            pageWrapper.like(SchoolDO::getSchoolName, queryVO.getSchoolName());
-        }
-        if (StringUtils.hasText(queryVO.getSchoolCode())) {
-            pageWrapper.eq(SchoolDO::getSchoolCode, queryVO.getSchoolCode());
-        }
-        if (StringUtils.hasText(queryVO.getSchoolType())) {
-            pageWrapper.eq(SchoolDO::getSchoolType, queryVO.getSchoolType());
-        }
-        // 在分页查询中添加ORDER BY
-        pageWrapper.orderBy(true, false, SchoolDO::getCreatedAt);
-
-        // 执行分页查询
-        IPage<SchoolDO> schoolPage = schoolDAO.page(page, pageWrapper);
+        // 分页插件统计总数时会去掉 ORDER BY，查询条件只需构建一次
+        LambdaQueryWrapper<SchoolDO> wrapper = buildQueryWrapper(queryVO);
+        wrapper.orderByDesc(SchoolDO::getCreatedAt)
+                .orderByDesc(SchoolDO::getSchoolUuid);
+        IPage<SchoolDO> schoolPage = schoolDAO.page(
+                new Page<>(queryVO.getPageNum(), queryVO.getPageSize()), wrapper);
 
         log.info("分页查询结果: total={}, current={}, size={}, pages={}, records.size={}",
                 schoolPage.getTotal(), schoolPage.getCurrent(), schoolPage.getSize(),
                 schoolPage.getPages(), schoolPage.getRecords().size());
 
-        // 记录查询到的具体学校名称
-        for (SchoolDO record : schoolPage.getRecords()) {
-            log.info("查询到记录: {} - {}", record.getSchoolUuid(), record.getSchoolName());
-        }
-
         // 使用MyBatis Plus的分页结果构建响应
         return convertToPageDTO(schoolPage);
     }
 
+    @Override
+    public KeysetPageDTO<SchoolDTO> getSchoolKeysetPage(SchoolQueryVO queryVO) {
+        log.info("游标分页查询学校列表: pageSize={}, withTotal={}, schoolName='{}', schoolCode='{}', schoolType='{}'",
+                queryVO.getPageSize(), queryVO.getWithTotal(),
+                queryVO.getSchoolName(), queryVO.getSchoolCode(), queryVO.getSchoolType());
+
+        return KeysetPageUtils.page(schoolDAO, buildQueryWrapper(queryVO), queryVO.getCursor(),
+                queryVO.getPageSize(), Boolean.TRUE.equals(queryVO.getWithTotal()), this::convertToDTO);
+    }
+
     @Override
     public SchoolDTO getSchoolByUuid(String schoolUuid) {
         log.debug("根据UUID查询学校: schoolUuid={}", schoolUuid);
@@ -247,4 +216,15 @@ public class SchoolServiceLogic implements SchoolService {
 
         return pageDTO;
     }
+
+    /**
+     * 构建学校列表查询条件（不含排序）
+     */
+    private LambdaQueryWrapper<SchoolDO> buildQueryWrapper(SchoolQueryVO queryVO) {
+        LambdaQueryWrapper<SchoolDO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.like(StringUtils.hasText(queryVO.getSchoolName()), SchoolDO::getSchoolName, queryVO.getSchoolName())
+                .eq(StringUtils.hasText(queryVO.getSchoolCode()), SchoolDO::getSchoolCode, queryVO.getSchoolCode())
+                .eq(StringUtils.hasText(queryVO.getSchoolType()), SchoolDO::getSchoolType, queryVO.getSchoolType());
+        return wrapper;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package io.github.flashlack1314.smartschedulecore.logic;
+
+import io.github.flashlack1314.smartschedulecore.daos.CampusDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ClassroomDAO;
+import io.github.flashlack1314.smartschedulecore.daos.CourseDAO;
+import io.github.flashlack1314.smartschedulecore.daos.SemesterDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeacherCourseQualificationDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeacherDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeacherPreferencesDAO;
+import io.github.flashlack1314.smartschedulecore.daos.TeachingClassDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SemesterDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import io.github.flashlack1314.smartschedulecore.services.SemesterSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 学期快照服务实现类
+ * <p>
+ * 游标只在事务内有效，因此全部流式查询在同一个只读事务中完成；
+ * PostgreSQL 驱动在非自动提交模式下才会按 fetchSize 分批抓取，而不是一次读入整个结果集。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SemesterSnapshotServiceLogic implements SemesterSnapshotService {
+
+    private final SemesterDAO semesterDAO;
+    private final TeacherDAO teacherDAO;
+    private final ClassroomDAO classroomDAO;
+    private final TeachingClassDAO teachingClassDAO;
+    private final CourseDAO courseDAO;
+    private final ClassAssignmentDAO classAssignmentDAO;
+    private final TeacherPreferencesDAO teacherPreferencesDAO;
+    private final TeacherCourseQualificationDAO teacherCourseQualificationDAO;
+    private final CampusDAO campusDAO;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SemesterSnapshot loadSnapshot(String schoolUuid, String semesterUuid) {
+        SemesterDO semester = semesterDAO.getById(semesterUuid);
+        if (semester == null || !schoolUuid.equals(semester.getSchoolUuid())) {
+            throw new BusinessException("学期不存在: " + semesterUuid, ErrorCode.SEMESTER_NOT_FOUND);
+        }
+
+        SemesterSnapshot.Builder builder = SemesterSnapshot.builder(semester);
+        teacherDAO.streamBySchool(schoolUuid, builder::addTeacher);
+        classroomDAO.streamEnabledBySchool(schoolUuid, builder::addClassroom);
+        courseDAO.streamBySchool(schoolUuid, builder::addCourse);
+        teachingClassDAO.streamBySemester(schoolUuid, semesterUuid, builder::addTeachingClass);
+        classAssignmentDAO.streamBySemester(schoolUuid, semesterUuid, assignment -> {
+            if (isDecodable(assignment)) {
+                builder.addAssignment(assignment);
+            }
+        });
+        teacherPreferencesDAO.streamBySchool(schoolUuid, builder::addPreference);
+        teacherCourseQualificationDAO.streamBySchool(schoolUuid, builder::addQualification);
+        campusDAO.selectEnabledBySchool(schoolUuid).forEach(builder::addCampus);
+        SemesterSnapshot snapshot = builder.build();
+
+        log.info("学期快照加载完成: schoolUuid={}, semesterUuid={}, teachers={}, classrooms={}, teachingClasses={}, "
+                        + "courses={}, assignments={}, preferences={}, qualifications={}, campuses={}, cost={}ms",
+                schoolUuid, semesterUuid, snapshot.getTeachers().size(), snapshot.getClassrooms().size(),
+                snapshot.getTeachingClasses().size(), snapshot.getCourses().size(), snapshot.getAssignments().size(),
+                snapshot.getPreferences().size(), snapshot.getQualifications().size(), snapshot.getCampuses().size(),
+                snapshot.getLoadMillis());
+        return snapshot;
+    }
+
+    /**
+     * 排课的 class_time、specified_time 能否解析；不能解析时记录日志，该排课不进入快照（求解与写回都不涉及）
+     */
+    private static boolean isDecodable(ClassAssignmentDO assignment) {
+        if (TimeSlotCodec.decodeOrNull(assignment.getClassTime()) != null
+                && TimeSlotCodec.decodeOrNull(assignment.getSpecifiedTime()) != null) {
+            return true;
+        }
+        log.warn("跳过时间无法解析的排课: assignmentUuid={}, classTime={}, specifiedTime={}",
+                assignment.getClassAssignmentUuid(), assignment.getClassTime(), assignment.getSpecifiedTime());
+        return false;
+    }
+}
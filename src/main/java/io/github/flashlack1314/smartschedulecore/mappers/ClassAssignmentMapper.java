@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 排课表 Mapper 接口
@@ -18,4 +24,23 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface ClassAssignmentMapper extends BaseMapper<ClassAssignmentDO> {
 
+    /**
+     * 流式查询学期全部排课（含时间打包列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT class_assignment_uuid, school_uuid, semester_uuid, course_uuid, teacher_uuid, teaching_class_uuid,
+                   campus_uuid, building_uuid, classroom_uuid, classroom_type_uuid, class_time, specified_time,
+                   class_week_mask, class_day_periods, specified_day_periods, consecutive_sessions, scheduling_priority
+            FROM sc_class_assignment
+            WHERE school_uuid = #{schoolUuid} AND semester_uuid = #{semesterUuid}
+            ORDER BY class_assignment_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<ClassAssignmentDO> streamBySemester(@Param("schoolUuid") String schoolUuid,
+                                               @Param("semesterUuid") String semesterUuid);
 }
@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 教室表 Mapper 接口
@@ -18,4 +24,21 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface ClassroomMapper extends BaseMapper<ClassroomDO> {
 
+    /**
+     * 流式查询学校全部启用的教室（仅排课所需列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid 学校UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT classroom_uuid, school_uuid, campus_uuid, building_uuid, classroom_type_uuid, classroom_number,
+                   classroom_name, floor, capacity, tags, is_multimedia, is_air_conditioned, is_examination_room,
+                   management_department_uuid, is_enabled
+            FROM sc_classroom
+            WHERE school_uuid = #{schoolUuid} AND is_enabled = TRUE
+            ORDER BY classroom_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<ClassroomDO> streamEnabledBySchool(@Param("schoolUuid") String schoolUuid);
 }
@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.CourseDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 课程表 Mapper 接口
@@ -18,4 +24,20 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface CourseMapper extends BaseMapper<CourseDO> {
 
+    /**
+     * 流式查询学校全部课程（仅排课所需列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid 学校UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT course_uuid, school_uuid, department_uuid, week_hours, theory_classroom_type_uuid,
+                   experiment_classroom_type_uuid, practice_classroom_type_uuid, is_enabled
+            FROM sc_course
+            WHERE school_uuid = #{schoolUuid}
+            ORDER BY course_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<CourseDO> streamBySchool(@Param("schoolUuid") String schoolUuid);
 }
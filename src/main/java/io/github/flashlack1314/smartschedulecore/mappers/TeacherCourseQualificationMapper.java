@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeacherCourseQualificationDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 教师课程资格表 Mapper 接口
@@ -18,4 +24,20 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface TeacherCourseQualificationMapper extends BaseMapper<TeacherCourseQualificationDO> {
 
+    /**
+     * 流式查询学校全部教师授课资格（仅排课所需列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid 学校UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT qualification_uuid, school_uuid, teacher_uuid, course_uuid, qualification_level, is_primary,
+                   approval_status
+            FROM sc_teacher_course_qualification
+            WHERE school_uuid = #{schoolUuid}
+            ORDER BY qualification_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<TeacherCourseQualificationDO> streamBySchool(@Param("schoolUuid") String schoolUuid);
 }
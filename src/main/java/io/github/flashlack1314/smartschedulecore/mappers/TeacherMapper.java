@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeacherDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 教师表 Mapper 接口
@@ -18,4 +24,19 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface TeacherMapper extends BaseMapper<TeacherDO> {
 
+    /**
+     * 流式查询学校全部教师（仅排课所需列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid 学校UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT teacher_uuid, school_uuid, department_uuid, teacher_type_uuid
+            FROM sc_teacher
+            WHERE school_uuid = #{schoolUuid}
+            ORDER BY teacher_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<TeacherDO> streamBySchool(@Param("schoolUuid") String schoolUuid);
 }
@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeacherPreferencesDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 教师偏好表 Mapper 接口
@@ -18,4 +24,21 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface TeacherPreferencesMapper extends BaseMapper<TeacherPreferencesDO> {
 
+    /**
+     * 流式查询学校全部教师偏好（含时间打包列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid 学校UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT preference_uuid, school_uuid, teacher_uuid, preferred_time, avoided_time,
+                   preferred_day_periods, avoided_day_periods, preferred_campus_uuid, preferred_classroom_type_uuid,
+                   max_courses_per_day, max_consecutive_courses
+            FROM sc_teacher_preferences
+            WHERE school_uuid = #{schoolUuid}
+            ORDER BY teacher_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<TeacherPreferencesDO> streamBySchool(@Param("schoolUuid") String schoolUuid);
 }
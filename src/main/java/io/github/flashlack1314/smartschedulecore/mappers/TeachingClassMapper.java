@@ -1,8 +1,14 @@
 package io.github.flashlack1314.smartschedulecore.mappers;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
 import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 教学班表 Mapper 接口
@@ -18,4 +24,22 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface TeachingClassMapper extends BaseMapper<TeachingClassDO> {
 
+    /**
+     * 流式查询学期全部教学班（仅排课所需列）
+     * <p>需在事务内遍历并关闭游标</p>
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 游标
+     */
+    @Select("""
+            SELECT teaching_class_uuid, school_uuid, semester_uuid, course_uuid, department_uuid,
+                   administrative_classes, class_size, actual_student_count, is_enabled
+            FROM sc_teaching_class
+            WHERE school_uuid = #{schoolUuid} AND semester_uuid = #{semesterUuid}
+            ORDER BY teaching_class_uuid
+            """)
+    @Options(fetchSize = SystemConstant.Scheduling.STREAM_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<TeachingClassDO> streamBySemester(@Param("schoolUuid") String schoolUuid,
+                                             @Param("semesterUuid") String semesterUuid);
 }
@@ -0,0 +1,51 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 手动调整排课结果数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AssignmentAdjustDTO {
+
+    /**
+     * 排课UUID
+     */
+    private String assignmentUuid;
+
+    /**
+     * 调整后的上课时间（JSON）
+     */
+    private String classTime;
+
+    /**
+     * 调整后的教室UUID
+     */
+    private String classroomUuid;
+
+    /**
+     * 调整后仍存在的冲突
+     */
+    private List<AssignmentConflictDTO> conflicts;
+
+    /**
+     * 新增的冲突记录数
+     */
+    private Integer insertedCount;
+
+    /**
+     * 自动解除的冲突记录数
+     */
+    private Integer resolvedCount;
+
+    /**
+     * 总耗时（毫秒）
+     */
+    private Long costMillis;
+}
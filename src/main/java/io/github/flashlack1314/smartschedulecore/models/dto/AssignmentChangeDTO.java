@@ -0,0 +1,76 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 排课变更数据传输对象（写回前后的差异）
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AssignmentChangeDTO {
+
+    /**
+     * 排课UUID
+     */
+    private String assignmentUuid;
+
+    /**
+     * 发生变化的字段（teacherUuid、classTime、classroomUuid、buildingUuid、campusUuid）
+     */
+    private List<String> changedFields;
+
+    /**
+     * 变更前的教师UUID
+     */
+    private String previousTeacherUuid;
+
+    /**
+     * 变更后的教师UUID
+     */
+    private String teacherUuid;
+
+    /**
+     * 变更前的上课时间
+     */
+    private String previousClassTime;
+
+    /**
+     * 变更后的上课时间（未安排时为 null）
+     */
+    private String classTime;
+
+    /**
+     * 变更前的教室UUID
+     */
+    private String previousClassroomUuid;
+
+    /**
+     * 变更后的教室UUID（未安排时为 null）
+     */
+    private String classroomUuid;
+
+    /**
+     * 变更前的教学楼UUID
+     */
+    private String previousBuildingUuid;
+
+    /**
+     * 变更后的教学楼UUID（未安排时为 null）
+     */
+    private String buildingUuid;
+
+    /**
+     * 变更前的校区UUID
+     */
+    private String previousCampusUuid;
+
+    /**
+     * 变更后的校区UUID（未安排时为 null）
+     */
+    private String campusUuid;
+}
@@ -0,0 +1,46 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 排课冲突项数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AssignmentConflictDTO {
+
+    /**
+     * 冲突类型（1教师/2教室/3班级）
+     */
+    private Integer conflictType;
+
+    /**
+     * 冲突资源UUID
+     */
+    private String resourceUuid;
+
+    /**
+     * 与之冲突的排课UUID
+     */
+    private String otherAssignmentUuid;
+
+    /**
+     * 冲突周次
+     */
+    private List<Integer> weeks;
+
+    /**
+     * 冲突星期
+     */
+    private Integer weekday;
+
+    /**
+     * 冲突节次
+     */
+    private List<Integer> periods;
+}
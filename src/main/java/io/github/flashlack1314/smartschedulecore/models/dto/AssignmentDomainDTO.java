@@ -0,0 +1,39 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 单个排课的定义域数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AssignmentDomainDTO {
+
+    /**
+     * 排课UUID
+     */
+    private String assignmentUuid;
+
+    /**
+     * 是否有固定时间
+     */
+    private Boolean fixed;
+
+    /**
+     * 传播前的定义域大小（开始位置数 × 候选教室数）
+     */
+    private Integer initialDomainSize;
+
+    /**
+     * 传播后的定义域大小（可用的 (开始位置, 教室) 组合数）
+     */
+    private Integer prunedDomainSize;
+
+    /**
+     * 是否不可行（定义域为空或与其他固定排课冲突）
+     */
+    private Boolean infeasible;
+}
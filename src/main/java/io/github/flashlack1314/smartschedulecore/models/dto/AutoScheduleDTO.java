@@ -0,0 +1,112 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 自动排课结果数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AutoScheduleDTO {
+
+    /**
+     * 使用的求解策略
+     */
+    private String strategy;
+
+    /**
+     * 组合求解中胜出的策略（非组合求解时与求解策略相同）
+     */
+    private String winningStrategy;
+
+    /**
+     * 组合求解中各策略修复后的代价（非组合求解时为空）
+     */
+    private Map<String, Long> strategyCosts;
+
+    /**
+     * 按院系分解求解的分区数（未分解时为 0）
+     */
+    private Integer partitionCount;
+
+    /**
+     * 按院系分解求解时，合并后因跨院系共享资源冲突而调整的排课数
+     */
+    private Integer reconciledCount;
+
+    /**
+     * 约束传播前的定义域总大小（未启用传播时为 0）
+     */
+    private Long initialDomainSize;
+
+    /**
+     * 约束传播后的定义域总大小（未启用传播时为 0）
+     */
+    private Long prunedDomainSize;
+
+    /**
+     * 约束传播判定为不可行的排课UUID（与其他固定排课冲突或没有任何可用位置）
+     */
+    private List<String> infeasibleAssignmentUuids;
+
+    /**
+     * 排课总数
+     */
+    private Integer totalCount;
+
+    /**
+     * 已安排数量
+     */
+    private Integer scheduledCount;
+
+    /**
+     * 未能安排的数量
+     */
+    private Integer unscheduledCount;
+
+    /**
+     * 本次写回数据库的数量
+     */
+    private Integer updatedCount;
+
+    /**
+     * 最终课表代价（越小越好）
+     */
+    private Long cost;
+
+    /**
+     * 未能安排的排课UUID（数据库中保留其原有的上课时间与教室，可能与新课表冲突，需人工调整）
+     */
+    private List<String> unscheduledAssignmentUuids;
+
+    /**
+     * 本次写回的排课变更（只包含实际发生变化的排课与字段；取消的任务为空）
+     */
+    private List<AssignmentChangeDTO> changes;
+
+    /**
+     * 求解期间已被手工调整或其它操作修改、因此未写回的排课UUID（数据库中保留其它操作的修改）
+     */
+    private List<String> skippedAssignmentUuids;
+
+    /**
+     * 自动分配了教师的教学班数量
+     */
+    private Integer teacherAssignedCount;
+
+    /**
+     * 没有合格教师、仍未指定教师的教学班UUID
+     */
+    private List<String> unstaffedTeachingClassUuids;
+
+    /**
+     * 求解耗时（毫秒）
+     */
+    private Long costMillis;
+}
@@ -0,0 +1,46 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 批量导入结果数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class BatchImportDTO {
+
+    /**
+     * 文件数据行数（不含表头与空行）
+     */
+    private Integer totalRows;
+
+    /**
+     * 成功写入的行数
+     */
+    private Long importedRows;
+
+    /**
+     * 校验失败被跳过的行数
+     */
+    private Integer failedRows;
+
+    /**
+     * 行级错误（按行号升序）
+     */
+    private List<ImportErrorDTO> errors;
+
+    /**
+     * 错误是否超出返回上限而被截断
+     */
+    private Boolean errorsTruncated;
+
+    /**
+     * 耗时（毫秒）
+     */
+    private Long costMillis;
+}
@@ -0,0 +1,59 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 冲突检测结果数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class ConflictDetectDTO {
+
+    /**
+     * 参与检测的排课数量
+     */
+    private Integer assignmentCount;
+
+    /**
+     * 检测到的冲突总数
+     */
+    private Integer conflictCount;
+
+    /**
+     * 教师冲突数量
+     */
+    private Integer teacherConflictCount;
+
+    /**
+     * 教室冲突数量
+     */
+    private Integer classroomConflictCount;
+
+    /**
+     * 班级冲突数量
+     */
+    private Integer classConflictCount;
+
+    /**
+     * 新写入的冲突记录数量
+     */
+    private Integer insertedCount;
+
+    /**
+     * 已解决或忽略而跳过的冲突数量
+     */
+    private Integer skippedCount;
+
+    /**
+     * 检测耗时（毫秒，不含写库）
+     */
+    private Long detectMillis;
+
+    /**
+     * 总耗时（毫秒）
+     */
+    private Long costMillis;
+}
@@ -0,0 +1,46 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 约束传播结果数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class DomainPropagationDTO {
+
+    /**
+     * 是否所有排课都可行
+     */
+    private Boolean feasible;
+
+    /**
+     * 传播前的定义域总大小
+     */
+    private Long initialDomainSize;
+
+    /**
+     * 传播后的定义域总大小
+     */
+    private Long prunedDomainSize;
+
+    /**
+     * 不可行的排课UUID
+     */
+    private List<String> infeasibleAssignmentUuids;
+
+    /**
+     * 各排课的定义域（按排课在学期中的加载顺序）
+     */
+    private List<AssignmentDomainDTO> assignments;
+
+    /**
+     * 传播耗时（毫秒）
+     */
+    private Long costMillis;
+}
@@ -0,0 +1,54 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 空闲教室数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class FreeRoomDTO {
+
+    /**
+     * 教室UUID
+     */
+    private String classroomUuid;
+
+    /**
+     * 教室编号
+     */
+    private String classroomNumber;
+
+    /**
+     * 教室名称
+     */
+    private String classroomName;
+
+    /**
+     * 校区UUID
+     */
+    private String campusUuid;
+
+    /**
+     * 教学楼UUID
+     */
+    private String buildingUuid;
+
+    /**
+     * 教室类型UUID
+     */
+    private String classroomTypeUuid;
+
+    /**
+     * 楼层
+     */
+    private Integer floor;
+
+    /**
+     * 容量
+     */
+    private Integer capacity;
+}
@@ -0,0 +1,24 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 导入行级错误数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class ImportErrorDTO {
+
+    /**
+     * 行号（与文件中的行号一致，表头为第 1 行）
+     */
+    private Long rowNumber;
+
+    /**
+     * 错误描述
+     */
+    private String message;
+}
@@ -0,0 +1,46 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 游标分页响应数据传输对象
+ * <p>
+ * 按 (created_at, uuid) 倒序翻页，下一页请求携带 nextCursor；
+ * 总数只在首页按需统计，后续翻页为 null，由客户端沿用首页的值
+ * </p>
+ *
+ * @param <T> 记录类型
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class KeysetPageDTO<T> {
+
+    /**
+     * 记录列表
+     */
+    private List<T> records;
+
+    /**
+     * 每页大小
+     */
+    private Integer size;
+
+    /**
+     * 是否还有下一页
+     */
+    private Boolean hasMore;
+
+    /**
+     * 下一页游标（没有下一页时为 null）
+     */
+    private String nextCursor;
+
+    /**
+     * 总记录数（仅首页且请求统计时返回）
+     */
+    private Long total;
+}
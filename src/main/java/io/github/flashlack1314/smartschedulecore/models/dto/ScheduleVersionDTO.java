@@ -0,0 +1,74 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+
+/**
+ * 课表版本数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class ScheduleVersionDTO {
+
+    /**
+     * 版本UUID
+     */
+    private String scheduleVersionUuid;
+
+    /**
+     * 学校UUID
+     */
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    private String semesterUuid;
+
+    /**
+     * 父版本UUID
+     */
+    private String parentVersionUuid;
+
+    /**
+     * 版本名称
+     */
+    private String versionName;
+
+    /**
+     * 版本状态（0草稿/1已发布/2已归档）
+     */
+    private Integer versionStatus;
+
+    /**
+     * 本版本存储的排课数（相对父版本发生变化的排课）
+     */
+    private Integer storedCount;
+
+    /**
+     * 发布时写回当前课表的排课数（仅发布操作返回）
+     */
+    private Integer changedCount;
+
+    /**
+     * 备注
+     */
+    private String remark;
+
+    /**
+     * 发布时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime publishedAt;
+
+    /**
+     * 创建时间
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 课表版本差异数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class ScheduleVersionDiffDTO {
+
+    /**
+     * 基准版本UUID（变更前）
+     */
+    private String fromVersionUuid;
+
+    /**
+     * 目标版本UUID（变更后）
+     */
+    private String toVersionUuid;
+
+    /**
+     * 两个版本涉及的排课总数
+     */
+    private Integer totalCount;
+
+    /**
+     * 发生变化的排课数
+     */
+    private Integer changedCount;
+
+    /**
+     * 发生变化的排课（previous* 为基准版本的值）
+     */
+    private List<AssignmentChangeDTO> changes;
+
+    /**
+     * 比较耗时（毫秒）
+     */
+    private Long costMillis;
+}
@@ -0,0 +1,26 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 排课结果写回数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class ScheduleWriteBackDTO {
+
+    /**
+     * 已写回的排课变更
+     */
+    private List<AssignmentChangeDTO> changes;
+
+    /**
+     * 求解期间已被其它操作修改、因此未写回的排课UUID
+     */
+    private List<String> skippedAssignmentUuids;
+}
@@ -0,0 +1,94 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 后台排课任务状态数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class SchedulingRunDTO {
+
+    /**
+     * 任务ID
+     */
+    private String runId;
+
+    /**
+     * 学校UUID
+     */
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    private String semesterUuid;
+
+    /**
+     * 求解策略
+     */
+    private String strategy;
+
+    /**
+     * 任务状态：queued 排队中、running 求解中、stopping 正在停止、completed 已完成、cancelled 已取消、failed 失败
+     */
+    private String status;
+
+    /**
+     * 已完成的迭代次数（遗传算法为代数）
+     */
+    private Long iterations;
+
+    /**
+     * 每秒迭代次数
+     */
+    private Double iterationsPerSecond;
+
+    /**
+     * 当前最优解的来源策略（仅组合求解）
+     */
+    private String bestStrategy;
+
+    /**
+     * 当前最优解的代价
+     */
+    private Long bestCost;
+
+    /**
+     * 当前最优解的硬约束违反数（未安排数 + 资源冲突数）
+     */
+    private Long hardViolations;
+
+    /**
+     * 当前最优解的未安排数
+     */
+    private Long unassignedCount;
+
+    /**
+     * 当前最优解的软约束代价
+     */
+    private Long softPenalty;
+
+    /**
+     * 已使用的时间预算比例（0-1）
+     */
+    private Double budgetUsed;
+
+    /**
+     * 已运行时长（毫秒）
+     */
+    private Long elapsedMillis;
+
+    /**
+     * 排课结果（任务完成后）
+     */
+    private AutoScheduleDTO result;
+
+    /**
+     * 失败原因（任务失败后）
+     */
+    private String errorMessage;
+}
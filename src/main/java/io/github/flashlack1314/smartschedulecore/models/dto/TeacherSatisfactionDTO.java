@@ -0,0 +1,69 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 教师偏好满意度数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class TeacherSatisfactionDTO {
+
+    /**
+     * 教师UUID
+     */
+    private String teacherUuid;
+
+    /**
+     * 已安排的总节数
+     */
+    private Integer assignedPeriods;
+
+    /**
+     * 满足时间偏好的节数
+     */
+    private Integer satisfiedPeriods;
+
+    /**
+     * 不在偏好时间内的节数
+     */
+    private Integer outsidePreferredPeriods;
+
+    /**
+     * 落在避免时间内的节数
+     */
+    private Integer avoidedPeriods;
+
+    /**
+     * 不在偏好校区的课次
+     */
+    private Integer campusMisses;
+
+    /**
+     * 不是偏好教室类型的课次
+     */
+    private Integer roomTypeMisses;
+
+    /**
+     * 课程数超出每日上限的天数
+     */
+    private Integer overloadedDays;
+
+    /**
+     * 超出连续节数上限的节数
+     */
+    private Integer excessConsecutivePeriods;
+
+    /**
+     * 时间满意度（0-1）
+     */
+    private Double timeSatisfaction;
+
+    /**
+     * 偏好代价合计
+     */
+    private Long penalty;
+}
@@ -0,0 +1,54 @@
+package io.github.flashlack1314.smartschedulecore.models.dto;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 时间点排课数据传输对象
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class TimeSlotAssignmentDTO {
+
+    /**
+     * 排课UUID
+     */
+    private String assignmentUuid;
+
+    /**
+     * 课程UUID
+     */
+    private String courseUuid;
+
+    /**
+     * 教学班UUID
+     */
+    private String teachingClassUuid;
+
+    /**
+     * 教师UUID
+     */
+    private String teacherUuid;
+
+    /**
+     * 教室UUID
+     */
+    private String classroomUuid;
+
+    /**
+     * 教学楼UUID
+     */
+    private String buildingUuid;
+
+    /**
+     * 校区UUID
+     */
+    private String campusUuid;
+
+    /**
+     * 上课时间
+     */
+    private String classTime;
+}
@@ -1,6 +1,8 @@
 package io.github.flashlack1314.smartschedulecore.models.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.Data;
@@ -104,6 +106,24 @@ public class ClassAssignmentDO {
      */
     private String specifiedTime;
 
+    /**
+     * 上课周次位图（数据库生成列，由 class_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Long classWeekMask;
+
+    /**
+     * 上课星期节次位图（数据库生成列，由 class_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer classDayPeriods;
+
+    /**
+     * 指定时间星期节次位图（数据库生成列，由 specified_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer specifiedDayPeriods;
+
     /**
      * 连堂节数（默认2）
      */
@@ -0,0 +1,72 @@
+package io.github.flashlack1314.smartschedulecore.models.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+
+/**
+ * 课表版本排课表实体类
+ * <p>
+ * 对应数据库表：`sc_schedule_version_assignment`
+ * 只存储相对父版本发生变化的排课的教师、时间与教室
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Data
+@TableName(value = "sc_schedule_version_assignment")
+@Accessors(chain = true)
+public class ScheduleVersionAssignmentDO {
+
+    /**
+     * 主键，采用 UUID 自动生成
+     */
+    @TableId(value = "version_assignment_uuid", type = IdType.ASSIGN_UUID)
+    private String versionAssignmentUuid;
+
+    /**
+     * 关联课表版本UUID
+     */
+    private String scheduleVersionUuid;
+
+    /**
+     * 关联排课UUID
+     */
+    private String classAssignmentUuid;
+
+    /**
+     * 教师UUID
+     */
+    private String teacherUuid;
+
+    /**
+     * 上课时间（JSONB格式，未安排为 null）
+     */
+    private String classTime;
+
+    /**
+     * 教室UUID
+     */
+    private String classroomUuid;
+
+    /**
+     * 教学楼UUID
+     */
+    private String buildingUuid;
+
+    /**
+     * 校区UUID
+     */
+    private String campusUuid;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+}
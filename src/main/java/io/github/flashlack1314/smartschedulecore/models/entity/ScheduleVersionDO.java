@@ -0,0 +1,81 @@
+package io.github.flashlack1314.smartschedulecore.models.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+
+/**
+ * 课表版本表实体类
+ * <p>
+ * 对应数据库表：`sc_schedule_version`
+ * </p>
+ *
+ * @author flash
+ * @version v1.0.0
+ * @since v1.0.0
+ */
+@Data
+@TableName(value = "sc_schedule_version")
+@Accessors(chain = true)
+public class ScheduleVersionDO {
+
+    /**
+     * 版本主键，采用 UUID 自动生成
+     */
+    @TableId(value = "schedule_version_uuid", type = IdType.ASSIGN_UUID)
+    private String scheduleVersionUuid;
+
+    /**
+     * 关联学校UUID
+     */
+    private String schoolUuid;
+
+    /**
+     * 关联学期UUID
+     */
+    private String semesterUuid;
+
+    /**
+     * 父版本UUID（未存储的排课沿用父版本，根版本为 null）
+     */
+    private String parentVersionUuid;
+
+    /**
+     * 版本名称
+     */
+    private String versionName;
+
+    /**
+     * 版本状态（0草稿/1已发布/2已归档）
+     */
+    private Integer versionStatus;
+
+    /**
+     * 本版本存储的排课数（相对父版本发生变化的排课）
+     */
+    private Integer storedCount;
+
+    /**
+     * 备注
+     */
+    private String remark;
+
+    /**
+     * 发布时间
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
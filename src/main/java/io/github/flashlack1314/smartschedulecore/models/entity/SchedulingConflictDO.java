@@ -1,6 +1,8 @@
 package io.github.flashlack1314.smartschedulecore.models.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.Data;
@@ -59,6 +61,23 @@ public class SchedulingConflictDO {
      */
     private String conflictTime;
 
+    /**
+     * 冲突周次位图（数据库生成列，由 conflict_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Long conflictWeekMask;
+
+    /**
+     * 冲突星期节次位图（数据库生成列，由 conflict_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer conflictDayPeriods;
+
+    /**
+     * 冲突描述
+     */
+    private String description;
+
     /**
      * 解决状态（0未解决/1已解决/2忽略）
      */
@@ -1,6 +1,8 @@
 package io.github.flashlack1314.smartschedulecore.models.entity;
 
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
 import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableField;
 import com.baomidou.mybatisplus.annotation.TableId;
 import com.baomidou.mybatisplus.annotation.TableName;
 import lombok.Data;
@@ -49,6 +51,18 @@ public class TeacherPreferencesDO {
      */
     private String avoidedTime;
 
+    /**
+     * 偏好时间星期节次位图（数据库生成列，由 preferred_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer preferredDayPeriods;
+
+    /**
+     * 避开时间星期节次位图（数据库生成列，由 avoided_time 计算，默认查询不返回）
+     */
+    @TableField(select = false, insertStrategy = FieldStrategy.NEVER, updateStrategy = FieldStrategy.NEVER)
+    private Integer avoidedDayPeriods;
+
     /**
      * 偏好校区UUID
      */
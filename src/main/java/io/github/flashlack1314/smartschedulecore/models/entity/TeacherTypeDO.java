@@ -39,6 +39,11 @@ public class TeacherTypeDO {
      */
     private String typeName;
 
+    /**
+     * 类型代码
+     */
+    private String typeCode;
+
     /**
      * 创建时间
      */
@@ -0,0 +1,49 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 手动调整排课请求对象
+ *
+ * @author flash
+ */
+@Data
+public class AssignmentAdjustVO {
+
+    /**
+     * 排课UUID（取自路径参数）
+     */
+    private String assignmentUuid;
+
+    /**
+     * 周次列表（为空时沿用当前周次）
+     */
+    private List<Integer> weeks;
+
+    /**
+     * 星期（1-7）
+     */
+    @NotNull(message = "星期不能为空")
+    @Min(value = 1, message = "星期必须在1-7之间")
+    @Max(value = 7, message = "星期必须在1-7之间")
+    private Integer weekday;
+
+    /**
+     * 节次列表
+     */
+    @NotEmpty(message = "节次不能为空")
+    private List<Integer> periods;
+
+    /**
+     * 教室UUID（为空时沿用当前教室）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "教室UUID格式不正确")
+    private String classroomUuid;
+}
@@ -0,0 +1,51 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * 自动排课请求对象
+ *
+ * @author flash
+ */
+@Data
+public class AutoScheduleVO {
+
+    /**
+     * 学校UUID
+     */
+    @NotBlank(message = "学校UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确")
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    @NotBlank(message = "学期UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确")
+    private String semesterUuid;
+
+    /**
+     * 是否以已安排的排课为起点（默认是）
+     * greedy 策略仅补排未安排的排课；优化类策略会在此基础上继续调整
+     */
+    private Boolean keepExisting = true;
+
+    /**
+     * 求解策略：greedy 贪心构造（默认）、genetic 岛屿模型遗传算法、annealing 模拟退火、tabu 禁忌搜索、
+     * portfolio 组合求解（多个策略并行，取最优）
+     */
+    @Pattern(regexp = "^(greedy|genetic|annealing|tabu|portfolio)$", message = "求解策略不支持")
+    private String strategy = "greedy";
+
+    /**
+     * 是否按授课资格为未指定教师的教学班自动分配教师（默认否）
+     */
+    private Boolean assignTeachers = false;
+
+    /**
+     * 是否按院系分解求解（默认否）：各院系子问题并行求解后合并，再统一消解跨院系共享资源的冲突
+     */
+    private Boolean decompose = false;
+}
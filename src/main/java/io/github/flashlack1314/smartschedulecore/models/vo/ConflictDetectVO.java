@@ -0,0 +1,28 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * 冲突检测请求对象
+ *
+ * @author flash
+ */
+@Data
+public class ConflictDetectVO {
+
+    /**
+     * 学校UUID
+     */
+    @NotBlank(message = "学校UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确")
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    @NotBlank(message = "学期UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确")
+    private String semesterUuid;
+}
@@ -0,0 +1,99 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 空闲教室查询请求对象
+ *
+ * @author flash
+ */
+@Data
+public class FreeRoomQueryVO {
+
+    /**
+     * 学校UUID
+     */
+    @NotBlank(message = "学校UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确")
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    @NotBlank(message = "学期UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确")
+    private String semesterUuid;
+
+    /**
+     * 周次列表
+     */
+    @NotEmpty(message = "周次不能为空")
+    private List<Integer> weeks;
+
+    /**
+     * 星期（1-7）
+     */
+    @NotNull(message = "星期不能为空")
+    @Min(value = 1, message = "星期必须在1-7之间")
+    @Max(value = 7, message = "星期必须在1-7之间")
+    private Integer weekday;
+
+    /**
+     * 节次列表
+     */
+    @NotEmpty(message = "节次不能为空")
+    private List<Integer> periods;
+
+    /**
+     * 教室类型UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "教室类型UUID格式不正确")
+    private String classroomTypeUuid;
+
+    /**
+     * 校区UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "校区UUID格式不正确")
+    private String campusUuid;
+
+    /**
+     * 最小容量
+     */
+    @Min(value = 0, message = "最小容量不能为负数")
+    private Integer minCapacity;
+
+    /**
+     * 是否要求多媒体教室
+     */
+    private Boolean multimedia;
+
+    /**
+     * 是否要求有空调
+     */
+    private Boolean airConditioned;
+
+    /**
+     * 是否要求考场
+     */
+    private Boolean examinationRoom;
+
+    /**
+     * 必须包含的标签
+     */
+    private List<String> tags;
+
+    /**
+     * 最多返回条数（默认 50）
+     */
+    @Min(value = 1, message = "返回条数必须大于0")
+    @Max(value = 500, message = "返回条数不能超过500")
+    private Integer limit;
+}
@@ -0,0 +1,48 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * 保存课表版本请求对象
+ *
+ * @author flash
+ */
+@Data
+public class ScheduleVersionCreateVO {
+
+    /**
+     * 学校UUID
+     */
+    @NotBlank(message = "学校UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确")
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    @NotBlank(message = "学期UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确")
+    private String semesterUuid;
+
+    /**
+     * 版本名称
+     */
+    @NotBlank(message = "版本名称不能为空")
+    @Size(max = 64, message = "版本名称不能超过64个字符")
+    private String versionName;
+
+    /**
+     * 父版本UUID（为空时使用学期当前已发布的版本，没有已发布版本时保存为根版本）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "父版本UUID格式不正确")
+    private String parentVersionUuid;
+
+    /**
+     * 备注
+     */
+    @Size(max = 255, message = "备注不能超过255个字符")
+    private String remark;
+}
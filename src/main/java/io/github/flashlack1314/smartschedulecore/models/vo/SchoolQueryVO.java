@@ -26,6 +26,16 @@ public class SchoolQueryVO {
     @Max(value = 100, message = "每页大小不能超过100")
     private Integer pageSize = 10;
 
+    /**
+     * 游标分页：上一页返回的游标（首页为空）
+     */
+    private String cursor;
+
+    /**
+     * 游标分页：首页是否统计总数
+     */
+    private Boolean withTotal = false;
+
     /**
      * 学校名称（模糊查询）
      */
@@ -0,0 +1,79 @@
+package io.github.flashlack1314.smartschedulecore.models.vo;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * 时间点排课查询请求对象
+ *
+ * @author flash
+ */
+@Data
+public class TimeSlotQueryVO {
+
+    /**
+     * 学校UUID
+     */
+    @NotBlank(message = "学校UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学校UUID格式不正确")
+    private String schoolUuid;
+
+    /**
+     * 学期UUID
+     */
+    @NotBlank(message = "学期UUID不能为空")
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "学期UUID格式不正确")
+    private String semesterUuid;
+
+    /**
+     * 周次（1-64）
+     */
+    @NotNull(message = "周次不能为空")
+    @Min(value = 1, message = "周次必须在1-64之间")
+    @Max(value = 64, message = "周次必须在1-64之间")
+    private Integer week;
+
+    /**
+     * 星期（1-7）
+     */
+    @NotNull(message = "星期不能为空")
+    @Min(value = 1, message = "星期必须在1-7之间")
+    @Max(value = 7, message = "星期必须在1-7之间")
+    private Integer weekday;
+
+    /**
+     * 节次（1-16）
+     */
+    @NotNull(message = "节次不能为空")
+    @Min(value = 1, message = "节次必须在1-16之间")
+    @Max(value = 16, message = "节次必须在1-16之间")
+    private Integer period;
+
+    /**
+     * 教师UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "教师UUID格式不正确")
+    private String teacherUuid;
+
+    /**
+     * 教室UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "教室UUID格式不正确")
+    private String classroomUuid;
+
+    /**
+     * 教学楼UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "教学楼UUID格式不正确")
+    private String buildingUuid;
+
+    /**
+     * 校区UUID（为空表示不限）
+     */
+    @Pattern(regexp = "^[a-f0-9]{32}$", message = "校区UUID格式不正确")
+    private String campusUuid;
+}
@@ -0,0 +1,66 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.conflict;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 检测到的一对排课冲突
+ *
+ * @author flash
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class DetectedConflict {
+
+    /**
+     * 冲突资源类型
+     */
+    private final ResourceType type;
+
+    /**
+     * 冲突资源UUID（教师、教室或教学班）
+     */
+    private final String resourceUuid;
+
+    /**
+     * 第一个排课UUID
+     */
+    private final String firstAssignmentUuid;
+
+    /**
+     * 第二个排课UUID
+     */
+    private final String secondAssignmentUuid;
+
+    /**
+     * 冲突时间（两个排课时间片的交集）
+     */
+    private final TimeSlot conflictTime;
+
+    /**
+     * 冲突去重键：类型 + 排课对（与两个排课的先后顺序无关）
+     *
+     * @return 去重键
+     */
+    public String key() {
+        return key(type.getConflictType(), firstAssignmentUuid, secondAssignmentUuid);
+    }
+
+    /**
+     * 冲突去重键
+     *
+     * @param conflictType 冲突类型
+     * @param first        第一个排课UUID
+     * @param second       第二个排课UUID
+     * @return 去重键
+     */
+    public static String key(int conflictType, String first, String second) {
+        return first.compareTo(second) <= 0
+                ? conflictType + ":" + first + ":" + second
+                : conflictType + ":" + second + ":" + first;
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.conflict;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.AdministrativeClassMembership;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 排序扫描式批量冲突检测器
+ * <p>
+ * 对每类资源，将排课按 (资源, 星期, 开始节次) 编码为 long 后排序，
+ * 同一 (资源, 星期) 分组内按开始节次扫描，只与结束节次尚未越过当前开始节次的
+ * 活动排课比较，再用节次位图和周次位图确认重叠。
+ * 比较次数约为 O(n log n + 冲突数)，不做全量两两比较。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class SweepConflictDetector {
+
+    private static final int INDEX_BITS = 24;
+
+    private static final int PERIOD_BITS = 5;
+
+    private static final int WEEKDAY_BITS = 3;
+
+    /**
+     * 检测全部教师、教室、教学班冲突
+     *
+     * @param assignments 同一学期的排课
+     * @return 冲突列表（每对排课每类资源最多一条）
+     */
+    public List<DetectedConflict> detect(List<ClassAssignmentDO> assignments) {
+        List<DetectedConflict> conflicts = new ArrayList<>();
+        detectResources(assignments, decode(assignments), conflicts);
+        return conflicts;
+    }
+
+    /**
+     * 检测全部教师、教室、教学班冲突，以及学生层面的行政班冲突
+     * <p>
+     * 两个不同教学班只要包含同一个行政班（如合班大课与其中某个班的小课），其排课时间重叠即视为班级冲突，
+     * 冲突资源为第一个共同的行政班；同一教学班的重叠已按教学班报告，不再重复。
+     * </p>
+     *
+     * @param assignments 同一学期的排课
+     * @param membership  教学班与行政班的成员关系
+     * @return 冲突列表（每对排课每类资源最多一条）
+     */
+    public List<DetectedConflict> detect(List<ClassAssignmentDO> assignments, AdministrativeClassMembership membership) {
+        // 时间只解析一次，资源扫描与行政班扫描共用
+        TimeSlot[] slots = decode(assignments);
+        List<DetectedConflict> conflicts = new ArrayList<>();
+        detectResources(assignments, slots, conflicts);
+        detectAdministrativeClasses(assignments, slots, membership, conflicts);
+        return conflicts;
+    }
+
+    /**
+     * 解析全部排课的 class_time（无法解析的排课按未排课处理，不参与检测）
+     */
+    private static TimeSlot[] decode(List<ClassAssignmentDO> assignments) {
+        if (assignments.size() >= 1 << INDEX_BITS) {
+            throw new IllegalArgumentException("排课数量超过冲突检测上限: " + assignments.size());
+        }
+        TimeSlot[] slots = new TimeSlot[assignments.size()];
+        for (int i = 0; i < slots.length; i++) {
+            ClassAssignmentDO assignment = assignments.get(i);
+            TimeSlot slot = TimeSlotCodec.decodeOrNull(assignment.getClassTime());
+            if (slot == null) {
+                log.warn("跳过上课时间无法解析的排课: assignmentUuid={}, classTime={}",
+                        assignment.getClassAssignmentUuid(), assignment.getClassTime());
+                slot = TimeSlot.EMPTY;
+            }
+            slots[i] = slot;
+        }
+        return slots;
+    }
+
+    private void detectResources(List<ClassAssignmentDO> assignments, TimeSlot[] slots,
+                                 List<DetectedConflict> conflicts) {
+        for (ResourceType type : ResourceType.values()) {
+            detect(type, assignments, slots, conflicts);
+        }
+    }
+
+    private void detect(ResourceType type, List<ClassAssignmentDO> assignments, TimeSlot[] slots,
+                        List<DetectedConflict> conflicts) {
+        Map<String, Integer> resourceIds = new HashMap<>();
+        List<String> resources = new ArrayList<>();
+        long[] keys = new long[assignments.size()];
+        int count = 0;
+        for (int i = 0; i < slots.length; i++) {
+            String resourceUuid = resourceOf(type, assignments.get(i));
+            if (slots[i].isEmpty() || resourceUuid == null) {
+                continue;
+            }
+            int resource = resourceIds.computeIfAbsent(resourceUuid, key -> {
+                resources.add(key);
+                return resources.size() - 1;
+            });
+            keys[count++] = key(resource, slots[i], i);
+        }
+        sweep(keys, count, slots, (resource, other, i) -> conflicts.add(new DetectedConflict(type,
+                resources.get(resource),
+                assignments.get(other).getClassAssignmentUuid(),
+                assignments.get(i).getClassAssignmentUuid(),
+                slots[other].intersect(slots[i]))));
+    }
+
+    private void detectAdministrativeClasses(List<ClassAssignmentDO> assignments, TimeSlot[] slots,
+                                             AdministrativeClassMembership membership,
+                                             List<DetectedConflict> conflicts) {
+        int[][] membersOf = new int[slots.length][];
+        int total = 0;
+        for (int i = 0; i < slots.length; i++) {
+            membersOf[i] = slots[i].isEmpty()
+                    ? new int[0]
+                    : membership.administrativeClassesOf(assignments.get(i).getTeachingClassUuid());
+            total += membersOf[i].length;
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (int i = 0; i < slots.length; i++) {
+            for (int administrativeClass : membersOf[i]) {
+                keys[count++] = key(administrativeClass, slots[i], i);
+            }
+        }
+        // 共享多个行政班的两条排课只报告一次
+        Set<Long> reported = new HashSet<>();
+        sweep(keys, count, slots, (administrativeClass, other, i) -> {
+            ClassAssignmentDO first = assignments.get(other);
+            ClassAssignmentDO second = assignments.get(i);
+            if (Objects.equals(first.getTeachingClassUuid(), second.getTeachingClassUuid())
+                    || !reported.add(((long) Math.min(other, i) << INDEX_BITS) | Math.max(other, i))) {
+                return;
+            }
+            conflicts.add(new DetectedConflict(ResourceType.TEACHING_CLASS,
+                    membership.administrativeClassIds().uuidOf(administrativeClass),
+                    first.getClassAssignmentUuid(),
+                    second.getClassAssignmentUuid(),
+                    slots[other].intersect(slots[i])));
+        });
+    }
+
+    /**
+     * 将 (资源, 星期, 开始节次, 排课下标) 编码为可排序的 long
+     */
+    private static long key(int resource, TimeSlot slot, int index) {
+        int start = Integer.numberOfTrailingZeros(slot.getPeriodMask());
+        long group = ((long) resource << WEEKDAY_BITS) | slot.getWeekday();
+        return (((group << PERIOD_BITS) | start) << INDEX_BITS) | index;
+    }
+
+    /**
+     * 排序后按 (资源, 星期) 分组扫描，对每对重叠的排课回调一次
+     */
+    private static void sweep(long[] keys, int count, TimeSlot[] slots, OverlapHandler handler) {
+        Arrays.sort(keys, 0, count);
+
+        int[] active = new int[16];
+        int activeCount = 0;
+        long currentGroup = -1L;
+        for (int k = 0; k < count; k++) {
+            long group = keys[k] >>> (INDEX_BITS + PERIOD_BITS);
+            int i = (int) (keys[k] & ((1 << INDEX_BITS) - 1));
+            int start = (int) (keys[k] >>> INDEX_BITS) & ((1 << PERIOD_BITS) - 1);
+            if (group != currentGroup) {
+                currentGroup = group;
+                activeCount = 0;
+            }
+            // 移除已经结束的活动排课
+            int kept = 0;
+            for (int j = 0; j < activeCount; j++) {
+                if (endOf(slots[active[j]]) >= start) {
+                    active[kept++] = active[j];
+                }
+            }
+            activeCount = kept;
+
+            for (int j = 0; j < activeCount; j++) {
+                int other = active[j];
+                if (slots[other].overlaps(slots[i])) {
+                    handler.accept((int) (group >>> WEEKDAY_BITS), other, i);
+                }
+            }
+            if (activeCount == active.length) {
+                active = Arrays.copyOf(active, activeCount * 2);
+            }
+            active[activeCount++] = i;
+        }
+    }
+
+    /**
+     * 时间片的最后一节（0 起始）
+     */
+    private static int endOf(TimeSlot slot) {
+        return 31 - Integer.numberOfLeadingZeros(slot.getPeriodMask());
+    }
+
+    private static String resourceOf(ResourceType type, ClassAssignmentDO assignment) {
+        return switch (type) {
+            case TEACHER -> assignment.getTeacherUuid();
+            case CLASSROOM -> assignment.getClassroomUuid();
+            case TEACHING_CLASS -> assignment.getTeachingClassUuid();
+        };
+    }
+
+    /**
+     * 重叠排课对的处理器
+     */
+    @FunctionalInterface
+    private interface OverlapHandler {
+        void accept(int resource, int first, int second);
+    }
+}
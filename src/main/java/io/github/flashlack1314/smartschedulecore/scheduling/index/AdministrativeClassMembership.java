@@ -0,0 +1,191 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONUtil;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 教学班 -> 行政班成员关系（只读，可在线程间共享）
+ * <p>
+ * 构建时将每个教学班的 administrative_classes JSON 数组解析一次，行政班UUID编码为连续编号，
+ * 每个教学班保存一个有序的行政班编号数组和一个行政班位集。
+ * 两个教学班（包括合班上课的大班）只要包含同一个行政班，它们的学生就会同时上课，
+ * 判断是否共享学生只需对两个位集按位与，不再逐条解析 JSON。
+ * </p>
+ *
+ * @author flash
+ */
+public final class AdministrativeClassMembership {
+
+    private static final int[] NONE = new int[0];
+
+    private final UuidDictionary teachingClassIds;
+
+    private final UuidDictionary administrativeClassIds;
+
+    /**
+     * 教学班编号 -> 行政班编号（升序）
+     */
+    private final int[][] membersOf;
+
+    /**
+     * 教学班 × words 的行政班位集
+     */
+    private final long[] bits;
+
+    private final int words;
+
+    private AdministrativeClassMembership(UuidDictionary teachingClassIds, Collection<TeachingClassDO> teachingClasses) {
+        this.teachingClassIds = teachingClassIds;
+        int n = teachingClassIds.size();
+        String[][] parsed = new String[n][];
+        UuidDictionary.Builder administrativeClasses = UuidDictionary.builder();
+        for (TeachingClassDO teachingClass : teachingClasses) {
+            int c = teachingClassIds.idOf(teachingClass.getTeachingClassUuid());
+            if (c == UuidDictionary.ABSENT) {
+                continue;
+            }
+            parsed[c] = parse(teachingClass.getAdministrativeClasses());
+            for (String uuid : parsed[c]) {
+                administrativeClasses.intern(uuid);
+            }
+        }
+        this.administrativeClassIds = administrativeClasses.build();
+        this.words = Math.max(1, (administrativeClassIds.size() + 63) >>> 6);
+        this.membersOf = new int[n][];
+        this.bits = new long[n * words];
+        for (int c = 0; c < n; c++) {
+            if (parsed[c] == null || parsed[c].length == 0) {
+                membersOf[c] = NONE;
+                continue;
+            }
+            int[] members = new int[parsed[c].length];
+            for (int i = 0; i < members.length; i++) {
+                members[i] = administrativeClassIds.idOf(parsed[c][i]);
+                bits[c * words + (members[i] >>> 6)] |= 1L << members[i];
+            }
+            membersOf[c] = Arrays.stream(members).sorted().distinct().toArray();
+        }
+    }
+
+    /**
+     * 按给定的教学班编号构建（不在字典中的教学班被忽略）
+     *
+     * @param teachingClassIds 教学班UUID字典
+     * @param teachingClasses  教学班
+     * @return 成员关系
+     */
+    public static AdministrativeClassMembership build(UuidDictionary teachingClassIds,
+                                                      Collection<TeachingClassDO> teachingClasses) {
+        return new AdministrativeClassMembership(teachingClassIds, teachingClasses);
+    }
+
+    /**
+     * 按教学班列表顺序编号构建
+     *
+     * @param teachingClasses 教学班
+     * @return 成员关系
+     */
+    public static AdministrativeClassMembership build(Collection<TeachingClassDO> teachingClasses) {
+        UuidDictionary ids = UuidDictionary.of(teachingClasses.stream()
+                .map(TeachingClassDO::getTeachingClassUuid)
+                .toList());
+        return new AdministrativeClassMembership(ids, teachingClasses);
+    }
+
+    /**
+     * 行政班UUID字典
+     *
+     * @return 字典
+     */
+    public UuidDictionary administrativeClassIds() {
+        return administrativeClassIds;
+    }
+
+    /**
+     * 行政班数量
+     *
+     * @return 数量
+     */
+    public int administrativeClassCount() {
+        return administrativeClassIds.size();
+    }
+
+    /**
+     * 教学班包含的行政班
+     *
+     * @param teachingClass 教学班编号
+     * @return 行政班编号（升序，调用方不得修改）
+     */
+    public int[] administrativeClassesOf(int teachingClass) {
+        return teachingClass < 0 || teachingClass >= membersOf.length ? NONE : membersOf[teachingClass];
+    }
+
+    /**
+     * 教学班包含的行政班
+     *
+     * @param teachingClassUuid 教学班UUID
+     * @return 行政班编号（升序，调用方不得修改）
+     */
+    public int[] administrativeClassesOf(String teachingClassUuid) {
+        return administrativeClassesOf(teachingClassIds.idOf(teachingClassUuid));
+    }
+
+    /**
+     * 两个教学班是否包含相同的行政班
+     *
+     * @param first  教学班编号
+     * @param second 教学班编号
+     * @return 是否共享学生
+     */
+    public boolean shareStudents(int first, int second) {
+        return firstShared(first, second) != UuidDictionary.ABSENT;
+    }
+
+    /**
+     * 两个教学班共同包含的第一个行政班
+     *
+     * @param first  教学班编号
+     * @param second 教学班编号
+     * @return 行政班编号，不共享时返回 {@link UuidDictionary#ABSENT}
+     */
+    public int firstShared(int first, int second) {
+        if (first < 0 || second < 0 || first >= membersOf.length || second >= membersOf.length) {
+            return UuidDictionary.ABSENT;
+        }
+        int a = first * words;
+        int b = second * words;
+        for (int w = 0; w < words; w++) {
+            long shared = bits[a + w] & bits[b + w];
+            if (shared != 0L) {
+                return (w << 6) + Long.numberOfTrailingZeros(shared);
+            }
+        }
+        return UuidDictionary.ABSENT;
+    }
+
+    /**
+     * 解析 administrative_classes JSON 数组，格式错误时视为不含行政班
+     *
+     * @param json JSON 字符串
+     * @return 行政班UUID
+     */
+    public static String[] parse(String json) {
+        if (!StringUtils.hasText(json)) {
+            return new String[0];
+        }
+        try {
+            JSONArray array = JSONUtil.parseArray(json);
+            return array.stream()
+                    .filter(value -> value != null && StringUtils.hasText(value.toString()))
+                    .map(value -> value.toString().trim())
+                    .toArray(String[]::new);
+        } catch (Exception e) {
+            return new String[0];
+        }
+    }
+}
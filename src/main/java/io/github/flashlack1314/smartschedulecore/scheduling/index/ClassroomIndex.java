@@ -0,0 +1,373 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONUtil;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 教室可用性查找索引（只读，可在线程间共享）
+ * <p>
+ * 回答“类型为 X、位于校区 Y、容量不小于 N、带多媒体与空调、标签包含 {智慧教室} 的教室有哪些”。
+ * 教室按类型分桶，每个桶内按容量升序排列，容量下限用二分查找定位；
+ * 校区、类型编码为 int，多媒体、空调、考场编码为标志位，
+ * tags JSON 只在构建时解析一次并字典编码为位集，匹配时只做整数比较与按位与。
+ * </p>
+ * <p>
+ * 教室编号即构建时传入列表的下标，与 {@code SchedulingProblem} 的教室下标一致。
+ * </p>
+ *
+ * @author flash
+ */
+public final class ClassroomIndex {
+
+    public static final int MULTIMEDIA = 1;
+
+    public static final int AIR_CONDITIONED = 1 << 1;
+
+    public static final int EXAMINATION_ROOM = 1 << 2;
+
+    /**
+     * 不会匹配任何教室的编号（条件中引用了索引中不存在的类型、校区或标签）
+     */
+    private static final int UNKNOWN = -2;
+
+    private final List<ClassroomDO> rooms;
+    private final UuidDictionary roomIds;
+    private final UuidDictionary typeIds;
+    private final UuidDictionary campusIds;
+
+    /**
+     * 标签 -> 位序号
+     */
+    private final UuidDictionary tagIds;
+
+    private final int[] capacity;
+    private final int[] typeOf;
+    private final int[] campusOf;
+    private final int[] flagsOf;
+
+    /**
+     * 每个教室占用的标签位集，长度为 教室数 × tagWords
+     */
+    private final long[] tagsOf;
+    private final int tagWords;
+
+    /**
+     * 按容量升序排列的教室编号：下标 0 为全部教室，下标 t + 1 为类型 t 的教室
+     */
+    private final int[][] roomsByCapacity;
+
+    /**
+     * 与 roomsByCapacity 对应的容量，用于二分查找
+     */
+    private final int[][] capacities;
+
+    private ClassroomIndex(List<ClassroomDO> rooms) {
+        int n = rooms.size();
+        this.rooms = List.copyOf(rooms);
+        UuidDictionary.Builder types = UuidDictionary.builder();
+        UuidDictionary.Builder campuses = UuidDictionary.builder();
+        UuidDictionary.Builder tags = UuidDictionary.builder();
+        List<String[]> roomTags = new ArrayList<>(n);
+        this.capacity = new int[n];
+        this.typeOf = new int[n];
+        this.campusOf = new int[n];
+        this.flagsOf = new int[n];
+        for (int r = 0; r < n; r++) {
+            ClassroomDO room = rooms.get(r);
+            capacity[r] = room.getCapacity() == null ? 0 : room.getCapacity();
+            typeOf[r] = room.getClassroomTypeUuid() == null
+                    ? UuidDictionary.ABSENT
+                    : types.intern(room.getClassroomTypeUuid());
+            campusOf[r] = room.getCampusUuid() == null
+                    ? UuidDictionary.ABSENT
+                    : campuses.intern(room.getCampusUuid());
+            flagsOf[r] = flag(room.getIsMultimedia(), MULTIMEDIA)
+                    | flag(room.getIsAirConditioned(), AIR_CONDITIONED)
+                    | flag(room.getIsExaminationRoom(), EXAMINATION_ROOM);
+            String[] parsed = parseTags(room.getTags());
+            for (String tag : parsed) {
+                tags.intern(tag);
+            }
+            roomTags.add(parsed);
+        }
+        this.roomIds = UuidDictionary.of(rooms.stream().map(ClassroomDO::getClassroomUuid).toList());
+        this.typeIds = types.build();
+        this.campusIds = campuses.build();
+        this.tagIds = tags.build();
+
+        this.tagWords = Math.max(1, (tagIds.size() + 63) >>> 6);
+        this.tagsOf = new long[n * tagWords];
+        for (int r = 0; r < n; r++) {
+            for (String tag : roomTags.get(r)) {
+                int bit = tagIds.idOf(tag);
+                tagsOf[r * tagWords + (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        int buckets = typeIds.size() + 1;
+        int[] counts = new int[buckets];
+        for (int r = 0; r < n; r++) {
+            counts[0]++;
+            if (typeOf[r] != UuidDictionary.ABSENT) {
+                counts[typeOf[r] + 1]++;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int r = 0; r < n; r++) {
+            order[r] = r;
+        }
+        Arrays.sort(order, (a, b) -> capacity[a] != capacity[b]
+                ? Integer.compare(capacity[a], capacity[b])
+                : Integer.compare(a, b));
+        this.roomsByCapacity = new int[buckets][];
+        this.capacities = new int[buckets][];
+        for (int b = 0; b < buckets; b++) {
+            roomsByCapacity[b] = new int[counts[b]];
+            capacities[b] = new int[counts[b]];
+        }
+        int[] filled = new int[buckets];
+        for (int r : order) {
+            append(0, r, filled);
+            if (typeOf[r] != UuidDictionary.ABSENT) {
+                append(typeOf[r] + 1, r, filled);
+            }
+        }
+    }
+
+    /**
+     * 构建索引
+     *
+     * @param rooms 教室列表（下标即教室编号）
+     * @return 索引
+     */
+    public static ClassroomIndex build(List<ClassroomDO> rooms) {
+        return new ClassroomIndex(rooms);
+    }
+
+    /**
+     * 教室数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        return capacity.length;
+    }
+
+    /**
+     * 教室UUID字典（编号与构建时的下标一致）
+     *
+     * @return 字典
+     */
+    public UuidDictionary roomIds() {
+        return roomIds;
+    }
+
+    /**
+     * 教室实体（视为只读）
+     *
+     * @param room 教室编号
+     * @return 教室
+     */
+    public ClassroomDO roomOf(int room) {
+        return rooms.get(room);
+    }
+
+    /**
+     * 教室容量
+     *
+     * @param room 教室编号
+     * @return 容量
+     */
+    public int capacityOf(int room) {
+        return capacity[room];
+    }
+
+    /**
+     * 编译查询条件
+     *
+     * @param classroomTypeUuid 教室类型UUID（为空表示不限）
+     * @param campusUuid        校区UUID（为空表示不限）
+     * @param minCapacity       最小容量
+     * @param flags             必须具备的标志位（{@link #MULTIMEDIA} 等的组合）
+     * @param tags              必须包含的标签（为空表示不限）
+     * @return 查询条件，引用了不存在的类型、校区或标签时不匹配任何教室
+     */
+    public Requirement requirement(String classroomTypeUuid, String campusUuid, int minCapacity, int flags,
+                                   Collection<String> tags) {
+        int type = encode(typeIds, classroomTypeUuid);
+        int campus = encode(campusIds, campusUuid);
+        long[] required = new long[tagWords];
+        boolean known = type != UNKNOWN && campus != UNKNOWN;
+        if (tags != null) {
+            for (String tag : tags) {
+                if (!StringUtils.hasText(tag)) {
+                    continue;
+                }
+                int bit = tagIds.idOf(tag.trim());
+                if (bit == UuidDictionary.ABSENT) {
+                    known = false;
+                    continue;
+                }
+                required[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new Requirement(known ? type : UNKNOWN, campus, Math.max(0, minCapacity), flags, required);
+    }
+
+    /**
+     * 是否满足查询条件
+     *
+     * @param room        教室编号
+     * @param requirement 查询条件
+     * @return 是否满足
+     */
+    public boolean matches(int room, Requirement requirement) {
+        if (requirement.typeId == UNKNOWN || capacity[room] < requirement.minCapacity) {
+            return false;
+        }
+        if (requirement.typeId != UuidDictionary.ABSENT && typeOf[room] != requirement.typeId) {
+            return false;
+        }
+        return matchesAttributes(room, requirement);
+    }
+
+    /**
+     * 按容量升序遍历满足条件的教室
+     *
+     * @param requirement 查询条件
+     * @param action      教室编号处理器
+     */
+    public void forEach(Requirement requirement, IntConsumer action) {
+        if (requirement.typeId == UNKNOWN) {
+            return;
+        }
+        int bucket = requirement.typeId + 1;
+        int[] rooms = roomsByCapacity[bucket];
+        for (int i = lowerBound(capacities[bucket], requirement.minCapacity); i < rooms.length; i++) {
+            if (matchesAttributes(rooms[i], requirement)) {
+                action.accept(rooms[i]);
+            }
+        }
+    }
+
+    /**
+     * 查找满足条件的教室
+     *
+     * @param requirement 查询条件
+     * @return 教室编号（按容量升序）
+     */
+    public int[] find(Requirement requirement) {
+        if (requirement.typeId == UNKNOWN) {
+            return new int[0];
+        }
+        int bucket = requirement.typeId + 1;
+        int[] rooms = roomsByCapacity[bucket];
+        int from = lowerBound(capacities[bucket], requirement.minCapacity);
+        int[] result = new int[rooms.length - from];
+        int count = 0;
+        for (int i = from; i < rooms.length; i++) {
+            if (matchesAttributes(rooms[i], requirement)) {
+                result[count++] = rooms[i];
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private boolean matchesAttributes(int room, Requirement requirement) {
+        if (requirement.campusId != UuidDictionary.ABSENT && campusOf[room] != requirement.campusId) {
+            return false;
+        }
+        if ((flagsOf[room] & requirement.flags) != requirement.flags) {
+            return false;
+        }
+        long[] required = requirement.tags;
+        int base = room * tagWords;
+        for (int w = 0; w < required.length; w++) {
+            if ((tagsOf[base + w] & required[w]) != required[w]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(int bucket, int room, int[] filled) {
+        int i = filled[bucket]++;
+        roomsByCapacity[bucket][i] = room;
+        capacities[bucket][i] = capacity[room];
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int encode(UuidDictionary dictionary, String uuid) {
+        if (uuid == null) {
+            return UuidDictionary.ABSENT;
+        }
+        int id = dictionary.idOf(uuid);
+        return id == UuidDictionary.ABSENT ? UNKNOWN : id;
+    }
+
+    private static int flag(Boolean value, int flag) {
+        return Boolean.TRUE.equals(value) ? flag : 0;
+    }
+
+    /**
+     * 解析 tags JSON 数组，格式错误时视为无标签
+     */
+    private static String[] parseTags(String json) {
+        if (!StringUtils.hasText(json)) {
+            return new String[0];
+        }
+        try {
+            JSONArray array = JSONUtil.parseArray(json);
+            List<String> tags = new ArrayList<>(array.size());
+            for (int i = 0; i < array.size(); i++) {
+                String tag = array.getStr(i);
+                if (StringUtils.hasText(tag)) {
+                    tags.add(tag.trim());
+                }
+            }
+            return tags.toArray(new String[0]);
+        } catch (Exception e) {
+            return new String[0];
+        }
+    }
+
+    /**
+     * 编译后的查询条件（只能用于创建它的索引）
+     */
+    public static final class Requirement {
+        private final int typeId;
+        private final int campusId;
+        private final int minCapacity;
+        private final int flags;
+        private final long[] tags;
+
+        private Requirement(int typeId, int campusId, int minCapacity, int flags, long[] tags) {
+            this.typeId = typeId;
+            this.campusId = campusId;
+            this.minCapacity = minCapacity;
+            this.flags = flags;
+            this.tags = tags;
+        }
+    }
+}
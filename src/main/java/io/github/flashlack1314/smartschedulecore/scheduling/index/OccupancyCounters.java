@@ -0,0 +1,124 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+
+import java.util.Arrays;
+
+/**
+ * 支持撤销的资源占用计数器
+ * <p>
+ * 与 {@link ResourceGrid} 布局相同，但每个网格单元记录占用该单元的排课下标，
+ * 因此可以按排课增删并精确计算重叠量：
+ * 重叠量 = Σ 同单元其他排课与给定周次的公共周数，即冲突的“周 × 节”数量。
+ * 单次查询只访问排课覆盖的几个单元，代价与课表规模无关，供局部搜索做增量评分。
+ * </p>
+ *
+ * @author flash
+ */
+public final class OccupancyCounters {
+
+    private static final int PERIODS = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+
+    private static final int CELLS = SystemConstant.Scheduling.GRID_CELLS;
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * 每个排课的周次位图
+     */
+    private final long[] weeksOf;
+
+    private final int[][] members;
+
+    private final int[] counts;
+
+    public OccupancyCounters(int resourceCount, long[] weeksOf) {
+        int size = Math.max(resourceCount, 1) * CELLS;
+        this.weeksOf = weeksOf;
+        this.members = new int[size][];
+        this.counts = new int[size];
+        Arrays.fill(members, EMPTY);
+    }
+
+    /**
+     * 计算排课放在指定位置时与已有占用的重叠量
+     *
+     * @param resource   资源下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param assignment 排课下标（其自身的占用不计入）
+     * @return 冲突的“周 × 节”数量
+     */
+    public int overlap(int resource, int weekday, int periodMask, int assignment) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        long weeks = weeksOf[assignment];
+        int overlap = 0;
+        while (periodMask != 0) {
+            int cell = base + Integer.numberOfTrailingZeros(periodMask);
+            int[] occupants = members[cell];
+            for (int i = 0; i < counts[cell]; i++) {
+                if (occupants[i] != assignment) {
+                    overlap += Long.bitCount(weeks & weeksOf[occupants[i]]);
+                }
+            }
+            periodMask &= periodMask - 1;
+        }
+        return overlap;
+    }
+
+    public void add(int resource, int weekday, int periodMask, int assignment) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        while (periodMask != 0) {
+            int cell = base + Integer.numberOfTrailingZeros(periodMask);
+            if (counts[cell] == members[cell].length) {
+                members[cell] = Arrays.copyOf(members[cell], Math.max(2, counts[cell] * 2));
+            }
+            members[cell][counts[cell]++] = assignment;
+            periodMask &= periodMask - 1;
+        }
+    }
+
+    public void remove(int resource, int weekday, int periodMask, int assignment) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        while (periodMask != 0) {
+            int cell = base + Integer.numberOfTrailingZeros(periodMask);
+            int[] occupants = members[cell];
+            for (int i = 0; i < counts[cell]; i++) {
+                if (occupants[i] == assignment) {
+                    occupants[i] = occupants[--counts[cell]];
+                    break;
+                }
+            }
+            periodMask &= periodMask - 1;
+        }
+    }
+
+    /**
+     * 计算排课在一组资源上的重叠量之和
+     *
+     * @param resources  资源下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param assignment 排课下标（其自身的占用不计入）
+     * @return 冲突的“周 × 节”数量
+     */
+    public int overlap(int[] resources, int weekday, int periodMask, int assignment) {
+        int overlap = 0;
+        for (int resource : resources) {
+            overlap += overlap(resource, weekday, periodMask, assignment);
+        }
+        return overlap;
+    }
+
+    public void add(int[] resources, int weekday, int periodMask, int assignment) {
+        for (int resource : resources) {
+            add(resource, weekday, periodMask, assignment);
+        }
+    }
+
+    public void remove(int[] resources, int weekday, int periodMask, int assignment) {
+        for (int resource : resources) {
+            remove(resource, weekday, periodMask, assignment);
+        }
+    }
+}
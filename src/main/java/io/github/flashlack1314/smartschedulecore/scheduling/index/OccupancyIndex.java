@@ -0,0 +1,429 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 学期占用位图索引
+ * <p>
+ * 按 (学校, 学期) 维护教师、教室、教学班三类资源的占用情况；提供行政班成员关系时，
+ * 另按行政班维护占用，用于发现包含同一行政班的不同教学班之间的班级冲突。
+ * 每个资源对应 星期 × 节次 个网格单元，每个单元存放一个 64 位周次位图，
+ * 冲突判断只需对相关单元做按位与运算，无需解析 JSON 或扫描排课记录。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class OccupancyIndex {
+
+    private static final int PERIODS = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+
+    @Getter
+    private final String schoolUuid;
+
+    @Getter
+    private final String semesterUuid;
+
+    private final Map<ResourceType, Map<String, Grid>> grids = new EnumMap<>(ResourceType.class);
+
+    /**
+     * 行政班UUID -> 占用网格（未提供成员关系时为空）
+     */
+    private final Map<String, Grid> administrativeClassGrids = new HashMap<>();
+
+    private final AdministrativeClassMembership membership;
+
+    private final Map<String, Placement> placements = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OccupancyIndex(String schoolUuid, String semesterUuid) {
+        this(schoolUuid, semesterUuid, null);
+    }
+
+    public OccupancyIndex(String schoolUuid, String semesterUuid, AdministrativeClassMembership membership) {
+        this.schoolUuid = schoolUuid;
+        this.semesterUuid = semesterUuid;
+        this.membership = membership;
+        for (ResourceType type : ResourceType.values()) {
+            grids.put(type, new HashMap<>());
+        }
+    }
+
+    /**
+     * 根据排课记录构建索引
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @param assignments  该学期的排课记录
+     * @return 占用索引
+     */
+    public static OccupancyIndex build(String schoolUuid, String semesterUuid, List<ClassAssignmentDO> assignments) {
+        return build(schoolUuid, semesterUuid, assignments, null);
+    }
+
+    /**
+     * 根据排课记录与行政班成员关系构建索引
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @param assignments  该学期的排课记录
+     * @param membership   该学期教学班与行政班的成员关系（为空时不检查行政班冲突）
+     * @return 占用索引
+     */
+    public static OccupancyIndex build(String schoolUuid, String semesterUuid, List<ClassAssignmentDO> assignments,
+                                       AdministrativeClassMembership membership) {
+        OccupancyIndex index = new OccupancyIndex(schoolUuid, semesterUuid, membership);
+        for (ClassAssignmentDO assignment : assignments) {
+            TimeSlot slot = TimeSlotCodec.decodeOrNull(assignment.getClassTime());
+            if (slot == null) {
+                log.warn("跳过上课时间无法解析的排课: assignmentUuid={}, classTime={}",
+                        assignment.getClassAssignmentUuid(), assignment.getClassTime());
+                continue;
+            }
+            index.put(assignment, slot);
+        }
+        return index;
+    }
+
+    /**
+     * 写入或更新一条排课记录的占用
+     *
+     * @param assignment 排课记录
+     */
+    public void put(ClassAssignmentDO assignment) {
+        put(assignment, TimeSlotCodec.decode(assignment.getClassTime()));
+    }
+
+    private void put(ClassAssignmentDO assignment, TimeSlot slot) {
+        Placement placement = new Placement(
+                assignment.getClassAssignmentUuid(),
+                assignment.getTeacherUuid(),
+                assignment.getClassroomUuid(),
+                assignment.getTeachingClassUuid(),
+                slot);
+        lock.writeLock().lock();
+        try {
+            Placement previous = placements.put(placement.assignmentUuid(), placement);
+            if (previous != null) {
+                detach(previous);
+            }
+            attach(placement);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 移除一条排课记录的占用
+     *
+     * @param assignmentUuid 排课UUID
+     */
+    public void remove(String assignmentUuid) {
+        lock.writeLock().lock();
+        try {
+            Placement previous = placements.remove(assignmentUuid);
+            if (previous != null) {
+                detach(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 查询资源在指定时间片上已被占用的周次
+     *
+     * @param type         资源类型
+     * @param resourceUuid 资源UUID
+     * @param slot         时间片
+     * @return 发生重叠的周次位图，0 表示空闲
+     */
+    public long occupiedWeeks(ResourceType type, String resourceUuid, TimeSlot slot) {
+        if (slot.isEmpty() || resourceUuid == null) {
+            return 0L;
+        }
+        lock.readLock().lock();
+        try {
+            Grid grid = grids.get(type).get(resourceUuid);
+            return grid == null ? 0L : grid.overlap(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 判断资源在指定时间片上是否空闲
+     *
+     * @param type         资源类型
+     * @param resourceUuid 资源UUID
+     * @param slot         时间片
+     * @return 是否空闲
+     */
+    public boolean isFree(ResourceType type, String resourceUuid, TimeSlot slot) {
+        return occupiedWeeks(type, resourceUuid, slot) == 0L;
+    }
+
+    /**
+     * 检查排课记录放到指定时间片后会与哪些资源冲突（忽略其自身的当前占用）
+     *
+     * @param assignment 排课记录（使用其教师、教室、教学班）
+     * @param slot       目标时间片
+     * @return 发生冲突的资源类型列表
+     */
+    public List<ResourceType> conflictsOf(ClassAssignmentDO assignment, TimeSlot slot) {
+        if (slot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ResourceType> conflicts = new ArrayList<>(3);
+        lock.readLock().lock();
+        try {
+            Placement self = placements.get(assignment.getClassAssignmentUuid());
+            for (ResourceType type : ResourceType.values()) {
+                String resourceUuid = resourceOf(type, assignment);
+                Grid grid = resourceUuid == null ? null : grids.get(type).get(resourceUuid);
+                if (grid != null && grid.overlapExcluding(slot, self)) {
+                    conflicts.add(type);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return conflicts;
+    }
+
+    /**
+     * 列出排课放到指定时间片后与之冲突的其它排课（忽略其自身的当前占用）
+     * <p>
+     * 检查该排课的教师、教室、教学班三个资源，以及其教学班所含的行政班（与其它教学班的班级冲突，
+     * 与 {@link io.github.flashlack1314.smartschedulecore.scheduling.conflict.SweepConflictDetector} 的全量检测一致）。
+     * 先用周次位图快速排除，再逐个比对占用成员
+     * </p>
+     *
+     * @param assignment 排课记录（使用其UUID、教师、教室、教学班）
+     * @param slot       目标时间片
+     * @return 冲突列表（第一个排课固定为传入的排课）
+     */
+    public List<DetectedConflict> findConflicts(ClassAssignmentDO assignment, TimeSlot slot) {
+        if (slot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String assignmentUuid = assignment.getClassAssignmentUuid();
+        List<DetectedConflict> conflicts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (ResourceType type : ResourceType.values()) {
+                String resourceUuid = resourceOf(type, assignment);
+                Grid grid = resourceUuid == null ? null : grids.get(type).get(resourceUuid);
+                if (grid == null || grid.overlap(slot) == 0L) {
+                    continue;
+                }
+                for (Placement member : grid.members) {
+                    if (!member.assignmentUuid().equals(assignmentUuid) && member.slot().overlaps(slot)) {
+                        conflicts.add(new DetectedConflict(type, resourceUuid, assignmentUuid,
+                                member.assignmentUuid(), member.slot().intersect(slot)));
+                    }
+                }
+            }
+            // 共享多个行政班的两条排课只报告一次；同一教学班的重叠已按教学班报告
+            Set<String> reported = new HashSet<>();
+            for (String administrativeClassUuid : administrativeClassesOf(assignment.getTeachingClassUuid())) {
+                Grid grid = administrativeClassGrids.get(administrativeClassUuid);
+                if (grid == null || grid.overlap(slot) == 0L) {
+                    continue;
+                }
+                for (Placement member : grid.members) {
+                    if (!member.assignmentUuid().equals(assignmentUuid)
+                            && !Objects.equals(member.teachingClassUuid(), assignment.getTeachingClassUuid())
+                            && member.slot().overlaps(slot)
+                            && reported.add(member.assignmentUuid())) {
+                        conflicts.add(new DetectedConflict(ResourceType.TEACHING_CLASS, administrativeClassUuid,
+                                assignmentUuid, member.assignmentUuid(), member.slot().intersect(slot)));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return conflicts;
+    }
+
+    /**
+     * 已索引的排课数量
+     *
+     * @return 排课数量
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return placements.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void attach(Placement placement) {
+        if (placement.slot().isEmpty()) {
+            return;
+        }
+        for (ResourceType type : ResourceType.values()) {
+            String resourceUuid = placement.resourceOf(type);
+            if (resourceUuid != null) {
+                grids.get(type).computeIfAbsent(resourceUuid, key -> new Grid()).add(placement);
+            }
+        }
+        for (String administrativeClassUuid : administrativeClassesOf(placement.teachingClassUuid())) {
+            administrativeClassGrids.computeIfAbsent(administrativeClassUuid, key -> new Grid()).add(placement);
+        }
+    }
+
+    private void detach(Placement placement) {
+        if (placement.slot().isEmpty()) {
+            return;
+        }
+        for (ResourceType type : ResourceType.values()) {
+            String resourceUuid = placement.resourceOf(type);
+            Grid grid = resourceUuid == null ? null : grids.get(type).get(resourceUuid);
+            if (grid != null) {
+                grid.remove(placement);
+                if (grid.isEmpty()) {
+                    grids.get(type).remove(resourceUuid);
+                }
+            }
+        }
+        for (String administrativeClassUuid : administrativeClassesOf(placement.teachingClassUuid())) {
+            Grid grid = administrativeClassGrids.get(administrativeClassUuid);
+            if (grid != null) {
+                grid.remove(placement);
+                if (grid.isEmpty()) {
+                    administrativeClassGrids.remove(administrativeClassUuid);
+                }
+            }
+        }
+    }
+
+    /**
+     * 教学班包含的行政班UUID（未提供成员关系或教学班未知时为空）
+     */
+    private List<String> administrativeClassesOf(String teachingClassUuid) {
+        if (membership == null || teachingClassUuid == null) {
+            return Collections.emptyList();
+        }
+        int[] ids = membership.administrativeClassesOf(teachingClassUuid);
+        List<String> uuids = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            uuids.add(membership.administrativeClassIds().uuidOf(id));
+        }
+        return uuids;
+    }
+
+    private static String resourceOf(ResourceType type, ClassAssignmentDO assignment) {
+        return switch (type) {
+            case TEACHER -> assignment.getTeacherUuid();
+            case CLASSROOM -> assignment.getClassroomUuid();
+            case TEACHING_CLASS -> assignment.getTeachingClassUuid();
+        };
+    }
+
+    /**
+     * 排课占用记录
+     */
+    private record Placement(String assignmentUuid, String teacherUuid, String classroomUuid,
+                             String teachingClassUuid, TimeSlot slot) {
+
+        String resourceOf(ResourceType type) {
+            return switch (type) {
+                case TEACHER -> teacherUuid;
+                case CLASSROOM -> classroomUuid;
+                case TEACHING_CLASS -> teachingClassUuid;
+            };
+        }
+    }
+
+    /**
+     * 单个资源的占用网格
+     * <p>
+     * cells 为 星期 × 节次 个周次位图；members 保留占用该资源的排课，
+     * 移除时据此重算受影响星期的位图，避免冲突记录互相覆盖。
+     * </p>
+     */
+    private static final class Grid {
+
+        private final long[] cells = new long[SystemConstant.Scheduling.GRID_CELLS];
+
+        private final List<Placement> members = new ArrayList<>(4);
+
+        void add(Placement placement) {
+            members.add(placement);
+            mark(cells, placement.slot());
+        }
+
+        void remove(Placement placement) {
+            members.remove(placement);
+            int weekday = placement.slot().getWeekday();
+            int from = TimeSlotCodec.cellOf(weekday, 1);
+            for (int i = from; i < from + PERIODS; i++) {
+                cells[i] = 0L;
+            }
+            for (Placement member : members) {
+                if (member.slot().getWeekday() == weekday) {
+                    mark(cells, member.slot());
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return members.isEmpty();
+        }
+
+        long overlap(TimeSlot slot) {
+            long weeks = 0L;
+            int base = TimeSlotCodec.cellOf(slot.getWeekday(), 1);
+            int periods = slot.getPeriodMask();
+            while (periods != 0) {
+                weeks |= cells[base + Integer.numberOfTrailingZeros(periods)];
+                periods &= periods - 1;
+            }
+            return weeks & slot.getWeekMask();
+        }
+
+        boolean overlapExcluding(TimeSlot slot, Placement self) {
+            if (self == null || !members.contains(self)) {
+                return overlap(slot) != 0L;
+            }
+            for (Placement member : members) {
+                if (!member.assignmentUuid().equals(self.assignmentUuid()) && member.slot().overlaps(slot)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static void mark(long[] cells, TimeSlot slot) {
+            int base = TimeSlotCodec.cellOf(slot.getWeekday(), 1);
+            int periods = slot.getPeriodMask();
+            while (periods != 0) {
+                cells[base + Integer.numberOfTrailingZeros(periods)] |= slot.getWeekMask();
+                periods &= periods - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherCourseQualificationDO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 教师授课资格索引（只读，可在线程间共享）
+ * <p>
+ * 只收录审批通过的资格，按课程分组并排序：主讲优先，其次资格等级高者优先，最后按教师UUID保证结果稳定。
+ * 课程、教师编码为连续编号，查询某门课程的候选教师只是一次字典查找和数组访问，不访问数据库。
+ * </p>
+ *
+ * @author flash
+ */
+public final class QualificationIndex {
+
+    /**
+     * 审批状态：已通过
+     */
+    public static final int APPROVED = 1;
+
+    private static final int[] NONE = new int[0];
+
+    private final UuidDictionary courseIds;
+
+    private final UuidDictionary teacherIds;
+
+    /**
+     * 课程编号 -> 排序后的教师编号
+     */
+    private final int[][] teachersOf;
+
+    /**
+     * 课程编号 -> 与 teachersOf 对应的资格等级
+     */
+    private final int[][] levelsOf;
+
+    /**
+     * 课程编号 -> 与 teachersOf 对应的是否主讲
+     */
+    private final boolean[][] primaryOf;
+
+    private QualificationIndex(Collection<TeacherCourseQualificationDO> qualifications) {
+        List<TeacherCourseQualificationDO> approved = new ArrayList<>();
+        for (TeacherCourseQualificationDO qualification : qualifications) {
+            if (qualification.getApprovalStatus() != null && qualification.getApprovalStatus() == APPROVED
+                    && qualification.getTeacherUuid() != null && qualification.getCourseUuid() != null) {
+                approved.add(qualification);
+            }
+        }
+        approved.sort(Comparator
+                .comparing(TeacherCourseQualificationDO::getCourseUuid)
+                .thenComparing(q -> Boolean.TRUE.equals(q.getIsPrimary()) ? 0 : 1)
+                .thenComparing(q -> -levelOf(q))
+                .thenComparing(TeacherCourseQualificationDO::getTeacherUuid));
+
+        UuidDictionary.Builder courses = UuidDictionary.builder();
+        UuidDictionary.Builder teachers = UuidDictionary.builder();
+        List<List<TeacherCourseQualificationDO>> grouped = new ArrayList<>();
+        for (TeacherCourseQualificationDO qualification : approved) {
+            int course = courses.intern(qualification.getCourseUuid());
+            if (course == grouped.size()) {
+                grouped.add(new ArrayList<>());
+            }
+            List<TeacherCourseQualificationDO> group = grouped.get(course);
+            // 同一教师对同一课程的重复资格只保留排名最高的一条
+            boolean duplicate = group.stream()
+                    .anyMatch(q -> q.getTeacherUuid().equals(qualification.getTeacherUuid()));
+            if (!duplicate) {
+                teachers.intern(qualification.getTeacherUuid());
+                group.add(qualification);
+            }
+        }
+        this.courseIds = courses.build();
+        this.teacherIds = teachers.build();
+        this.teachersOf = new int[grouped.size()][];
+        this.levelsOf = new int[grouped.size()][];
+        this.primaryOf = new boolean[grouped.size()][];
+        for (int c = 0; c < grouped.size(); c++) {
+            List<TeacherCourseQualificationDO> group = grouped.get(c);
+            teachersOf[c] = new int[group.size()];
+            levelsOf[c] = new int[group.size()];
+            primaryOf[c] = new boolean[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                TeacherCourseQualificationDO qualification = group.get(i);
+                teachersOf[c][i] = teacherIds.idOf(qualification.getTeacherUuid());
+                levelsOf[c][i] = levelOf(qualification);
+                primaryOf[c][i] = Boolean.TRUE.equals(qualification.getIsPrimary());
+            }
+        }
+    }
+
+    /**
+     * 构建索引（未通过审批的资格被忽略）
+     *
+     * @param qualifications 授课资格
+     * @return 索引
+     */
+    public static QualificationIndex build(Collection<TeacherCourseQualificationDO> qualifications) {
+        return new QualificationIndex(qualifications);
+    }
+
+    /**
+     * 教师UUID字典（只含至少有一条通过资格的教师）
+     *
+     * @return 字典
+     */
+    public UuidDictionary teacherIds() {
+        return teacherIds;
+    }
+
+    /**
+     * 课程编号
+     *
+     * @param courseUuid 课程UUID
+     * @return 编号，没有任何通过资格时返回 {@link UuidDictionary#ABSENT}
+     */
+    public int courseIdOf(String courseUuid) {
+        return courseIds.idOf(courseUuid);
+    }
+
+    /**
+     * 课程的候选教师（按排名顺序）
+     *
+     * @param course 课程编号
+     * @return 教师编号（调用方不得修改）
+     */
+    public int[] teachersOf(int course) {
+        return course < 0 || course >= teachersOf.length ? NONE : teachersOf[course];
+    }
+
+    /**
+     * 课程的候选教师UUID（按排名顺序）
+     *
+     * @param courseUuid 课程UUID
+     * @return 教师UUID列表
+     */
+    public List<String> qualifiedTeachers(String courseUuid) {
+        int[] teachers = teachersOf(courseIdOf(courseUuid));
+        List<String> result = new ArrayList<>(teachers.length);
+        for (int teacher : teachers) {
+            result.add(teacherIds.uuidOf(teacher));
+        }
+        return result;
+    }
+
+    /**
+     * 候选教师的资格等级
+     *
+     * @param course 课程编号
+     * @param rank   在候选列表中的位置
+     * @return 资格等级
+     */
+    public int levelOf(int course, int rank) {
+        return levelsOf[course][rank];
+    }
+
+    /**
+     * 候选教师是否主讲
+     *
+     * @param course 课程编号
+     * @param rank   在候选列表中的位置
+     * @return 是否主讲
+     */
+    public boolean isPrimary(int course, int rank) {
+        return primaryOf[course][rank];
+    }
+
+    /**
+     * 教师是否具备课程的通过资格
+     *
+     * @param teacherUuid 教师UUID
+     * @param courseUuid  课程UUID
+     * @return 是否具备
+     */
+    public boolean isQualified(String teacherUuid, String courseUuid) {
+        int teacher = teacherIds.idOf(teacherUuid);
+        if (teacher == UuidDictionary.ABSENT) {
+            return false;
+        }
+        for (int candidate : teachersOf(courseIdOf(courseUuid))) {
+            if (candidate == teacher) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int levelOf(TeacherCourseQualificationDO qualification) {
+        return qualification.getQualificationLevel() == null ? 1 : qualification.getQualificationLevel();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+
+/**
+ * 按 int 下标访问的资源占用网格
+ * <p>
+ * 与 {@link OccupancyIndex} 使用相同的单元布局（星期 × 节次，每单元一个周次位图），
+ * 但所有资源的网格连续存放在一个 long 数组中，供求解器内循环使用。
+ * 只记录位图，不记录占用者；释放仅适用于无重叠的占用。
+ * </p>
+ *
+ * @author flash
+ */
+public final class ResourceGrid {
+
+    private static final int PERIODS = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+
+    private static final int CELLS = SystemConstant.Scheduling.GRID_CELLS;
+
+    private final long[] cells;
+
+    public ResourceGrid(int resourceCount) {
+        this.cells = new long[Math.max(resourceCount, 1) * CELLS];
+    }
+
+    /**
+     * 资源在指定星期、节次上与给定周次重叠的周次
+     *
+     * @param resource   资源下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param weeks      周次位图
+     * @return 重叠周次位图，0 表示空闲
+     */
+    public long overlap(int resource, int weekday, int periodMask, long weeks) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        long occupied = 0L;
+        while (periodMask != 0) {
+            occupied |= cells[base + Integer.numberOfTrailingZeros(periodMask)];
+            periodMask &= periodMask - 1;
+        }
+        return occupied & weeks;
+    }
+
+    public boolean isFree(int resource, int weekday, int periodMask, long weeks) {
+        return overlap(resource, weekday, periodMask, weeks) == 0L;
+    }
+
+    public void occupy(int resource, int weekday, int periodMask, long weeks) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        while (periodMask != 0) {
+            cells[base + Integer.numberOfTrailingZeros(periodMask)] |= weeks;
+            periodMask &= periodMask - 1;
+        }
+    }
+
+    public void release(int resource, int weekday, int periodMask, long weeks) {
+        int base = resource * CELLS + (weekday - 1) * PERIODS;
+        while (periodMask != 0) {
+            cells[base + Integer.numberOfTrailingZeros(periodMask)] &= ~weeks;
+            periodMask &= periodMask - 1;
+        }
+    }
+
+    /**
+     * 一组资源（如教学班包含的全部行政班）是否都空闲
+     *
+     * @param resources  资源下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param weeks      周次位图
+     * @return 是否都空闲
+     */
+    public boolean isFree(int[] resources, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            if (overlap(resource, weekday, periodMask, weeks) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void occupy(int[] resources, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            occupy(resource, weekday, periodMask, weeks);
+        }
+    }
+
+    public void release(int[] resources, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            release(resource, weekday, periodMask, weeks);
+        }
+    }
+}
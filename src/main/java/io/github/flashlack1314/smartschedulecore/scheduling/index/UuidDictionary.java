@@ -0,0 +1,205 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UUID 与连续整数编号的双向字典（只读，可在线程间共享）
+ * <p>
+ * 编号按首次登记的顺序从 0 开始连续分配，热点结构可用编号作为数组下标或 int 键，
+ * 写回数据库时再通过 {@link #uuidOf(int)} 还原 UUID。
+ * 查找使用开放寻址表，不产生 Integer 装箱。null 视为一个普通的键，以便表示“未指定”的外键。
+ * </p>
+ *
+ * @author flash
+ */
+public final class UuidDictionary {
+
+    /**
+     * 字典中不存在的 UUID 对应的编号
+     */
+    public static final int ABSENT = -1;
+
+    /**
+     * 编号 -> UUID
+     */
+    private final String[] uuids;
+
+    /**
+     * 开放寻址表：键
+     */
+    private final String[] keys;
+
+    /**
+     * 开放寻址表：编号
+     */
+    private final int[] values;
+
+    private final int mask;
+
+    /**
+     * null 对应的编号
+     */
+    private final int nullId;
+
+    private UuidDictionary(List<String> uuids, int nullId) {
+        this.uuids = uuids.toArray(new String[0]);
+        int capacity = Integer.highestOneBit(Math.max(2, this.uuids.length * 2 - 1)) << 1;
+        this.keys = new String[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        for (int id = 0; id < this.uuids.length; id++) {
+            String uuid = this.uuids[id];
+            if (uuid == null) {
+                continue;
+            }
+            int i = slotOf(uuid);
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = uuid;
+            values[i] = id;
+        }
+        this.nullId = nullId;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 按给定顺序创建字典（重复的 UUID 只登记一次）
+     *
+     * @param uuids UUID 序列
+     * @return 字典
+     */
+    public static UuidDictionary of(Iterable<String> uuids) {
+        Builder builder = new Builder();
+        for (String uuid : uuids) {
+            builder.intern(uuid);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 已登记的 UUID 数量（编号范围为 [0, size)）
+     *
+     * @return 数量
+     */
+    public int size() {
+        return uuids.length;
+    }
+
+    /**
+     * 查询 UUID 的编号
+     *
+     * @param uuid UUID
+     * @return 编号，不存在时返回 {@link #ABSENT}
+     */
+    public int idOf(String uuid) {
+        if (uuid == null) {
+            return nullId;
+        }
+        int i = slotOf(uuid);
+        String key;
+        while ((key = keys[i]) != null) {
+            if (key.equals(uuid)) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    /**
+     * 查询编号对应的 UUID
+     *
+     * @param id 编号
+     * @return UUID
+     * @throws IndexOutOfBoundsException 编号超出范围
+     */
+    public String uuidOf(int id) {
+        return uuids[id];
+    }
+
+    /**
+     * 是否包含 UUID
+     *
+     * @param uuid UUID
+     * @return 是否包含
+     */
+    public boolean contains(String uuid) {
+        return idOf(uuid) != ABSENT;
+    }
+
+    /**
+     * 按编号顺序排列的 UUID 数组（副本）
+     *
+     * @return UUID 数组
+     */
+    public String[] toArray() {
+        return Arrays.copyOf(uuids, uuids.length);
+    }
+
+    private int slotOf(String uuid) {
+        int h = uuid.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * 字典构建器（非线程安全）
+     */
+    public static final class Builder {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> uuids = new ArrayList<>();
+        private int nullId = ABSENT;
+
+        private Builder() {
+        }
+
+        /**
+         * 登记 UUID，已登记时返回原编号
+         *
+         * @param uuid UUID（可为 null）
+         * @return 编号
+         */
+        public int intern(String uuid) {
+            Integer id = ids.get(uuid);
+            if (id != null) {
+                return id;
+            }
+            uuids.add(uuid);
+            ids.put(uuid, uuids.size() - 1);
+            if (uuid == null) {
+                nullId = uuids.size() - 1;
+            }
+            return uuids.size() - 1;
+        }
+
+        /**
+         * 分配一个不对应任何 UUID 的独立编号（{@link #uuidOf(int)} 返回 null，按 null 查询也不会命中）
+         *
+         * @return 编号
+         */
+        public int reserve() {
+            uuids.add(null);
+            return uuids.size() - 1;
+        }
+
+        /**
+         * 已登记的 UUID 数量
+         *
+         * @return 数量
+         */
+        public int size() {
+            return uuids.size();
+        }
+
+        public UuidDictionary build() {
+            return new UuidDictionary(uuids, nullId);
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.models.entity.CampusDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyCounters;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ResourceGrid;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 校区通行时间矩阵（只读，可在求解线程间共享）
+ * <p>
+ * 构建排课问题时按 {@link CampusDO} 的经纬度计算各校区间的大圆距离，
+ * 乘以绕行系数、除以通行速度得到通行分钟数，再折算为“两次课之间至少需要空出的节数”。
+ * 同一教师或行政班在同一天、周次有交集的两次课，如果位于不同校区且间隔的节数不足，即视为违反约束。
+ * </p>
+ * <p>
+ * 检查时把每个资源按校区拆成 {@code 资源 × 校区数} 个虚拟资源，复用 {@link ResourceGrid} 与
+ * {@link OccupancyCounters}：放入排课前只需查询其他校区在排课前后若干节的占用，
+ * 代价只与校区数有关，与课表规模无关。缺少经纬度的校区之间不做限制。
+ * </p>
+ *
+ * @author flash
+ */
+public final class CampusTravelMatrix {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int PERIODS = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+
+    private static final int ALL_PERIODS = (1 << PERIODS) - 1;
+
+    /**
+     * 通行时间未知
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final CampusTravelMatrix NONE = new CampusTravelMatrix(UuidDictionary.builder().build(),
+            new int[0], new int[0], new int[0], true);
+
+    private final UuidDictionary campusIds;
+
+    private final int campusCount;
+
+    private final int[] roomCampusOf;
+
+    /**
+     * 校区 × 校区 的通行分钟数
+     */
+    private final int[] travelMinutes;
+
+    /**
+     * 校区 × 校区 的最少间隔节数（0 表示相邻两节即可）
+     */
+    private final int[] gapPeriods;
+
+    private final boolean hard;
+
+    private final boolean empty;
+
+    private CampusTravelMatrix(UuidDictionary campusIds, int[] roomCampusOf, int[] travelMinutes, int[] gapPeriods,
+                               boolean hard) {
+        this.campusIds = campusIds;
+        this.campusCount = campusIds.size();
+        this.roomCampusOf = roomCampusOf;
+        this.travelMinutes = travelMinutes;
+        this.gapPeriods = gapPeriods;
+        this.hard = hard;
+        boolean anyGap = false;
+        for (int gap : gapPeriods) {
+            anyGap |= gap > 0;
+        }
+        this.empty = !anyGap;
+    }
+
+    /**
+     * 不做任何限制的矩阵
+     *
+     * @return 矩阵
+     */
+    public static CampusTravelMatrix none() {
+        return NONE;
+    }
+
+    /**
+     * 构建通行时间矩阵
+     *
+     * @param campuses        校区（提供经纬度）
+     * @param roomCampusUuids 教室下标对应的校区UUID
+     * @param options         通行参数
+     * @return 矩阵，未启用或只有一个校区时不做任何限制
+     */
+    public static CampusTravelMatrix build(Collection<CampusDO> campuses, String[] roomCampusUuids,
+                                           CampusTravelOptions options) {
+        if (!options.isEnabled() || campuses.size() < 2) {
+            return NONE;
+        }
+        UuidDictionary.Builder builder = UuidDictionary.builder();
+        int[] roomCampusOf = new int[roomCampusUuids.length];
+        for (int r = 0; r < roomCampusUuids.length; r++) {
+            roomCampusOf[r] = roomCampusUuids[r] == null ? UuidDictionary.ABSENT : builder.intern(roomCampusUuids[r]);
+        }
+        UuidDictionary campusIds = builder.build();
+        int n = campusIds.size();
+        if (n < 2) {
+            return NONE;
+        }
+        Map<String, CampusDO> byUuid = new HashMap<>();
+        for (CampusDO campus : campuses) {
+            byUuid.put(campus.getCampusUuid(), campus);
+        }
+        int[] minutes = new int[n * n];
+        int[] gaps = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int travel = travelMinutes(byUuid.get(campusIds.uuidOf(i)), byUuid.get(campusIds.uuidOf(j)), options);
+                int gap = travel == UNKNOWN ? 0 : gapPeriods(travel, options);
+                minutes[i * n + j] = minutes[j * n + i] = travel;
+                gaps[i * n + j] = gaps[j * n + i] = gap;
+            }
+        }
+        return new CampusTravelMatrix(campusIds, roomCampusOf, minutes, gaps, options.isHard());
+    }
+
+    /**
+     * 是否没有任何需要间隔的校区对
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * 是否为硬约束
+     *
+     * @return 是否为硬约束
+     */
+    public boolean isHard() {
+        return hard;
+    }
+
+    /**
+     * 参与计算的校区数量（只含有教室的校区）
+     *
+     * @return 校区数量
+     */
+    public int campusCount() {
+        return campusCount;
+    }
+
+    /**
+     * 校区UUID字典
+     *
+     * @return 字典
+     */
+    public UuidDictionary campusIds() {
+        return campusIds;
+    }
+
+    /**
+     * 教室所在校区编号
+     *
+     * @param room 教室下标
+     * @return 校区编号，未知时返回 {@link UuidDictionary#ABSENT}
+     */
+    public int campusOfRoom(int room) {
+        return room < 0 || room >= roomCampusOf.length ? UuidDictionary.ABSENT : roomCampusOf[room];
+    }
+
+    /**
+     * 两个校区间的通行分钟数
+     *
+     * @param from 校区编号
+     * @param to   校区编号
+     * @return 分钟数，缺少经纬度时返回 {@link #UNKNOWN}
+     */
+    public int travelMinutes(int from, int to) {
+        return from == to ? 0 : travelMinutes[from * campusCount + to];
+    }
+
+    /**
+     * 两个校区间的两次课之间至少需要空出的节数
+     *
+     * @param from 校区编号
+     * @param to   校区编号
+     * @return 节数
+     */
+    public int gapPeriods(int from, int to) {
+        return from == to ? 0 : gapPeriods[from * campusCount + to];
+    }
+
+    /**
+     * 创建按校区拆分的占用网格
+     *
+     * @param resourceCount 资源数量
+     * @return 网格，矩阵为空时为单个资源的占位网格
+     */
+    public ResourceGrid newGrid(int resourceCount) {
+        return new ResourceGrid(empty ? 0 : resourceCount * campusCount);
+    }
+
+    /**
+     * 创建按校区拆分的占用计数器
+     *
+     * @param resourceCount 资源数量
+     * @param weeksOf       每个排课的周次位图
+     * @return 计数器，矩阵为空时为单个资源的占位计数器
+     */
+    public OccupancyCounters newCounters(int resourceCount, long[] weeksOf) {
+        return new OccupancyCounters(empty ? 0 : resourceCount * campusCount, weeksOf);
+    }
+
+    /**
+     * 资源在教室所在校区上课时，是否与其他校区前后相邻的课来不及通行
+     *
+     * @param grid       {@link #newGrid(int)} 创建的网格
+     * @param resource   资源下标
+     * @param room       教室下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param weeks      周次位图
+     * @return 是否违反
+     */
+    public boolean violates(ResourceGrid grid, int resource, int room, int weekday, int periodMask, long weeks) {
+        int campus = campusOfRoom(room);
+        if (empty || campus == UuidDictionary.ABSENT) {
+            return false;
+        }
+        int row = campus * campusCount;
+        for (int other = 0; other < campusCount; other++) {
+            int gap = gapPeriods[row + other];
+            if (gap > 0 && grid.overlap(resource * campusCount + other, weekday,
+                    windowOf(periodMask, gap), weeks) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean violates(ResourceGrid grid, int[] resources, int room, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            if (violates(grid, resource, room, weekday, periodMask, weeks)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void occupy(ResourceGrid grid, int resource, int room, int weekday, int periodMask, long weeks) {
+        int campus = campusOfRoom(room);
+        if (!empty && campus != UuidDictionary.ABSENT) {
+            grid.occupy(resource * campusCount + campus, weekday, periodMask, weeks);
+        }
+    }
+
+    public void occupy(ResourceGrid grid, int[] resources, int room, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            occupy(grid, resource, room, weekday, periodMask, weeks);
+        }
+    }
+
+    public void release(ResourceGrid grid, int resource, int room, int weekday, int periodMask, long weeks) {
+        int campus = campusOfRoom(room);
+        if (!empty && campus != UuidDictionary.ABSENT) {
+            grid.release(resource * campusCount + campus, weekday, periodMask, weeks);
+        }
+    }
+
+    public void release(ResourceGrid grid, int[] resources, int room, int weekday, int periodMask, long weeks) {
+        for (int resource : resources) {
+            release(grid, resource, room, weekday, periodMask, weeks);
+        }
+    }
+
+    /**
+     * 排课与其他校区前后相邻的课来不及通行的“周 × 节”数量
+     *
+     * @param counters   {@link #newCounters(int, long[])} 创建的计数器
+     * @param resource   资源下标
+     * @param room       教室下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param assignment 排课下标
+     * @return 违反量
+     */
+    public int overlap(OccupancyCounters counters, int resource, int room, int weekday, int periodMask,
+                       int assignment) {
+        int campus = campusOfRoom(room);
+        if (empty || campus == UuidDictionary.ABSENT) {
+            return 0;
+        }
+        int row = campus * campusCount;
+        int overlap = 0;
+        for (int other = 0; other < campusCount; other++) {
+            int gap = gapPeriods[row + other];
+            if (gap > 0) {
+                overlap += counters.overlap(resource * campusCount + other, weekday,
+                        windowOf(periodMask, gap), assignment);
+            }
+        }
+        return overlap;
+    }
+
+    public int overlap(OccupancyCounters counters, int[] resources, int room, int weekday, int periodMask,
+                       int assignment) {
+        int overlap = 0;
+        for (int resource : resources) {
+            overlap += overlap(counters, resource, room, weekday, periodMask, assignment);
+        }
+        return overlap;
+    }
+
+    public void add(OccupancyCounters counters, int resource, int room, int weekday, int periodMask, int assignment) {
+        int campus = campusOfRoom(room);
+        if (!empty && campus != UuidDictionary.ABSENT) {
+            counters.add(resource * campusCount + campus, weekday, periodMask, assignment);
+        }
+    }
+
+    public void add(OccupancyCounters counters, int[] resources, int room, int weekday, int periodMask,
+                    int assignment) {
+        for (int resource : resources) {
+            add(counters, resource, room, weekday, periodMask, assignment);
+        }
+    }
+
+    public void remove(OccupancyCounters counters, int resource, int room, int weekday, int periodMask,
+                       int assignment) {
+        int campus = campusOfRoom(room);
+        if (!empty && campus != UuidDictionary.ABSENT) {
+            counters.remove(resource * campusCount + campus, weekday, periodMask, assignment);
+        }
+    }
+
+    public void remove(OccupancyCounters counters, int[] resources, int room, int weekday, int periodMask,
+                       int assignment) {
+        for (int resource : resources) {
+            remove(counters, resource, room, weekday, periodMask, assignment);
+        }
+    }
+
+    /**
+     * 排课前后各 gap 节（不含排课本身）的节次位图
+     *
+     * @param periodMask 节次位图
+     * @param gap        间隔节数
+     * @return 位图
+     */
+    static int windowOf(int periodMask, int gap) {
+        int first = Integer.numberOfTrailingZeros(periodMask);
+        int last = 31 - Integer.numberOfLeadingZeros(periodMask);
+        int low = Math.max(0, first - gap);
+        int high = Math.min(PERIODS - 1, last + gap);
+        int span = ((1 << (high + 1)) - 1) & ~((1 << low) - 1);
+        return span & ~periodMask & ALL_PERIODS;
+    }
+
+    /**
+     * 通行分钟数：大圆距离 × 绕行系数 ÷ 速度，向上取整
+     */
+    private static int travelMinutes(CampusDO from, CampusDO to, CampusTravelOptions options) {
+        if (from == null || to == null || from.getLatitude() == null || from.getLongitude() == null
+                || to.getLatitude() == null || to.getLongitude() == null || options.getSpeedKmPerHour() <= 0) {
+            return UNKNOWN;
+        }
+        double lat1 = Math.toRadians(from.getLatitude().doubleValue());
+        double lat2 = Math.toRadians(to.getLatitude().doubleValue());
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(to.getLongitude().doubleValue() - from.getLongitude().doubleValue());
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double km = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+        return (int) Math.ceil(km * Math.max(1.0, options.getDetourFactor()) / options.getSpeedKmPerHour() * 60);
+    }
+
+    /**
+     * 通行分钟数折算为最少间隔节数：相邻两节之间有一个课间，每空出一节再多一节课与一个课间
+     */
+    private static int gapPeriods(int minutes, CampusTravelOptions options) {
+        int breakMinutes = Math.max(0, options.getBreakMinutes());
+        if (minutes <= breakMinutes) {
+            return 0;
+        }
+        int step = Math.max(1, options.getPeriodMinutes() + breakMinutes);
+        int gap = (minutes - breakMinutes + step - 1) / step;
+        return Math.min(gap, PERIODS);
+    }
+}
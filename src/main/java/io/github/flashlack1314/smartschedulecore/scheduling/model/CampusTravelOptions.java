@@ -0,0 +1,44 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 跨校区通行约束参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class CampusTravelOptions {
+
+    /**
+     * 是否启用跨校区通行约束
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否为硬约束：是则视同资源冲突，否则只计入软代价
+     */
+    private boolean hard = true;
+
+    /**
+     * 每节课时长（分钟）
+     */
+    private int periodMinutes = 45;
+
+    /**
+     * 相邻两节课之间的课间时长（分钟）
+     */
+    private int breakMinutes = 10;
+
+    /**
+     * 校区间通行速度（千米/小时）
+     */
+    private double speedKmPerHour = 25.0;
+
+    /**
+     * 实际路程与直线距离之比
+     */
+    private double detourFactor = 1.4;
+}
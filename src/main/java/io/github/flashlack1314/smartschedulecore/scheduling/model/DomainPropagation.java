@@ -0,0 +1,436 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ResourceGrid;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * 求解前的约束传播
+ * <p>
+ * 每个排课的定义域为 (开始位置, 候选教室) 组合。开始位置只剩一个的排课（固定时间或被传播收缩到一个）
+ * 视为时间已确定：占用其教师、教学班、行政班；若可用教室也只剩一个，同时占用该教室。
+ * 随后按弧相容方式修正共享这些资源的其他排课：删除教师、教学班、行政班已被占用，
+ * 或全部候选教室都已被占用的开始位置，再删除在所有剩余开始位置上都不可用的教室；
+ * 收缩到只剩一个开始位置的排课加入队列继续传播，直到不动点。
+ * 可选地把教师避免时间视为硬约束，预先从定义域中删除。
+ * </p>
+ * <p>
+ * 定义域为空、或时间已确定但与其他已确定排课冲突的排课标记为不可行，保持原定义域交给求解器处理；
+ * 其余排课的收缩结果放入原问题的副本（{@link #getProblem()}），求解器在副本上只搜索收缩后的定义域；
+ * 原问题不被修改，可继续在线程间共享。
+ * 传播假设所有排课最终都会被安排。
+ * </p>
+ *
+ * @author flash
+ */
+public final class DomainPropagation {
+
+    private final int[] initialSizes;
+
+    private final int[] prunedSizes;
+
+    private final boolean[] infeasible;
+
+    private final long elapsedMillis;
+
+    private final SchedulingProblem problem;
+
+    private DomainPropagation(SchedulingProblem problem, int[] initialSizes, int[] prunedSizes,
+                              boolean[] infeasible, long elapsedMillis) {
+        this.problem = problem;
+        this.initialSizes = initialSizes;
+        this.prunedSizes = prunedSizes;
+        this.infeasible = infeasible;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 对排课问题执行约束传播
+     *
+     * @param problem 排课问题（不会被修改）
+     * @param options 传播参数
+     * @return 传播结果
+     */
+    public static DomainPropagation propagate(SchedulingProblem problem, PropagationOptions options) {
+        long start = System.nanoTime();
+        return new Propagator(problem, options).run(start);
+    }
+
+    /**
+     * 收缩了定义域的问题副本（没有任何收缩时为原问题）
+     *
+     * @return 排课问题
+     */
+    public SchedulingProblem getProblem() {
+        return problem;
+    }
+
+    /**
+     * 排课数
+     *
+     * @return 数量
+     */
+    public int size() {
+        return initialSizes.length;
+    }
+
+    /**
+     * 传播前的定义域大小（开始位置数 × 候选教室数）
+     *
+     * @param assignment 排课下标
+     * @return 大小
+     */
+    public int initialSizeOf(int assignment) {
+        return initialSizes[assignment];
+    }
+
+    /**
+     * 传播后的定义域大小（资源均未被占用的 (开始位置, 教室) 组合数，不可行时为 0）
+     *
+     * @param assignment 排课下标
+     * @return 大小
+     */
+    public int prunedSizeOf(int assignment) {
+        return prunedSizes[assignment];
+    }
+
+    /**
+     * 排课是否不可行（定义域为空或与其他已确定排课冲突）
+     *
+     * @param assignment 排课下标
+     * @return 是否不可行
+     */
+    public boolean isInfeasible(int assignment) {
+        return infeasible[assignment];
+    }
+
+    /**
+     * 是否所有排课都可行
+     *
+     * @return 是否可行
+     */
+    public boolean isFeasible() {
+        for (boolean flag : infeasible) {
+            if (flag) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 传播前的定义域总大小
+     *
+     * @return 大小
+     */
+    public long totalInitialSize() {
+        return Arrays.stream(initialSizes).asLongStream().sum();
+    }
+
+    /**
+     * 传播后的定义域总大小
+     *
+     * @return 大小
+     */
+    public long totalPrunedSize() {
+        return Arrays.stream(prunedSizes).asLongStream().sum();
+    }
+
+    /**
+     * 传播耗时（毫秒）
+     *
+     * @return 耗时
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 单次传播的工作状态
+     */
+    private static final class Propagator {
+
+        private final SchedulingProblem problem;
+        private final int n;
+        private final int[][] starts;
+        private final int[][] rooms;
+        private final boolean[] decided;
+        private final boolean[] infeasible;
+        private final int[] teacherOf;
+        private final int[] classOf;
+        private final int[][] cohortsOf;
+        private final long[] weeksOf;
+        private final ResourceGrid teachers;
+        private final ResourceGrid classes;
+        private final ResourceGrid cohorts;
+        private final ResourceGrid roomGrid;
+
+        /**
+         * 按教师、教学班、行政班、候选教室分组的排课下标
+         */
+        private final int[][] byTeacher;
+        private final int[][] byClass;
+        private final int[][] byCohort;
+        private final int[][] byRoom;
+
+        /**
+         * 本轮已修正过的排课（避免同一排课因共享多种资源被重复修正）
+         */
+        private final int[] revisedStamp;
+        private int stamp;
+
+        private final Deque<Integer> queue = new ArrayDeque<>();
+
+        Propagator(SchedulingProblem problem, PropagationOptions options) {
+            this.problem = problem;
+            this.n = problem.assignmentCount();
+            this.starts = new int[n][];
+            this.rooms = new int[n][];
+            this.decided = new boolean[n];
+            this.infeasible = new boolean[n];
+            this.teacherOf = problem.getTeacherOf();
+            this.classOf = problem.getTeachingClassOf();
+            this.cohortsOf = problem.getAdministrativeClassesOf();
+            this.weeksOf = problem.getWeeksOf();
+            this.teachers = new ResourceGrid(problem.teacherCount());
+            this.classes = new ResourceGrid(problem.teachingClassCount());
+            this.cohorts = new ResourceGrid(problem.administrativeClassCount());
+            this.roomGrid = new ResourceGrid(problem.roomCount());
+            this.revisedStamp = new int[n];
+
+            int[] fixed = problem.getFixedSlotOf();
+            TeacherPreferenceScorer preferences = problem.getPreferenceScorer();
+            for (int a = 0; a < n; a++) {
+                starts[a] = problem.startSlotsOf(a);
+                rooms[a] = problem.getCandidateRoomsOf()[a];
+                if (options.isAvoidedTimeHard() && fixed[a] == SchedulingProblem.UNASSIGNED
+                        && !preferences.isEmpty()) {
+                    starts[a] = withoutAvoided(a, preferences);
+                }
+            }
+
+            int[][] single = new int[n][];
+            for (int a = 0; a < n; a++) {
+                single[a] = new int[]{teacherOf[a]};
+            }
+            this.byTeacher = group(single, problem.teacherCount());
+            for (int a = 0; a < n; a++) {
+                single[a] = new int[]{classOf[a]};
+            }
+            this.byClass = group(single, problem.teachingClassCount());
+            this.byCohort = group(cohortsOf, problem.administrativeClassCount());
+            this.byRoom = group(rooms, problem.roomCount());
+        }
+
+        DomainPropagation run(long startNanos) {
+            int[] initialSizes = new int[n];
+            int[] fixed = problem.getFixedSlotOf();
+            int[][] originalStarts = new int[n][];
+            int[][] originalRooms = new int[n][];
+            for (int a = 0; a < n; a++) {
+                originalStarts[a] = problem.startSlotsOf(a);
+                originalRooms[a] = problem.getCandidateRoomsOf()[a];
+                initialSizes[a] = originalStarts[a].length * originalRooms[a].length;
+            }
+            // 固定时间的排课先入队；互相冲突时先出队的保留，后出队的判定为不可行
+            for (int a = 0; a < n; a++) {
+                if (fixed[a] != SchedulingProblem.UNASSIGNED) {
+                    queue.add(a);
+                }
+            }
+            for (int a = 0; a < n; a++) {
+                if (starts[a].length == 0 || rooms[a].length == 0) {
+                    infeasible[a] = true;
+                } else if (starts[a].length == 1 && fixed[a] == SchedulingProblem.UNASSIGNED) {
+                    queue.add(a);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int a = queue.poll();
+                if (!decided[a] && !infeasible[a]) {
+                    decide(a);
+                }
+            }
+
+            int[] prunedSizes = new int[n];
+            int[][] restrictedStarts = new int[n][];
+            int[][] restrictedRooms = new int[n][];
+            boolean restricted = false;
+            for (int a = 0; a < n; a++) {
+                if (infeasible[a]) {
+                    continue;
+                }
+                prunedSizes[a] = decided[a] ? rooms[a].length : countFreePairs(a);
+                if (starts[a] != originalStarts[a] || rooms[a] != originalRooms[a]) {
+                    restrictedStarts[a] = starts[a];
+                    restrictedRooms[a] = rooms[a];
+                    restricted = true;
+                }
+            }
+            SchedulingProblem result = restricted
+                    ? problem.restrictDomains(restrictedStarts, restrictedRooms)
+                    : problem;
+            return new DomainPropagation(result, initialSizes, prunedSizes, infeasible,
+                    (System.nanoTime() - startNanos) / 1_000_000L);
+        }
+
+        /**
+         * 确定排课的时间，占用资源并修正相关排课
+         */
+        private void decide(int a) {
+            decided[a] = true;
+            int slot = starts[a][0];
+            int weekday = problem.weekdayOf(slot);
+            int periods = problem.periodMaskOf(a, slot);
+            long weeks = weeksOf[a];
+            if (!teachers.isFree(teacherOf[a], weekday, periods, weeks)
+                    || !classes.isFree(classOf[a], weekday, periods, weeks)
+                    || !cohorts.isFree(cohortsOf[a], weekday, periods, weeks)) {
+                infeasible[a] = true;
+                return;
+            }
+            int[] free = freeRooms(a, weekday, periods, weeks);
+            if (free.length == 0) {
+                infeasible[a] = true;
+                return;
+            }
+            rooms[a] = free;
+            teachers.occupy(teacherOf[a], weekday, periods, weeks);
+            classes.occupy(classOf[a], weekday, periods, weeks);
+            cohorts.occupy(cohortsOf[a], weekday, periods, weeks);
+
+            stamp++;
+            revisedStamp[a] = stamp;
+            reviseAll(byTeacher[teacherOf[a]]);
+            reviseAll(byClass[classOf[a]]);
+            for (int cohort : cohortsOf[a]) {
+                reviseAll(byCohort[cohort]);
+            }
+            if (free.length == 1) {
+                roomGrid.occupy(free[0], weekday, periods, weeks);
+                reviseAll(byRoom[free[0]]);
+            }
+        }
+
+        private void reviseAll(int[] neighbours) {
+            for (int b : neighbours) {
+                if (decided[b] || infeasible[b] || revisedStamp[b] == stamp) {
+                    continue;
+                }
+                revisedStamp[b] = stamp;
+                if (revise(b)) {
+                    if (starts[b].length == 0 || rooms[b].length == 0) {
+                        infeasible[b] = true;
+                    } else if (starts[b].length == 1) {
+                        queue.add(b);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 删除排课定义域中已无支撑的开始位置与教室
+         *
+         * @return 定义域是否变化
+         */
+        private boolean revise(int b) {
+            long weeks = weeksOf[b];
+            int[] keptStarts = new int[starts[b].length];
+            int startCount = 0;
+            boolean[] roomUsed = new boolean[rooms[b].length];
+            for (int slot : starts[b]) {
+                int weekday = problem.weekdayOf(slot);
+                int periods = problem.periodMaskOf(b, slot);
+                if (!teachers.isFree(teacherOf[b], weekday, periods, weeks)
+                        || !classes.isFree(classOf[b], weekday, periods, weeks)
+                        || !cohorts.isFree(cohortsOf[b], weekday, periods, weeks)) {
+                    continue;
+                }
+                boolean supported = false;
+                for (int i = 0; i < rooms[b].length; i++) {
+                    if (roomGrid.isFree(rooms[b][i], weekday, periods, weeks)) {
+                        roomUsed[i] = true;
+                        supported = true;
+                    }
+                }
+                if (supported) {
+                    keptStarts[startCount++] = slot;
+                }
+            }
+            int roomCount = 0;
+            for (boolean used : roomUsed) {
+                if (used) {
+                    roomCount++;
+                }
+            }
+            if (startCount == starts[b].length && roomCount == rooms[b].length) {
+                return false;
+            }
+            starts[b] = Arrays.copyOf(keptStarts, startCount);
+            int[] keptRooms = new int[roomCount];
+            for (int i = 0, k = 0; i < rooms[b].length; i++) {
+                if (roomUsed[i]) {
+                    keptRooms[k++] = rooms[b][i];
+                }
+            }
+            rooms[b] = keptRooms;
+            return true;
+        }
+
+        private int[] freeRooms(int a, int weekday, int periods, long weeks) {
+            return Arrays.stream(rooms[a])
+                    .filter(room -> roomGrid.isFree(room, weekday, periods, weeks))
+                    .toArray();
+        }
+
+        private int countFreePairs(int a) {
+            int count = 0;
+            for (int slot : starts[a]) {
+                int weekday = problem.weekdayOf(slot);
+                int periods = problem.periodMaskOf(a, slot);
+                for (int room : rooms[a]) {
+                    if (roomGrid.isFree(room, weekday, periods, weeksOf[a])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private int[] withoutAvoided(int a, TeacherPreferenceScorer preferences) {
+            return Arrays.stream(starts[a])
+                    .filter(slot -> (problem.periodMaskOf(a, slot)
+                            & preferences.avoidedPeriodsOf(teacherOf[a], problem.weekdayOf(slot))) == 0)
+                    .toArray();
+        }
+
+        /**
+         * 按资源分组排课下标
+         *
+         * @param resourcesOf   每个排课涉及的资源
+         * @param resourceCount 资源数
+         * @return 资源 -> 排课下标
+         */
+        private static int[][] group(int[][] resourcesOf, int resourceCount) {
+            int[] counts = new int[resourceCount];
+            for (int[] resources : resourcesOf) {
+                for (int resource : resources) {
+                    counts[resource]++;
+                }
+            }
+            int[][] groups = new int[resourceCount][];
+            for (int r = 0; r < resourceCount; r++) {
+                groups[r] = new int[counts[r]];
+            }
+            Arrays.fill(counts, 0);
+            for (int a = 0; a < resourcesOf.length; a++) {
+                for (int resource : resourcesOf[a]) {
+                    groups[resource][counts[resource]++] = a;
+                }
+            }
+            return groups;
+        }
+    }
+}
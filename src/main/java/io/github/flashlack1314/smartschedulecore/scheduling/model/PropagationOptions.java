@@ -0,0 +1,25 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 求解前约束传播参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class PropagationOptions {
+
+    /**
+     * 是否在求解前执行约束传播
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否把教师避免时间视为硬约束：是则从该教师排课的可选开始位置中删除避免时间
+     * （有固定时间的排课除外），否则避免时间只计入软代价，不参与传播
+     */
+    private boolean avoidedTimeHard = false;
+}
@@ -0,0 +1,49 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import lombok.Getter;
+
+/**
+ * 排课占用资源类型
+ * <p>
+ * conflictType 与 sc_scheduling_conflict.conflict_type 取值一致（1教师/2教室/3班级）
+ * </p>
+ *
+ * @author flash
+ */
+@Getter
+public enum ResourceType {
+
+    TEACHER(1, "教师"),
+    CLASSROOM(2, "教室"),
+    TEACHING_CLASS(3, "班级");
+
+    /**
+     * 对应的冲突类型
+     */
+    private final int conflictType;
+
+    /**
+     * 资源名称
+     */
+    private final String label;
+
+    ResourceType(int conflictType, String label) {
+        this.conflictType = conflictType;
+        this.label = label;
+    }
+
+    /**
+     * 根据冲突类型查找资源类型
+     *
+     * @param conflictType 冲突类型
+     * @return 资源类型，非资源冲突（如 4 其他）返回 null
+     */
+    public static ResourceType ofConflictType(Integer conflictType) {
+        for (ResourceType type : values()) {
+            if (conflictType != null && type.conflictType == conflictType) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,561 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.models.entity.CampusDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherPreferencesDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.AdministrativeClassMembership;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ClassroomIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 排课求解问题（只读，可在求解线程间共享）
+ * <p>
+ * 将排课、教室、教学班实体压缩为以下标访问的定长数组：
+ * 排课 a 的教师、教学班、连堂节数、候选教室等均通过 int 下标表示，
+ * 下标与 UUID 之间通过 {@link UuidDictionary} 双向转换。
+ * 时间位置 slot = (星期 - 1) × 每天节次数 + (开始节次 - 1)，
+ * 每个排课占用从开始节次起连续 {@code length} 节。
+ * </p>
+ *
+ * @author flash
+ */
+@Getter
+public final class SchedulingProblem {
+
+    /**
+     * 未安排时间或教室
+     */
+    public static final int UNASSIGNED = -1;
+
+    private final String schoolUuid;
+    private final String semesterUuid;
+
+    /**
+     * 每周可排课天数
+     */
+    private final int daysPerWeek;
+
+    /**
+     * 每天节次数
+     */
+    private final int periodsPerDay;
+
+    /**
+     * 学期周次位图（未指定周次的排课默认全学期）
+     */
+    private final long semesterWeekMask;
+
+    // ========== 排课维度 ==========
+
+    /**
+     * 排课UUID字典（编号即排课下标）
+     */
+    private final UuidDictionary assignmentIds;
+    private final int[] teacherOf;
+    private final int[] teachingClassOf;
+    private final int[] lengthOf;
+    private final int[] priorityOf;
+    private final int[] sizeOf;
+    private final long[] weeksOf;
+    private final int[] fixedSlotOf;
+    private final int[] initialSlotOf;
+    private final int[] initialRoomOf;
+
+    /**
+     * 每个排课的候选教室（按容量升序，优先最合适的教室；教室编号按容量排列，因此同时按编号升序）
+     * <p>类型与规模相同的排课共用同一个数组，调用方不得修改</p>
+     */
+    private final int[][] candidateRoomsOf;
+
+    /**
+     * 每个排课所属教学班包含的行政班（同一教学班的排课共用同一个数组，调用方不得修改）
+     */
+    private final int[][] administrativeClassesOf;
+
+    // ========== 资源维度 ==========
+
+    private final UuidDictionary teacherIds;
+    private final UuidDictionary teachingClassIds;
+
+    /**
+     * 教学班与行政班的成员关系（教学班编号与本问题一致）
+     */
+    private final AdministrativeClassMembership membership;
+
+    /**
+     * 教室UUID字典（编号按容量升序）
+     */
+    private final UuidDictionary roomIds;
+    private final int[] roomCapacity;
+    private final String[] roomCampusUuids;
+    private final String[] roomBuildingUuids;
+    private final String[] roomTypeUuids;
+
+    /**
+     * 教室查找索引（教室编号与本问题一致）
+     */
+    private final ClassroomIndex classroomIndex;
+
+    /**
+     * 预编译的教师偏好评分器
+     */
+    private final TeacherPreferenceScorer preferenceScorer;
+
+    /**
+     * 校区通行时间矩阵（教室编号与本问题一致）
+     */
+    private final CampusTravelMatrix campusTravel;
+
+    /**
+     * 按连堂节数缓存的合法开始位置
+     */
+    @Getter(AccessLevel.NONE)
+    private final int[][] startSlotsByLength;
+
+    /**
+     * 有固定时间的排课只有一个开始位置；约束传播得到的问题副本中为收缩后的开始位置
+     */
+    @Getter(AccessLevel.NONE)
+    private final int[][] fixedStartSlots;
+
+    private SchedulingProblem(Builder builder) {
+        this.schoolUuid = builder.schoolUuid;
+        this.semesterUuid = builder.semesterUuid;
+        this.daysPerWeek = builder.daysPerWeek;
+        this.periodsPerDay = builder.periodsPerDay;
+        this.semesterWeekMask = builder.semesterWeekMask;
+
+        int n = builder.assignments.size();
+        UuidDictionary.Builder assignments = UuidDictionary.builder();
+        UuidDictionary.Builder teachers = UuidDictionary.builder();
+        UuidDictionary.Builder classes = UuidDictionary.builder();
+
+        List<ClassroomDO> rooms = builder.classrooms.stream()
+                .filter(room -> !Boolean.FALSE.equals(room.getIsEnabled()))
+                .sorted(Comparator.comparing(ClassroomDO::getCapacity, Comparator.nullsFirst(Integer::compareTo)))
+                .toList();
+        this.roomIds = UuidDictionary.of(rooms.stream().map(ClassroomDO::getClassroomUuid).toList());
+        this.roomCapacity = new int[rooms.size()];
+        this.roomCampusUuids = new String[rooms.size()];
+        this.roomBuildingUuids = new String[rooms.size()];
+        this.roomTypeUuids = new String[rooms.size()];
+        for (int r = 0; r < rooms.size(); r++) {
+            ClassroomDO room = rooms.get(r);
+            roomCapacity[r] = room.getCapacity() == null ? 0 : room.getCapacity();
+            roomCampusUuids[r] = room.getCampusUuid();
+            roomBuildingUuids[r] = room.getBuildingUuid();
+            roomTypeUuids[r] = room.getClassroomTypeUuid();
+        }
+        this.classroomIndex = ClassroomIndex.build(rooms);
+        Map<String, int[]> candidateCache = new HashMap<>();
+
+        Map<String, Integer> classSizes = new HashMap<>();
+        for (TeachingClassDO teachingClass : builder.teachingClasses) {
+            classSizes.put(teachingClass.getTeachingClassUuid(), sizeOf(teachingClass));
+        }
+
+        this.teacherOf = new int[n];
+        this.teachingClassOf = new int[n];
+        this.lengthOf = new int[n];
+        this.priorityOf = new int[n];
+        this.sizeOf = new int[n];
+        this.weeksOf = new long[n];
+        this.fixedSlotOf = new int[n];
+        this.initialSlotOf = new int[n];
+        this.initialRoomOf = new int[n];
+        this.candidateRoomsOf = new int[n][];
+        this.fixedStartSlots = new int[n][];
+
+        for (int a = 0; a < n; a++) {
+            ClassAssignmentDO assignment = builder.assignments.get(a);
+            assignments.intern(assignment.getClassAssignmentUuid());
+            String teacherUuid = assignment.getTeacherUuid() != null
+                    ? assignment.getTeacherUuid()
+                    : builder.teacherOverrides.get(assignment.getTeachingClassUuid());
+            // 尚未指定教师的排课各自占用一个独立编号，彼此之间不构成教师冲突，写回时教师仍为空
+            teacherOf[a] = teacherUuid != null ? teachers.intern(teacherUuid) : teachers.reserve();
+            teachingClassOf[a] = classes.intern(assignment.getTeachingClassUuid());
+            int length = assignment.getConsecutiveSessions() == null ? 2 : assignment.getConsecutiveSessions();
+            lengthOf[a] = Math.max(1, Math.min(length, periodsPerDay));
+            priorityOf[a] = assignment.getSchedulingPriority() == null ? 100 : assignment.getSchedulingPriority();
+            sizeOf[a] = classSizes.getOrDefault(assignment.getTeachingClassUuid(), 0);
+
+            TimeSlot current = classTimeOf(assignment);
+            long weeks = current.isEmpty() ? classWeeksOf(assignment) : current.getWeekMask();
+            weeksOf[a] = weeks != 0L ? weeks : semesterWeekMask;
+            fixedSlotOf[a] = toSlot(specifiedTimeOf(assignment, weeksOf[a]), lengthOf[a]);
+            if (fixedSlotOf[a] != UNASSIGNED) {
+                fixedStartSlots[a] = new int[]{fixedSlotOf[a]};
+            }
+            initialSlotOf[a] = toSlot(current, lengthOf[a]);
+            String roomType = assignment.getClassroomTypeUuid();
+            int size = sizeOf[a];
+            candidateRoomsOf[a] = candidateCache.computeIfAbsent(roomType + ":" + size, key ->
+                    classroomIndex.find(classroomIndex.requirement(roomType, null, size, 0, null)));
+            initialRoomOf[a] = initialSlotOf[a] == UNASSIGNED
+                    ? UNASSIGNED
+                    : roomIds.idOf(assignment.getClassroomUuid());
+        }
+        if (assignments.size() != n) {
+            throw new IllegalArgumentException("排课UUID重复");
+        }
+        this.assignmentIds = assignments.build();
+        this.teacherIds = teachers.build();
+        this.teachingClassIds = classes.build();
+        this.membership = AdministrativeClassMembership.build(teachingClassIds, builder.teachingClasses);
+        this.administrativeClassesOf = new int[n][];
+        for (int a = 0; a < n; a++) {
+            administrativeClassesOf[a] = membership.administrativeClassesOf(teachingClassOf[a]);
+        }
+        this.preferenceScorer = TeacherPreferenceScorer.compile(teacherIds, roomCampusUuids, roomTypeUuids,
+                builder.preferences);
+        this.campusTravel = CampusTravelMatrix.build(builder.campuses, roomCampusUuids, builder.travelOptions);
+
+        this.startSlotsByLength = new int[periodsPerDay + 1][];
+        for (int length = 1; length <= periodsPerDay; length++) {
+            int[] starts = new int[daysPerWeek * (periodsPerDay - length + 1)];
+            int i = 0;
+            for (int day = 0; day < daysPerWeek; day++) {
+                for (int start = 0; start + length <= periodsPerDay; start++) {
+                    starts[i++] = day * periodsPerDay + start;
+                }
+            }
+            startSlotsByLength[length] = starts;
+        }
+    }
+
+    /**
+     * 复制问题并替换开始位置与候选教室（其余数组与原问题共用）
+     */
+    private SchedulingProblem(SchedulingProblem source, int[][] startSlots, int[][] candidateRooms) {
+        this.schoolUuid = source.schoolUuid;
+        this.semesterUuid = source.semesterUuid;
+        this.daysPerWeek = source.daysPerWeek;
+        this.periodsPerDay = source.periodsPerDay;
+        this.semesterWeekMask = source.semesterWeekMask;
+        this.assignmentIds = source.assignmentIds;
+        this.teacherOf = source.teacherOf;
+        this.teachingClassOf = source.teachingClassOf;
+        this.lengthOf = source.lengthOf;
+        this.priorityOf = source.priorityOf;
+        this.sizeOf = source.sizeOf;
+        this.weeksOf = source.weeksOf;
+        this.fixedSlotOf = source.fixedSlotOf;
+        this.initialSlotOf = source.initialSlotOf;
+        this.initialRoomOf = source.initialRoomOf;
+        this.candidateRoomsOf = candidateRooms;
+        this.administrativeClassesOf = source.administrativeClassesOf;
+        this.teacherIds = source.teacherIds;
+        this.teachingClassIds = source.teachingClassIds;
+        this.membership = source.membership;
+        this.roomIds = source.roomIds;
+        this.roomCapacity = source.roomCapacity;
+        this.roomCampusUuids = source.roomCampusUuids;
+        this.roomBuildingUuids = source.roomBuildingUuids;
+        this.roomTypeUuids = source.roomTypeUuids;
+        this.classroomIndex = source.classroomIndex;
+        this.preferenceScorer = source.preferenceScorer;
+        this.campusTravel = source.campusTravel;
+        this.startSlotsByLength = source.startSlotsByLength;
+        this.fixedStartSlots = startSlots;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 排课数量
+     *
+     * @return 排课数量
+     */
+    public int assignmentCount() {
+        return lengthOf.length;
+    }
+
+    /**
+     * 教师数量
+     *
+     * @return 教师数量
+     */
+    public int teacherCount() {
+        return teacherIds.size();
+    }
+
+    /**
+     * 教学班数量
+     *
+     * @return 教学班数量
+     */
+    public int teachingClassCount() {
+        return teachingClassIds.size();
+    }
+
+    /**
+     * 行政班数量
+     *
+     * @return 行政班数量
+     */
+    public int administrativeClassCount() {
+        return membership.administrativeClassCount();
+    }
+
+    /**
+     * 教室数量
+     *
+     * @return 教室数量
+     */
+    public int roomCount() {
+        return roomCapacity.length;
+    }
+
+    /**
+     * 排课可选的开始位置（有固定时间时只有固定位置）
+     *
+     * @param assignment 排课下标
+     * @return 开始位置数组（升序，只读）
+     */
+    public int[] startSlotsOf(int assignment) {
+        if (fixedStartSlots[assignment] != null) {
+            return fixedStartSlots[assignment];
+        }
+        return startSlotsByLength[lengthOf[assignment]];
+    }
+
+    /**
+     * 创建收缩了定义域的问题副本（只由 {@link DomainPropagation} 调用，本问题不变）
+     *
+     * @param starts 每个排课收缩后的开始位置，为 null 时沿用本问题
+     * @param rooms  每个排课收缩后的候选教室，为 null 时沿用本问题
+     * @return 问题副本
+     */
+    SchedulingProblem restrictDomains(int[][] starts, int[][] rooms) {
+        int[][] startSlots = fixedStartSlots.clone();
+        int[][] candidateRooms = candidateRoomsOf.clone();
+        for (int a = 0; a < starts.length; a++) {
+            if (starts[a] != null) {
+                startSlots[a] = starts[a];
+            }
+            if (rooms[a] != null) {
+                candidateRooms[a] = rooms[a];
+            }
+        }
+        return new SchedulingProblem(this, startSlots, candidateRooms);
+    }
+
+    /**
+     * 时间位置对应的星期（1 起始）
+     *
+     * @param slot 时间位置
+     * @return 星期
+     */
+    public int weekdayOf(int slot) {
+        return slot / periodsPerDay + 1;
+    }
+
+    /**
+     * 排课放在指定位置时的节次位图
+     *
+     * @param assignment 排课下标
+     * @param slot       时间位置
+     * @return 节次位图
+     */
+    public int periodMaskOf(int assignment, int slot) {
+        return ((1 << lengthOf[assignment]) - 1) << (slot % periodsPerDay);
+    }
+
+    /**
+     * 排课放在指定位置时的时间片
+     *
+     * @param assignment 排课下标
+     * @param slot       时间位置
+     * @return 时间片
+     */
+    public TimeSlot timeSlotOf(int assignment, int slot) {
+        if (slot == UNASSIGNED) {
+            return TimeSlot.EMPTY;
+        }
+        return TimeSlot.of(weeksOf[assignment], weekdayOf(slot), periodMaskOf(assignment, slot));
+    }
+
+    /**
+     * 将时间片转换为时间位置（需与连堂节数一致，否则视为未排课）
+     */
+    private int toSlot(TimeSlot slot, int length) {
+        if (slot.isEmpty() || slot.getWeekday() > daysPerWeek) {
+            return UNASSIGNED;
+        }
+        int start = Integer.numberOfTrailingZeros(slot.getPeriodMask());
+        if (Integer.bitCount(slot.getPeriodMask()) != length || start + length > periodsPerDay) {
+            return UNASSIGNED;
+        }
+        return (slot.getWeekday() - 1) * periodsPerDay + start;
+    }
+
+    /**
+     * 当前上课时间：优先使用数据库生成的打包列，缺失时解析 JSON
+     */
+    private static TimeSlot classTimeOf(ClassAssignmentDO assignment) {
+        if (assignment.getClassWeekMask() != null && assignment.getClassDayPeriods() != null) {
+            return TimeSlotCodec.unpack(assignment.getClassWeekMask(), assignment.getClassDayPeriods());
+        }
+        return TimeSlotCodec.decode(assignment.getClassTime());
+    }
+
+    private static long classWeeksOf(ClassAssignmentDO assignment) {
+        if (assignment.getClassWeekMask() != null) {
+            return assignment.getClassWeekMask();
+        }
+        return TimeSlotCodec.decodeWeekMask(assignment.getClassTime());
+    }
+
+    /**
+     * 指定上课时间（指定时间不含周次，使用排课周次）
+     */
+    private static TimeSlot specifiedTimeOf(ClassAssignmentDO assignment, long weeks) {
+        if (assignment.getSpecifiedDayPeriods() != null) {
+            return TimeSlotCodec.unpack(weeks, assignment.getSpecifiedDayPeriods());
+        }
+        return TimeSlotCodec.decode(assignment.getSpecifiedTime(), weeks);
+    }
+
+    private static int sizeOf(TeachingClassDO teachingClass) {
+        Integer actual = teachingClass.getActualStudentCount();
+        if (actual != null && actual > 0) {
+            return actual;
+        }
+        return teachingClass.getClassSize() == null ? 0 : teachingClass.getClassSize();
+    }
+
+    /**
+     * 排课求解问题构建器
+     */
+    public static final class Builder {
+        private String schoolUuid;
+        private String semesterUuid;
+        private int daysPerWeek = 5;
+        private int periodsPerDay = 12;
+        private long semesterWeekMask = -1L;
+        private List<ClassAssignmentDO> assignments = List.of();
+        private List<ClassroomDO> classrooms = List.of();
+        private List<TeachingClassDO> teachingClasses = List.of();
+        private List<TeacherPreferencesDO> preferences = List.of();
+        private Map<String, String> teacherOverrides = Map.of();
+        private List<CampusDO> campuses = List.of();
+        private CampusTravelOptions travelOptions = new CampusTravelOptions();
+
+        private Builder() {
+        }
+
+        public Builder schoolUuid(String schoolUuid) {
+            this.schoolUuid = schoolUuid;
+            return this;
+        }
+
+        public Builder semesterUuid(String semesterUuid) {
+            this.semesterUuid = semesterUuid;
+            return this;
+        }
+
+        public Builder daysPerWeek(int daysPerWeek) {
+            this.daysPerWeek = Math.max(1, Math.min(daysPerWeek, SystemConstant.Scheduling.DAYS_PER_WEEK));
+            return this;
+        }
+
+        public Builder periodsPerDay(int periodsPerDay) {
+            this.periodsPerDay = Math.max(1, Math.min(periodsPerDay, SystemConstant.Scheduling.MAX_PERIODS_PER_DAY));
+            return this;
+        }
+
+        /**
+         * 设置学期周数
+         *
+         * @param weekCount 学期周数（1-64）
+         * @return 构建器
+         */
+        public Builder semesterWeeks(int weekCount) {
+            int weeks = Math.max(1, Math.min(weekCount, SystemConstant.Scheduling.MAX_WEEKS));
+            this.semesterWeekMask = weeks == 64 ? -1L : (1L << weeks) - 1;
+            return this;
+        }
+
+        /**
+         * 使用学期快照设置学校、学期、学期周数、排课、教室、教学班、教师偏好和校区
+         *
+         * @param snapshot 学期快照
+         * @return 构建器
+         */
+        public Builder snapshot(SemesterSnapshot snapshot) {
+            return schoolUuid(snapshot.getSchoolUuid())
+                    .semesterUuid(snapshot.getSemesterUuid())
+                    .semesterWeeks(snapshot.weekCount())
+                    .assignments(snapshot.getAssignments())
+                    .classrooms(snapshot.getClassrooms())
+                    .teachingClasses(snapshot.getTeachingClasses())
+                    .preferences(snapshot.getPreferences())
+                    .campuses(snapshot.getCampuses());
+        }
+
+        public Builder assignments(List<ClassAssignmentDO> assignments) {
+            this.assignments = assignments;
+            return this;
+        }
+
+        public Builder classrooms(List<ClassroomDO> classrooms) {
+            this.classrooms = classrooms;
+            return this;
+        }
+
+        public Builder teachingClasses(List<TeachingClassDO> teachingClasses) {
+            this.teachingClasses = teachingClasses;
+            return this;
+        }
+
+        public Builder preferences(List<TeacherPreferencesDO> preferences) {
+            this.preferences = preferences;
+            return this;
+        }
+
+        public Builder campuses(List<CampusDO> campuses) {
+            this.campuses = campuses;
+            return this;
+        }
+
+        /**
+         * 设置跨校区通行约束参数（默认启用、硬约束）
+         *
+         * @param travelOptions 通行参数
+         * @return 构建器
+         */
+        public Builder travel(CampusTravelOptions travelOptions) {
+            this.travelOptions = travelOptions;
+            return this;
+        }
+
+        /**
+         * 为未指定教师的排课设置教师（按教学班，已指定教师的排课不受影响）
+         *
+         * @param teacherByTeachingClass 教学班UUID -> 教师UUID
+         * @return 构建器
+         */
+        public Builder teacherOverrides(Map<String, String> teacherByTeachingClass) {
+            this.teacherOverrides = teacherByTeachingClass;
+            return this;
+        }
+
+        public SchedulingProblem build() {
+            return new SchedulingProblem(this);
+        }
+    }
+}
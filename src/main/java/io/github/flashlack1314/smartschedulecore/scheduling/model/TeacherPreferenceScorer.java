@@ -0,0 +1,404 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherPreferencesDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 预编译的教师偏好评分器（只读，可在求解线程间共享）
+ * <p>
+ * 加载学期时将 {@link TeacherPreferencesDO} 编译为按教师下标访问的位图与阈值：
+ * 每位教师每个星期一个“偏好节次”位图和一个“避免节次”位图，
+ * 偏好校区、偏好教室类型编码为 int，与教室下标对应的校区、类型数组直接比较。
+ * 单次放置的代价只需几次 popcount，不解析 JSON，也不访问实体对象。
+ * </p>
+ * <p>
+ * 每日课程数、连续节数等按天统计的约束由调用方汇总教师当天的课程数与节次位图
+ * （不同周次按星期合并）后调用 {@link #dailyPenalty(int, int, int)}。
+ * </p>
+ *
+ * @author flash
+ */
+public final class TeacherPreferenceScorer {
+
+    /**
+     * 不在偏好时间内的每节课代价
+     */
+    public static final int PREFERRED_TIME_WEIGHT = 1;
+
+    /**
+     * 落在避免时间内的每节课代价
+     */
+    public static final int AVOIDED_TIME_WEIGHT = 3;
+
+    /**
+     * 不在偏好校区的每次课代价
+     */
+    public static final int CAMPUS_WEIGHT = 2;
+
+    /**
+     * 不是偏好教室类型的每次课代价
+     */
+    public static final int ROOM_TYPE_WEIGHT = 1;
+
+    /**
+     * 每日课程数每超出一次的代价
+     */
+    public static final int DAILY_COURSES_WEIGHT = 5;
+
+    /**
+     * 连续节数每超出一节的代价
+     */
+    public static final int CONSECUTIVE_WEIGHT = 5;
+
+    private static final int DAYS = SystemConstant.Scheduling.DAYS_PER_WEEK;
+
+    private static final int ALL_PERIODS = (1 << SystemConstant.Scheduling.MAX_PERIODS_PER_DAY) - 1;
+
+    private static final TeacherPreferenceScorer NONE = new TeacherPreferenceScorer(0, 0);
+
+    private final int teacherCount;
+
+    /**
+     * 教师 × 星期 的偏好节次位图（无偏好时为全 1）
+     */
+    private final int[] preferredPeriods;
+
+    /**
+     * 教师 × 星期 的避免节次位图
+     */
+    private final int[] avoidedPeriods;
+
+    private final int[] preferredCampusOf;
+    private final int[] preferredRoomTypeOf;
+
+    /**
+     * 每日最多课程数（0 表示不限）
+     */
+    private final int[] maxCoursesPerDay;
+
+    /**
+     * 最多连续节数（0 表示不限）
+     */
+    private final int[] maxConsecutive;
+
+    private final int[] roomCampusOf;
+    private final int[] roomTypeOf;
+
+    private TeacherPreferenceScorer(int teacherCount, int roomCount) {
+        this.teacherCount = teacherCount;
+        this.preferredPeriods = new int[teacherCount * DAYS];
+        this.avoidedPeriods = new int[teacherCount * DAYS];
+        this.preferredCampusOf = new int[teacherCount];
+        this.preferredRoomTypeOf = new int[teacherCount];
+        this.maxCoursesPerDay = new int[teacherCount];
+        this.maxConsecutive = new int[teacherCount];
+        this.roomCampusOf = new int[roomCount];
+        this.roomTypeOf = new int[roomCount];
+        Arrays.fill(preferredPeriods, ALL_PERIODS);
+        Arrays.fill(preferredCampusOf, UuidDictionary.ABSENT);
+        Arrays.fill(preferredRoomTypeOf, UuidDictionary.ABSENT);
+    }
+
+    /**
+     * 不含任何偏好的评分器
+     *
+     * @return 评分器（所有代价为 0）
+     */
+    public static TeacherPreferenceScorer none() {
+        return NONE;
+    }
+
+    /**
+     * 编译教师偏好
+     *
+     * @param teacherIds      教师UUID字典（与排课问题的教师下标一致）
+     * @param roomCampusUuids 教室下标对应的校区UUID
+     * @param roomTypeUuids   教室下标对应的教室类型UUID
+     * @param preferences     教师偏好（不在字典中的教师被忽略）
+     * @return 评分器
+     */
+    public static TeacherPreferenceScorer compile(UuidDictionary teacherIds, String[] roomCampusUuids,
+                                                  String[] roomTypeUuids,
+                                                  Collection<TeacherPreferencesDO> preferences) {
+        if (preferences.isEmpty()) {
+            return NONE;
+        }
+        TeacherPreferenceScorer scorer = new TeacherPreferenceScorer(teacherIds.size(), roomCampusUuids.length);
+        UuidDictionary.Builder campuses = UuidDictionary.builder();
+        UuidDictionary.Builder types = UuidDictionary.builder();
+        for (int r = 0; r < roomCampusUuids.length; r++) {
+            scorer.roomCampusOf[r] = internNullable(campuses, roomCampusUuids[r]);
+            scorer.roomTypeOf[r] = internNullable(types, roomTypeUuids[r]);
+        }
+
+        for (TeacherPreferencesDO preference : preferences) {
+            int t = teacherIds.idOf(preference.getTeacherUuid());
+            if (t == UuidDictionary.ABSENT) {
+                continue;
+            }
+            int preferred = preference.getPreferredDayPeriods() != null
+                    ? preference.getPreferredDayPeriods()
+                    : TimeSlotCodec.decodeDayPeriods(preference.getPreferredTime());
+            int avoided = preference.getAvoidedDayPeriods() != null
+                    ? preference.getAvoidedDayPeriods()
+                    : TimeSlotCodec.decodeDayPeriods(preference.getAvoidedTime());
+            for (int d = 0; d < DAYS; d++) {
+                if (TimeSlotCodec.dayMaskOf(preferred) != 0) {
+                    scorer.preferredPeriods[t * DAYS + d] = periodsOn(preferred, d);
+                }
+                scorer.avoidedPeriods[t * DAYS + d] = periodsOn(avoided, d);
+            }
+            if (preference.getPreferredCampusUuid() != null) {
+                scorer.preferredCampusOf[t] = campuses.intern(preference.getPreferredCampusUuid());
+            }
+            if (preference.getPreferredClassroomTypeUuid() != null) {
+                scorer.preferredRoomTypeOf[t] = types.intern(preference.getPreferredClassroomTypeUuid());
+            }
+            scorer.maxCoursesPerDay[t] = positive(preference.getMaxCoursesPerDay());
+            scorer.maxConsecutive[t] = positive(preference.getMaxConsecutiveCourses());
+        }
+        return scorer;
+    }
+
+    /**
+     * 是否没有任何偏好
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return teacherCount == 0;
+    }
+
+    /**
+     * 教师某天的避免节次位图
+     *
+     * @param teacher 教师下标
+     * @param weekday 星期（1-7）
+     * @return 节次位图（无偏好时为 0）
+     */
+    public int avoidedPeriodsOf(int teacher, int weekday) {
+        if (teacher < 0 || teacher >= teacherCount) {
+            return 0;
+        }
+        return avoidedPeriods[teacher * DAYS + weekday - 1];
+    }
+
+    /**
+     * 单次放置的偏好代价（时间、校区、教室类型）
+     *
+     * @param teacher    教师下标
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @param room       教室下标（未安排时为 {@link SchedulingProblem#UNASSIGNED}）
+     * @return 代价
+     */
+    public int placementPenalty(int teacher, int weekday, int periodMask, int room) {
+        if (teacher >= teacherCount) {
+            return 0;
+        }
+        int cell = teacher * DAYS + weekday - 1;
+        int penalty = Integer.bitCount(periodMask & ~preferredPeriods[cell]) * PREFERRED_TIME_WEIGHT
+                + Integer.bitCount(periodMask & avoidedPeriods[cell]) * AVOIDED_TIME_WEIGHT;
+        if (room >= 0) {
+            int campus = preferredCampusOf[teacher];
+            if (campus != UuidDictionary.ABSENT && campus != roomCampusOf[room]) {
+                penalty += CAMPUS_WEIGHT;
+            }
+            int type = preferredRoomTypeOf[teacher];
+            if (type != UuidDictionary.ABSENT && type != roomTypeOf[room]) {
+                penalty += ROOM_TYPE_WEIGHT;
+            }
+        }
+        return penalty;
+    }
+
+    /**
+     * 教师某天的按日代价（每日课程数、连续节数）
+     *
+     * @param teacher    教师下标
+     * @param courses    当天课程数
+     * @param periodMask 当天已占用的节次位图
+     * @return 代价
+     */
+    public int dailyPenalty(int teacher, int courses, int periodMask) {
+        if (teacher >= teacherCount) {
+            return 0;
+        }
+        int penalty = 0;
+        int maxCourses = maxCoursesPerDay[teacher];
+        if (maxCourses > 0 && courses > maxCourses) {
+            penalty += (courses - maxCourses) * DAILY_COURSES_WEIGHT;
+        }
+        int maxRun = maxConsecutive[teacher];
+        if (maxRun > 0) {
+            int run = longestRun(periodMask);
+            if (run > maxRun) {
+                penalty += (run - maxRun) * CONSECUTIVE_WEIGHT;
+            }
+        }
+        return penalty;
+    }
+
+    /**
+     * 计算课表的逐教师满意度明细
+     *
+     * @param problem 排课问题（须为编译本评分器的问题）
+     * @param slots   时间位置数组
+     * @param roomOf  教室下标数组
+     * @return 每位教师的明细（按教师下标顺序）
+     */
+    public List<TeacherSatisfaction> breakdown(SchedulingProblem problem, int[] slots, int[] roomOf) {
+        int teachers = problem.teacherCount();
+        TeacherSatisfaction[] rows = new TeacherSatisfaction[teachers];
+        for (int t = 0; t < teachers; t++) {
+            rows[t] = new TeacherSatisfaction(problem.getTeacherIds().uuidOf(t));
+        }
+        int[] dayCourses = new int[teachers * DAYS];
+        int[] dayPeriods = new int[teachers * DAYS];
+        int[] teacherOf = problem.getTeacherOf();
+        for (int a = 0; a < slots.length; a++) {
+            if (slots[a] == SchedulingProblem.UNASSIGNED) {
+                continue;
+            }
+            int t = teacherOf[a];
+            int weekday = problem.weekdayOf(slots[a]);
+            int periods = problem.periodMaskOf(a, slots[a]);
+            TeacherSatisfaction row = rows[t];
+            row.assignedPeriods += Integer.bitCount(periods);
+            if (t >= teacherCount) {
+                row.satisfiedPeriods += Integer.bitCount(periods);
+            } else {
+                int cell = t * DAYS + weekday - 1;
+                row.satisfiedPeriods += Integer.bitCount(periods & preferredPeriods[cell] & ~avoidedPeriods[cell]);
+                row.outsidePreferredPeriods += Integer.bitCount(periods & ~preferredPeriods[cell]);
+                row.avoidedPeriods += Integer.bitCount(periods & avoidedPeriods[cell]);
+                int room = roomOf[a];
+                if (room >= 0 && preferredCampusOf[t] != UuidDictionary.ABSENT
+                        && preferredCampusOf[t] != roomCampusOf[room]) {
+                    row.campusMisses++;
+                }
+                if (room >= 0 && preferredRoomTypeOf[t] != UuidDictionary.ABSENT
+                        && preferredRoomTypeOf[t] != roomTypeOf[room]) {
+                    row.roomTypeMisses++;
+                }
+                row.penalty += placementPenalty(t, weekday, periods, room);
+            }
+            dayCourses[t * DAYS + weekday - 1]++;
+            dayPeriods[t * DAYS + weekday - 1] |= periods;
+        }
+        for (int t = 0; t < Math.min(teachers, teacherCount); t++) {
+            TeacherSatisfaction row = rows[t];
+            for (int d = 0; d < DAYS; d++) {
+                int cell = t * DAYS + d;
+                if (maxCoursesPerDay[t] > 0 && dayCourses[cell] > maxCoursesPerDay[t]) {
+                    row.overloadedDays++;
+                }
+                if (maxConsecutive[t] > 0) {
+                    row.excessConsecutivePeriods += Math.max(0, longestRun(dayPeriods[cell]) - maxConsecutive[t]);
+                }
+                row.penalty += dailyPenalty(t, dayCourses[cell], dayPeriods[cell]);
+            }
+        }
+        List<TeacherSatisfaction> result = new ArrayList<>(teachers);
+        result.addAll(Arrays.asList(rows));
+        return result;
+    }
+
+    /**
+     * 位图中最长的连续 1 的长度
+     */
+    static int longestRun(int mask) {
+        int run = 0;
+        while (mask != 0) {
+            mask &= mask << 1;
+            run++;
+        }
+        return run;
+    }
+
+    private static int periodsOn(int dayPeriods, int day) {
+        return (TimeSlotCodec.dayMaskOf(dayPeriods) & (1 << day)) != 0 ? TimeSlotCodec.periodMaskOf(dayPeriods) : 0;
+    }
+
+    private static int internNullable(UuidDictionary.Builder builder, String uuid) {
+        return uuid == null ? UuidDictionary.ABSENT : builder.intern(uuid);
+    }
+
+    private static int positive(Integer value) {
+        return value == null || value < 0 ? 0 : value;
+    }
+
+    /**
+     * 单个教师的偏好满足情况
+     */
+    @Getter
+    public static final class TeacherSatisfaction {
+
+        private final String teacherUuid;
+
+        /**
+         * 已安排的总节数
+         */
+        private int assignedPeriods;
+
+        /**
+         * 既在偏好时间内又不在避免时间内的节数
+         */
+        private int satisfiedPeriods;
+
+        /**
+         * 不在偏好时间内的节数
+         */
+        private int outsidePreferredPeriods;
+
+        /**
+         * 落在避免时间内的节数
+         */
+        private int avoidedPeriods;
+
+        /**
+         * 不在偏好校区的课次
+         */
+        private int campusMisses;
+
+        /**
+         * 不是偏好教室类型的课次
+         */
+        private int roomTypeMisses;
+
+        /**
+         * 课程数超出上限的天数
+         */
+        private int overloadedDays;
+
+        /**
+         * 超出连续节数上限的节数合计
+         */
+        private int excessConsecutivePeriods;
+
+        /**
+         * 偏好代价合计
+         */
+        private long penalty;
+
+        private TeacherSatisfaction(String teacherUuid) {
+            this.teacherUuid = teacherUuid;
+        }
+
+        /**
+         * 时间满意度：满足时间偏好的节数占比
+         *
+         * @return 0-1，未安排课程时为 1
+         */
+        public double timeSatisfaction() {
+            return assignedPeriods == 0 ? 1.0 : (double) satisfiedPeriods / assignedPeriods;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 上课时间片
+ * <p>
+ * 以定长位图表示一次上课的周次、星期、节次：
+ * 第 n 周对应周次位图的第 n-1 位，第 n 节对应节次位图的第 n-1 位。
+ * 与 JSON、数据库打包列之间的转换见 {@link TimeSlotCodec}
+ * </p>
+ *
+ * @author flash
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class TimeSlot {
+
+    /**
+     * 空时间片（未排课）
+     */
+    public static final TimeSlot EMPTY = new TimeSlot(0L, 0, 0);
+
+    /**
+     * 周次位图
+     */
+    private final long weekMask;
+
+    /**
+     * 星期（1-7，0 表示未排课）
+     */
+    private final int weekday;
+
+    /**
+     * 节次位图
+     */
+    private final int periodMask;
+
+    private TimeSlot(long weekMask, int weekday, int periodMask) {
+        this.weekMask = weekMask;
+        this.weekday = weekday;
+        this.periodMask = periodMask;
+    }
+
+    /**
+     * 根据位图创建时间片
+     *
+     * @param weekMask   周次位图
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @return 时间片，任一分量为空时返回 {@link #EMPTY}
+     */
+    public static TimeSlot of(long weekMask, int weekday, int periodMask) {
+        if (weekMask == 0L || weekday == 0 || periodMask == 0) {
+            return EMPTY;
+        }
+        if (weekday < 1 || weekday > SystemConstant.Scheduling.DAYS_PER_WEEK) {
+            throw new BusinessException("星期超出范围: " + weekday, ErrorCode.CLASS_TIME_INVALID);
+        }
+        int periodLimit = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+        if ((periodMask >>> periodLimit) != 0) {
+            throw new BusinessException("节次超出范围: 最大" + periodLimit, ErrorCode.CLASS_TIME_INVALID);
+        }
+        return new TimeSlot(weekMask, weekday, periodMask);
+    }
+
+    /**
+     * 是否为空（未排课）
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return weekday == 0;
+    }
+
+    /**
+     * 判断两个时间片是否重叠（同一星期且周次、节次均有交集）
+     *
+     * @param other 另一个时间片
+     * @return 是否重叠
+     */
+    public boolean overlaps(TimeSlot other) {
+        return weekday != 0 && weekday == other.weekday
+                && (weekMask & other.weekMask) != 0L
+                && (periodMask & other.periodMask) != 0;
+    }
+
+    /**
+     * 计算两个时间片的交集
+     *
+     * @param other 另一个时间片
+     * @return 交集时间片，不重叠时返回 {@link #EMPTY}
+     */
+    public TimeSlot intersect(TimeSlot other) {
+        if (!overlaps(other)) {
+            return EMPTY;
+        }
+        return new TimeSlot(weekMask & other.weekMask, weekday, periodMask & other.periodMask);
+    }
+
+    /**
+     * 周次列表（1 起始）
+     *
+     * @return 周次列表
+     */
+    public List<Integer> weeks() {
+        return TimeSlotCodec.toList(weekMask);
+    }
+
+    /**
+     * 节次列表（1 起始）
+     *
+     * @return 节次列表
+     */
+    public List<Integer> periods() {
+        return TimeSlotCodec.toList(periodMask & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,300 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 时间 JSON 与定长位图之间的统一编解码器
+ * <p>
+ * 覆盖以下字段：
+ * <ul>
+ *     <li>class_time、conflict_time：{"weeks": [1, 2], "weekday": 1, "periods": [1, 2]}</li>
+ *     <li>specified_time：{"weekday": 3, "periods": [1, 2]}（无周次）</li>
+ *     <li>preferred_time、avoided_time：{"weekday": [1, 2], "period": [1, 2, 3]}（星期、节次的笛卡尔积）</li>
+ * </ul>
+ * 打包形式为 64 位周次位图 + 32 位“星期节次”位图：
+ * 高 16 位为星期位图（第 d 天对应第 d-1 位），低 16 位为节次位图（第 n 节对应第 n-1 位）。
+ * 数据库生成列 *_week_mask、*_day_periods 由 sql/sc_time_codec.sql 中的
+ * sc_bit_mask、sc_day_periods 函数按相同规则计算，两端必须保持一致。
+ * </p>
+ *
+ * @author flash
+ */
+public final class TimeSlotCodec {
+
+    private static final int DAY_SHIFT = 16;
+
+    private static final int PERIOD_MASK = (1 << DAY_SHIFT) - 1;
+
+    private TimeSlotCodec() {
+    }
+
+    // ========== JSON 解码 ==========
+
+    /**
+     * 解析 class_time / conflict_time
+     *
+     * @param json 时间 JSON 字符串
+     * @return 时间片，空值或未排课时返回 {@link TimeSlot#EMPTY}
+     */
+    public static TimeSlot decode(String json) {
+        return decode(json, 0L);
+    }
+
+    /**
+     * 解析时间 JSON，缺少周次时使用默认周次
+     * <p>用于 specified_time 等只包含星期、节次的字段</p>
+     *
+     * @param json            时间 JSON 字符串
+     * @param defaultWeekMask 缺少 weeks 字段时使用的周次位图
+     * @return 时间片，空值或未排课时返回 {@link TimeSlot#EMPTY}
+     */
+    public static TimeSlot decode(String json, long defaultWeekMask) {
+        JSONObject object = parse(json);
+        if (object == null) {
+            return TimeSlot.EMPTY;
+        }
+        JSONArray weeks = object.getJSONArray("weeks");
+        long weekMask = weeks == null ? defaultWeekMask : toMask(weeks, SystemConstant.Scheduling.MAX_WEEKS);
+        int dayPeriods = dayPeriodsOf(object);
+        int dayMask = dayMaskOf(dayPeriods);
+        if (Integer.bitCount(dayMask) > 1) {
+            throw new BusinessException("上课时间只能包含一个星期: " + json, ErrorCode.CLASS_TIME_INVALID);
+        }
+        return unpack(weekMask, dayPeriods);
+    }
+
+    /**
+     * 解析数据库中已存储的 class_time / conflict_time，格式错误或序号越界时返回 null
+     * <p>
+     * 用于加载路径：生成列函数 sc_bit_mask 会静默忽略越界序号，一行脏数据不应让整学期的加载失败，
+     * 由调用方跳过该行并记录日志；请求参数仍由 {@link #decode(String)}、{@link #maskOf(Collection, int)} 严格校验
+     * </p>
+     *
+     * @param json 时间 JSON 字符串
+     * @return 时间片，空值或未排课时返回 {@link TimeSlot#EMPTY}，无法解析时返回 null
+     */
+    public static TimeSlot decodeOrNull(String json) {
+        try {
+            return decode(json);
+        } catch (BusinessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 仅解析周次（未排课的 class_time 也可能已经确定周次）
+     *
+     * @param json 时间 JSON 字符串
+     * @return 周次位图，缺少周次时返回 0
+     */
+    public static long decodeWeekMask(String json) {
+        JSONObject object = parse(json);
+        return object == null ? 0L : toMask(object.getJSONArray("weeks"), SystemConstant.Scheduling.MAX_WEEKS);
+    }
+
+    /**
+     * 解析为“星期节次”位图，兼容 weekday 为单值或数组、periods / period 两种写法
+     * <p>用于 preferred_time、avoided_time</p>
+     *
+     * @param json 时间 JSON 字符串
+     * @return 星期节次位图，空值返回 0
+     */
+    public static int decodeDayPeriods(String json) {
+        JSONObject object = parse(json);
+        return object == null ? 0 : dayPeriodsOf(object);
+    }
+
+    // ========== JSON 编码 ==========
+
+    /**
+     * 编码为 class_time / conflict_time JSON
+     *
+     * @param slot 时间片
+     * @return JSON 字符串，空时间片返回 null
+     */
+    public static String encode(TimeSlot slot) {
+        if (slot.isEmpty()) {
+            return null;
+        }
+        JSONObject json = new JSONObject();
+        json.set("weeks", slot.weeks());
+        json.set("weekday", slot.getWeekday());
+        json.set("periods", slot.periods());
+        return json.toString();
+    }
+
+    /**
+     * 编码为 preferred_time / avoided_time JSON
+     *
+     * @param dayPeriods 星期节次位图
+     * @return JSON 字符串，空位图返回 null
+     */
+    public static String encodeDayPeriods(int dayPeriods) {
+        if (dayMaskOf(dayPeriods) == 0 || periodMaskOf(dayPeriods) == 0) {
+            return null;
+        }
+        JSONObject json = new JSONObject();
+        json.set("weekday", toList(dayMaskOf(dayPeriods)));
+        json.set("period", toList(periodMaskOf(dayPeriods)));
+        return json.toString();
+    }
+
+    // ========== 打包形式 ==========
+
+    /**
+     * 时间片的“星期节次”位图
+     *
+     * @param slot 时间片
+     * @return 星期节次位图，空时间片返回 0
+     */
+    public static int pack(TimeSlot slot) {
+        if (slot.isEmpty()) {
+            return 0;
+        }
+        return (1 << (slot.getWeekday() - 1)) << DAY_SHIFT | slot.getPeriodMask();
+    }
+
+    /**
+     * 将 1 起始的序号集合转换为位图
+     *
+     * @param values 序号集合（周次或节次）
+     * @param limit  最大序号
+     * @return 位图
+     */
+    public static long maskOf(Collection<Integer> values, int limit) {
+        long mask = 0L;
+        for (Integer value : values) {
+            if (value == null || value < 1 || value > limit) {
+                throw new BusinessException("序号超出范围 1-" + limit + ": " + value, ErrorCode.CLASS_TIME_INVALID);
+            }
+            mask |= 1L << (value - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * 由周次位图与“星期节次”位图还原时间片
+     *
+     * @param weekMask   周次位图
+     * @param dayPeriods 星期节次位图（只能包含一个星期）
+     * @return 时间片
+     */
+    public static TimeSlot unpack(long weekMask, int dayPeriods) {
+        int dayMask = dayMaskOf(dayPeriods);
+        int weekday = dayMask == 0 ? 0 : Integer.numberOfTrailingZeros(dayMask) + 1;
+        return TimeSlot.of(weekMask, weekday, periodMaskOf(dayPeriods));
+    }
+
+    /**
+     * 星期位图（第 d 天对应第 d-1 位）
+     *
+     * @param dayPeriods 星期节次位图
+     * @return 星期位图
+     */
+    public static int dayMaskOf(int dayPeriods) {
+        return dayPeriods >>> DAY_SHIFT;
+    }
+
+    /**
+     * 节次位图（第 n 节对应第 n-1 位）
+     *
+     * @param dayPeriods 星期节次位图
+     * @return 节次位图
+     */
+    public static int periodMaskOf(int dayPeriods) {
+        return dayPeriods & PERIOD_MASK;
+    }
+
+    /**
+     * 判断“星期节次”位图是否覆盖指定星期的指定节次
+     *
+     * @param dayPeriods 星期节次位图
+     * @param weekday    星期（1-7）
+     * @param periodMask 节次位图
+     * @return 是否有交集
+     */
+    public static boolean covers(int dayPeriods, int weekday, int periodMask) {
+        return (dayMaskOf(dayPeriods) & (1 << (weekday - 1))) != 0 && (periodMaskOf(dayPeriods) & periodMask) != 0;
+    }
+
+    /**
+     * 时间网格单元序号（与数据库函数 sc_time_cells 的展开规则一致）
+     *
+     * @param weekday 星期（1-7）
+     * @param period  节次（1 起始）
+     * @return 单元序号
+     */
+    public static int cellOf(int weekday, int period) {
+        return (weekday - 1) * SystemConstant.Scheduling.MAX_PERIODS_PER_DAY + (period - 1);
+    }
+
+    // ========== 内部方法 ==========
+
+    private static JSONObject parse(String json) {
+        if (!StringUtils.hasText(json)) {
+            return null;
+        }
+        try {
+            return JSONUtil.parseObj(json);
+        } catch (Exception e) {
+            throw new BusinessException("无法解析时间: " + json, ErrorCode.CLASS_TIME_INVALID);
+        }
+    }
+
+    private static int dayPeriodsOf(JSONObject object) {
+        Object weekday = object.get("weekday");
+        int dayMask;
+        if (weekday == null || (weekday instanceof Number number && number.intValue() == 0)) {
+            // 未排课的 class_time 可能以 weekday 为 0 表示
+            dayMask = 0;
+        } else if (weekday instanceof JSONArray days) {
+            dayMask = (int) toMask(days, SystemConstant.Scheduling.DAYS_PER_WEEK);
+        } else {
+            dayMask = (int) toMask(new JSONArray().set(weekday), SystemConstant.Scheduling.DAYS_PER_WEEK);
+        }
+        JSONArray periods = object.containsKey("periods") ? object.getJSONArray("periods") : object.getJSONArray("period");
+        int periodMask = (int) toMask(periods, SystemConstant.Scheduling.MAX_PERIODS_PER_DAY);
+        return dayMask << DAY_SHIFT | periodMask;
+    }
+
+    /**
+     * 将 1 起始的序号数组转换为位图
+     */
+    private static long toMask(JSONArray values, int limit) {
+        if (values == null) {
+            return 0L;
+        }
+        List<Integer> list;
+        try {
+            list = values.toList(Integer.class);
+        } catch (Exception e) {
+            throw new BusinessException("序号格式错误: " + values, ErrorCode.CLASS_TIME_INVALID);
+        }
+        return maskOf(list, limit);
+    }
+
+    /**
+     * 位图转换为 1 起始的序号列表
+     *
+     * @param mask 位图
+     * @return 序号列表
+     */
+    static List<Integer> toList(long mask) {
+        List<Integer> values = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0L) {
+            values.add(Long.numberOfTrailingZeros(mask) + 1);
+            mask &= mask - 1;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.model;
+
+import java.util.Arrays;
+
+/**
+ * 课表解
+ * <p>
+ * 以两个定长 int 数组表示：slots[a] 为排课 a 的时间位置，rooms[a] 为教室下标，
+ * 未安排时均为 {@link SchedulingProblem#UNASSIGNED}。
+ * </p>
+ *
+ * @author flash
+ */
+public final class Timetable {
+
+    private final int[] slots;
+
+    private final int[] rooms;
+
+    public Timetable(int assignmentCount) {
+        this.slots = new int[assignmentCount];
+        this.rooms = new int[assignmentCount];
+        Arrays.fill(slots, SchedulingProblem.UNASSIGNED);
+        Arrays.fill(rooms, SchedulingProblem.UNASSIGNED);
+    }
+
+    private Timetable(int[] slots, int[] rooms) {
+        this.slots = slots;
+        this.rooms = rooms;
+    }
+
+    /**
+     * 以数据库中现有的上课时间和教室作为初始解
+     *
+     * @param problem 排课问题
+     * @return 初始课表
+     */
+    public static Timetable initial(SchedulingProblem problem) {
+        int[] slots = problem.getInitialSlotOf().clone();
+        int[] rooms = problem.getInitialRoomOf().clone();
+        for (int a = 0; a < slots.length; a++) {
+            if (rooms[a] == SchedulingProblem.UNASSIGNED) {
+                slots[a] = SchedulingProblem.UNASSIGNED;
+            }
+        }
+        return new Timetable(slots, rooms);
+    }
+
+    /**
+     * 由数组直接构造（不复制）
+     *
+     * @param slots 时间位置数组
+     * @param rooms 教室下标数组
+     * @return 课表
+     */
+    public static Timetable wrap(int[] slots, int[] rooms) {
+        return new Timetable(slots, rooms);
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    public int slotOf(int assignment) {
+        return slots[assignment];
+    }
+
+    public int roomOf(int assignment) {
+        return rooms[assignment];
+    }
+
+    public boolean isAssigned(int assignment) {
+        return slots[assignment] != SchedulingProblem.UNASSIGNED && rooms[assignment] != SchedulingProblem.UNASSIGNED;
+    }
+
+    public void assign(int assignment, int slot, int room) {
+        slots[assignment] = slot;
+        rooms[assignment] = room;
+    }
+
+    public void unassign(int assignment) {
+        slots[assignment] = SchedulingProblem.UNASSIGNED;
+        rooms[assignment] = SchedulingProblem.UNASSIGNED;
+    }
+
+    /**
+     * 已安排的排课数量
+     *
+     * @return 已安排数量
+     */
+    public int assignedCount() {
+        int count = 0;
+        for (int a = 0; a < slots.length; a++) {
+            if (isAssigned(a)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 时间位置数组（直接引用，供求解器使用）
+     *
+     * @return 时间位置数组
+     */
+    public int[] slots() {
+        return slots;
+    }
+
+    /**
+     * 教室下标数组（直接引用，供求解器使用）
+     *
+     * @return 教室下标数组
+     */
+    public int[] rooms() {
+        return rooms;
+    }
+
+    /**
+     * 深拷贝
+     *
+     * @return 新课表
+     */
+    public Timetable copy() {
+        return new Timetable(slots.clone(), rooms.clone());
+    }
+}
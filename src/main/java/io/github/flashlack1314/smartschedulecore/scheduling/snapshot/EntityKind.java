@@ -0,0 +1,31 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.snapshot;
+
+import lombok.Getter;
+
+/**
+ * 快照字典覆盖的实体类型
+ *
+ * @author flash
+ */
+@Getter
+public enum EntityKind {
+
+    TEACHER("教师"),
+    CLASSROOM("教室"),
+    TEACHING_CLASS("教学班"),
+    COURSE("课程"),
+    CLASS_ASSIGNMENT("排课"),
+    CAMPUS("校区"),
+    BUILDING("教学楼"),
+    DEPARTMENT("院系"),
+    CLASSROOM_TYPE("教室类型");
+
+    /**
+     * 实体名称
+     */
+    private final String label;
+
+    EntityKind(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,274 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.snapshot;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.CampusDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.CourseDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SemesterDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherCourseQualificationDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherPreferencesDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 学期排课数据快照（只读，可在求解线程间共享）
+ * <p>
+ * 一次性流式加载一个学期求解所需的全部数据：教师、教室、教学班、课程、排课、教师偏好、授课资格与校区。
+ * 每类数据只查询排课用到的列，按主键有序；所有集合均不可修改，
+ * 快照中的实体对象同样视为只读，调用方不得修改其字段。
+ * 每类实体的 UUID 另外登记到 {@link UuidDictionary}：主表记录按加载顺序编号（编号即列表下标），
+ * 其后再登记其它记录中引用到的外键，热点结构可直接使用编号。
+ * </p>
+ *
+ * @author flash
+ */
+@Getter
+public final class SemesterSnapshot {
+
+    /**
+     * 学期日期缺失时的默认周数
+     */
+    private static final int DEFAULT_WEEK_COUNT = 20;
+
+    private final String schoolUuid;
+    private final String semesterUuid;
+    private final SemesterDO semester;
+
+    private final List<TeacherDO> teachers;
+    private final List<ClassroomDO> classrooms;
+    private final List<TeachingClassDO> teachingClasses;
+    private final List<CourseDO> courses;
+    private final List<ClassAssignmentDO> assignments;
+    private final List<TeacherPreferencesDO> preferences;
+    private final List<TeacherCourseQualificationDO> qualifications;
+    private final List<CampusDO> campuses;
+
+    private final Map<String, TeacherDO> teacherByUuid;
+    private final Map<String, ClassroomDO> classroomByUuid;
+    private final Map<String, TeachingClassDO> teachingClassByUuid;
+    private final Map<String, CourseDO> courseByUuid;
+
+    /**
+     * 教师UUID -> 教师偏好
+     */
+    private final Map<String, TeacherPreferencesDO> preferenceByTeacher;
+
+    /**
+     * 课程UUID -> 授课资格列表
+     */
+    private final Map<String, List<TeacherCourseQualificationDO>> qualificationsByCourse;
+
+    /**
+     * 实体类型 -> UUID 字典
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<EntityKind, UuidDictionary> dictionaries;
+
+    /**
+     * 加载耗时（毫秒）
+     */
+    private final long loadMillis;
+
+    private SemesterSnapshot(Builder builder, long loadMillis) {
+        this.schoolUuid = builder.semester.getSchoolUuid();
+        this.semesterUuid = builder.semester.getSemesterUuid();
+        this.semester = builder.semester;
+        this.teachers = List.copyOf(builder.teachers);
+        this.classrooms = List.copyOf(builder.classrooms);
+        this.teachingClasses = List.copyOf(builder.teachingClasses);
+        this.courses = List.copyOf(builder.courses);
+        this.assignments = List.copyOf(builder.assignments);
+        this.preferences = List.copyOf(builder.preferences);
+        this.qualifications = List.copyOf(builder.qualifications);
+        this.campuses = List.copyOf(builder.campuses);
+
+        this.teacherByUuid = index(teachers, TeacherDO::getTeacherUuid);
+        this.classroomByUuid = index(classrooms, ClassroomDO::getClassroomUuid);
+        this.teachingClassByUuid = index(teachingClasses, TeachingClassDO::getTeachingClassUuid);
+        this.courseByUuid = index(courses, CourseDO::getCourseUuid);
+        this.preferenceByTeacher = index(preferences, TeacherPreferencesDO::getTeacherUuid);
+
+        Map<String, List<TeacherCourseQualificationDO>> byCourse = new HashMap<>();
+        for (TeacherCourseQualificationDO qualification : qualifications) {
+            byCourse.computeIfAbsent(qualification.getCourseUuid(), key -> new ArrayList<>()).add(qualification);
+        }
+        byCourse.replaceAll((course, list) -> List.copyOf(list));
+        this.qualificationsByCourse = Collections.unmodifiableMap(byCourse);
+        this.dictionaries = buildDictionaries();
+        this.loadMillis = loadMillis;
+    }
+
+    /**
+     * 创建快照构建器
+     *
+     * @param semester 学期（决定快照所属的学校与学期）
+     * @return 构建器
+     */
+    public static Builder builder(SemesterDO semester) {
+        return new Builder(semester);
+    }
+
+    /**
+     * 学期周数（按开始、结束日期向上取整，日期缺失时为 20 周）
+     *
+     * @return 周数
+     */
+    public int weekCount() {
+        if (semester.getStartDate() == null || semester.getEndDate() == null) {
+            return DEFAULT_WEEK_COUNT;
+        }
+        long days = ChronoUnit.DAYS.between(semester.getStartDate(), semester.getEndDate()) + 1;
+        return (int) Math.max(1, (days + 6) / 7);
+    }
+
+    /**
+     * 实体类型的 UUID 字典
+     *
+     * @param kind 实体类型
+     * @return 字典
+     */
+    public UuidDictionary dictionary(EntityKind kind) {
+        return dictionaries.get(kind);
+    }
+
+    private Map<EntityKind, UuidDictionary> buildDictionaries() {
+        Map<EntityKind, UuidDictionary.Builder> builders = new EnumMap<>(EntityKind.class);
+        for (EntityKind kind : EntityKind.values()) {
+            builders.put(kind, UuidDictionary.builder());
+        }
+        // 主键优先，保证编号与列表下标一致
+        teachers.forEach(row -> intern(builders, EntityKind.TEACHER, row.getTeacherUuid()));
+        classrooms.forEach(row -> intern(builders, EntityKind.CLASSROOM, row.getClassroomUuid()));
+        teachingClasses.forEach(row -> intern(builders, EntityKind.TEACHING_CLASS, row.getTeachingClassUuid()));
+        courses.forEach(row -> intern(builders, EntityKind.COURSE, row.getCourseUuid()));
+        assignments.forEach(row -> intern(builders, EntityKind.CLASS_ASSIGNMENT, row.getClassAssignmentUuid()));
+        campuses.forEach(row -> intern(builders, EntityKind.CAMPUS, row.getCampusUuid()));
+
+        for (TeacherDO row : teachers) {
+            intern(builders, EntityKind.DEPARTMENT, row.getDepartmentUuid());
+        }
+        for (ClassroomDO row : classrooms) {
+            intern(builders, EntityKind.CAMPUS, row.getCampusUuid());
+            intern(builders, EntityKind.BUILDING, row.getBuildingUuid());
+            intern(builders, EntityKind.CLASSROOM_TYPE, row.getClassroomTypeUuid());
+        }
+        for (TeachingClassDO row : teachingClasses) {
+            intern(builders, EntityKind.COURSE, row.getCourseUuid());
+            intern(builders, EntityKind.DEPARTMENT, row.getDepartmentUuid());
+        }
+        for (CourseDO row : courses) {
+            intern(builders, EntityKind.DEPARTMENT, row.getDepartmentUuid());
+        }
+        for (ClassAssignmentDO row : assignments) {
+            intern(builders, EntityKind.TEACHER, row.getTeacherUuid());
+            intern(builders, EntityKind.CLASSROOM, row.getClassroomUuid());
+            intern(builders, EntityKind.TEACHING_CLASS, row.getTeachingClassUuid());
+            intern(builders, EntityKind.COURSE, row.getCourseUuid());
+            intern(builders, EntityKind.CAMPUS, row.getCampusUuid());
+            intern(builders, EntityKind.BUILDING, row.getBuildingUuid());
+            intern(builders, EntityKind.CLASSROOM_TYPE, row.getClassroomTypeUuid());
+        }
+        for (TeacherPreferencesDO row : preferences) {
+            intern(builders, EntityKind.TEACHER, row.getTeacherUuid());
+            intern(builders, EntityKind.CAMPUS, row.getPreferredCampusUuid());
+            intern(builders, EntityKind.CLASSROOM_TYPE, row.getPreferredClassroomTypeUuid());
+        }
+        for (TeacherCourseQualificationDO row : qualifications) {
+            intern(builders, EntityKind.TEACHER, row.getTeacherUuid());
+            intern(builders, EntityKind.COURSE, row.getCourseUuid());
+        }
+
+        Map<EntityKind, UuidDictionary> result = new EnumMap<>(EntityKind.class);
+        builders.forEach((kind, builder) -> result.put(kind, builder.build()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static void intern(Map<EntityKind, UuidDictionary.Builder> builders, EntityKind kind, String uuid) {
+        if (uuid != null) {
+            builders.get(kind).intern(uuid);
+        }
+    }
+
+    private static <T> Map<String, T> index(List<T> rows, Function<T, String> key) {
+        Map<String, T> map = new HashMap<>(Math.max(16, rows.size() * 4 / 3 + 1));
+        for (T row : rows) {
+            map.putIfAbsent(key.apply(row), row);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 快照构建器
+     * <p>各 add 方法可直接作为流式查询的行处理器；构建器本身非线程安全</p>
+     */
+    public static final class Builder {
+        private final long startNanos = System.nanoTime();
+        private final SemesterDO semester;
+        private final List<TeacherDO> teachers = new ArrayList<>();
+        private final List<ClassroomDO> classrooms = new ArrayList<>();
+        private final List<TeachingClassDO> teachingClasses = new ArrayList<>();
+        private final List<CourseDO> courses = new ArrayList<>();
+        private final List<ClassAssignmentDO> assignments = new ArrayList<>();
+        private final List<TeacherPreferencesDO> preferences = new ArrayList<>();
+        private final List<TeacherCourseQualificationDO> qualifications = new ArrayList<>();
+        private final List<CampusDO> campuses = new ArrayList<>();
+
+        private Builder(SemesterDO semester) {
+            this.semester = semester;
+        }
+
+        public void addTeacher(TeacherDO teacher) {
+            teachers.add(teacher);
+        }
+
+        public void addClassroom(ClassroomDO classroom) {
+            classrooms.add(classroom);
+        }
+
+        public void addTeachingClass(TeachingClassDO teachingClass) {
+            teachingClasses.add(teachingClass);
+        }
+
+        public void addCourse(CourseDO course) {
+            courses.add(course);
+        }
+
+        public void addAssignment(ClassAssignmentDO assignment) {
+            assignments.add(assignment);
+        }
+
+        public void addPreference(TeacherPreferencesDO preference) {
+            preferences.add(preference);
+        }
+
+        public void addQualification(TeacherCourseQualificationDO qualification) {
+            qualifications.add(qualification);
+        }
+
+        public void addCampus(CampusDO campus) {
+            campuses.add(campus);
+        }
+
+        /**
+         * 构建快照（复制已添加的数据，之后对构建器的修改不影响快照）
+         *
+         * @return 只读快照
+         */
+        public SemesterSnapshot build() {
+            long elapsed = (System.nanoTime() - startNanos) / 1_000_000;
+            return new SemesterSnapshot(this, elapsed);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 模拟退火参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class AnnealingOptions {
+
+    /**
+     * 降温方式
+     */
+    private CoolingSchedule cooling = CoolingSchedule.GEOMETRIC;
+
+    /**
+     * 初始温度
+     */
+    private double initialTemperature = 5.0;
+
+    /**
+     * 终止温度
+     */
+    private double finalTemperature = 0.05;
+
+    /**
+     * 交换移动所占比例（其余为单个排课的时间、教室移动）
+     */
+    private double swapRate = 0.3;
+
+    /**
+     * 最大迭代次数
+     */
+    private long maxIterations = 50_000_000L;
+
+    /**
+     * 时间预算（毫秒）
+     */
+    private long timeLimitMillis = 30_000L;
+
+    /**
+     * 随机种子
+     */
+    private long seed = 20240901L;
+
+    /**
+     * 降温方式
+     * <p>温度随进度（已用时间与迭代次数占预算比例的较大者）从初始温度降到终止温度</p>
+     */
+    public enum CoolingSchedule {
+        /**
+         * 几何降温：T = T0 × (T1 / T0)^进度
+         */
+        GEOMETRIC,
+        /**
+         * 线性降温：T = T0 + (T1 - T0) × 进度
+         */
+        LINEAR
+    }
+}
@@ -0,0 +1,277 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.CourseDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * 按院系分解求解
+ * <p>
+ * 排课按教学班所属院系（缺失时取课程所属院系，仍缺失的归入公共分区）划分为若干分区，
+ * 每个分区只使用本院系管理的教室和未归属任何参与分区院系的公共教室。
+ * 各分区构造为独立的子问题并行求解，结果按 UUID 映射回全校问题合并；
+ * 分区内部已经无冲突，合并后的冲突只可能来自跨院系共享的资源（公共教室、跨院系授课的教师、
+ * 多院系共用的行政班），最后对全校问题执行一次 {@link GreedyScheduler#repair} 消解这些冲突。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class DepartmentDecomposer {
+
+    /**
+     * 没有院系归属的排课所在的分区
+     */
+    public static final String PUBLIC_PARTITION = "public";
+
+    private final Executor executor;
+
+    /**
+     * @param executor 并行求解各分区的线程池（每个分区占用一个线程）
+     */
+    public DepartmentDecomposer(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 按院系划分学期快照中的排课与教室
+     *
+     * @param snapshot 学期快照
+     * @return 分区列表（按院系UUID排序，公共分区在最后）
+     */
+    public static List<Partition> partition(SemesterSnapshot snapshot) {
+        Map<String, List<ClassAssignmentDO>> byDepartment = new TreeMap<>();
+        List<ClassAssignmentDO> shared = new ArrayList<>();
+        for (ClassAssignmentDO assignment : snapshot.getAssignments()) {
+            String department = departmentOf(snapshot, assignment);
+            if (department == null) {
+                shared.add(assignment);
+            } else {
+                byDepartment.computeIfAbsent(department, key -> new ArrayList<>()).add(assignment);
+            }
+        }
+
+        Set<String> departments = byDepartment.keySet();
+        Map<String, List<ClassroomDO>> managedRooms = new TreeMap<>();
+        List<ClassroomDO> publicRooms = new ArrayList<>();
+        for (ClassroomDO room : snapshot.getClassrooms()) {
+            String department = room.getManagementDepartmentUuid();
+            if (department != null && departments.contains(department)) {
+                managedRooms.computeIfAbsent(department, key -> new ArrayList<>()).add(room);
+            } else {
+                publicRooms.add(room);
+            }
+        }
+
+        List<Partition> partitions = new ArrayList<>(byDepartment.size() + 1);
+        for (Map.Entry<String, List<ClassAssignmentDO>> entry : byDepartment.entrySet()) {
+            List<ClassroomDO> rooms = new ArrayList<>(managedRooms.getOrDefault(entry.getKey(), List.of()));
+            rooms.addAll(publicRooms);
+            partitions.add(new Partition(entry.getKey(), entry.getValue(), rooms));
+        }
+        if (!shared.isEmpty()) {
+            partitions.add(new Partition(null, shared, publicRooms));
+        }
+        return partitions;
+    }
+
+    /**
+     * 并行求解各分区并合并
+     *
+     * @param problem     全校排课问题
+     * @param seed        全校种子课表（不会被修改）
+     * @param partitions  分区列表
+     * @param subProblems 由分区构造子问题（时间网格须与全校问题一致）
+     * @param solver      子问题求解器
+     * @param control     进度与停止控制（各分区使用只汇报进度的子控制器）
+     * @return 合并并修复后的课表及分解统计
+     */
+    public Result solve(SchedulingProblem problem, Timetable seed, List<Partition> partitions,
+                        Function<Partition, SchedulingProblem> subProblems, PartitionSolver solver,
+                        SolveControl control) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Timetable>> futures = new ArrayList<>(partitions.size());
+        List<SchedulingProblem> built = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            SchedulingProblem sub = subProblems.apply(partition);
+            if (sub.getDaysPerWeek() != problem.getDaysPerWeek()
+                    || sub.getPeriodsPerDay() != problem.getPeriodsPerDay()) {
+                throw new IllegalArgumentException("子问题的时间网格与全校问题不一致");
+            }
+            built.add(sub);
+            Timetable subSeed = project(problem, seed, sub);
+            SolveControl child = control.child();
+            futures.add(CompletableFuture.supplyAsync(() -> solver.solve(sub, subSeed, child), executor));
+        }
+
+        Timetable merged = seed.copy();
+        for (int p = 0; p < partitions.size(); p++) {
+            Timetable result;
+            try {
+                result = futures.get(p).join();
+            } catch (CompletionException e) {
+                // 失败分区的排课保持种子状态，由最后的修复统一补排
+                log.error("院系分区求解失败: department={}", partitions.get(p).label(), e.getCause());
+                continue;
+            }
+            merge(problem, built.get(p), result, merged);
+        }
+
+        Timetable repaired = new GreedyScheduler().repair(problem, merged);
+        int reconciled = 0;
+        for (int a = 0; a < repaired.size(); a++) {
+            if (repaired.slotOf(a) != merged.slotOf(a) || repaired.roomOf(a) != merged.roomOf(a)) {
+                reconciled++;
+            }
+        }
+        log.info("院系分解求解结束: partitions={}, reconciled={}, cost={}ms", partitions.size(), reconciled,
+                (System.nanoTime() - start) / 1_000_000L);
+        return new Result(repaired, partitions.size(), reconciled);
+    }
+
+    /**
+     * 把全校种子课表投影到子问题（教室不在分区内的排课视为未安排）
+     */
+    private static Timetable project(SchedulingProblem problem, Timetable seed, SchedulingProblem sub) {
+        Timetable subSeed = new Timetable(sub.assignmentCount());
+        for (int s = 0; s < sub.assignmentCount(); s++) {
+            int a = problem.getAssignmentIds().idOf(sub.getAssignmentIds().uuidOf(s));
+            if (a == UuidDictionary.ABSENT || !seed.isAssigned(a)) {
+                continue;
+            }
+            int room = sub.getRoomIds().idOf(problem.getRoomIds().uuidOf(seed.roomOf(a)));
+            if (room != UuidDictionary.ABSENT) {
+                subSeed.assign(s, seed.slotOf(a), room);
+            }
+        }
+        return subSeed;
+    }
+
+    /**
+     * 把子问题的结果按 UUID 写回全校课表
+     */
+    private static void merge(SchedulingProblem problem, SchedulingProblem sub, Timetable result, Timetable merged) {
+        for (int s = 0; s < sub.assignmentCount(); s++) {
+            int a = problem.getAssignmentIds().idOf(sub.getAssignmentIds().uuidOf(s));
+            if (a == UuidDictionary.ABSENT) {
+                continue;
+            }
+            int room = result.isAssigned(s)
+                    ? problem.getRoomIds().idOf(sub.getRoomIds().uuidOf(result.roomOf(s)))
+                    : UuidDictionary.ABSENT;
+            if (room == UuidDictionary.ABSENT) {
+                merged.unassign(a);
+            } else {
+                merged.assign(a, result.slotOf(s), room);
+            }
+        }
+    }
+
+    private static String departmentOf(SemesterSnapshot snapshot, ClassAssignmentDO assignment) {
+        TeachingClassDO teachingClass = snapshot.getTeachingClassByUuid().get(assignment.getTeachingClassUuid());
+        if (teachingClass != null && teachingClass.getDepartmentUuid() != null) {
+            return teachingClass.getDepartmentUuid();
+        }
+        CourseDO course = snapshot.getCourseByUuid().get(assignment.getCourseUuid());
+        return course == null ? null : course.getDepartmentUuid();
+    }
+
+    /**
+     * 子问题求解器
+     */
+    @FunctionalInterface
+    public interface PartitionSolver {
+
+        /**
+         * 求解子问题
+         *
+         * @param problem 子问题
+         * @param seed    子问题种子课表
+         * @param control 进度与停止控制
+         * @return 无冲突的子问题课表
+         */
+        Timetable solve(SchedulingProblem problem, Timetable seed, SolveControl control);
+    }
+
+    /**
+     * 院系分区
+     */
+    @Getter
+    public static final class Partition {
+
+        /**
+         * 院系UUID（公共分区为 null）
+         */
+        private final String departmentUuid;
+
+        /**
+         * 分区内的排课
+         */
+        private final List<ClassAssignmentDO> assignments;
+
+        /**
+         * 分区可用的教室（本院系管理的教室 + 公共教室）
+         */
+        private final List<ClassroomDO> classrooms;
+
+        private Partition(String departmentUuid, List<ClassAssignmentDO> assignments, List<ClassroomDO> classrooms) {
+            this.departmentUuid = departmentUuid;
+            this.assignments = assignments;
+            this.classrooms = classrooms;
+        }
+
+        /**
+         * 分区名称（院系UUID或 {@link #PUBLIC_PARTITION}）
+         *
+         * @return 名称
+         */
+        public String label() {
+            return departmentUuid == null ? PUBLIC_PARTITION : departmentUuid;
+        }
+    }
+
+    /**
+     * 分解求解结果
+     */
+    @Getter
+    public static final class Result {
+
+        /**
+         * 合并并修复后的全校课表
+         */
+        private final Timetable timetable;
+
+        /**
+         * 分区数
+         */
+        private final int partitionCount;
+
+        /**
+         * 最后修复阶段因跨院系共享资源冲突而调整的排课数
+         */
+        private final int reconciledCount;
+
+        private Result(Timetable timetable, int partitionCount, int reconciledCount) {
+            this.timetable = timetable;
+            this.partitionCount = partitionCount;
+            this.reconciledCount = reconciledCount;
+        }
+    }
+}
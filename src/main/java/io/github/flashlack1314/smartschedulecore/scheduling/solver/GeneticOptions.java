@@ -0,0 +1,64 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 岛屿模型遗传算法参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class GeneticOptions {
+
+    /**
+     * 岛屿（子种群）数量，0 表示与并行度相同
+     */
+    private int islands = 0;
+
+    /**
+     * 每个岛屿的种群大小
+     */
+    private int populationSize = 40;
+
+    /**
+     * 最大进化代数
+     */
+    private int generations = 500;
+
+    /**
+     * 迁移间隔（代）
+     */
+    private int migrationInterval = 25;
+
+    /**
+     * 每次迁移的精英个体数量
+     */
+    private int migrationSize = 2;
+
+    /**
+     * 每个基因的变异概率
+     */
+    private double mutationRate = 0.02;
+
+    /**
+     * 每代直接保留的精英个体数量
+     */
+    private int eliteCount = 2;
+
+    /**
+     * 锦标赛选择规模
+     */
+    private int tournamentSize = 3;
+
+    /**
+     * 时间预算（毫秒）
+     */
+    private long timeLimitMillis = 30_000L;
+
+    /**
+     * 随机种子（相同种子与并行度下结果可复现）
+     */
+    private long seed = 20240901L;
+}
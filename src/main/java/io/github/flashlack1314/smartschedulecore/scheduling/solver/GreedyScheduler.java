@@ -0,0 +1,184 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ResourceGrid;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelMatrix;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 贪心构造排课器
+ * <p>
+ * 按约束紧度对排课排序后逐个放入第一个可行的（时间位置, 教室）：
+ * 固定时间优先，其次排课优先级（数值越小越优先），再按候选教室越少、
+ * 连堂节数越长、教学班人数越多优先。
+ * 跨校区通行为硬约束时，教师或行政班来不及往返的教室视为不可行。
+ * 结果可直接作为模拟退火、遗传算法等优化器的初始解。
+ * </p>
+ *
+ * @author flash
+ */
+public class GreedyScheduler {
+
+    /**
+     * 从空课表开始构造
+     *
+     * @param problem 排课问题
+     * @return 课表（无法安排的排课保持未安排状态）
+     */
+    public Timetable solve(SchedulingProblem problem) {
+        return solve(problem, new Timetable(problem.assignmentCount()));
+    }
+
+    /**
+     * 在已有课表基础上补全未安排的排课（已安排的排课保持不动）
+     *
+     * @param problem 排课问题
+     * @param seed    初始课表（会被复制）
+     * @return 课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed) {
+        Timetable timetable = seed.copy();
+        ResourceGrid teachers = new ResourceGrid(problem.teacherCount());
+        ResourceGrid classes = new ResourceGrid(problem.teachingClassCount());
+        ResourceGrid rooms = new ResourceGrid(problem.roomCount());
+        ResourceGrid cohorts = new ResourceGrid(problem.administrativeClassCount());
+        CampusTravelMatrix travel = problem.getCampusTravel();
+        boolean checkTravel = travel.isHard() && !travel.isEmpty();
+        ResourceGrid teacherCampuses = travel.newGrid(problem.teacherCount());
+        ResourceGrid cohortCampuses = travel.newGrid(problem.administrativeClassCount());
+
+        int[] teacherOf = problem.getTeacherOf();
+        int[] classOf = problem.getTeachingClassOf();
+        long[] weeksOf = problem.getWeeksOf();
+        int[][] cohortsOf = problem.getAdministrativeClassesOf();
+
+        for (int a = 0; a < timetable.size(); a++) {
+            if (timetable.isAssigned(a)) {
+                int slot = timetable.slotOf(a);
+                int room = timetable.roomOf(a);
+                int weekday = problem.weekdayOf(slot);
+                int periods = problem.periodMaskOf(a, slot);
+                teachers.occupy(teacherOf[a], weekday, periods, weeksOf[a]);
+                classes.occupy(classOf[a], weekday, periods, weeksOf[a]);
+                rooms.occupy(room, weekday, periods, weeksOf[a]);
+                cohorts.occupy(cohortsOf[a], weekday, periods, weeksOf[a]);
+                travel.occupy(teacherCampuses, teacherOf[a], room, weekday, periods, weeksOf[a]);
+                travel.occupy(cohortCampuses, cohortsOf[a], room, weekday, periods, weeksOf[a]);
+            }
+        }
+
+        for (int a : order(problem)) {
+            if (timetable.isAssigned(a)) {
+                continue;
+            }
+            long weeks = weeksOf[a];
+            int[] candidates = problem.getCandidateRoomsOf()[a];
+            placement:
+            for (int slot : problem.startSlotsOf(a)) {
+                int weekday = problem.weekdayOf(slot);
+                int periods = problem.periodMaskOf(a, slot);
+                if (!teachers.isFree(teacherOf[a], weekday, periods, weeks)
+                        || !classes.isFree(classOf[a], weekday, periods, weeks)
+                        || !cohorts.isFree(cohortsOf[a], weekday, periods, weeks)) {
+                    continue;
+                }
+                for (int room : candidates) {
+                    if (!rooms.isFree(room, weekday, periods, weeks)) {
+                        continue;
+                    }
+                    if (checkTravel
+                            && (travel.violates(teacherCampuses, teacherOf[a], room, weekday, periods, weeks)
+                            || travel.violates(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks))) {
+                        continue;
+                    }
+                    teachers.occupy(teacherOf[a], weekday, periods, weeks);
+                    classes.occupy(classOf[a], weekday, periods, weeks);
+                    rooms.occupy(room, weekday, periods, weeks);
+                    cohorts.occupy(cohortsOf[a], weekday, periods, weeks);
+                    travel.occupy(teacherCampuses, teacherOf[a], room, weekday, periods, weeks);
+                    travel.occupy(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks);
+                    timetable.assign(a, slot, room);
+                    break placement;
+                }
+            }
+        }
+        return timetable;
+    }
+
+    /**
+     * 修复课表：按约束紧度顺序保留互不冲突的排课，撤销冲突的排课后再贪心补排
+     * <p>用于将优化器输出的（可能含冲突的）课表转换为可写回数据库的可行课表</p>
+     *
+     * @param problem   排课问题
+     * @param timetable 待修复课表（不会被修改）
+     * @return 无冲突的课表
+     */
+    public Timetable repair(SchedulingProblem problem, Timetable timetable) {
+        Timetable kept = new Timetable(problem.assignmentCount());
+        ResourceGrid teachers = new ResourceGrid(problem.teacherCount());
+        ResourceGrid classes = new ResourceGrid(problem.teachingClassCount());
+        ResourceGrid rooms = new ResourceGrid(problem.roomCount());
+        ResourceGrid cohorts = new ResourceGrid(problem.administrativeClassCount());
+        CampusTravelMatrix travel = problem.getCampusTravel();
+        boolean checkTravel = travel.isHard() && !travel.isEmpty();
+        ResourceGrid teacherCampuses = travel.newGrid(problem.teacherCount());
+        ResourceGrid cohortCampuses = travel.newGrid(problem.administrativeClassCount());
+        int[] teacherOf = problem.getTeacherOf();
+        int[] classOf = problem.getTeachingClassOf();
+        long[] weeksOf = problem.getWeeksOf();
+        int[][] cohortsOf = problem.getAdministrativeClassesOf();
+
+        for (int a : order(problem)) {
+            if (!timetable.isAssigned(a)) {
+                continue;
+            }
+            int slot = timetable.slotOf(a);
+            int room = timetable.roomOf(a);
+            int weekday = problem.weekdayOf(slot);
+            int periods = problem.periodMaskOf(a, slot);
+            long weeks = weeksOf[a];
+            if (teachers.isFree(teacherOf[a], weekday, periods, weeks)
+                    && classes.isFree(classOf[a], weekday, periods, weeks)
+                    && rooms.isFree(room, weekday, periods, weeks)
+                    && cohorts.isFree(cohortsOf[a], weekday, periods, weeks)
+                    && !(checkTravel
+                    && (travel.violates(teacherCampuses, teacherOf[a], room, weekday, periods, weeks)
+                    || travel.violates(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks)))) {
+                teachers.occupy(teacherOf[a], weekday, periods, weeks);
+                classes.occupy(classOf[a], weekday, periods, weeks);
+                rooms.occupy(room, weekday, periods, weeks);
+                cohorts.occupy(cohortsOf[a], weekday, periods, weeks);
+                travel.occupy(teacherCampuses, teacherOf[a], room, weekday, periods, weeks);
+                travel.occupy(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks);
+                kept.assign(a, slot, room);
+            }
+        }
+        return solve(problem, kept);
+    }
+
+    /**
+     * 按约束紧度排序的排课下标
+     *
+     * @param problem 排课问题
+     * @return 排课下标顺序
+     */
+    static int[] order(SchedulingProblem problem) {
+        int[] fixed = problem.getFixedSlotOf();
+        int[] priority = problem.getPriorityOf();
+        int[][] candidates = problem.getCandidateRoomsOf();
+        int[] length = problem.getLengthOf();
+        int[] size = problem.getSizeOf();
+        Integer[] order = IntStream.range(0, problem.assignmentCount()).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator
+                .comparingInt((Integer a) -> fixed[a] == SchedulingProblem.UNASSIGNED ? 1 : 0)
+                .thenComparingInt(a -> priority[a])
+                .thenComparingInt(a -> candidates[a].length)
+                .thenComparingInt(a -> -length[a])
+                .thenComparingInt(a -> -size[a]));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,338 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 岛屿模型并行遗传算法
+ * <p>
+ * 多个子种群（岛屿）在 ForkJoinPool 上独立进化，每隔
+ * {@link GeneticOptions#getMigrationInterval()} 代按环形拓扑把各岛的精英个体
+ * 迁移到下一个岛屿并替换其最差个体。
+ * 染色体为 int 数组：基因 a 为排课 a 的 (时间位置 &lt;&lt; 16 | 教室下标)，
+ * 未安排为 -1，不涉及任何实体对象。
+ * </p>
+ * <p>
+ * 输出可能仍含冲突，写回前应经 {@link GreedyScheduler#repair} 修复。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class IslandGeneticSolver {
+
+    private static final int ROOM_BITS = 16;
+
+    private static final int ROOM_MASK = (1 << ROOM_BITS) - 1;
+
+    private static final int NO_GENE = -1;
+
+    /**
+     * 初始化种群时（种子个体以外）使用的变异概率
+     */
+    private static final double INITIAL_MUTATION_RATE = 0.3;
+
+    private final ForkJoinPool pool;
+
+    private final GeneticOptions options;
+
+    public IslandGeneticSolver(ForkJoinPool pool, GeneticOptions options) {
+        this.pool = pool;
+        this.options = options;
+    }
+
+    /**
+     * 从种子课表出发进化
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（通常为贪心解）
+     * @return 进化得到的最优课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed) {
+        return solve(problem, seed, new SolveControl());
+    }
+
+    /**
+     * 从种子课表出发进化，可随时通过控制器停止（在当前代结束后生效）
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（通常为贪心解）
+     * @param control 进度与停止控制
+     * @return 停止时的最优课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed, SolveControl control) {
+        if (problem.roomCount() > ROOM_MASK) {
+            throw new IllegalArgumentException("教室数量超过遗传算法编码上限: " + problem.roomCount());
+        }
+        long start = System.nanoTime();
+        long deadline = start + options.getTimeLimitMillis() * 1_000_000L;
+        int islandCount = options.getIslands() > 0 ? options.getIslands() : pool.getParallelism();
+        int[] seedGenes = encode(seed);
+        control.publish(problem, seed);
+
+        List<Island> islands = new ArrayList<>(islandCount);
+        for (int i = 0; i < islandCount; i++) {
+            islands.add(new Island(problem, seedGenes, new SplittableRandom(options.getSeed() + i)));
+        }
+        List<ForkJoinTask<?>> initTasks = new ArrayList<>(islandCount);
+        for (Island island : islands) {
+            initTasks.add(pool.submit(island::initialize));
+        }
+        initTasks.forEach(ForkJoinTask::join);
+
+        int generation = 0;
+        int interval = Math.max(1, options.getMigrationInterval());
+        while (generation < options.getGenerations() && System.nanoTime() < deadline && !solved(islands)
+                && !control.isStopRequested()) {
+            int epoch = Math.min(interval, options.getGenerations() - generation);
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(islandCount);
+            for (Island island : islands) {
+                tasks.add(pool.submit(() -> island.evolve(epoch, deadline, control)));
+            }
+            tasks.forEach(ForkJoinTask::join);
+            generation += epoch;
+            migrate(islands);
+            control.report(generation, Math.max((double) (System.nanoTime() - start) / (deadline - start),
+                    (double) generation / Math.max(1, options.getGenerations())));
+            control.offer(problem, decode(best(islands).bestGenes()));
+        }
+
+        Island best = best(islands);
+        Timetable result = decode(best.bestGenes());
+        control.publish(problem, result);
+        log.info("遗传算法结束: islands={}, generations={}, bestCost={}, cost={}ms", islandCount, generation,
+                best.bestCost(), (System.nanoTime() - start) / 1_000_000L);
+        return result;
+    }
+
+    private static Island best(List<Island> islands) {
+        Island best = islands.get(0);
+        for (Island island : islands) {
+            if (island.bestCost() < best.bestCost()) {
+                best = island;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 环形迁移：岛屿 i 的精英替换岛屿 i+1 的最差个体
+     */
+    private void migrate(List<Island> islands) {
+        if (islands.size() < 2 || options.getMigrationSize() <= 0) {
+            return;
+        }
+        List<int[][]> emigrants = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            emigrants.add(island.elites(options.getMigrationSize()));
+        }
+        for (int i = 0; i < islands.size(); i++) {
+            islands.get((i + 1) % islands.size()).immigrate(emigrants.get(i));
+        }
+    }
+
+    private static boolean solved(List<Island> islands) {
+        for (Island island : islands) {
+            if (island.bestCost() == 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int[] encode(Timetable timetable) {
+        int[] genes = new int[timetable.size()];
+        for (int a = 0; a < genes.length; a++) {
+            genes[a] = timetable.isAssigned(a) ? gene(timetable.slotOf(a), timetable.roomOf(a)) : NO_GENE;
+        }
+        return genes;
+    }
+
+    static Timetable decode(int[] genes) {
+        Timetable timetable = new Timetable(genes.length);
+        for (int a = 0; a < genes.length; a++) {
+            if (genes[a] != NO_GENE) {
+                timetable.assign(a, genes[a] >>> ROOM_BITS, genes[a] & ROOM_MASK);
+            }
+        }
+        return timetable;
+    }
+
+    private static int gene(int slot, int room) {
+        return slot << ROOM_BITS | room;
+    }
+
+    /**
+     * 单个岛屿（子种群），只在所属任务线程内访问
+     */
+    private final class Island {
+
+        private final SchedulingProblem problem;
+
+        private final TimetableEvaluator evaluator;
+
+        private final SplittableRandom random;
+
+        private final int[] seedGenes;
+
+        private int[][] population;
+
+        private long[] costs;
+
+        private int[][] offspring;
+
+        private long[] offspringCosts;
+
+        private final int[] slots;
+
+        private final int[] rooms;
+
+        Island(SchedulingProblem problem, int[] seedGenes, SplittableRandom random) {
+            this.problem = problem;
+            this.evaluator = new TimetableEvaluator(problem);
+            this.random = random;
+            this.seedGenes = seedGenes;
+            this.slots = new int[seedGenes.length];
+            this.rooms = new int[seedGenes.length];
+        }
+
+        void initialize() {
+            int size = Math.max(2, options.getPopulationSize());
+            population = new int[size][];
+            costs = new long[size];
+            offspring = new int[size][seedGenes.length];
+            offspringCosts = new long[size];
+            for (int i = 0; i < size; i++) {
+                population[i] = seedGenes.clone();
+                if (i > 0) {
+                    mutate(population[i], INITIAL_MUTATION_RATE);
+                }
+                costs[i] = evaluate(population[i]);
+            }
+        }
+
+        void evolve(int generations, long deadline, SolveControl control) {
+            int size = population.length;
+            int elites = Math.min(options.getEliteCount(), size);
+            for (int g = 0; g < generations && System.nanoTime() < deadline && !control.isStopRequested(); g++) {
+                int[] ranking = rank();
+                for (int i = 0; i < elites; i++) {
+                    System.arraycopy(population[ranking[i]], 0, offspring[i], 0, seedGenes.length);
+                    offspringCosts[i] = costs[ranking[i]];
+                }
+                for (int i = elites; i < size; i++) {
+                    int[] first = population[tournament()];
+                    int[] second = population[tournament()];
+                    int[] child = offspring[i];
+                    for (int a = 0; a < child.length; a++) {
+                        child[a] = random.nextBoolean() ? first[a] : second[a];
+                    }
+                    mutate(child, options.getMutationRate());
+                    offspringCosts[i] = evaluate(child);
+                }
+                int[][] genes = population;
+                population = offspring;
+                offspring = genes;
+                long[] scores = costs;
+                costs = offspringCosts;
+                offspringCosts = scores;
+            }
+        }
+
+        int[][] elites(int count) {
+            int[] ranking = rank();
+            int n = Math.min(count, ranking.length);
+            int[][] elites = new int[n][];
+            for (int i = 0; i < n; i++) {
+                elites[i] = population[ranking[i]].clone();
+            }
+            return elites;
+        }
+
+        void immigrate(int[][] migrants) {
+            int[] ranking = rank();
+            for (int i = 0; i < migrants.length && i < ranking.length; i++) {
+                int worst = ranking[ranking.length - 1 - i];
+                population[worst] = migrants[i];
+                costs[worst] = evaluate(migrants[i]);
+            }
+        }
+
+        long bestCost() {
+            long best = Long.MAX_VALUE;
+            for (long cost : costs) {
+                best = Math.min(best, cost);
+            }
+            return best;
+        }
+
+        int[] bestGenes() {
+            return population[rank()[0]];
+        }
+
+        /**
+         * 按代价升序的个体下标（种群较小，插入排序即可）
+         */
+        private int[] rank() {
+            int[] ranking = new int[population.length];
+            for (int i = 0; i < ranking.length; i++) {
+                int j = i;
+                while (j > 0 && costs[ranking[j - 1]] > costs[i]) {
+                    ranking[j] = ranking[j - 1];
+                    j--;
+                }
+                ranking[j] = i;
+            }
+            return ranking;
+        }
+
+        private int tournament() {
+            int best = random.nextInt(population.length);
+            for (int i = 1; i < options.getTournamentSize(); i++) {
+                int other = random.nextInt(population.length);
+                if (costs[other] < costs[best]) {
+                    best = other;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * 变异：以给定概率为基因重新随机选择开始位置与候选教室
+         */
+        private void mutate(int[] genes, double rate) {
+            for (int a = 0; a < genes.length; a++) {
+                if (random.nextDouble() >= rate) {
+                    continue;
+                }
+                int[] starts = problem.startSlotsOf(a);
+                int[] candidates = problem.getCandidateRoomsOf()[a];
+                if (starts.length == 0 || candidates.length == 0) {
+                    genes[a] = NO_GENE;
+                    continue;
+                }
+                genes[a] = gene(starts[random.nextInt(starts.length)], candidates[random.nextInt(candidates.length)]);
+            }
+        }
+
+        private long evaluate(int[] genes) {
+            for (int a = 0; a < genes.length; a++) {
+                if (genes[a] == NO_GENE) {
+                    slots[a] = SchedulingProblem.UNASSIGNED;
+                    rooms[a] = SchedulingProblem.UNASSIGNED;
+                } else {
+                    slots[a] = genes[a] >>> ROOM_BITS;
+                    rooms[a] = genes[a] & ROOM_MASK;
+                }
+            }
+            return evaluator.evaluate(slots, rooms);
+        }
+    }
+}
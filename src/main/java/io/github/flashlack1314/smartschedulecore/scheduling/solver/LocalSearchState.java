@@ -0,0 +1,339 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyCounters;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelMatrix;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TeacherPreferenceScorer;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver.CLASH_WEIGHT;
+import static io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver.SAME_DAY_WEIGHT;
+import static io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver.TRAVEL_WEIGHT;
+import static io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver.UNASSIGNED_WEIGHT;
+
+/**
+ * 局部搜索的当前解及其占用计数器（模拟退火与禁忌搜索共用）
+ * <p>
+ * 代价定义见 {@link SimulatedAnnealingSolver}。移动只对涉及的排课做增量评分，
+ * 返回代价增量；最近一次移动可通过 {@link #undo()} 撤销。
+ * </p>
+ *
+ * @author flash
+ */
+final class LocalSearchState {
+
+    private static final int PERIODS = SystemConstant.Scheduling.MAX_PERIODS_PER_DAY;
+
+    static final long NO_MOVE = Long.MIN_VALUE;
+
+    private final SchedulingProblem problem;
+
+    private final int[] slots;
+
+    private final int[] rooms;
+
+    private final OccupancyCounters teachers;
+
+    private final OccupancyCounters classes;
+
+    private final OccupancyCounters roomCounters;
+
+    /**
+     * 行政班占用计数器：包含相同行政班的教学班不能同时上课
+     */
+    private final OccupancyCounters cohorts;
+
+    /**
+     * 每个 (教学班, 星期) 的上课次数
+     */
+    private final int[] classDays;
+
+    private final TeacherPreferenceScorer preferences;
+
+    /**
+     * 按校区拆分的教师、行政班占用计数器，用于跨校区通行检查
+     */
+    private final CampusTravelMatrix travel;
+    private final OccupancyCounters teacherCampuses;
+    private final OccupancyCounters cohortCampuses;
+    private final long travelWeight;
+
+    /**
+     * 每个 (教师, 星期) 的课程数、节次位图与逐节占用计数（无教师偏好时为空数组）
+     */
+    private final int[] teacherDayCourses;
+    private final int[] teacherDayPeriods;
+    private final int[] teacherPeriodCounts;
+
+    /**
+     * 最近一次移动涉及的排课及其原位置，用于撤销
+     */
+    private final int[] moved = new int[2];
+    private final int[] movedSlots = new int[2];
+    private final int[] movedRooms = new int[2];
+    private int movedCount;
+
+    LocalSearchState(SchedulingProblem problem, Timetable seed) {
+        this.problem = problem;
+        this.slots = seed.slots().clone();
+        this.rooms = seed.rooms().clone();
+        long[] weeksOf = problem.getWeeksOf();
+        this.teachers = new OccupancyCounters(problem.teacherCount(), weeksOf);
+        this.classes = new OccupancyCounters(problem.teachingClassCount(), weeksOf);
+        this.roomCounters = new OccupancyCounters(problem.roomCount(), weeksOf);
+        this.cohorts = new OccupancyCounters(problem.administrativeClassCount(), weeksOf);
+        this.classDays = new int[Math.max(problem.teachingClassCount(), 1) * 8];
+        this.travel = problem.getCampusTravel();
+        this.teacherCampuses = travel.newCounters(problem.teacherCount(), weeksOf);
+        this.cohortCampuses = travel.newCounters(problem.administrativeClassCount(), weeksOf);
+        this.travelWeight = travel.isHard() ? CLASH_WEIGHT : TRAVEL_WEIGHT;
+        this.preferences = problem.getPreferenceScorer();
+        int teacherDays = preferences.isEmpty() ? 0 : problem.teacherCount() * 8;
+        this.teacherDayCourses = new int[teacherDays];
+        this.teacherDayPeriods = new int[teacherDays];
+        this.teacherPeriodCounts = new int[teacherDays * PERIODS];
+    }
+
+    long initialCost() {
+        long cost = 0;
+        for (int a = 0; a < slots.length; a++) {
+            if (slots[a] == SchedulingProblem.UNASSIGNED || rooms[a] == SchedulingProblem.UNASSIGNED) {
+                slots[a] = SchedulingProblem.UNASSIGNED;
+                rooms[a] = SchedulingProblem.UNASSIGNED;
+                cost += UNASSIGNED_WEIGHT;
+            } else {
+                cost += place(a, slots[a], rooms[a]);
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * 随机选择一个排课换到随机的开始位置与候选教室
+     *
+     * @return 代价增量，无可行移动时返回 {@link #NO_MOVE}
+     */
+    long tryMove(SplittableRandom random) {
+        int a = random.nextInt(slots.length);
+        int[] starts = problem.startSlotsOf(a);
+        int[] candidates = problem.getCandidateRoomsOf()[a];
+        if (starts.length == 0 || candidates.length == 0) {
+            return NO_MOVE;
+        }
+        int slot = starts[random.nextInt(starts.length)];
+        int room = candidates[random.nextInt(candidates.length)];
+        if (slot == slots[a] && room == rooms[a]) {
+            return NO_MOVE;
+        }
+        return moveTo(a, slot, room);
+    }
+
+    /**
+     * 把排课换到指定的开始位置与教室
+     *
+     * @return 代价增量
+     */
+    long moveTo(int a, int slot, int room) {
+        movedCount = 0;
+        remember(a);
+        long delta = -lift(a);
+        delta += place(a, slot, room);
+        return delta;
+    }
+
+    /**
+     * 最近一次移动的第一个排课（单个移动即被移动的排课）
+     */
+    int lastMoved() {
+        return moved[0];
+    }
+
+    int slotOf(int a) {
+        return slots[a];
+    }
+
+    int roomOf(int a) {
+        return rooms[a];
+    }
+
+    int[] slots() {
+        return slots;
+    }
+
+    int[] rooms() {
+        return rooms;
+    }
+
+    /**
+     * 随机交换两个同长度、均已安排且无固定时间的排课的位置
+     * <p>双方的时间都须在对方的可选开始位置内（约束传播可能已收缩定义域）；
+     * 教室互相满足候选条件时连同教室一起交换，否则只交换时间</p>
+     *
+     * @return 代价增量，无可行移动时返回 {@link #NO_MOVE}
+     */
+    long trySwap(SplittableRandom random) {
+        int a = random.nextInt(slots.length);
+        int b = random.nextInt(slots.length);
+        int[] fixed = problem.getFixedSlotOf();
+        if (a == b || slots[a] == SchedulingProblem.UNASSIGNED || slots[b] == SchedulingProblem.UNASSIGNED
+                || slots[a] == slots[b]
+                || fixed[a] != SchedulingProblem.UNASSIGNED || fixed[b] != SchedulingProblem.UNASSIGNED
+                || problem.getLengthOf()[a] != problem.getLengthOf()[b]) {
+            return NO_MOVE;
+        }
+        int slotA = slots[a];
+        int slotB = slots[b];
+        int roomA = rooms[a];
+        int roomB = rooms[b];
+        if (Arrays.binarySearch(problem.startSlotsOf(a), slotB) < 0
+                || Arrays.binarySearch(problem.startSlotsOf(b), slotA) < 0) {
+            return NO_MOVE;
+        }
+        int[][] candidates = problem.getCandidateRoomsOf();
+        boolean swapRooms = Arrays.binarySearch(candidates[a], roomB) >= 0
+                && Arrays.binarySearch(candidates[b], roomA) >= 0;
+        movedCount = 0;
+        remember(a);
+        remember(b);
+        long delta = -lift(a) - lift(b);
+        delta += place(a, slotB, swapRooms ? roomB : roomA);
+        delta += place(b, slotA, swapRooms ? roomA : roomB);
+        return delta;
+    }
+
+    /**
+     * 撤销最近一次移动
+     */
+    void undo() {
+        for (int i = 0; i < movedCount; i++) {
+            lift(moved[i]);
+        }
+        for (int i = 0; i < movedCount; i++) {
+            int a = moved[i];
+            if (movedSlots[i] != SchedulingProblem.UNASSIGNED) {
+                place(a, movedSlots[i], movedRooms[i]);
+            }
+        }
+        movedCount = 0;
+    }
+
+    /**
+     * 记录排课的原位置，用于撤销
+     */
+    private void remember(int a) {
+        moved[movedCount] = a;
+        movedSlots[movedCount] = slots[a];
+        movedRooms[movedCount] = rooms[a];
+        movedCount++;
+    }
+
+    /**
+     * 取出排课
+     *
+     * @return 取出前该排课贡献的代价
+     */
+    private long lift(int a) {
+        int slot = slots[a];
+        if (slot == SchedulingProblem.UNASSIGNED) {
+            return UNASSIGNED_WEIGHT;
+        }
+        int weekday = problem.weekdayOf(slot);
+        int periods = problem.periodMaskOf(a, slot);
+        int teacher = problem.getTeacherOf()[a];
+        int teachingClass = problem.getTeachingClassOf()[a];
+        int room = rooms[a];
+        int[] administrativeClasses = problem.getAdministrativeClassesOf()[a];
+        int day = teachingClass * 8 + weekday;
+        teachers.remove(teacher, weekday, periods, a);
+        classes.remove(teachingClass, weekday, periods, a);
+        roomCounters.remove(room, weekday, periods, a);
+        cohorts.remove(administrativeClasses, weekday, periods, a);
+        travel.remove(teacherCampuses, teacher, room, weekday, periods, a);
+        travel.remove(cohortCampuses, administrativeClasses, room, weekday, periods, a);
+        classDays[day]--;
+        slots[a] = SchedulingProblem.UNASSIGNED;
+        rooms[a] = SchedulingProblem.UNASSIGNED;
+        return updatePreferences(teacher, weekday, periods, room, false)
+                + travelPenalty(a, teacher, administrativeClasses, room, weekday, periods)
+                + CLASH_WEIGHT * (teachers.overlap(teacher, weekday, periods, a)
+                + classes.overlap(teachingClass, weekday, periods, a)
+                + roomCounters.overlap(room, weekday, periods, a)
+                + cohorts.overlap(administrativeClasses, weekday, periods, a))
+                + (classDays[day] > 0 ? SAME_DAY_WEIGHT : 0L);
+    }
+
+    /**
+     * 放入排课
+     *
+     * @return 放入后该排课贡献的代价
+     */
+    private long place(int a, int slot, int room) {
+        int weekday = problem.weekdayOf(slot);
+        int periods = problem.periodMaskOf(a, slot);
+        int teacher = problem.getTeacherOf()[a];
+        int teachingClass = problem.getTeachingClassOf()[a];
+        int[] administrativeClasses = problem.getAdministrativeClassesOf()[a];
+        int day = teachingClass * 8 + weekday;
+        long contribution = CLASH_WEIGHT * (teachers.overlap(teacher, weekday, periods, a)
+                + classes.overlap(teachingClass, weekday, periods, a)
+                + roomCounters.overlap(room, weekday, periods, a)
+                + cohorts.overlap(administrativeClasses, weekday, periods, a))
+                + (classDays[day] > 0 ? SAME_DAY_WEIGHT : 0L)
+                + travelPenalty(a, teacher, administrativeClasses, room, weekday, periods);
+        teachers.add(teacher, weekday, periods, a);
+        classes.add(teachingClass, weekday, periods, a);
+        roomCounters.add(room, weekday, periods, a);
+        cohorts.add(administrativeClasses, weekday, periods, a);
+        travel.add(teacherCampuses, teacher, room, weekday, periods, a);
+        travel.add(cohortCampuses, administrativeClasses, room, weekday, periods, a);
+        classDays[day]++;
+        slots[a] = slot;
+        rooms[a] = room;
+        return contribution + updatePreferences(teacher, weekday, periods, room, true);
+    }
+
+    /**
+     * 排课与教师、行政班在其他校区前后相邻的课来不及通行的代价
+     */
+    private long travelPenalty(int a, int teacher, int[] administrativeClasses, int room, int weekday,
+                               int periods) {
+        if (travel.isEmpty()) {
+            return 0L;
+        }
+        return travelWeight * (travel.overlap(teacherCampuses, teacher, room, weekday, periods, a)
+                + travel.overlap(cohortCampuses, administrativeClasses, room, weekday, periods, a));
+    }
+
+    /**
+     * 放入或取出排课时更新教师当天的统计
+     *
+     * @param add 是否为放入
+     * @return 该排课贡献的偏好代价（单次放置代价 + 当天按日代价的变化量）
+     */
+    private long updatePreferences(int teacher, int weekday, int periods, int room, boolean add) {
+        if (preferences.isEmpty()) {
+            return 0L;
+        }
+        int day = teacher * 8 + weekday;
+        int before = preferences.dailyPenalty(teacher, teacherDayCourses[day], teacherDayPeriods[day]);
+        int step = add ? 1 : -1;
+        teacherDayCourses[day] += step;
+        int base = day * PERIODS;
+        for (int bits = periods; bits != 0; bits &= bits - 1) {
+            int period = Integer.numberOfTrailingZeros(bits);
+            teacherPeriodCounts[base + period] += step;
+            if (teacherPeriodCounts[base + period] == 0) {
+                teacherDayPeriods[day] &= ~(1 << period);
+            } else {
+                teacherDayPeriods[day] |= 1 << period;
+            }
+        }
+        int after = preferences.dailyPenalty(teacher, teacherDayCourses[day], teacherDayPeriods[day]);
+        return (add ? after - before : before - after)
+                + preferences.placementPenalty(teacher, weekday, periods, room);
+    }
+}
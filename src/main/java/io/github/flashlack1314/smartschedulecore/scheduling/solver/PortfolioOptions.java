@@ -0,0 +1,26 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * 组合求解参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class PortfolioOptions {
+
+    /**
+     * 并行运行的优化策略（annealing、tabu、genetic），贪心解总是参与比较
+     */
+    private List<String> strategies = List.of(PortfolioSolver.ANNEALING, PortfolioSolver.TABU, PortfolioSolver.GENETIC);
+
+    /**
+     * 共同的时间预算（毫秒），覆盖各策略自身的时间预算
+     */
+    private long timeLimitMillis = 30_000L;
+}
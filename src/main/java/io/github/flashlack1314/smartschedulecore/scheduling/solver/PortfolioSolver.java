@@ -0,0 +1,187 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import cn.hutool.core.bean.BeanUtil;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 组合求解器
+ * <p>
+ * 先用贪心构造初始解，再把模拟退火、禁忌搜索、遗传算法分别放到独立线程上，从同一初始解出发在共同的时间预算内并行优化。
+ * 各策略通过 {@link SolveControl#fork(String)} 派生的子控制器把当前最优解无锁提交到同一个看板，
+ * 预算用完（或某个策略已找到零代价解、或上级请求停止）时全部停止。
+ * 各策略的结果经 {@link GreedyScheduler#repair} 修复后用 {@link TimetableEvaluator} 统一评分，
+ * 代价最小者（含贪心解本身）胜出。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class PortfolioSolver {
+
+    public static final String GREEDY = "greedy";
+
+    public static final String ANNEALING = "annealing";
+
+    public static final String TABU = "tabu";
+
+    public static final String GENETIC = "genetic";
+
+    /**
+     * 预算用完后等待各策略在下一个检查点停止的时间（毫秒）
+     */
+    private static final long STOP_GRACE_MILLIS = 5_000L;
+
+    private final Executor executor;
+
+    private final ForkJoinPool pool;
+
+    private final PortfolioOptions options;
+
+    private final AnnealingOptions annealing;
+
+    private final TabuOptions tabu;
+
+    private final GeneticOptions genetic;
+
+    /**
+     * @param executor  运行各策略的线程池（每个策略占用一个线程）
+     * @param pool      遗传算法岛屿使用的 ForkJoinPool
+     * @param options   组合求解参数
+     * @param annealing 模拟退火参数（时间预算被覆盖）
+     * @param tabu      禁忌搜索参数（时间预算被覆盖）
+     * @param genetic   遗传算法参数（时间预算被覆盖）
+     */
+    public PortfolioSolver(Executor executor, ForkJoinPool pool, PortfolioOptions options,
+                           AnnealingOptions annealing, TabuOptions tabu, GeneticOptions genetic) {
+        this.executor = executor;
+        this.pool = pool;
+        this.options = options;
+        this.annealing = annealing;
+        this.tabu = tabu;
+        this.genetic = genetic;
+    }
+
+    /**
+     * 并行求解
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（不会被修改）
+     * @param control 进度与停止控制
+     * @return 胜出的课表、策略及各策略的代价
+     */
+    public Result solve(SchedulingProblem problem, Timetable seed, SolveControl control) {
+        long start = System.nanoTime();
+        long budget = Math.max(1L, options.getTimeLimitMillis());
+        SolveControl board = control.fork("portfolio");
+
+        Timetable initial = new GreedyScheduler().solve(problem, seed);
+        board.fork(GREEDY).publish(problem, initial);
+
+        Map<String, CompletableFuture<Timetable>> futures = new LinkedHashMap<>();
+        for (String strategy : options.getStrategies()) {
+            SolveControl child = board.fork(strategy);
+            futures.put(strategy, CompletableFuture.supplyAsync(() -> {
+                Timetable repaired = new GreedyScheduler().repair(problem,
+                        optimize(strategy, problem, initial, budget, child));
+                if (new TimetableEvaluator(problem).evaluate(repaired) == 0L) {
+                    // 已是零代价解，其他策略没有继续搜索的必要
+                    board.requestStop();
+                }
+                return repaired;
+            }, executor));
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+        try {
+            all.get(budget + STOP_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("组合求解超出预算仍未结束，请求全部策略停止");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 单个策略失败不影响其他策略，结果收集时跳过
+        }
+        board.requestStop();
+
+        TimetableEvaluator evaluator = new TimetableEvaluator(problem);
+        Map<String, Long> costs = new LinkedHashMap<>();
+        String winner = GREEDY;
+        Timetable best = initial;
+        long bestCost = evaluator.evaluate(initial);
+        costs.put(GREEDY, bestCost);
+        for (Map.Entry<String, CompletableFuture<Timetable>> entry : futures.entrySet()) {
+            Timetable timetable;
+            try {
+                timetable = entry.getValue().join();
+            } catch (RuntimeException e) {
+                log.error("组合求解中的策略失败: strategy={}", entry.getKey(), e);
+                continue;
+            }
+            long cost = evaluator.evaluate(timetable);
+            costs.put(entry.getKey(), cost);
+            if (cost < bestCost) {
+                winner = entry.getKey();
+                best = timetable;
+                bestCost = cost;
+            }
+        }
+        log.info("组合求解结束: winner={}, costs={}, cost={}ms", winner, costs,
+                (System.nanoTime() - start) / 1_000_000L);
+        return new Result(best, winner, costs);
+    }
+
+    /**
+     * 在当前线程运行单个优化策略，时间预算统一为组合预算
+     */
+    private Timetable optimize(String strategy, SchedulingProblem problem, Timetable initial, long budget,
+                               SolveControl control) {
+        return switch (strategy) {
+            case ANNEALING -> new SimulatedAnnealingSolver(BeanUtil.copyProperties(annealing, AnnealingOptions.class)
+                    .setTimeLimitMillis(budget)).solve(problem, initial, control);
+            case TABU -> new TabuSearchSolver(BeanUtil.copyProperties(tabu, TabuOptions.class)
+                    .setTimeLimitMillis(budget)).solve(problem, initial, control);
+            case GENETIC -> new IslandGeneticSolver(pool, BeanUtil.copyProperties(genetic, GeneticOptions.class)
+                    .setTimeLimitMillis(budget)).solve(problem, initial, control);
+            default -> throw new IllegalArgumentException("组合求解不支持的策略: " + strategy);
+        };
+    }
+
+    /**
+     * 组合求解结果
+     */
+    @Getter
+    public static final class Result {
+
+        /**
+         * 胜出的课表（已修复）
+         */
+        private final Timetable timetable;
+
+        /**
+         * 胜出的策略
+         */
+        private final String strategy;
+
+        /**
+         * 各策略修复后的代价（失败的策略不含在内）
+         */
+        private final Map<String, Long> costs;
+
+        private Result(Timetable timetable, String strategy, Map<String, Long> costs) {
+            this.timetable = timetable;
+            this.strategy = strategy;
+            this.costs = costs;
+        }
+    }
+}
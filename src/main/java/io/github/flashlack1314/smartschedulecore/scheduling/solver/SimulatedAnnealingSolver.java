@@ -0,0 +1,139 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.SplittableRandom;
+
+/**
+ * 模拟退火优化器
+ * <p>
+ * 在已有课表上执行两类移动：单个排课换时间、教室，以及两个同长度排课交换位置。
+ * 每次移动只对涉及的排课做增量评分：先从教师、教室、教学班、行政班占用计数器中取出，
+ * 再计算放入新位置后的重叠量，代价与课表规模无关；被拒绝的移动按原位置放回（见 {@link LocalSearchState}）。
+ * </p>
+ * <p>
+ * 代价 = 未安排数 × {@link #UNASSIGNED_WEIGHT} + 冲突“周 × 节”数 × {@link #CLASH_WEIGHT}
+ * + 同一教学班同日多次上课数 × {@link #SAME_DAY_WEIGHT} + 教师偏好代价
+ * + 跨校区通行不足的“周 × 节”数 × 通行权重（硬约束时同 {@link #CLASH_WEIGHT}，否则为 {@link #TRAVEL_WEIGHT}）。
+ * 教师偏好中按日统计的部分（每日课程数、连续节数）按 (教师, 星期) 维护课程数与逐节计数，
+ * 移动时只重算涉及的教师当天的代价差。
+ * 输出可能仍含冲突，写回前应经 {@link GreedyScheduler#repair} 修复。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class SimulatedAnnealingSolver {
+
+    public static final long UNASSIGNED_WEIGHT = 1_000L;
+
+    public static final long CLASH_WEIGHT = 10L;
+
+    public static final long SAME_DAY_WEIGHT = 1L;
+
+    public static final long TRAVEL_WEIGHT = 1L;
+
+    /**
+     * 每隔多少次迭代更新温度、检查时间并记录最优解
+     */
+    private static final int CHECK_INTERVAL = 256;
+
+    private final AnnealingOptions options;
+
+    public SimulatedAnnealingSolver(AnnealingOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 从种子课表出发退火
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（不会被修改）
+     * @return 退火过程中代价最小的课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed) {
+        return solve(problem, seed, new SolveControl());
+    }
+
+    /**
+     * 从种子课表出发退火，可随时通过控制器停止
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（不会被修改）
+     * @param control 进度与停止控制
+     * @return 停止时代价最小的课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed, SolveControl control) {
+        int n = problem.assignmentCount();
+        if (n == 0) {
+            return seed.copy();
+        }
+        long start = System.nanoTime();
+        long budget = Math.max(1L, options.getTimeLimitMillis()) * 1_000_000L;
+        long maxIterations = Math.max(1L, options.getMaxIterations());
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+
+        LocalSearchState state = new LocalSearchState(problem, seed);
+        long cost = state.initialCost();
+        long bestCost = cost;
+        int[] bestSlots = state.slots().clone();
+        int[] bestRooms = state.rooms().clone();
+        control.publish(problem, seed);
+
+        double temperature = options.getInitialTemperature();
+        long iteration = 0;
+        long accepted = 0;
+        while (iteration < maxIterations && cost > 0) {
+            if (iteration % CHECK_INTERVAL == 0) {
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    System.arraycopy(state.slots(), 0, bestSlots, 0, n);
+                    System.arraycopy(state.rooms(), 0, bestRooms, 0, n);
+                    control.offer(problem, Timetable.wrap(bestSlots, bestRooms));
+                }
+                double progress = Math.max((double) (System.nanoTime() - start) / budget,
+                        (double) iteration / maxIterations);
+                control.report(iteration, progress);
+                if (progress >= 1.0 || control.isStopRequested()) {
+                    break;
+                }
+                temperature = temperature(progress);
+            }
+            iteration++;
+
+            long delta = random.nextDouble() < options.getSwapRate()
+                    ? state.trySwap(random)
+                    : state.tryMove(random);
+            if (delta == LocalSearchState.NO_MOVE) {
+                continue;
+            }
+            if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                cost += delta;
+                accepted++;
+            } else {
+                state.undo();
+            }
+        }
+        if (cost < bestCost) {
+            bestCost = cost;
+            bestSlots = state.slots();
+            bestRooms = state.rooms();
+        }
+        Timetable best = Timetable.wrap(bestSlots, bestRooms);
+        control.publish(problem, best);
+        log.info("模拟退火结束: iterations={}, accepted={}, bestCost={}, cost={}ms",
+                iteration, accepted, bestCost, (System.nanoTime() - start) / 1_000_000L);
+        return best;
+    }
+
+    private double temperature(double progress) {
+        double initial = options.getInitialTemperature();
+        double end = Math.min(options.getFinalTemperature(), initial);
+        return switch (options.getCooling()) {
+            case GEOMETRIC -> initial * Math.pow(end / initial, progress);
+            case LINEAR -> initial + (end - initial) * progress;
+        };
+    }
+}
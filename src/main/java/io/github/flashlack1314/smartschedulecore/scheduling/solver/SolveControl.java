@@ -0,0 +1,245 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 求解过程的进度与停止控制（求解线程写、其他线程读）
+ * <p>
+ * 优化器每隔一段迭代调用 {@link #report(long, double)} 汇报迭代次数与预算使用比例，
+ * 发现更优解时调用 {@link #offer(SchedulingProblem, Timetable)} 发布一份副本及其代价明细
+ * （至多每 {@link #PUBLISH_INTERVAL_NANOS} 纳秒一次，结束时再发布一次），并在同样的检查点轮询
+ * {@link #isStopRequested()}。其他线程可随时读取当前最优解，或请求提前停止：
+ * {@link #requestStop()} 采用当前最优解，{@link #cancel()} 放弃本次结果。
+ * </p>
+ * <p>
+ * 代价明细统一用 {@link TimetableEvaluator} 计算，与各优化器内部的代价尺度无关；
+ * 发布只由执行求解的线程调用，评分器不需要同步。
+ * </p>
+ * <p>
+ * 组合求解时由 {@link #fork(String)} 为每个策略派生子控制器：子控制器继承上级的停止与取消请求，
+ * 各自汇报进度；发布的解按代价以 CAS 方式无锁提交到上级，上级只保留代价最小的解并记录其来源策略。
+ * 上级的迭代次数为各子控制器之和，预算使用比例取最大值。
+ * 分解求解时由 {@link #child()} 派生的子控制器求解的是子问题，只汇报进度，解不提交到上级。
+ * </p>
+ *
+ * @author flash
+ */
+public final class SolveControl {
+
+    /**
+     * 最优解发布的最小间隔
+     */
+    public static final long PUBLISH_INTERVAL_NANOS = 200_000_000L;
+
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * 上级控制器（非组合求解时为 null）
+     */
+    private final SolveControl parent;
+
+    /**
+     * 发布解的策略名称（非组合求解时为 null）
+     */
+    private final String strategy;
+
+    /**
+     * 发布的解是否提交到上级（子控制器求解的问题与上级不同时为 false）
+     */
+    private final boolean shareBest;
+
+    private final List<SolveControl> children = new CopyOnWriteArrayList<>();
+
+    private volatile boolean stopRequested;
+
+    private volatile boolean cancelled;
+
+    private volatile long iterations;
+
+    private volatile double budgetUsed;
+
+    /**
+     * 最优课表与其代价明细一起替换，读取方不会看到不匹配的组合
+     */
+    private final AtomicReference<Best> best = new AtomicReference<>();
+
+    private SchedulingProblem scoredProblem;
+
+    private TimetableEvaluator evaluator;
+
+    private long lastPublishNanos;
+
+    public SolveControl() {
+        this(null, null, false);
+    }
+
+    private SolveControl(SolveControl parent, String strategy, boolean shareBest) {
+        this.parent = parent;
+        this.strategy = strategy;
+        this.shareBest = shareBest;
+    }
+
+    /**
+     * 派生子控制器（组合求解中的一个策略）
+     *
+     * @param strategy 策略名称
+     * @return 子控制器
+     */
+    public SolveControl fork(String strategy) {
+        SolveControl child = new SolveControl(this, strategy, true);
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * 派生只汇报进度、继承停止请求，但不向上提交解的子控制器（用于求解子问题）
+     *
+     * @return 子控制器
+     */
+    public SolveControl child() {
+        SolveControl child = new SolveControl(this, null, false);
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * 汇报进度
+     *
+     * @param iterations 已完成的迭代次数（遗传算法为代数）
+     * @param budgetUsed 已使用的预算比例（0-1）
+     */
+    public void report(long iterations, double budgetUsed) {
+        this.iterations = iterations;
+        this.budgetUsed = Math.max(0.0, Math.min(1.0, budgetUsed));
+    }
+
+    /**
+     * 发布更优解（距上次发布不足 {@link #PUBLISH_INTERVAL_NANOS} 时忽略）
+     *
+     * @param problem   排课问题
+     * @param timetable 当前最优课表（会被复制）
+     */
+    public void offer(SchedulingProblem problem, Timetable timetable) {
+        if (best.get() != null && System.nanoTime() - lastPublishNanos < PUBLISH_INTERVAL_NANOS) {
+            return;
+        }
+        publish(problem, timetable);
+    }
+
+    /**
+     * 立即发布最优解（求解结束时调用）
+     *
+     * @param problem   排课问题
+     * @param timetable 最终课表（会被复制）
+     */
+    public void publish(SchedulingProblem problem, Timetable timetable) {
+        if (problem != scoredProblem) {
+            scoredProblem = problem;
+            evaluator = new TimetableEvaluator(problem);
+        }
+        Timetable copy = timetable.copy();
+        Best published = new Best(copy, evaluator.score(copy), strategy);
+        best.set(published);
+        lastPublishNanos = System.nanoTime();
+        if (shareBest) {
+            parent.improve(published);
+        }
+    }
+
+    /**
+     * 子控制器提交的解代价更小时替换当前最优解，并继续向上提交
+     */
+    private void improve(Best candidate) {
+        Best current;
+        do {
+            current = best.get();
+            if (current != null && current.score().cost() <= candidate.score().cost()) {
+                return;
+            }
+        } while (!best.compareAndSet(current, candidate));
+        if (shareBest) {
+            parent.improve(candidate);
+        }
+    }
+
+    /**
+     * 请求停止并采用当前最优解
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    /**
+     * 请求停止并放弃本次结果
+     */
+    public void cancel() {
+        cancelled = true;
+        stopRequested = true;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested || parent != null && parent.isStopRequested();
+    }
+
+    public boolean isCancelled() {
+        return cancelled || parent != null && parent.isCancelled();
+    }
+
+    public long getIterations() {
+        long total = iterations;
+        for (SolveControl child : children) {
+            total += child.getIterations();
+        }
+        return total;
+    }
+
+    public double getBudgetUsed() {
+        double used = budgetUsed;
+        for (SolveControl child : children) {
+            used = Math.max(used, child.getBudgetUsed());
+        }
+        return used;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    /**
+     * 当前最优课表（只读副本，尚未发布时为 null）
+     *
+     * @return 课表
+     */
+    public Timetable getBestTimetable() {
+        Best current = best.get();
+        return current == null ? null : current.timetable();
+    }
+
+    /**
+     * 当前最优解的代价明细（尚未发布时为 null）
+     *
+     * @return 代价明细
+     */
+    public TimetableEvaluator.Score getBestScore() {
+        Best current = best.get();
+        return current == null ? null : current.score();
+    }
+
+    /**
+     * 当前最优解的来源策略（非组合求解或尚未发布时为 null）
+     *
+     * @return 策略名称
+     */
+    public String getBestStrategy() {
+        Best current = best.get();
+        return current == null ? null : current.strategy();
+    }
+
+    private record Best(Timetable timetable, TimetableEvaluator.Score score, String strategy) {
+    }
+}
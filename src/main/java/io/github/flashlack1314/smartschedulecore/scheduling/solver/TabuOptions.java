@@ -0,0 +1,39 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * 禁忌搜索参数
+ *
+ * @author flash
+ */
+@Data
+@Accessors(chain = true)
+public class TabuOptions {
+
+    /**
+     * 每次迭代评估的候选移动数
+     */
+    private int sampleSize = 64;
+
+    /**
+     * 禁忌期（迭代次数）：排课被移动后在此期间内不再移动，除非能得到新的最优解
+     */
+    private int tenure = 16;
+
+    /**
+     * 最大迭代次数
+     */
+    private long maxIterations = 2_000_000L;
+
+    /**
+     * 时间预算（毫秒）
+     */
+    private long timeLimitMillis = 30_000L;
+
+    /**
+     * 随机种子
+     */
+    private long seed = 20240901L;
+}
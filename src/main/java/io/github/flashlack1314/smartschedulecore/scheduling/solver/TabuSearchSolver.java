@@ -0,0 +1,130 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.SplittableRandom;
+
+/**
+ * 禁忌搜索优化器
+ * <p>
+ * 每次迭代随机抽取 {@link TabuOptions#getSampleSize()} 个单排课移动并逐个试探（增量评分后撤销），
+ * 执行其中代价增量最小的非禁忌移动，即使它使代价变差；被移动的排课在
+ * {@link TabuOptions#getTenure()} 次迭代内处于禁忌状态，除非移动后能得到新的最优解（特赦准则）。
+ * 代价定义与 {@link SimulatedAnnealingSolver} 相同，增量评分复用 {@link LocalSearchState}。
+ * 输出可能仍含冲突，写回前应经 {@link GreedyScheduler#repair} 修复。
+ * </p>
+ *
+ * @author flash
+ */
+@Slf4j
+public class TabuSearchSolver {
+
+    /**
+     * 每隔多少次迭代检查时间并汇报进度
+     */
+    private static final int CHECK_INTERVAL = 16;
+
+    private final TabuOptions options;
+
+    public TabuSearchSolver(TabuOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 从种子课表出发搜索
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（不会被修改）
+     * @return 搜索过程中代价最小的课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed) {
+        return solve(problem, seed, new SolveControl());
+    }
+
+    /**
+     * 从种子课表出发搜索，可随时通过控制器停止
+     *
+     * @param problem 排课问题
+     * @param seed    种子课表（不会被修改）
+     * @param control 进度与停止控制
+     * @return 停止时代价最小的课表
+     */
+    public Timetable solve(SchedulingProblem problem, Timetable seed, SolveControl control) {
+        int n = problem.assignmentCount();
+        if (n == 0) {
+            return seed.copy();
+        }
+        long start = System.nanoTime();
+        long budget = Math.max(1L, options.getTimeLimitMillis()) * 1_000_000L;
+        long maxIterations = Math.max(1L, options.getMaxIterations());
+        int sampleSize = Math.max(1, options.getSampleSize());
+        int tenure = Math.max(0, options.getTenure());
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+
+        LocalSearchState state = new LocalSearchState(problem, seed);
+        long cost = state.initialCost();
+        long bestCost = cost;
+        int[] bestSlots = state.slots().clone();
+        int[] bestRooms = state.rooms().clone();
+        control.publish(problem, seed);
+
+        // 排课 a 在 tabuUntil[a] 之前的迭代中禁忌
+        long[] tabuUntil = new long[n];
+        long iteration = 0;
+        long published = cost;
+        while (iteration < maxIterations && bestCost > 0) {
+            if (iteration % CHECK_INTERVAL == 0) {
+                if (bestCost < published) {
+                    published = bestCost;
+                    control.offer(problem, Timetable.wrap(bestSlots, bestRooms));
+                }
+                double progress = Math.max((double) (System.nanoTime() - start) / budget,
+                        (double) iteration / maxIterations);
+                control.report(iteration, progress);
+                if (progress >= 1.0 || control.isStopRequested()) {
+                    break;
+                }
+            }
+            iteration++;
+
+            int chosen = -1;
+            int chosenSlot = SchedulingProblem.UNASSIGNED;
+            int chosenRoom = SchedulingProblem.UNASSIGNED;
+            long chosenDelta = Long.MAX_VALUE;
+            for (int s = 0; s < sampleSize; s++) {
+                long delta = state.tryMove(random);
+                if (delta == LocalSearchState.NO_MOVE) {
+                    continue;
+                }
+                int a = state.lastMoved();
+                int slot = state.slotOf(a);
+                int room = state.roomOf(a);
+                state.undo();
+                boolean tabu = tabuUntil[a] > iteration && cost + delta >= bestCost;
+                if (!tabu && delta < chosenDelta) {
+                    chosen = a;
+                    chosenSlot = slot;
+                    chosenRoom = room;
+                    chosenDelta = delta;
+                }
+            }
+            if (chosen < 0) {
+                continue;
+            }
+            cost += state.moveTo(chosen, chosenSlot, chosenRoom);
+            tabuUntil[chosen] = iteration + tenure;
+            if (cost < bestCost) {
+                bestCost = cost;
+                System.arraycopy(state.slots(), 0, bestSlots, 0, n);
+                System.arraycopy(state.rooms(), 0, bestRooms, 0, n);
+            }
+        }
+        Timetable best = Timetable.wrap(bestSlots, bestRooms);
+        control.publish(problem, best);
+        log.info("禁忌搜索结束: iterations={}, bestCost={}, cost={}ms",
+                iteration, bestCost, (System.nanoTime() - start) / 1_000_000L);
+        return best;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.QualificationIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 教师自动分配器（排课前的可选阶段）
+ * <p>
+ * 为尚未指定教师的教学班从 {@link QualificationIndex} 中选择授课教师，同一教学班的全部排课使用同一位教师。
+ * 教学班按候选教师数从少到多、周学时从多到少处理；每次选择
+ * “当前周学时 + 排名代价”最小的候选教师，排名代价按非主讲、资格等级折算为学时，
+ * 从而在优先合适教师的同时均衡工作量。已指定教师的排课计入该教师的初始工作量。
+ * </p>
+ *
+ * @author flash
+ */
+public class TeacherAssigner {
+
+    /**
+     * 非主讲教师折算的周学时
+     */
+    static final int NON_PRIMARY_COST = 4;
+
+    /**
+     * 资格等级每低一级折算的周学时
+     */
+    static final int LEVEL_COST = 2;
+
+    private static final int MAX_LEVEL = 5;
+
+    /**
+     * 为学期快照中未指定教师的教学班分配教师
+     *
+     * @param snapshot 学期快照
+     * @param index    授课资格索引
+     * @return 分配结果
+     */
+    public Result assign(SemesterSnapshot snapshot, QualificationIndex index) {
+        UuidDictionary teacherIds = index.teacherIds();
+        int[] load = new int[teacherIds.size()];
+
+        // 教学班 -> 排课（保持快照顺序）
+        Map<String, List<ClassAssignmentDO>> byClass = new LinkedHashMap<>();
+        for (ClassAssignmentDO assignment : snapshot.getAssignments()) {
+            if (assignment.getTeacherUuid() != null) {
+                int teacher = teacherIds.idOf(assignment.getTeacherUuid());
+                if (teacher != UuidDictionary.ABSENT) {
+                    load[teacher] += weeklyPeriodsOf(assignment);
+                }
+            } else if (assignment.getTeachingClassUuid() != null) {
+                byClass.computeIfAbsent(assignment.getTeachingClassUuid(), key -> new ArrayList<>()).add(assignment);
+            }
+        }
+
+        List<Pending> pending = new ArrayList<>(byClass.size());
+        for (Map.Entry<String, List<ClassAssignmentDO>> entry : byClass.entrySet()) {
+            TeachingClassDO teachingClass = snapshot.getTeachingClassByUuid().get(entry.getKey());
+            String courseUuid = teachingClass != null && teachingClass.getCourseUuid() != null
+                    ? teachingClass.getCourseUuid()
+                    : entry.getValue().get(0).getCourseUuid();
+            int course = index.courseIdOf(courseUuid);
+            int periods = 0;
+            for (ClassAssignmentDO assignment : entry.getValue()) {
+                periods += weeklyPeriodsOf(assignment);
+            }
+            pending.add(new Pending(entry.getKey(), course, index.teachersOf(course).length, periods));
+        }
+        pending.sort(Comparator
+                .comparingInt((Pending p) -> p.candidates)
+                .thenComparingInt(p -> -p.periods));
+
+        Map<String, String> teacherByClass = new HashMap<>();
+        List<String> unstaffed = new ArrayList<>();
+        for (Pending item : pending) {
+            int[] candidates = index.teachersOf(item.course);
+            int best = -1;
+            long bestCost = Long.MAX_VALUE;
+            for (int rank = 0; rank < candidates.length; rank++) {
+                long cost = (long) load[candidates[rank]]
+                        + (index.isPrimary(item.course, rank) ? 0 : NON_PRIMARY_COST)
+                        + (long) LEVEL_COST * Math.max(0, MAX_LEVEL - index.levelOf(item.course, rank));
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = candidates[rank];
+                }
+            }
+            if (best < 0) {
+                unstaffed.add(item.teachingClassUuid);
+                continue;
+            }
+            load[best] += item.periods;
+            teacherByClass.put(item.teachingClassUuid, teacherIds.uuidOf(best));
+        }
+        return new Result(teacherByClass, unstaffed);
+    }
+
+    /**
+     * 排课的周学时（连堂节数，缺省为 2）
+     */
+    private static int weeklyPeriodsOf(ClassAssignmentDO assignment) {
+        return assignment.getConsecutiveSessions() == null ? 2 : Math.max(1, assignment.getConsecutiveSessions());
+    }
+
+    private record Pending(String teachingClassUuid, int course, int candidates, int periods) {
+    }
+
+    /**
+     * 教师分配结果
+     */
+    @Getter
+    public static final class Result {
+
+        /**
+         * 教学班UUID -> 分配的教师UUID
+         */
+        private final Map<String, String> teacherByTeachingClass;
+
+        /**
+         * 没有合格教师的教学班UUID
+         */
+        private final List<String> unstaffedTeachingClassUuids;
+
+        private Result(Map<String, String> teacherByTeachingClass, List<String> unstaffedTeachingClassUuids) {
+            this.teacherByTeachingClass = Collections.unmodifiableMap(teacherByTeachingClass);
+            this.unstaffedTeachingClassUuids = Collections.unmodifiableList(unstaffedTeachingClassUuids);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ResourceGrid;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelMatrix;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TeacherPreferenceScorer;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+
+/**
+ * 课表整体评分器
+ * <p>
+ * 代价 = 未安排数 × {@link #UNASSIGNED_WEIGHT} + 资源冲突数 × {@link #CLASH_WEIGHT}
+ * + 同一教学班同日多次上课数 × {@link #SAME_DAY_WEIGHT}
+ * + 教师偏好代价 × {@link #PREFERENCE_WEIGHT} + 跨校区通行不足数 × {@link #TRAVEL_WEIGHT}，越小越好。
+ * 资源冲突按排课计数：排课与先前已放入的排课在教师、教室、教学班任一资源上重叠，
+ * 或与包含相同行政班的其它教学班（如合班大课）的排课重叠，即记一次。
+ * 跨校区通行为硬约束时，教师或行政班来不及在校区间往返也计为资源冲突。
+ * </p>
+ * <p>
+ * 评分器持有可复用的占用网格，评估结束后会逐个释放以复原，
+ * 因此单个实例不是线程安全的，每个求解线程应各自持有一个实例。
+ * </p>
+ *
+ * @author flash
+ */
+public final class TimetableEvaluator {
+
+    public static final long UNASSIGNED_WEIGHT = 1_000_000L;
+
+    public static final long CLASH_WEIGHT = 10_000L;
+
+    public static final long SAME_DAY_WEIGHT = 1L;
+
+    public static final long PREFERENCE_WEIGHT = 1L;
+
+    /**
+     * 跨校区通行为软约束时每次通行不足的代价
+     */
+    public static final long TRAVEL_WEIGHT = 20L;
+
+    private final SchedulingProblem problem;
+
+    private final ResourceGrid teachers;
+
+    private final ResourceGrid classes;
+
+    private final ResourceGrid rooms;
+
+    private final ResourceGrid administrativeClasses;
+
+    /**
+     * 按校区拆分的教师、行政班占用，用于跨校区通行检查
+     */
+    private final CampusTravelMatrix travel;
+    private final ResourceGrid teacherCampuses;
+    private final ResourceGrid cohortCampuses;
+
+    /**
+     * 每个教学班已上课星期的位图
+     */
+    private final int[] classDays;
+
+    private final TeacherPreferenceScorer preferences;
+
+    /**
+     * 每个 (教师, 星期) 的课程数与节次位图，用于按日偏好代价
+     */
+    private final int[] teacherDayCourses;
+    private final int[] teacherDayPeriods;
+
+    /**
+     * 最近一次评估的代价明细
+     */
+    private long lastUnassigned;
+    private long lastClashes;
+    private long lastSoftPenalty;
+
+    public TimetableEvaluator(SchedulingProblem problem) {
+        this.problem = problem;
+        this.teachers = new ResourceGrid(problem.teacherCount());
+        this.classes = new ResourceGrid(problem.teachingClassCount());
+        this.rooms = new ResourceGrid(problem.roomCount());
+        this.administrativeClasses = new ResourceGrid(problem.administrativeClassCount());
+        this.classDays = new int[problem.teachingClassCount()];
+        this.travel = problem.getCampusTravel();
+        this.teacherCampuses = travel.newGrid(problem.teacherCount());
+        this.cohortCampuses = travel.newGrid(problem.administrativeClassCount());
+        this.preferences = problem.getPreferenceScorer();
+        int teacherDays = preferences.isEmpty() ? 0 : problem.teacherCount() * 8;
+        this.teacherDayCourses = new int[teacherDays];
+        this.teacherDayPeriods = new int[teacherDays];
+    }
+
+    /**
+     * 评估课表
+     *
+     * @param timetable 课表
+     * @return 代价
+     */
+    public long evaluate(Timetable timetable) {
+        return evaluate(timetable.slots(), timetable.rooms());
+    }
+
+    /**
+     * 评估以数组表示的课表
+     *
+     * @param slots  时间位置数组
+     * @param roomOf 教室下标数组
+     * @return 代价
+     */
+    public long evaluate(int[] slots, int[] roomOf) {
+        int[] teacherOf = problem.getTeacherOf();
+        int[] classOf = problem.getTeachingClassOf();
+        long[] weeksOf = problem.getWeeksOf();
+        int[][] cohortsOf = problem.getAdministrativeClassesOf();
+
+        long unassigned = 0;
+        long clashes = 0;
+        long sameDay = 0;
+        long preference = 0;
+        long travelMisses = 0;
+        boolean scorePreferences = !preferences.isEmpty();
+        boolean checkTravel = !travel.isEmpty();
+        for (int a = 0; a < slots.length; a++) {
+            int slot = slots[a];
+            int room = roomOf[a];
+            if (slot == SchedulingProblem.UNASSIGNED || room == SchedulingProblem.UNASSIGNED) {
+                unassigned++;
+                continue;
+            }
+            int weekday = problem.weekdayOf(slot);
+            int periods = problem.periodMaskOf(a, slot);
+            long weeks = weeksOf[a];
+            if (!teachers.isFree(teacherOf[a], weekday, periods, weeks)
+                    || !classes.isFree(classOf[a], weekday, periods, weeks)
+                    || !rooms.isFree(room, weekday, periods, weeks)
+                    || !administrativeClasses.isFree(cohortsOf[a], weekday, periods, weeks)) {
+                clashes++;
+            }
+            teachers.occupy(teacherOf[a], weekday, periods, weeks);
+            classes.occupy(classOf[a], weekday, periods, weeks);
+            rooms.occupy(room, weekday, periods, weeks);
+            administrativeClasses.occupy(cohortsOf[a], weekday, periods, weeks);
+
+            if (checkTravel) {
+                if (travel.violates(teacherCampuses, teacherOf[a], room, weekday, periods, weeks)
+                        || travel.violates(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks)) {
+                    travelMisses++;
+                }
+                travel.occupy(teacherCampuses, teacherOf[a], room, weekday, periods, weeks);
+                travel.occupy(cohortCampuses, cohortsOf[a], room, weekday, periods, weeks);
+            }
+
+            int dayBit = 1 << weekday;
+            if ((classDays[classOf[a]] & dayBit) != 0) {
+                sameDay++;
+            }
+            classDays[classOf[a]] |= dayBit;
+
+            if (scorePreferences) {
+                preference += preferences.placementPenalty(teacherOf[a], weekday, periods, room);
+                int teacherDay = teacherOf[a] * 8 + weekday;
+                teacherDayCourses[teacherDay]++;
+                teacherDayPeriods[teacherDay] |= periods;
+            }
+        }
+        if (scorePreferences) {
+            preference += dailyPenalties(slots, roomOf);
+        }
+        reset(slots, roomOf);
+        if (travel.isHard()) {
+            clashes += travelMisses;
+            travelMisses = 0;
+        }
+        lastUnassigned = unassigned;
+        lastClashes = clashes;
+        lastSoftPenalty = sameDay * SAME_DAY_WEIGHT + preference * PREFERENCE_WEIGHT + travelMisses * TRAVEL_WEIGHT;
+        return unassigned * UNASSIGNED_WEIGHT + clashes * CLASH_WEIGHT + lastSoftPenalty;
+    }
+
+    /**
+     * 评估课表并给出代价明细
+     *
+     * @param timetable 课表
+     * @return 代价明细
+     */
+    public Score score(Timetable timetable) {
+        long cost = evaluate(timetable);
+        return new Score(lastUnassigned, lastClashes, lastSoftPenalty, cost);
+    }
+
+    /**
+     * 代价是否不含硬约束违反（全部安排且无冲突）
+     *
+     * @param cost 代价
+     * @return 是否可行
+     */
+    public static boolean isFeasible(long cost) {
+        return cost < CLASH_WEIGHT;
+    }
+
+    /**
+     * 汇总各 (教师, 星期) 的按日偏好代价，并清零对应的统计
+     */
+    private long dailyPenalties(int[] slots, int[] roomOf) {
+        int[] teacherOf = problem.getTeacherOf();
+        long penalty = 0;
+        for (int a = 0; a < slots.length; a++) {
+            if (slots[a] == SchedulingProblem.UNASSIGNED || roomOf[a] == SchedulingProblem.UNASSIGNED) {
+                continue;
+            }
+            int teacherDay = teacherOf[a] * 8 + problem.weekdayOf(slots[a]);
+            if (teacherDayCourses[teacherDay] != 0) {
+                penalty += preferences.dailyPenalty(teacherOf[a], teacherDayCourses[teacherDay],
+                        teacherDayPeriods[teacherDay]);
+                teacherDayCourses[teacherDay] = 0;
+                teacherDayPeriods[teacherDay] = 0;
+            }
+        }
+        return penalty;
+    }
+
+    private void reset(int[] slots, int[] roomOf) {
+        int[] teacherOf = problem.getTeacherOf();
+        int[] classOf = problem.getTeachingClassOf();
+        for (int a = 0; a < slots.length; a++) {
+            int slot = slots[a];
+            if (slot == SchedulingProblem.UNASSIGNED || roomOf[a] == SchedulingProblem.UNASSIGNED) {
+                continue;
+            }
+            int weekday = problem.weekdayOf(slot);
+            int periods = problem.periodMaskOf(a, slot);
+            long weeks = problem.getWeeksOf()[a];
+            teachers.release(teacherOf[a], weekday, periods, weeks);
+            classes.release(classOf[a], weekday, periods, weeks);
+            rooms.release(roomOf[a], weekday, periods, weeks);
+            administrativeClasses.release(problem.getAdministrativeClassesOf()[a], weekday, periods, weeks);
+            travel.release(teacherCampuses, teacherOf[a], roomOf[a], weekday, periods, weeks);
+            travel.release(cohortCampuses, problem.getAdministrativeClassesOf()[a], roomOf[a], weekday, periods, weeks);
+            classDays[classOf[a]] = 0;
+        }
+    }
+
+    /**
+     * 代价明细
+     *
+     * @param unassigned  未安排数
+     * @param clashes     资源冲突数（含硬约束下的跨校区通行不足）
+     * @param softPenalty 软约束代价
+     * @param cost        总代价
+     */
+    public record Score(long unassigned, long clashes, long softPenalty, long cost) {
+
+        /**
+         * 硬约束违反数
+         *
+         * @return 未安排数 + 资源冲突数
+         */
+        public long hardViolations() {
+            return unassigned + clashes;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.BatchImportDTO;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 批量导入服务接口
+ * <p>
+ * 导入文件为 csv/xlsx/xls，第一行为列名。文件逐行流式解析，唯一性与外键编码只在内存中校验，
+ * 校验通过的行按批通过 COPY 写入；校验失败的行跳过并返回行级错误，不影响其余行
+ * </p>
+ *
+ * @author flash
+ */
+public interface BatchImportService {
+
+    /**
+     * 批量导入学校
+     *
+     * @param file 导入文件
+     * @return 导入结果
+     */
+    BatchImportDTO importSchools(MultipartFile file);
+
+    /**
+     * 批量导入院系
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    BatchImportDTO importDepartments(String schoolUuid, MultipartFile file);
+
+    /**
+     * 批量导入专业（院系按院系代码匹配）
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    BatchImportDTO importMajors(String schoolUuid, MultipartFile file);
+
+    /**
+     * 批量导入教师（院系、教师类型按代码匹配）
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    BatchImportDTO importTeachers(String schoolUuid, MultipartFile file);
+
+    /**
+     * 批量导入学生（院系、专业、行政班按代码匹配，年级按名称匹配）
+     *
+     * @param schoolUuid 学校UUID
+     * @param file       导入文件
+     * @return 导入结果
+     */
+    BatchImportDTO importStudents(String schoolUuid, MultipartFile file);
+}
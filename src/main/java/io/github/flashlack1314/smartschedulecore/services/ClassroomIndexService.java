@@ -0,0 +1,27 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ClassroomIndex;
+
+/**
+ * 教室查找索引服务接口
+ * 负责按学校构建和缓存内存中的教室查找索引
+ *
+ * @author flash
+ */
+public interface ClassroomIndexService {
+
+    /**
+     * 获取学校的教室查找索引（不存在时从数据库构建，仅含启用的教室）
+     *
+     * @param schoolUuid 学校UUID
+     * @return 教室查找索引
+     */
+    ClassroomIndex getIndex(String schoolUuid);
+
+    /**
+     * 清除学校的教室查找索引缓存（教室信息变更后调用）
+     *
+     * @param schoolUuid 学校UUID
+     */
+    void evictIndex(String schoolUuid);
+}
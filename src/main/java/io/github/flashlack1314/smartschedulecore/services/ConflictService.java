@@ -0,0 +1,38 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ConflictDetectDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ConflictDetectVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+
+import java.util.List;
+
+/**
+ * 排课冲突服务接口
+ *
+ * @author flash
+ */
+public interface ConflictService {
+
+    /**
+     * 批量检测学期内的教师、教室、班级冲突并写入冲突表
+     * 未解决的旧冲突记录会被替换，已解决或忽略的冲突保持不变
+     *
+     * @param conflictDetectVO 检测参数
+     * @return 检测结果
+     */
+    ConflictDetectDTO detectConflicts(ConflictDetectVO conflictDetectVO);
+
+    /**
+     * 增量同步单条排课的冲突记录
+     * 新出现的冲突写入冲突表；该排课已不再存在的未解决冲突标记为已解决；已解决或忽略的冲突保持不变
+     *
+     * @param schoolUuid     学校UUID
+     * @param semesterUuid   学期UUID
+     * @param assignmentUuid 排课UUID
+     * @param conflicts      该排课当前的全部冲突
+     * @return 冲突列表及新增、解除的记录数
+     */
+    AssignmentAdjustDTO syncAssignmentConflicts(String schoolUuid, String semesterUuid, String assignmentUuid,
+                                                List<DetectedConflict> conflicts);
+}
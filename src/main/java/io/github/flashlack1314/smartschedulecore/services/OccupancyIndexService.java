@@ -0,0 +1,71 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+
+/**
+ * 学期占用索引服务接口
+ * 负责按 (学校, 学期) 构建、缓存和维护内存中的占用位图索引
+ *
+ * @author flash
+ */
+public interface OccupancyIndexService {
+
+    /**
+     * 获取学期占用索引（不存在时从数据库构建）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 占用索引
+     */
+    OccupancyIndex getIndex(String schoolUuid, String semesterUuid);
+
+    /**
+     * 从数据库重新构建学期占用索引
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 新的占用索引
+     */
+    OccupancyIndex rebuildIndex(String schoolUuid, String semesterUuid);
+
+    /**
+     * 同步单条排课记录的变更到已缓存的索引（未缓存时忽略）
+     *
+     * @param assignment 变更后的排课记录
+     */
+    void onAssignmentChanged(ClassAssignmentDO assignment);
+
+    /**
+     * 从已缓存的索引中移除单条排课记录（未缓存时忽略）
+     *
+     * @param schoolUuid     学校UUID
+     * @param semesterUuid   学期UUID
+     * @param assignmentUuid 排课UUID
+     */
+    void onAssignmentRemoved(String schoolUuid, String semesterUuid, String assignmentUuid);
+
+    /**
+     * 清除学期占用索引缓存
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     */
+    void evictIndex(String schoolUuid, String semesterUuid);
+
+    /**
+     * 当前事务提交后清除学期占用索引缓存（不在事务中时立即清除）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     */
+    void evictIndexAfterCommit(String schoolUuid, String semesterUuid);
+
+    /**
+     * 当前事务回滚时清除学期占用索引缓存（用于已提前同步到索引的写操作；不在事务中时忽略）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     */
+    void evictIndexOnRollback(String schoolUuid, String semesterUuid);
+}
@@ -0,0 +1,58 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDiffDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.ScheduleVersionCreateVO;
+
+import java.util.List;
+
+/**
+ * 课表版本服务接口
+ * 版本只存储相对父版本发生变化的排课，未变化的排课沿父版本链继承
+ *
+ * @author flash
+ */
+public interface ScheduleVersionService {
+
+    /**
+     * 把学期当前课表保存为新的草稿版本
+     *
+     * @param scheduleVersionCreateVO 版本参数
+     * @return 新版本
+     */
+    ScheduleVersionDTO createVersion(ScheduleVersionCreateVO scheduleVersionCreateVO);
+
+    /**
+     * 查询学期的全部课表版本
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 版本列表（按创建时间倒序）
+     */
+    List<ScheduleVersionDTO> listVersions(String schoolUuid, String semesterUuid);
+
+    /**
+     * 发布草稿版本：把版本内容写回学期当前课表，原已发布的版本转为归档
+     *
+     * @param versionUuid 版本UUID
+     * @return 发布后的版本（含写回的排课数）
+     */
+    ScheduleVersionDTO publishVersion(String versionUuid);
+
+    /**
+     * 归档草稿版本
+     *
+     * @param versionUuid 版本UUID
+     * @return 归档后的版本
+     */
+    ScheduleVersionDTO archiveVersion(String versionUuid);
+
+    /**
+     * 比较两个版本
+     *
+     * @param fromVersionUuid 基准版本UUID
+     * @param toVersionUuid   目标版本UUID
+     * @return 版本差异
+     */
+    ScheduleVersionDiffDTO diffVersions(String fromVersionUuid, String toVersionUuid);
+}
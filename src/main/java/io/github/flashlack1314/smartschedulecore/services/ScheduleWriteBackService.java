@@ -0,0 +1,29 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleWriteBackDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+
+import java.util.List;
+
+/**
+ * 排课结果写回服务接口
+ * 负责在独立的短事务中把求解得到的课表写回数据库（求解本身不持有事务）
+ *
+ * @author flash
+ */
+public interface ScheduleWriteBackService {
+
+    /**
+     * 比较课表与加载时的排课记录，只写回实际变化的排课和字段，并同步已缓存的占用索引。
+     * 加载后已被其它操作修改的排课不写回
+     *
+     * @param problem     排课问题
+     * @param assignments 加载时的排课记录（与排课问题的排课下标一致）
+     * @param timetable   求解得到的课表
+     * @return 写回的变更与未写回的排课
+     */
+    ScheduleWriteBackDTO writeBack(SchedulingProblem problem, List<ClassAssignmentDO> assignments,
+                                   Timetable timetable);
+}
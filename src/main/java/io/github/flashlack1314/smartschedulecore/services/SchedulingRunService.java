@@ -0,0 +1,54 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.SchedulingRunDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 后台排课任务服务接口
+ * 在后台线程中执行自动排课，通过 SSE 推送进度，并支持随时取消或采用当前最优解
+ *
+ * @author flash
+ */
+public interface SchedulingRunService {
+
+    /**
+     * 提交后台排课任务
+     *
+     * @param autoScheduleVO 自动排课参数
+     * @return 任务状态
+     */
+    SchedulingRunDTO startRun(AutoScheduleVO autoScheduleVO);
+
+    /**
+     * 订阅任务进度（定期推送 progress 事件，结束时推送 finished 事件并关闭连接）
+     *
+     * @param runId 任务ID
+     * @return SSE 连接
+     */
+    SseEmitter subscribe(String runId);
+
+    /**
+     * 查询任务状态
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    SchedulingRunDTO getRun(String runId);
+
+    /**
+     * 提前停止任务并写回当前最优解
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    SchedulingRunDTO acceptRun(String runId);
+
+    /**
+     * 取消任务，不写回任何结果
+     *
+     * @param runId 任务ID
+     * @return 任务状态
+     */
+    SchedulingRunDTO cancelRun(String runId);
+}
@@ -0,0 +1,86 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AutoScheduleDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.DomainPropagationDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.FreeRoomDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TeacherSatisfactionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.TimeSlotAssignmentDTO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AssignmentAdjustVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.FreeRoomQueryVO;
+import io.github.flashlack1314.smartschedulecore.models.vo.TimeSlotQueryVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SolveControl;
+
+import java.util.List;
+
+/**
+ * 排课服务接口
+ *
+ * @author flash
+ */
+public interface SchedulingService {
+
+    /**
+     * 自动排课（贪心构造）
+     * 为学期内的排课填充上课时间与教室，并写回数据库
+     *
+     * @param autoScheduleVO 自动排课参数
+     * @return 排课结果
+     */
+    AutoScheduleDTO autoSchedule(AutoScheduleVO autoScheduleVO);
+
+    /**
+     * 自动排课（可控制）
+     * 求解期间通过控制器汇报进度、发布最优解；提前停止时写回当前最优解，取消时不写回
+     *
+     * @param autoScheduleVO 自动排课参数
+     * @param control        进度与停止控制
+     * @return 排课结果
+     */
+    AutoScheduleDTO autoSchedule(AutoScheduleVO autoScheduleVO, SolveControl control);
+
+    /**
+     * 手动调整单条排课的时间与教室
+     * 仅复查该排课的教师、教室、教学班占用，并增量维护相关的冲突记录
+     *
+     * @param assignmentAdjustVO 调整参数
+     * @return 调整结果（含调整后的冲突）
+     */
+    AssignmentAdjustDTO adjustAssignment(AssignmentAdjustVO assignmentAdjustVO);
+
+    /**
+     * 按当前课表统计每位教师的偏好满意度
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 每位教师的满意度明细
+     */
+    List<TeacherSatisfactionDTO> getTeacherSatisfaction(String schoolUuid, String semesterUuid);
+
+    /**
+     * 按固定排课对学期执行约束传播，返回各排课收缩后的定义域与不可行的排课
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 约束传播结果
+     */
+    DomainPropagationDTO getDomainPropagation(String schoolUuid, String semesterUuid);
+
+    /**
+     * 查询指定时间段内满足条件的空闲教室
+     * 先用教室查找索引按类型、校区、容量、设施与标签筛选，再用学期占用索引判断是否空闲
+     *
+     * @param freeRoomQueryVO 查询参数
+     * @return 空闲教室（按容量升序）
+     */
+    List<FreeRoomDTO> searchFreeRooms(FreeRoomQueryVO freeRoomQueryVO);
+
+    /**
+     * 查询在指定周次、星期、节次上课的排课，可按教师、教室、教学楼、校区筛选
+     *
+     * @param timeSlotQueryVO 查询参数
+     * @return 排课列表（按排课UUID排序）
+     */
+    List<TimeSlotAssignmentDTO> searchAssignmentsAt(TimeSlotQueryVO timeSlotQueryVO);
+}
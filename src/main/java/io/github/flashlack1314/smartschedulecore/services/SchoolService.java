@@ -1,5 +1,6 @@
 package io.github.flashlack1314.smartschedulecore.services;
 
+import io.github.flashlack1314.smartschedulecore.models.dto.KeysetPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolDTO;
 import io.github.flashlack1314.smartschedulecore.models.dto.SchoolPageDTO;
 import io.github.flashlack1314.smartschedulecore.models.vo.SchoolCreateVO;
@@ -21,6 +22,14 @@ public interface SchoolService {
      */
     SchoolPageDTO getSchoolPage(SchoolQueryVO queryVO);
 
+    /**
+     * 游标分页查询学校列表（按创建时间倒序，翻页耗时与页码无关）
+     *
+     * @param queryVO 查询条件（使用 cursor、pageSize 与 withTotal，忽略 pageNum）
+     * @return 分页结果
+     */
+    KeysetPageDTO<SchoolDTO> getSchoolKeysetPage(SchoolQueryVO queryVO);
+
     /**
      * 根据UUID获取学校详情
      *
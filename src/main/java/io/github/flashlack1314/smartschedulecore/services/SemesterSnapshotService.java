@@ -0,0 +1,21 @@
+package io.github.flashlack1314.smartschedulecore.services;
+
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+
+/**
+ * 学期快照服务接口
+ * 负责流式加载一个学期求解所需的全部数据
+ *
+ * @author flash
+ */
+public interface SemesterSnapshotService {
+
+    /**
+     * 加载学期快照（每张表只查询一次，按游标流式读取）
+     *
+     * @param schoolUuid   学校UUID
+     * @param semesterUuid 学期UUID
+     * @return 只读快照
+     */
+    SemesterSnapshot loadSnapshot(String schoolUuid, String semesterUuid);
+}
@@ -0,0 +1,42 @@
+package io.github.flashlack1314.smartschedulecore.utils;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * MyBatis 游标工具类
+ * 逐行遍历流式查询结果，遍历结束后关闭游标
+ *
+ * @author flash
+ */
+public class CursorUtils {
+
+    private CursorUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 逐行消费游标并关闭
+     *
+     * @param cursor   游标（需在事务内打开）
+     * @param consumer 行处理器
+     * @param <T>      行类型
+     * @return 处理的行数
+     */
+    public static <T> int forEach(Cursor<T> cursor, Consumer<? super T> consumer) {
+        int count = 0;
+        try (cursor) {
+            for (T row : cursor) {
+                consumer.accept(row);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new BusinessException("关闭数据库游标失败: " + e.getMessage(), ErrorCode.DATABASE_ERROR);
+        }
+        return count;
+    }
+}
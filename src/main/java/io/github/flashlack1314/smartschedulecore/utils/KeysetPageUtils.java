@@ -0,0 +1,139 @@
+package io.github.flashlack1314.smartschedulecore.utils;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.KeysetPageDTO;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 游标（keyset）分页工具类
+ * <p>
+ * 按 (created_at, 主键) 倒序分页：下一页条件为 `(created_at, 主键) < (上一页最后一行)`，
+ * 配合同序的联合索引可直接定位到起点，翻页耗时与页码无关（OFFSET 需要先扫描并丢弃前面所有行）。
+ * 实体需包含 createdAt 字段；查询条件中不要再添加排序。
+ * </p>
+ *
+ * @author flash
+ */
+public class KeysetPageUtils {
+
+    private static final String CREATED_AT_PROPERTY = "createdAt";
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private KeysetPageUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 游标分页查询
+     *
+     * @param dao       实体 DAO
+     * @param wrapper   查询条件（不含排序，会被追加游标条件）
+     * @param cursor    上一页返回的游标（首页为空）
+     * @param size      每页大小
+     * @param withTotal 首页是否统计总数
+     * @param converter 记录转换器
+     * @param <T>       实体类型
+     * @param <R>       记录类型
+     * @return 分页结果
+     */
+    public static <T, R> KeysetPageDTO<R> page(ServiceImpl<? extends BaseMapper<T>, T> dao,
+                                               LambdaQueryWrapper<T> wrapper, String cursor, int size,
+                                               boolean withTotal, Function<T, R> converter) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(dao.getEntityClass());
+        String createdAtColumn = createdAtColumnOf(tableInfo);
+        String keyColumn = tableInfo.getKeyColumn();
+
+        Long total = null;
+        if (StringUtils.hasText(cursor)) {
+            Object[] key = decode(cursor);
+            wrapper.apply("(" + createdAtColumn + ", " + keyColumn + ") < ({0}, {1})", key[0], key[1]);
+        } else if (withTotal) {
+            total = dao.count(wrapper);
+        }
+        wrapper.last(orderAndLimit(createdAtColumn, keyColumn, size));
+        return toPage(dao.list(wrapper), size, converter,
+                last -> encode(tableInfo.getPropertyValue(last, CREATED_AT_PROPERTY),
+                        tableInfo.getPropertyValue(last, tableInfo.getKeyProperty())))
+                .setTotal(total);
+    }
+
+    /**
+     * 排序与行数限制子句：多取一行用于判断是否还有下一页
+     */
+    static String orderAndLimit(String createdAtColumn, String keyColumn, int size) {
+        return "ORDER BY " + createdAtColumn + " DESC, " + keyColumn + " DESC LIMIT " + (size + 1);
+    }
+
+    /**
+     * 把最多 size + 1 行的查询结果截取为一页，并由本页最后一行生成下一页游标
+     *
+     * @param rows      查询结果（按分页顺序）
+     * @param size      每页大小
+     * @param converter 记录转换器
+     * @param cursorOf  由一行生成游标
+     * @return 分页结果（不含总数）
+     */
+    static <T, R> KeysetPageDTO<R> toPage(List<T> rows, int size, Function<T, R> converter,
+                                          Function<T, String> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<R> records = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            records.add(converter.apply(rows.get(i)));
+        }
+        return new KeysetPageDTO<R>()
+                .setRecords(records)
+                .setSize(size)
+                .setHasMore(hasMore)
+                .setNextCursor(hasMore ? cursorOf.apply(rows.get(size - 1)) : null);
+    }
+
+    private static String createdAtColumnOf(TableInfo tableInfo) {
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            if (CREATED_AT_PROPERTY.equals(field.getProperty())) {
+                return field.getColumn();
+            }
+        }
+        throw new IllegalArgumentException("实体缺少 createdAt 字段，无法游标分页: " + tableInfo.getTableName());
+    }
+
+    /**
+     * 编码游标：base64url("创建时间|主键")
+     */
+    static String encode(Object createdAt, Object key) {
+        if (createdAt == null || key == null) {
+            throw new BusinessException("记录缺少创建时间或主键，无法生成分页游标", ErrorCode.DATABASE_ERROR);
+        }
+        String raw = createdAt + CURSOR_SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标
+     *
+     * @return {创建时间, 主键}
+     */
+    static Object[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            return new Object[]{LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1)};
+        } catch (RuntimeException e) {
+            throw new BusinessException("分页游标格式不正确", ErrorCode.PARAM_ERROR);
+        }
+    }
+}
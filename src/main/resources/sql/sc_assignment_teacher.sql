@@ -0,0 +1,4 @@
+-- 排课教师允许为空：教师为空的排课表示待分配教师，由自动排课按授课资格分配（assignTeachers）
+-- 分区表上修改父表即作用于全部分区；已允许为空时该语句不做任何修改
+ALTER TABLE sc_class_assignment ALTER COLUMN teacher_uuid DROP NOT NULL;
+COMMENT ON COLUMN sc_class_assignment.teacher_uuid IS '教师（为空表示待分配教师）';
@@ -1,11 +1,11 @@
--- 排课表（最核心表）
+-- 排课表（最核心表，按学期列表分区，分区由 sc_partition.sql 按学期创建）
 CREATE TABLE sc_class_assignment
 (
-    class_assignment_uuid VARCHAR(32) NOT NULL PRIMARY KEY,
+    class_assignment_uuid VARCHAR(32) NOT NULL,
     school_uuid           VARCHAR(32) NOT NULL,
     semester_uuid         VARCHAR(32) NOT NULL,
     course_uuid           VARCHAR(32) NOT NULL,
-    teacher_uuid          VARCHAR(32) NOT NULL,
+    teacher_uuid          VARCHAR(32),
     teaching_class_uuid   VARCHAR(32) NOT NULL,
     campus_uuid           VARCHAR(32) NOT NULL,
     building_uuid         VARCHAR(32) NOT NULL,
@@ -20,18 +20,20 @@ CREATE TABLE sc_class_assignment
     consecutive_sessions  SMALLINT       DEFAULT 2,
     scheduling_priority   SMALLINT       DEFAULT 100,
     created_at            TIMESTAMP      DEFAULT CURRENT_TIMESTAMP,
-    updated_at            TIMESTAMP      DEFAULT CURRENT_TIMESTAMP
-);
+    updated_at            TIMESTAMP      DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (class_assignment_uuid, semester_uuid)
+) PARTITION BY LIST (semester_uuid);
 
--- 普通索引
+-- 默认分区（接收尚未创建分区的学期，正常情况下为空）
+CREATE TABLE sc_class_assignment_default PARTITION OF sc_class_assignment DEFAULT;
+
+-- 普通索引（在各分区上创建；分区内学期唯一，不再需要学期索引）
 CREATE INDEX idx_assignment_school ON sc_class_assignment (school_uuid);
-CREATE INDEX idx_assignment_semester ON sc_class_assignment (semester_uuid);
 CREATE INDEX idx_assignment_course ON sc_class_assignment (course_uuid);
 CREATE INDEX idx_assignment_teacher ON sc_class_assignment (teacher_uuid);
 CREATE INDEX idx_assignment_teaching_class ON sc_class_assignment (teaching_class_uuid);
 CREATE INDEX idx_assignment_classroom ON sc_class_assignment (classroom_uuid);
 CREATE INDEX idx_assignment_priority ON sc_class_assignment (scheduling_priority);
-CREATE INDEX idx_assignment_school_semester ON sc_class_assignment (school_uuid, semester_uuid);
 
 -- 注释
 COMMENT ON TABLE sc_class_assignment IS '排课表';
@@ -39,7 +41,7 @@ COMMENT ON COLUMN sc_class_assignment.class_assignment_uuid IS '排课主键';
 COMMENT ON COLUMN sc_class_assignment.school_uuid IS '关联学校';
 COMMENT ON COLUMN sc_class_assignment.semester_uuid IS '学期';
 COMMENT ON COLUMN sc_class_assignment.course_uuid IS '课程';
-COMMENT ON COLUMN sc_class_assignment.teacher_uuid IS '教师';
+COMMENT ON COLUMN sc_class_assignment.teacher_uuid IS '教师（为空表示待分配教师）';
 COMMENT ON COLUMN sc_class_assignment.teaching_class_uuid IS '教学班';
 COMMENT ON COLUMN sc_class_assignment.campus_uuid IS '校区';
 COMMENT ON COLUMN sc_class_assignment.building_uuid IS '教学楼';
@@ -0,0 +1,6 @@
+-- 游标分页索引（与 KeysetPageUtils 的排序 created_at DESC, 主键 DESC 一致）
+-- 下一页条件 (created_at, 主键) < (?, ?) 直接在索引上定位起点，翻页耗时与页码无关
+CREATE INDEX IF NOT EXISTS idx_school_keyset ON sc_school (created_at DESC, school_uuid DESC);
+CREATE INDEX IF NOT EXISTS idx_student_keyset ON sc_student (created_at DESC, student_uuid DESC);
+CREATE INDEX IF NOT EXISTS idx_teacher_keyset ON sc_teacher (created_at DESC, teacher_uuid DESC);
+CREATE INDEX IF NOT EXISTS idx_assignment_keyset ON sc_class_assignment (created_at DESC, class_assignment_uuid DESC);
@@ -0,0 +1,143 @@
+-- 按学期分区：sc_class_assignment、sc_scheduling_conflict 按 semester_uuid 列表分区
+-- 每个学期一个分区，命名为 <表名>_<学期UUID>；新增学期时由触发器自动创建分区，
+-- 旧学期可调用 sc_detach_semester_partitions 分离为独立表后归档或删除
+
+-- 为学期创建分区（表未分区、分区已存在或默认分区中已有该学期的数据时跳过）
+CREATE OR REPLACE FUNCTION sc_create_semester_partitions(p_semester_uuid VARCHAR) RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    parent_table    TEXT;
+    partition_table TEXT;
+    pending         BOOLEAN;
+BEGIN
+    FOREACH parent_table IN ARRAY ARRAY ['sc_class_assignment', 'sc_scheduling_conflict']
+        LOOP
+            partition_table := parent_table || '_' || p_semester_uuid;
+            IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relname = parent_table AND relkind = 'p')
+                OR to_regclass(partition_table) IS NOT NULL THEN
+                CONTINUE;
+            END IF;
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE semester_uuid = $1)', parent_table || '_default')
+                INTO pending USING p_semester_uuid;
+            IF pending THEN
+                RAISE WARNING '默认分区 %_default 中已有学期 % 的数据，跳过创建分区', parent_table, p_semester_uuid;
+                CONTINUE;
+            END IF;
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES IN (%L)',
+                           partition_table, parent_table, p_semester_uuid);
+        END LOOP;
+END
+$$;
+
+-- 分离学期分区（分离后为独立表，可导出归档或直接删除）
+CREATE OR REPLACE FUNCTION sc_detach_semester_partitions(p_semester_uuid VARCHAR) RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    parent_table    TEXT;
+    partition_table TEXT;
+BEGIN
+    FOREACH parent_table IN ARRAY ARRAY ['sc_class_assignment', 'sc_scheduling_conflict']
+        LOOP
+            partition_table := parent_table || '_' || p_semester_uuid;
+            IF EXISTS (SELECT 1
+                       FROM pg_inherits
+                       WHERE inhrelid = to_regclass(partition_table)
+                         AND inhparent = to_regclass(parent_table)) THEN
+                EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_table);
+            END IF;
+        END LOOP;
+END
+$$;
+
+-- 将未分区的旧表转换为按学期分区的表（已分区时跳过）
+CREATE OR REPLACE FUNCTION sc_partition_by_semester(p_table TEXT, p_key TEXT) RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    legacy_table  TEXT := p_table || '_unpartitioned';
+    index_names   TEXT[];
+    index_defs    TEXT[];
+    index_def     TEXT;
+    column_list   TEXT;
+    table_comment TEXT;
+    semester      VARCHAR;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relname = p_table AND relkind = 'r') THEN
+        RETURN;
+    END IF;
+
+    -- 保存普通索引定义（主键和学期索引除外），删除后在分区表上重建
+    SELECT array_agg(indexname), array_agg(indexdef)
+    INTO index_names, index_defs
+    FROM pg_indexes
+    WHERE schemaname = current_schema()
+      AND tablename = p_table
+      AND indexname <> p_table || '_pkey'
+      AND indexdef NOT LIKE '%(semester_uuid)'
+      AND indexdef NOT LIKE '%(school_uuid, semester_uuid)';
+    IF index_names IS NOT NULL THEN
+        EXECUTE format('DROP INDEX %s', array_to_string(
+                ARRAY(SELECT quote_ident(name) FROM unnest(index_names) AS name), ', '));
+    END IF;
+    table_comment := obj_description(to_regclass(p_table), 'pg_class');
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', p_table, legacy_table);
+    EXECUTE format('ALTER INDEX IF EXISTS %I RENAME TO %I', p_table || '_pkey', legacy_table || '_pkey');
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING COMMENTS, '
+                       || 'PRIMARY KEY (%I, semester_uuid)) PARTITION BY LIST (semester_uuid)',
+                   p_table, legacy_table, p_key);
+    EXECUTE format('COMMENT ON TABLE %I IS %L', p_table, table_comment);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', p_table || '_default', p_table);
+    FOREACH index_def IN ARRAY COALESCE(index_defs, ARRAY []::TEXT[])
+        LOOP
+            EXECUTE index_def;
+        END LOOP;
+
+    FOR semester IN EXECUTE format('SELECT DISTINCT semester_uuid FROM %I', legacy_table)
+        LOOP
+            PERFORM sc_create_semester_partitions(semester);
+        END LOOP;
+    SELECT string_agg(quote_ident(column_name), ', ' ORDER BY ordinal_position)
+    INTO column_list
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = legacy_table
+      AND is_generated = 'NEVER';
+    EXECUTE format('INSERT INTO %I (%s) SELECT %s FROM %I', p_table, column_list, column_list, legacy_table);
+    EXECUTE format('DROP TABLE %I', legacy_table);
+    RAISE NOTICE '已将 % 转换为按学期分区的表', p_table;
+END
+$$;
+
+-- 新增学期时自动创建分区
+CREATE OR REPLACE FUNCTION sc_semester_partition_trigger() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    PERFORM sc_create_semester_partitions(NEW.semester_uuid);
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_semester_partition ON sc_semester;
+CREATE TRIGGER trg_semester_partition
+    AFTER INSERT
+    ON sc_semester
+    FOR EACH ROW
+EXECUTE FUNCTION sc_semester_partition_trigger();
+
+-- 转换旧表并为已有学期补建分区
+SELECT sc_partition_by_semester('sc_class_assignment', 'class_assignment_uuid');
+SELECT sc_partition_by_semester('sc_scheduling_conflict', 'conflict_uuid');
+SELECT sc_create_semester_partitions(semester_uuid) FROM sc_semester;
+
+-- 注释
+COMMENT ON FUNCTION sc_create_semester_partitions(VARCHAR) IS '为学期创建排课表与冲突表分区';
+COMMENT ON FUNCTION sc_detach_semester_partitions(VARCHAR) IS '分离学期的排课表与冲突表分区';
+COMMENT ON FUNCTION sc_partition_by_semester(TEXT, TEXT) IS '将未分区的表转换为按学期分区';
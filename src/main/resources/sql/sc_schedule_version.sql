@@ -0,0 +1,34 @@
+-- 课表版本表
+CREATE TABLE sc_schedule_version
+(
+    schedule_version_uuid VARCHAR(32) NOT NULL PRIMARY KEY,
+    school_uuid           VARCHAR(32) NOT NULL,
+    semester_uuid         VARCHAR(32) NOT NULL,
+    parent_version_uuid   VARCHAR(32),
+    version_name          VARCHAR(64) NOT NULL,
+    version_status        SMALLINT  DEFAULT 0,
+    stored_count          INT       DEFAULT 0,
+    remark                VARCHAR(255),
+    published_at          TIMESTAMP,
+    created_at            TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at            TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 普通索引
+CREATE INDEX idx_version_school_semester ON sc_schedule_version (school_uuid, semester_uuid);
+CREATE INDEX idx_version_parent ON sc_schedule_version (parent_version_uuid);
+
+-- 唯一索引（每个学期至多一个已发布版本）
+CREATE UNIQUE INDEX uk_version_published ON sc_schedule_version (school_uuid, semester_uuid) WHERE version_status = 1;
+
+-- 注释
+COMMENT ON TABLE sc_schedule_version IS '课表版本表';
+COMMENT ON COLUMN sc_schedule_version.schedule_version_uuid IS '版本主键';
+COMMENT ON COLUMN sc_schedule_version.school_uuid IS '关联学校';
+COMMENT ON COLUMN sc_schedule_version.semester_uuid IS '学期';
+COMMENT ON COLUMN sc_schedule_version.parent_version_uuid IS '父版本(未存储的排课沿用父版本)';
+COMMENT ON COLUMN sc_schedule_version.version_name IS '版本名称';
+COMMENT ON COLUMN sc_schedule_version.version_status IS '版本状态(0:草稿 1:已发布 2:已归档)';
+COMMENT ON COLUMN sc_schedule_version.stored_count IS '本版本存储的排课数(相对父版本发生变化的排课)';
+COMMENT ON COLUMN sc_schedule_version.remark IS '备注';
+COMMENT ON COLUMN sc_schedule_version.published_at IS '发布时间';
@@ -0,0 +1,27 @@
+-- 课表版本排课表（只存储相对父版本发生变化的排课）
+CREATE TABLE sc_schedule_version_assignment
+(
+    version_assignment_uuid VARCHAR(32) NOT NULL PRIMARY KEY,
+    schedule_version_uuid   VARCHAR(32) NOT NULL,
+    class_assignment_uuid   VARCHAR(32) NOT NULL,
+    teacher_uuid            VARCHAR(32),
+    class_time              JSONB,
+    classroom_uuid          VARCHAR(32),
+    building_uuid           VARCHAR(32),
+    campus_uuid             VARCHAR(32),
+    created_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 唯一索引
+CREATE UNIQUE INDEX uk_version_assignment ON sc_schedule_version_assignment (schedule_version_uuid, class_assignment_uuid);
+
+-- 注释
+COMMENT ON TABLE sc_schedule_version_assignment IS '课表版本排课表';
+COMMENT ON COLUMN sc_schedule_version_assignment.version_assignment_uuid IS '主键';
+COMMENT ON COLUMN sc_schedule_version_assignment.schedule_version_uuid IS '课表版本';
+COMMENT ON COLUMN sc_schedule_version_assignment.class_assignment_uuid IS '排课';
+COMMENT ON COLUMN sc_schedule_version_assignment.teacher_uuid IS '教师';
+COMMENT ON COLUMN sc_schedule_version_assignment.class_time IS '上课时间(未安排为空)';
+COMMENT ON COLUMN sc_schedule_version_assignment.classroom_uuid IS '教室';
+COMMENT ON COLUMN sc_schedule_version_assignment.building_uuid IS '教学楼';
+COMMENT ON COLUMN sc_schedule_version_assignment.campus_uuid IS '校区';
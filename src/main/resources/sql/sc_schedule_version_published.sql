@@ -0,0 +1,2 @@
+-- 每个学期至多一个已发布版本：并发发布不同版本时后提交者违反唯一约束并回滚
+CREATE UNIQUE INDEX IF NOT EXISTS uk_version_published ON sc_schedule_version (school_uuid, semester_uuid) WHERE version_status = 1;
@@ -1,7 +1,7 @@
--- 排课冲突表
+-- 排课冲突表（按学期列表分区，分区由 sc_partition.sql 按学期创建）
 CREATE TABLE sc_scheduling_conflict
 (
-    conflict_uuid          VARCHAR(32) NOT NULL PRIMARY KEY,
+    conflict_uuid          VARCHAR(32) NOT NULL,
     school_uuid            VARCHAR(32) NOT NULL,
     semester_uuid          VARCHAR(32) NOT NULL,
     first_assignment_uuid  VARCHAR(32) NOT NULL,
@@ -15,12 +15,15 @@ CREATE TABLE sc_scheduling_conflict
     resolved_by            VARCHAR(64),
     resolved_at            TIMESTAMP,
     created_at             TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at             TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
+    updated_at             TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (conflict_uuid, semester_uuid)
+) PARTITION BY LIST (semester_uuid);
 
--- 普通索引
+-- 默认分区（接收尚未创建分区的学期，正常情况下为空）
+CREATE TABLE sc_scheduling_conflict_default PARTITION OF sc_scheduling_conflict DEFAULT;
+
+-- 普通索引（在各分区上创建；分区内学期唯一，不再需要学期索引）
 CREATE INDEX idx_conflict_school ON sc_scheduling_conflict (school_uuid);
-CREATE INDEX idx_conflict_semester ON sc_scheduling_conflict (semester_uuid);
 CREATE INDEX idx_conflict_first ON sc_scheduling_conflict (first_assignment_uuid);
 CREATE INDEX idx_conflict_second ON sc_scheduling_conflict (second_assignment_uuid);
 CREATE INDEX idx_conflict_type ON sc_scheduling_conflict (conflict_type);
@@ -0,0 +1,79 @@
+-- 时间 JSONB 打包列（与 TimeSlotCodec 的编码规则保持一致）
+-- *_week_mask:   64 位周次位图，第 n 周对应第 n-1 位
+-- *_day_periods: 高 16 位为星期位图（第 d 天对应第 d-1 位），低 16 位为节次位图（第 n 节对应第 n-1 位）
+
+-- 将 1 起始的序号数组转换为位图，超出 [1, max_index] 的序号忽略（非数组返回 0）
+-- 上限与 TimeSlotCodec 一致：周次 64、星期 7、节次 16
+CREATE OR REPLACE FUNCTION sc_bit_mask(items JSONB, max_index INTEGER) RETURNS BIGINT
+    LANGUAGE SQL
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT COALESCE(bit_or(1::BIGINT << (value::INT - 1)), 0)
+FROM jsonb_array_elements_text(CASE jsonb_typeof(items) WHEN 'array' THEN items ELSE '[]'::JSONB END)
+WHERE value::INT BETWEEN 1 AND max_index
+$$;
+
+-- 将时间 JSON 转换为星期节次位图（weekday 可为单值或数组，节次键为 periods 或 period）
+-- 已有数据库中替换函数体不会重算已存储的生成列，只影响之后写入或更新的行
+CREATE OR REPLACE FUNCTION sc_day_periods(slot JSONB) RETURNS INTEGER
+    LANGUAGE SQL
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT ((CASE jsonb_typeof(slot -> 'weekday')
+             WHEN 'number' THEN sc_bit_mask(jsonb_build_array(slot -> 'weekday'), 7)
+             ELSE sc_bit_mask(slot -> 'weekday', 7) END)::INT << 16)
+           | sc_bit_mask(COALESCE(slot -> 'periods', slot -> 'period'), 16)::INT
+$$;
+
+-- 将星期节次位图展开为时间网格单元数组（单元序号 = (星期-1)*16 + (节次-1)，与 TimeSlotCodec.cellOf 一致）
+CREATE OR REPLACE FUNCTION sc_time_cells(day_periods INTEGER) RETURNS INTEGER[]
+    LANGUAGE SQL
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT COALESCE(array_agg((d - 1) * 16 + (p - 1) ORDER BY d, p), '{}'::INTEGER[])
+FROM generate_series(1, 7) AS d,
+     generate_series(1, 16) AS p
+WHERE day_periods & (1 << (15 + d)) <> 0
+  AND day_periods & (1 << (p - 1)) <> 0
+$$;
+
+-- 排课表
+ALTER TABLE sc_class_assignment
+    ADD COLUMN IF NOT EXISTS class_week_mask BIGINT GENERATED ALWAYS AS (sc_bit_mask(class_time -> 'weeks', 64)) STORED;
+ALTER TABLE sc_class_assignment
+    ADD COLUMN IF NOT EXISTS class_day_periods INTEGER GENERATED ALWAYS AS (sc_day_periods(class_time)) STORED;
+ALTER TABLE sc_class_assignment
+    ADD COLUMN IF NOT EXISTS specified_day_periods INTEGER GENERATED ALWAYS AS (sc_day_periods(specified_time)) STORED;
+
+-- 按时间点查询排课（星期 + 节次命中 GIN 索引，周次在命中行上按位过滤）
+CREATE INDEX IF NOT EXISTS idx_assignment_time_cells ON sc_class_assignment USING GIN (sc_time_cells(class_day_periods));
+
+-- 教师偏好表
+ALTER TABLE sc_teacher_preferences
+    ADD COLUMN IF NOT EXISTS preferred_day_periods INTEGER GENERATED ALWAYS AS (sc_day_periods(preferred_time)) STORED;
+ALTER TABLE sc_teacher_preferences
+    ADD COLUMN IF NOT EXISTS avoided_day_periods INTEGER GENERATED ALWAYS AS (sc_day_periods(avoided_time)) STORED;
+
+-- 排课冲突表
+ALTER TABLE sc_scheduling_conflict
+    ADD COLUMN IF NOT EXISTS conflict_week_mask BIGINT GENERATED ALWAYS AS (sc_bit_mask(conflict_time -> 'weeks', 64)) STORED;
+ALTER TABLE sc_scheduling_conflict
+    ADD COLUMN IF NOT EXISTS conflict_day_periods INTEGER GENERATED ALWAYS AS (sc_day_periods(conflict_time)) STORED;
+
+-- 注释
+COMMENT ON FUNCTION sc_bit_mask(JSONB, INTEGER) IS '序号数组转位图(超出上限的序号忽略)';
+COMMENT ON FUNCTION sc_day_periods(JSONB) IS '时间JSON转星期节次位图';
+COMMENT ON FUNCTION sc_time_cells(INTEGER) IS '星期节次位图转时间网格单元数组';
+COMMENT ON COLUMN sc_class_assignment.class_week_mask IS '上课周次位图(生成列)';
+COMMENT ON COLUMN sc_class_assignment.class_day_periods IS '上课星期节次位图(生成列)';
+COMMENT ON COLUMN sc_class_assignment.specified_day_periods IS '指定时间星期节次位图(生成列)';
+COMMENT ON COLUMN sc_teacher_preferences.preferred_day_periods IS '偏好时间星期节次位图(生成列)';
+COMMENT ON COLUMN sc_teacher_preferences.avoided_day_periods IS '避开时间星期节次位图(生成列)';
+COMMENT ON COLUMN sc_scheduling_conflict.conflict_week_mask IS '冲突周次位图(生成列)';
+COMMENT ON COLUMN sc_scheduling_conflict.conflict_day_periods IS '冲突星期节次位图(生成列)';
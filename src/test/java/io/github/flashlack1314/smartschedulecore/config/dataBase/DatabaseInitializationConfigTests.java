@@ -0,0 +1,54 @@
+package io.github.flashlack1314.smartschedulecore.config.dataBase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 数据库初始化 SQL 语句分割单元测试
+ *
+ * @author flash
+ */
+class DatabaseInitializationConfigTests {
+
+    @Test
+    @DisplayName("按分号分割语句并保留末尾剩余部分")
+    void testSplitOnSemicolon() {
+        // When
+        List<String> statements = DatabaseInitializationConfig.splitStatements(
+                "CREATE TABLE a (id INT);\nCREATE TABLE b (id INT);\n");
+
+        // Then - 末尾剩余的空白作为最后一项，由调用方跳过
+        assertEquals(List.of("CREATE TABLE a (id INT)", "\nCREATE TABLE b (id INT)", "\n"), statements);
+    }
+
+    @Test
+    @DisplayName("单引号字符串内的分号不分割（含转义的两个单引号）")
+    void testSemicolonInsideStringLiteral() {
+        // When
+        List<String> statements = DatabaseInitializationConfig.splitStatements(
+                "COMMENT ON TABLE a IS '学生; 教师''s; 课程';SELECT 1");
+
+        // Then
+        assertEquals(List.of("COMMENT ON TABLE a IS '学生; 教师''s; 课程'", "SELECT 1"), statements);
+    }
+
+    @Test
+    @DisplayName("美元引用函数体内的分号不分割")
+    void testSemicolonInsideDollarQuote() {
+        // Given - 匿名 $$ 函数体，以及内部含 $$ 的带标签 $fn$ 函数体
+        String plain = "CREATE FUNCTION f() RETURNS INT AS $$ BEGIN RETURN 1; END; $$ LANGUAGE plpgsql";
+        String tagged = "CREATE FUNCTION g() RETURNS VOID AS $fn$ BEGIN EXECUTE $$SELECT 1;$$; "
+                + "RAISE NOTICE '%', $1; END; $fn$ LANGUAGE plpgsql";
+
+        // When
+        List<String> statements = DatabaseInitializationConfig.splitStatements(
+                plain + ";\n" + tagged + ";\nSELECT 2;");
+
+        // Then
+        assertEquals(List.of(plain, "\n" + tagged, "\nSELECT 2", ""), statements);
+    }
+}
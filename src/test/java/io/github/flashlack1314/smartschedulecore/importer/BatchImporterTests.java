@@ -0,0 +1,81 @@
+package io.github.flashlack1314.smartschedulecore.importer;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.models.dto.BatchImportDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 批量导入流水线单元测试
+ *
+ * @author flash
+ */
+class BatchImporterTests {
+
+    private static final Map<String, Integer> HEADER = Map.of("departmentCode", 0, "departmentName", 1, "isEnabled", 2);
+
+    @Test
+    @DisplayName("按批写入并跳过校验失败的行")
+    void testChunkedImportWithRowErrors() {
+        // Given - 已有院系 D000，文件中含重复代码、缺少名称与非法布尔值的行
+        Set<String> codes = new HashSet<>(Set.of("D000"));
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<String[]> written = new ArrayList<>();
+        BatchImporter importer = new BatchImporter(new DepartmentRowImporter("s1", codes),
+                (table, columns, rows) -> {
+                    assertEquals("sc_department", table);
+                    chunkSizes.add(rows.size());
+                    written.addAll(rows);
+                    return rows.size();
+                }, 3, 2);
+        List<List<String>> rows = List.of(
+                List.of("D001", "计算机学院", "是"),
+                List.of("D000", "已存在学院", ""),
+                List.of("D002", "数学学院", "否"),
+                List.of("D001", "重复学院", ""),
+                List.of("D003", "", ""),
+                List.of("D004", "物理学院", "未知"),
+                List.of("D005", "化学学院", ""),
+                List.of("D006", "外语学院", ""));
+
+        // When
+        for (int i = 0; i < rows.size(); i++) {
+            importer.accept(new ImportRow(i + 2, HEADER, rows.get(i)));
+        }
+        BatchImportDTO result = importer.finish();
+
+        // Then - 4 行通过（每批 3 行），4 行失败但只返回前 2 条错误
+        assertEquals(8, result.getTotalRows().intValue());
+        assertEquals(4L, result.getImportedRows().longValue());
+        assertEquals(4, result.getFailedRows().intValue());
+        assertEquals(List.of(3, 1), chunkSizes);
+        assertEquals(2, result.getErrors().size());
+        assertEquals(3L, result.getErrors().get(0).getRowNumber().longValue());
+        assertEquals(5L, result.getErrors().get(1).getRowNumber().longValue());
+        assertTrue(result.getErrorsTruncated());
+        assertEquals("D001", written.get(0)[2]);
+        assertEquals("false", written.get(1)[7]);
+        assertTrue(codes.containsAll(Set.of("D001", "D002", "D005", "D006")));
+        assertFalse(codes.contains("D003"));
+    }
+
+    @Test
+    @DisplayName("缺少必填列时拒绝整个文件")
+    void testMissingRequiredColumn() {
+        // Given
+        BatchImporter importer = new BatchImporter(new DepartmentRowImporter("s1", new HashSet<>()),
+                (table, columns, rows) -> rows.size(), 10, 10);
+
+        // When / Then
+        assertThrows(BusinessException.class,
+                () -> importer.accept(new ImportRow(2, Map.of("departmentCode", 0), List.of("D001"))));
+    }
+}
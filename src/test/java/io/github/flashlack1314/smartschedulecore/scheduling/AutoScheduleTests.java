@@ -0,0 +1,267 @@
+package io.github.flashlack1314.smartschedulecore.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.config.scheduling.SchedulingConfig;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentBulkWriter;
+import io.github.flashlack1314.smartschedulecore.logic.ScheduleWriteBackServiceLogic;
+import io.github.flashlack1314.smartschedulecore.logic.SchedulingServiceLogic;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentChangeDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.AutoScheduleDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SemesterDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.models.vo.AutoScheduleVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SolveControl;
+import io.github.flashlack1314.smartschedulecore.services.OccupancyIndexService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 自动排课服务单元测试（数据访问以内存替身代替）
+ *
+ * @author flash
+ */
+class AutoScheduleTests {
+
+    private static final String PREVIOUS_TIME = "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}";
+
+    @Test
+    @DisplayName("无法安排的排课保留原有时间与教室")
+    void testUnplacedAssignmentKeepsPlacement() {
+        // Given - 1 天 × 2 节、1 间教室，两条 2 节连堂排课只能安排一条
+        SemesterSnapshot.Builder builder = snapshotBuilder(1);
+        builder.addAssignment(placed("a0", "t0", "c0", "r0"));
+        builder.addAssignment(placed("a1", "t1", "c1", "r0"));
+        RecordingBulkWriter writer = new RecordingBulkWriter();
+        SchedulingServiceLogic service = service(builder.build(), writer);
+        AutoScheduleVO request = request();
+        request.setKeepExisting(false);
+
+        // When
+        AutoScheduleDTO result = service.autoSchedule(request);
+
+        // Then - 未安排的排课不写回（不会把非空列置空），并在结果中报告
+        assertEquals(1, result.getUnscheduledCount().intValue());
+        String unplaced = result.getUnscheduledAssignmentUuids().get(0);
+        for (ClassAssignmentDO row : writer.merged) {
+            assertNotEquals(unplaced, row.getClassAssignmentUuid());
+        }
+        for (AssignmentChangeDTO change : result.getChanges()) {
+            assertNotEquals(unplaced, change.getAssignmentUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("自动排课为待分配教师的排课分配教师并写回")
+    void testAssignTeachersWritesTeacher() {
+        // Given - 两个教学班同一课程且教师待分配，t1、t2 均为合格主讲教师
+        SemesterSnapshot.Builder builder = snapshotBuilder(2);
+        builder.addAssignment(placed("a0", null, "c0", "r0"));
+        builder.addAssignment(placed("a1", null, "c1", "r1"));
+        builder.addQualification(SchedulingSolverTests.qualification("t1", "m0", 5, true, 1));
+        builder.addQualification(SchedulingSolverTests.qualification("t2", "m0", 5, true, 1));
+        RecordingBulkWriter writer = new RecordingBulkWriter();
+        AutoScheduleVO request = request();
+        request.setAssignTeachers(true);
+
+        // When
+        AutoScheduleDTO result = service(builder.build(), writer).autoSchedule(request);
+
+        // Then - 工作量均衡后两个教学班分别由 t1、t2 担任，只写回教师
+        assertEquals(2, result.getTeacherAssignedCount().intValue());
+        assertTrue(result.getUnstaffedTeachingClassUuids().isEmpty());
+        assertEquals(2, result.getScheduledCount().intValue());
+        assertEquals(2, writer.merged.size());
+        assertEquals("t1", writer.merged.get(0).getTeacherUuid());
+        assertEquals("t2", writer.merged.get(1).getTeacherUuid());
+        for (AssignmentChangeDTO change : result.getChanges()) {
+            assertEquals(List.of("teacherUuid"), change.getChangedFields());
+        }
+    }
+
+    @Test
+    @DisplayName("待分配教师的排课之间不构成教师冲突")
+    void testUnstaffedAssignmentsDoNotShareTeacher() {
+        // Given - 1 天 × 2 节、2 间教室，两条教师待分配的排课只能安排在同一时间
+        SemesterSnapshot.Builder builder = snapshotBuilder(2);
+        builder.addAssignment(placed("a0", null, "c0", "r0"));
+        builder.addAssignment(placed("a1", null, "c1", "r1"));
+        RecordingBulkWriter writer = new RecordingBulkWriter();
+        AutoScheduleVO request = request();
+        request.setKeepExisting(false);
+
+        // When
+        AutoScheduleDTO result = service(builder.build(), writer).autoSchedule(request);
+
+        // Then - 两条排课都能安排，教师仍为空
+        assertEquals(2, result.getScheduledCount().intValue());
+        for (ClassAssignmentDO row : writer.merged) {
+            assertNull(row.getTeacherUuid());
+        }
+    }
+
+    @Test
+    @DisplayName("已取消的任务不写回")
+    void testCancelledRunSkipsWriteBack() {
+        // Given - 不保留原课表时求解结果与数据库不同，但任务已取消
+        SemesterSnapshot.Builder builder = snapshotBuilder(2);
+        builder.addAssignment(placed("a0", null, "c0", "r0"));
+        builder.addAssignment(placed("a1", null, "c1", "r0"));
+        RecordingBulkWriter writer = new RecordingBulkWriter();
+        AutoScheduleVO request = request();
+        request.setKeepExisting(false);
+        SolveControl control = new SolveControl();
+        control.cancel();
+
+        // When
+        AutoScheduleDTO result = service(builder.build(), writer).autoSchedule(request, control);
+
+        // Then
+        assertTrue(writer.merged.isEmpty());
+        assertTrue(result.getChanges().isEmpty());
+        assertEquals(0, result.getUpdatedCount().intValue());
+    }
+
+    @Test
+    @DisplayName("求解期间被修改的排课不被覆盖并在结果中报告")
+    void testConcurrentlyModifiedAssignmentIsSkipped() {
+        // Given - 不保留原课表时两条排课都会移动，但 a1 在求解期间已被手工调整
+        SemesterSnapshot.Builder builder = snapshotBuilder(2);
+        builder.addAssignment(placed("a0", "t0", "c0", "r0"));
+        builder.addAssignment(placed("a1", "t1", "c1", "r0"));
+        RecordingBulkWriter writer = new RecordingBulkWriter();
+        writer.modified.add("a1");
+        AutoScheduleVO request = request();
+        request.setKeepExisting(false);
+
+        // When
+        AutoScheduleDTO result = service(builder.build(), writer).autoSchedule(request);
+
+        // Then - 写回时带上快照中的原值，a1 未写回且不出现在变更中
+        assertEquals(PREVIOUS_TIME, writer.loaded.get("a1").getClassTime());
+        assertEquals(List.of("a1"), result.getSkippedAssignmentUuids());
+        for (AssignmentChangeDTO change : result.getChanges()) {
+            assertNotEquals("a1", change.getAssignmentUuid());
+        }
+        assertEquals(result.getChanges().size(), result.getUpdatedCount().intValue());
+    }
+
+    private static AutoScheduleVO request() {
+        AutoScheduleVO request = new AutoScheduleVO();
+        request.setSchoolUuid("school");
+        request.setSemesterUuid("semester");
+        return request;
+    }
+
+    /**
+     * 学期快照：1 天 × 2 节（由排课配置限定），教学班 c0、c1 均为课程 m0
+     */
+    private static SemesterSnapshot.Builder snapshotBuilder(int rooms) {
+        SemesterSnapshot.Builder builder = SemesterSnapshot.builder(new SemesterDO()
+                .setSemesterUuid("semester")
+                .setSchoolUuid("school")
+                .setStartDate(LocalDate.of(2026, 9, 1))
+                .setEndDate(LocalDate.of(2026, 9, 14)));
+        for (int r = 0; r < rooms; r++) {
+            builder.addClassroom(new ClassroomDO().setClassroomUuid("r" + r).setSchoolUuid("school")
+                    .setBuildingUuid("b0").setCampusUuid("p0").setCapacity(60).setIsEnabled(true));
+        }
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c0").setCourseUuid("m0").setClassSize(30));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c1").setCourseUuid("m0").setClassSize(30));
+        return builder;
+    }
+
+    private static ClassAssignmentDO placed(String uuid, String teacher, String teachingClass, String room) {
+        return SchedulingSolverTests.assignment(uuid, teacher, teachingClass)
+                .setClassTime(PREVIOUS_TIME)
+                .setClassroomUuid(room)
+                .setBuildingUuid("b0")
+                .setCampusUuid("p0");
+    }
+
+    private static SchedulingServiceLogic service(SemesterSnapshot snapshot, ClassAssignmentBulkWriter writer) {
+        SchedulingConfig.SchedulingProperties properties = new SchedulingConfig.SchedulingProperties();
+        properties.setDaysPerWeek(1);
+        properties.setPeriodsPerDay(2);
+        OccupancyIndexService occupancy = new NoopOccupancyIndexService();
+        return new SchedulingServiceLogic(null, null, (schoolUuid, semesterUuid) -> snapshot,
+                new ScheduleWriteBackServiceLogic(writer, occupancy), null, occupancy, null,
+                properties, ForkJoinPool.commonPool(), null, null);
+    }
+
+    /**
+     * 记录合并写回的行，不访问数据库；modified 中的排课视为已被其它操作修改
+     */
+    private static final class RecordingBulkWriter extends ClassAssignmentBulkWriter {
+
+        private final List<ClassAssignmentDO> merged = new ArrayList<>();
+
+        private final Set<String> modified = new HashSet<>();
+
+        private Map<String, ClassAssignmentDO> loaded = Map.of();
+
+        private RecordingBulkWriter() {
+            super(null);
+        }
+
+        @Override
+        public Set<String> mergeIfUnchanged(String semesterUuid, Collection<ClassAssignmentDO> changed,
+                                            Map<String, ClassAssignmentDO> loaded) {
+            this.loaded = loaded;
+            Set<String> updated = new HashSet<>();
+            for (ClassAssignmentDO row : changed) {
+                if (!modified.contains(row.getClassAssignmentUuid())) {
+                    merged.add(row);
+                    updated.add(row.getClassAssignmentUuid());
+                }
+            }
+            return updated;
+        }
+    }
+
+    static final class NoopOccupancyIndexService implements OccupancyIndexService {
+
+        @Override
+        public OccupancyIndex getIndex(String schoolUuid, String semesterUuid) {
+            return null;
+        }
+
+        @Override
+        public OccupancyIndex rebuildIndex(String schoolUuid, String semesterUuid) {
+            return null;
+        }
+
+        @Override
+        public void onAssignmentChanged(ClassAssignmentDO assignment) {
+        }
+
+        @Override
+        public void onAssignmentRemoved(String schoolUuid, String semesterUuid, String assignmentUuid) {
+        }
+
+        @Override
+        public void evictIndex(String schoolUuid, String semesterUuid) {
+        }
+
+        @Override
+        public void evictIndexAfterCommit(String schoolUuid, String semesterUuid) {
+        }
+
+        @Override
+        public void evictIndexOnRollback(String schoolUuid, String semesterUuid) {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.flashlack1314.smartschedulecore.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.daos.SchedulingConflictDAO;
+import io.github.flashlack1314.smartschedulecore.logic.ConflictServiceLogic;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentAdjustDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SchedulingConflictDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.SweepConflictDetector;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.AdministrativeClassMembership;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 冲突检测单元测试
+ *
+ * @author flash
+ */
+class ConflictDetectorTests {
+
+    @Test
+    @DisplayName("扫描检测结果与两两比较一致")
+    void testSweepMatchesPairwise() {
+        // Given - 随机生成共享少量资源的排课
+        Random random = new Random(42);
+        List<ClassAssignmentDO> assignments = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int weekday = 1 + random.nextInt(5);
+            int start = 1 + random.nextInt(10);
+            int from = 1 + random.nextInt(16);
+            String classTime = "{\"weeks\":[" + from + "," + (from + 1) + "],\"weekday\":" + weekday
+                    + ",\"periods\":[" + start + "," + (start + 1) + "]}";
+            assignments.add(new ClassAssignmentDO()
+                    .setClassAssignmentUuid("a" + i)
+                    .setTeacherUuid("t" + random.nextInt(20))
+                    .setClassroomUuid("r" + random.nextInt(15))
+                    .setTeachingClassUuid("c" + random.nextInt(30))
+                    .setClassTime(i % 50 == 0 ? null : classTime));
+        }
+
+        // When
+        List<DetectedConflict> conflicts = new SweepConflictDetector().detect(assignments);
+
+        // Then
+        Set<String> detected = new HashSet<>();
+        for (DetectedConflict conflict : conflicts) {
+            assertTrue(detected.add(conflict.key()), "重复冲突: " + conflict.key());
+            assertFalse(conflict.getConflictTime().isEmpty());
+        }
+        assertFalse(detected.isEmpty());
+        assertEquals(pairwise(assignments), detected);
+    }
+
+    @Test
+    @DisplayName("合班大课与所含行政班的小课重叠时报告班级冲突")
+    void testAdministrativeClassConflict() {
+        // Given - 大课 c0 包含行政班 x1、x2；小课 c1 只含 x2，c2 只含 x3
+        List<TeachingClassDO> teachingClasses = List.of(
+                new TeachingClassDO().setTeachingClassUuid("c0").setAdministrativeClasses("[\"x1\",\"x2\"]"),
+                new TeachingClassDO().setTeachingClassUuid("c1").setAdministrativeClasses("[\"x2\",\"x1\"]"),
+                new TeachingClassDO().setTeachingClassUuid("c2").setAdministrativeClasses("[\"x3\"]"));
+        AdministrativeClassMembership membership = AdministrativeClassMembership.build(teachingClasses);
+        String time = "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}";
+        List<ClassAssignmentDO> assignments = List.of(
+                assignment("a0", "t0", "r0", "c0", time),
+                assignment("a1", "t1", "r1", "c1", time),
+                assignment("a2", "t2", "r2", "c2", time));
+
+        // When
+        List<DetectedConflict> conflicts = new SweepConflictDetector().detect(assignments, membership);
+
+        // Then - 共享两个行政班也只报告一次
+        assertTrue(membership.shareStudents(0, 1));
+        assertFalse(membership.shareStudents(0, 2));
+        assertEquals(1, conflicts.size());
+        DetectedConflict conflict = conflicts.get(0);
+        assertEquals(ResourceType.TEACHING_CLASS, conflict.getType());
+        assertEquals(DetectedConflict.key(ResourceType.TEACHING_CLASS.getConflictType(), "a0", "a1"), conflict.key());
+        assertEquals("x1", conflict.getResourceUuid());
+    }
+
+    @Test
+    @DisplayName("调整行政班冲突的一方后冲突仍未解决")
+    void testAdjustKeepsAdministrativeClassConflictOpen() {
+        // Given - 大课 a0（c0 含 x1、x2）与小课 a1（c1 含 x2）同时上课，已有未解决的班级冲突
+        String time = "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}";
+        AdministrativeClassMembership membership = AdministrativeClassMembership.build(List.of(
+                new TeachingClassDO().setTeachingClassUuid("c0").setAdministrativeClasses("[\"x1\",\"x2\"]"),
+                new TeachingClassDO().setTeachingClassUuid("c1").setAdministrativeClasses("[\"x2\"]")));
+        OccupancyIndex index = OccupancyIndex.build("school", "semester", List.of(
+                assignment("a0", "t0", "r0", "c0", time),
+                assignment("a1", "t1", "r1", "c1", time)), membership);
+        SchedulingConflictDO existing = new SchedulingConflictDO()
+                .setConflictUuid("k0")
+                .setFirstAssignmentUuid("a0")
+                .setSecondAssignmentUuid("a1")
+                .setConflictType(ResourceType.TEACHING_CLASS.getConflictType())
+                .setConflictTime(time)
+                .setResolutionStatus(0);
+        List<SchedulingConflictDO> updates = new ArrayList<>();
+        SchedulingConflictDAO conflictDAO = new SchedulingConflictDAO() {
+            @Override
+            public List<SchedulingConflictDO> selectByAssignment(String schoolUuid, String semesterUuid,
+                                                                 String assignmentUuid) {
+                return List.of(existing);
+            }
+
+            @Override
+            public boolean updateBatchById(Collection<SchedulingConflictDO> entityList) {
+                updates.addAll(entityList);
+                return true;
+            }
+        };
+
+        // When - 只更换 a1 的教室，时间不变
+        ClassAssignmentDO adjusted = assignment("a1", "t1", "r2", "c1", time);
+        List<DetectedConflict> conflicts = index.findConflicts(adjusted, TimeSlotCodec.decode(time));
+        AssignmentAdjustDTO result = new ConflictServiceLogic(null, conflictDAO, null)
+                .syncAssignmentConflicts("school", "semester", "a1", conflicts);
+
+        // Then - 增量复查同样发现行政班冲突，已有记录不被标记为已解决
+        assertEquals(1, conflicts.size());
+        assertEquals(ResourceType.TEACHING_CLASS, conflicts.get(0).getType());
+        assertEquals("x2", conflicts.get(0).getResourceUuid());
+        assertEquals(0, result.getResolvedCount().intValue());
+        assertEquals(0, result.getInsertedCount().intValue());
+        assertTrue(updates.isEmpty());
+    }
+
+    private static ClassAssignmentDO assignment(String uuid, String teacher, String room, String teachingClass,
+                                                String classTime) {
+        return new ClassAssignmentDO()
+                .setClassAssignmentUuid(uuid)
+                .setTeacherUuid(teacher)
+                .setClassroomUuid(room)
+                .setTeachingClassUuid(teachingClass)
+                .setClassTime(classTime);
+    }
+
+    private static Set<String> pairwise(List<ClassAssignmentDO> assignments) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            for (int j = i + 1; j < assignments.size(); j++) {
+                ClassAssignmentDO a = assignments.get(i);
+                ClassAssignmentDO b = assignments.get(j);
+                if (!TimeSlotCodec.decode(a.getClassTime()).overlaps(TimeSlotCodec.decode(b.getClassTime()))) {
+                    continue;
+                }
+                if (a.getTeacherUuid().equals(b.getTeacherUuid())) {
+                    keys.add(DetectedConflict.key(ResourceType.TEACHER.getConflictType(),
+                            a.getClassAssignmentUuid(), b.getClassAssignmentUuid()));
+                }
+                if (a.getClassroomUuid().equals(b.getClassroomUuid())) {
+                    keys.add(DetectedConflict.key(ResourceType.CLASSROOM.getConflictType(),
+                            a.getClassAssignmentUuid(), b.getClassAssignmentUuid()));
+                }
+                if (a.getTeachingClassUuid().equals(b.getTeachingClassUuid())) {
+                    keys.add(DetectedConflict.key(ResourceType.TEACHING_CLASS.getConflictType(),
+                            a.getClassAssignmentUuid(), b.getClassAssignmentUuid()));
+                }
+            }
+        }
+        return keys;
+    }
+}
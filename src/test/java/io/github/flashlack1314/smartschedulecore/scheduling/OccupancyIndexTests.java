@@ -0,0 +1,327 @@
+package io.github.flashlack1314.smartschedulecore.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.logic.SchedulingServiceLogic;
+import io.github.flashlack1314.smartschedulecore.models.dto.TimeSlotAssignmentDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.vo.TimeSlotQueryVO;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.DetectedConflict;
+import io.github.flashlack1314.smartschedulecore.scheduling.conflict.SweepConflictDetector;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.ClassroomIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.OccupancyIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.UuidDictionary;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.ResourceType;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OccupancyIndex 单元测试
+ *
+ * @author flash
+ */
+class OccupancyIndexTests {
+
+    private static final String SCHOOL = "school";
+    private static final String SEMESTER = "semester";
+
+    @Test
+    @DisplayName("解析class_time为位图")
+    void testParseClassTime() {
+        TimeSlot slot = TimeSlotCodec.decode("{\"weeks\":[1,2,3,16],\"weekday\":3,\"periods\":[1,2]}");
+
+        assertEquals(3, slot.getWeekday());
+        assertEquals(0b111L | (1L << 15), slot.getWeekMask());
+        assertEquals(0b11, slot.getPeriodMask());
+        assertEquals(List.of(1, 2, 3, 16), slot.weeks());
+        assertEquals(slot, TimeSlotCodec.decode(TimeSlotCodec.encode(slot)));
+        assertTrue(TimeSlotCodec.decode("{}").isEmpty());
+    }
+
+    @Test
+    @DisplayName("时间JSON打包为星期节次位图")
+    void testPackDayPeriods() {
+        // class_time 打包后可还原
+        TimeSlot slot = TimeSlotCodec.decode("{\"weeks\":[1,2],\"weekday\":3,\"periods\":[5,6]}");
+        int packed = TimeSlotCodec.pack(slot);
+        assertEquals(0b100, TimeSlotCodec.dayMaskOf(packed));
+        assertEquals(0b110000, TimeSlotCodec.periodMaskOf(packed));
+        assertEquals(slot, TimeSlotCodec.unpack(slot.getWeekMask(), packed));
+
+        // preferred_time 为星期、节次的笛卡尔积
+        int preferred = TimeSlotCodec.decodeDayPeriods("{\"weekday\":[1,2],\"period\":[1,2,3]}");
+        assertTrue(TimeSlotCodec.covers(preferred, 2, 0b100));
+        assertFalse(TimeSlotCodec.covers(preferred, 3, 0b1));
+        assertEquals(preferred, TimeSlotCodec.decodeDayPeriods(TimeSlotCodec.encodeDayPeriods(preferred)));
+
+        // specified_time 没有周次时使用默认周次
+        assertEquals(0b1111L, TimeSlotCodec.decode("{\"weekday\":1,\"periods\":[1]}", 0b1111L).getWeekMask());
+    }
+
+    @Test
+    @DisplayName("UUID字典双向转换")
+    void testUuidDictionary() {
+        // Given
+        UuidDictionary.Builder builder = UuidDictionary.builder();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, builder.intern(String.format("%032x", i)));
+        }
+        assertEquals(7, builder.intern(String.format("%032x", 7)));
+
+        // When
+        UuidDictionary dictionary = builder.build();
+
+        // Then
+        assertEquals(1000, dictionary.size());
+        for (int i = 0; i < 1000; i++) {
+            String uuid = String.format("%032x", i);
+            assertEquals(i, dictionary.idOf(uuid));
+            assertEquals(uuid, dictionary.uuidOf(i));
+        }
+        assertEquals(UuidDictionary.ABSENT, dictionary.idOf("missing"));
+        assertEquals(UuidDictionary.ABSENT, dictionary.idOf(null));
+        assertEquals(1, UuidDictionary.of(Arrays.asList("a", null, "a")).idOf(null));
+    }
+
+    @Test
+    @DisplayName("教室查找索引按类型、容量、设施与标签筛选")
+    void testClassroomIndexLookup() {
+        // Given
+        ClassroomIndex index = ClassroomIndex.build(List.of(
+                room("r0", "lecture", "east", 120, true, "[\"智慧教室\",\"阶梯教室\"]"),
+                room("r1", "lecture", "east", 60, true, "[\"智慧教室\"]"),
+                room("r2", "lecture", "west", 80, false, null),
+                room("r3", "lab", "east", 40, true, "[\"录播教室\"]")));
+
+        // When & Then - 结果按容量升序
+        assertArrayEquals(new int[]{1, 2, 0},
+                index.find(index.requirement("lecture", null, 50, 0, null)));
+        assertArrayEquals(new int[]{1, 0}, index.find(index.requirement("lecture", "east", 0,
+                ClassroomIndex.MULTIMEDIA | ClassroomIndex.AIR_CONDITIONED, List.of("智慧教室"))));
+        assertArrayEquals(new int[]{0}, index.find(index.requirement(null, null, 0, 0, List.of("阶梯教室"))));
+        assertEquals(0, index.find(index.requirement("lecture", null, 200, 0, null)).length);
+        assertEquals(0, index.find(index.requirement("unknown", null, 0, 0, null)).length);
+        assertEquals(0, index.find(index.requirement(null, null, 0, 0, List.of("不存在的标签"))).length);
+        assertTrue(index.matches(3, index.requirement("lab", "east", 40, 0, List.of("录播教室"))));
+        assertFalse(index.matches(2, index.requirement("lecture", null, 0, ClassroomIndex.MULTIMEDIA, null)));
+    }
+
+    @Test
+    @DisplayName("教师、教室、教学班冲突检测")
+    void testConflictDetection() {
+        // Given - 第1-8周周一1-2节
+        OccupancyIndex index = OccupancyIndex.build(SCHOOL, SEMESTER, List.of(
+                assignment("a1", "t1", "r1", "c1", "{\"weeks\":[1,2,3,4,5,6,7,8],\"weekday\":1,\"periods\":[1,2]}")));
+
+        // When & Then - 单周重叠
+        TimeSlot overlapping = TimeSlotCodec.decode("{\"weeks\":[8,9],\"weekday\":1,\"periods\":[2,3]}");
+        assertEquals(1L << 7, index.occupiedWeeks(ResourceType.TEACHER, "t1", overlapping));
+        assertFalse(index.isFree(ResourceType.CLASSROOM, "r1", overlapping));
+        assertTrue(index.isFree(ResourceType.TEACHER, "t2", overlapping));
+
+        // 周次不重叠
+        TimeSlot laterWeeks = TimeSlotCodec.decode("{\"weeks\":[9,10],\"weekday\":1,\"periods\":[1,2]}");
+        assertTrue(index.isFree(ResourceType.TEACHING_CLASS, "c1", laterWeeks));
+
+        // 另一条排课共用教师
+        ClassAssignmentDO other = assignment("a2", "t1", "r2", "c2", null);
+        assertEquals(List.of(ResourceType.TEACHER), index.conflictsOf(other, overlapping));
+    }
+
+    @Test
+    @DisplayName("移除冲突排课后保留其余占用")
+    void testRemoveKeepsOverlappingMembers() {
+        // Given - 两条排课在同一教室同一时间冲突
+        String time = "{\"weeks\":[1,2],\"weekday\":2,\"periods\":[3,4]}";
+        OccupancyIndex index = OccupancyIndex.build(SCHOOL, SEMESTER, List.of(
+                assignment("a1", "t1", "r1", "c1", time),
+                assignment("a2", "t2", "r1", "c2", time)));
+        TimeSlot slot = TimeSlotCodec.decode(time);
+
+        // When
+        index.remove("a1");
+
+        // Then
+        assertFalse(index.isFree(ResourceType.CLASSROOM, "r1", slot));
+        assertTrue(index.isFree(ResourceType.TEACHER, "t1", slot));
+
+        index.remove("a2");
+        assertTrue(index.isFree(ResourceType.CLASSROOM, "r1", slot));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("调整单条排课时只列出相关资源的冲突")
+    void testFindConflictsForAdjustment() {
+        // Given - a1 与 a2 共用教师，a3 与 a1 共用教室
+        OccupancyIndex index = OccupancyIndex.build(SCHOOL, SEMESTER, List.of(
+                assignment("a1", "t1", "r1", "c1", "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}"),
+                assignment("a2", "t1", "r2", "c2", "{\"weeks\":[2,3],\"weekday\":2,\"periods\":[3,4]}"),
+                assignment("a3", "t3", "r1", "c3", "{\"weeks\":[1],\"weekday\":2,\"periods\":[4,5]}")));
+
+        // When - 将 a1 移到周二 3-4 节
+        TimeSlot target = TimeSlotCodec.decode("{\"weeks\":[1,2],\"weekday\":2,\"periods\":[3,4]}");
+        List<DetectedConflict> conflicts = index.findConflicts(
+                assignment("a1", "t1", "r1", "c1", null), target);
+
+        // Then
+        assertEquals(2, conflicts.size());
+        DetectedConflict teacher = conflicts.get(0);
+        assertEquals(ResourceType.TEACHER, teacher.getType());
+        assertEquals("a2", teacher.getSecondAssignmentUuid());
+        assertEquals(TimeSlotCodec.decode("{\"weeks\":[2],\"weekday\":2,\"periods\":[3,4]}"), teacher.getConflictTime());
+        DetectedConflict room = conflicts.get(1);
+        assertEquals(ResourceType.CLASSROOM, room.getType());
+        assertEquals("a3", room.getSecondAssignmentUuid());
+        assertEquals(0b1000, room.getConflictTime().getPeriodMask());
+    }
+
+    @Test
+    @DisplayName("排课与自身当前占用不构成冲突")
+    void testMoveIgnoresSelf() {
+        String time = "{\"weeks\":[1],\"weekday\":5,\"periods\":[5,6]}";
+        ClassAssignmentDO assignment = assignment("a1", "t1", "r1", "c1", time);
+        OccupancyIndex index = OccupancyIndex.build(SCHOOL, SEMESTER, List.of(assignment));
+
+        assertTrue(index.conflictsOf(assignment, TimeSlotCodec.decode(time)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("加载时跳过时间越界的排课，请求参数仍严格校验")
+    void testLoadSkipsOutOfRangeClassTime() {
+        // Given - a2 的周次为 0，a3 的节次为 17，a4 与 a1 同一教师同一时间
+        String time = "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}";
+        List<ClassAssignmentDO> assignments = List.of(
+                assignment("a1", "t1", "r1", "c1", time),
+                assignment("a2", "t1", "r2", "c2", "{\"weeks\":[0,1],\"weekday\":1,\"periods\":[1,2]}"),
+                assignment("a3", "t1", "r3", "c3", "{\"weeks\":[1],\"weekday\":1,\"periods\":[16,17]}"),
+                assignment("a4", "t1", "r4", "c4", time));
+
+        // When
+        OccupancyIndex index = OccupancyIndex.build(SCHOOL, SEMESTER, assignments);
+        List<DetectedConflict> conflicts = new SweepConflictDetector().detect(assignments);
+
+        // Then - 越界的两条排课被跳过，其余排课照常加载与检测
+        assertEquals(2, index.size());
+        assertEquals(1, conflicts.size());
+        assertEquals("a1", conflicts.get(0).getFirstAssignmentUuid());
+        assertEquals("a4", conflicts.get(0).getSecondAssignmentUuid());
+        assertNull(TimeSlotCodec.decodeOrNull(assignments.get(1).getClassTime()));
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> TimeSlotCodec.maskOf(List.of(0, 1), SystemConstant.Scheduling.MAX_WEEKS));
+        assertEquals(ErrorCode.CLASS_TIME_INVALID.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("按时间网格单元查询排课：单元序号与 sc_time_cells 一致，并按周次、星期、节次过滤")
+    void testSearchAssignmentsAtTimeCell() {
+        // Given - 单元序号与 sc_time_cells 的展开规则逐一对应
+        assertEquals(0, TimeSlotCodec.cellOf(1, 1));
+        assertEquals(15, TimeSlotCodec.cellOf(1, 16));
+        assertEquals(16, TimeSlotCodec.cellOf(2, 1));
+        assertEquals(111, TimeSlotCodec.cellOf(7, 16));
+        for (int weekday = 1; weekday <= 7; weekday++) {
+            for (int period = 1; period <= 16; period++) {
+                int dayPeriods = TimeSlotCodec.pack(TimeSlot.of(1L, weekday, 1 << (period - 1)));
+                assertEquals(List.of(TimeSlotCodec.cellOf(weekday, period)), timeCells(dayPeriods));
+            }
+        }
+        // Given - a1 周一 3-4 节第 1-2 周，a2 周二 3-4 节第 1-2 周，a3 周一 3-4 节第 5 周
+        List<ClassAssignmentDO> assignments = List.of(
+                packed(assignment("a1", "t1", "r1", "c1", "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[3,4]}")),
+                packed(assignment("a2", "t1", "r1", "c1", "{\"weeks\":[1,2],\"weekday\":2,\"periods\":[3,4]}")),
+                packed(assignment("a3", "t1", "r1", "c1", "{\"weeks\":[5],\"weekday\":1,\"periods\":[3,4]}")));
+        ClassAssignmentDAO classAssignmentDAO = new ClassAssignmentDAO() {
+            @Override
+            public List<ClassAssignmentDO> selectByTimeCell(String schoolUuid, String semesterUuid, long weekMask,
+                                                            int cell, String teacherUuid, String classroomUuid,
+                                                            String buildingUuid, String campusUuid) {
+                // 与 SQL 条件相同：sc_time_cells(class_day_periods) @> ARRAY[cell] 且周次有交集
+                return assignments.stream()
+                        .filter(row -> timeCells(row.getClassDayPeriods()).contains(cell))
+                        .filter(row -> (row.getClassWeekMask() & weekMask) != 0)
+                        .toList();
+            }
+        };
+        SchedulingServiceLogic service = new SchedulingServiceLogic(classAssignmentDAO, null, null, null, null,
+                null, null, null, null, null, null);
+
+        // When / Then
+        assertEquals(List.of("a1"), uuidsAt(service, 1, 1, 4));
+        assertEquals(List.of("a3"), uuidsAt(service, 5, 1, 3));
+        assertEquals(List.of("a2"), uuidsAt(service, 2, 2, 3));
+        assertTrue(uuidsAt(service, 1, 1, 5).isEmpty());
+        assertTrue(uuidsAt(service, 3, 1, 3).isEmpty());
+    }
+
+    /**
+     * 与数据库函数 sc_time_cells 相同的展开规则：单元序号 = (星期-1)*16 + (节次-1)，按星期、节次升序
+     */
+    private static List<Integer> timeCells(int dayPeriods) {
+        List<Integer> cells = new ArrayList<>();
+        for (int d = 1; d <= 7; d++) {
+            for (int p = 1; p <= 16; p++) {
+                if ((dayPeriods & (1 << (15 + d))) != 0 && (dayPeriods & (1 << (p - 1))) != 0) {
+                    cells.add((d - 1) * 16 + (p - 1));
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static List<String> uuidsAt(SchedulingServiceLogic service, int week, int weekday, int period) {
+        TimeSlotQueryVO query = new TimeSlotQueryVO();
+        query.setSchoolUuid(SCHOOL);
+        query.setSemesterUuid(SEMESTER);
+        query.setWeek(week);
+        query.setWeekday(weekday);
+        query.setPeriod(period);
+        return service.searchAssignmentsAt(query).stream()
+                .map(TimeSlotAssignmentDTO::getAssignmentUuid)
+                .toList();
+    }
+
+    /**
+     * 按数据库生成列的规则填充时间打包列
+     */
+    private static ClassAssignmentDO packed(ClassAssignmentDO assignment) {
+        TimeSlot slot = TimeSlotCodec.decode(assignment.getClassTime());
+        return assignment.setClassWeekMask(slot.getWeekMask()).setClassDayPeriods(TimeSlotCodec.pack(slot));
+    }
+
+    private static ClassroomDO room(String uuid, String type, String campus, int capacity, boolean equipped,
+                                    String tags) {
+        return new ClassroomDO()
+                .setClassroomUuid(uuid)
+                .setClassroomTypeUuid(type)
+                .setCampusUuid(campus)
+                .setCapacity(capacity)
+                .setIsMultimedia(equipped)
+                .setIsAirConditioned(equipped)
+                .setTags(tags)
+                .setIsEnabled(true);
+    }
+
+    private static ClassAssignmentDO assignment(String uuid, String teacher, String room, String teachingClass,
+                                                String classTime) {
+        return new ClassAssignmentDO()
+                .setClassAssignmentUuid(uuid)
+                .setSchoolUuid(SCHOOL)
+                .setSemesterUuid(SEMESTER)
+                .setTeacherUuid(teacher)
+                .setClassroomUuid(room)
+                .setTeachingClassUuid(teachingClass)
+                .setClassTime(classTime);
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.flashlack1314.smartschedulecore.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.constants.SystemConstant;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentBulkWriter;
+import io.github.flashlack1314.smartschedulecore.daos.ClassAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ScheduleVersionAssignmentDAO;
+import io.github.flashlack1314.smartschedulecore.daos.ScheduleVersionDAO;
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.logic.ScheduleVersionServiceLogic;
+import io.github.flashlack1314.smartschedulecore.models.dto.AssignmentChangeDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDTO;
+import io.github.flashlack1314.smartschedulecore.models.dto.ScheduleVersionDiffDTO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ScheduleVersionDO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 课表版本单元测试（版本数据以内存替身代替）
+ *
+ * @author flash
+ */
+class ScheduleVersionTests {
+
+    private static final String MONDAY = "{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}";
+    private static final String TUESDAY = "{\"weeks\":[1,2],\"weekday\":2,\"periods\":[1,2]}";
+
+    @Test
+    @DisplayName("沿版本链逐层覆盖解析版本内容")
+    void testResolveAlongParentChain() {
+        // Given - v1 为根版本；v2 修改 a0 的教室；v3 再次修改 a0 的教室并修改 a1 的教师
+        VersionStore store = new VersionStore();
+        store.version("v1", null);
+        store.version("v2", "v1");
+        store.version("v3", "v2");
+        store.row("v1", "a0", "t0", MONDAY, "r0");
+        store.row("v1", "a1", "t1", TUESDAY, "r1");
+        store.row("v2", "a0", "t0", MONDAY, "r2");
+        store.row("v3", "a0", "t0", MONDAY, "r3");
+        store.row("v3", "a1", "t9", TUESDAY, "r1");
+
+        // When
+        ScheduleVersionDiffDTO diff = store.service().diffVersions("v1", "v3");
+
+        // Then - a0 取离 v3 最近的一层（r3 而不是 r2），a1 只有教师变化
+        assertEquals(2, diff.getTotalCount().intValue());
+        assertEquals(2, diff.getChangedCount().intValue());
+        AssignmentChangeDTO a0 = diff.getChanges().get(0);
+        assertEquals("a0", a0.getAssignmentUuid());
+        assertEquals(List.of("classroomUuid"), a0.getChangedFields());
+        assertEquals("r0", a0.getPreviousClassroomUuid());
+        assertEquals("r3", a0.getClassroomUuid());
+        AssignmentChangeDTO a1 = diff.getChanges().get(1);
+        assertEquals("a1", a1.getAssignmentUuid());
+        assertEquals(List.of("teacherUuid"), a1.getChangedFields());
+        assertEquals("t9", a1.getTeacherUuid());
+    }
+
+    @Test
+    @DisplayName("版本差异按解码后的时间比较并列出新增排课")
+    void testDiffComparesDecodedTime() {
+        // Given - v2 只改写 a0 的时间格式（内容相同），修改 a1 的时间，并新增 a2
+        VersionStore store = new VersionStore();
+        store.version("v1", null);
+        store.version("v2", "v1");
+        store.row("v1", "a0", "t0", MONDAY, "r0");
+        store.row("v1", "a1", "t1", MONDAY, "r1");
+        store.row("v2", "a0", "t0", "{\"weekday\":1,\"periods\":[1,2],\"weeks\":[1,2]}", "r0");
+        store.row("v2", "a1", "t1", TUESDAY, "r1");
+        store.row("v2", "a2", "t2", TUESDAY, "r2");
+
+        // When
+        ScheduleVersionDiffDTO diff = store.service().diffVersions("v1", "v2");
+
+        // Then
+        assertEquals(3, diff.getTotalCount().intValue());
+        assertEquals(2, diff.getChangedCount().intValue());
+        AssignmentChangeDTO a1 = diff.getChanges().get(0);
+        assertEquals("a1", a1.getAssignmentUuid());
+        assertEquals(List.of("classTime"), a1.getChangedFields());
+        assertEquals(MONDAY, a1.getPreviousClassTime());
+        assertEquals(TUESDAY, a1.getClassTime());
+        AssignmentChangeDTO a2 = diff.getChanges().get(1);
+        assertEquals("a2", a2.getAssignmentUuid());
+        assertNull(a2.getPreviousTeacherUuid());
+        assertEquals("t2", a2.getTeacherUuid());
+    }
+
+    @Test
+    @DisplayName("只能发布草稿版本")
+    void testPublishRejectsNonDraft() {
+        // Given
+        VersionStore store = new VersionStore();
+        store.version("v1", null).setVersionStatus(SystemConstant.ScheduleVersion.ARCHIVED);
+
+        // When
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> store.service().publishVersion("v1"));
+
+        // Then
+        assertEquals(ErrorCode.VERSION_STATUS_INVALID.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("并发发布同一版本时后到者失败，且不写回课表")
+    void testConcurrentPublishOfSameVersionFails() {
+        // Given - 读取时仍为草稿，但状态条件更新时已被另一请求发布
+        VersionStore store = new VersionStore();
+        store.version("v1", null);
+        store.row("v1", "a0", "t1", MONDAY, "r0");
+        store.current.add(current("a0", "t0", MONDAY, "r0"));
+        store.publishedConcurrently.add("v1");
+
+        // When
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> store.service().publishVersion("v1"));
+
+        // Then
+        assertEquals(ErrorCode.VERSION_STATUS_INVALID.getCode(), exception.getCode());
+        assertTrue(store.replaced.isEmpty());
+    }
+
+    @Test
+    @DisplayName("发布版本时按版本中的值原样写回，教师为空时恢复为待分配")
+    void testPublishRestoresNullTeacher() {
+        // Given - 版本中 a0 尚未分配教师，a1 与当前课表相同；当前课表中 a0 已分配教师 t0
+        VersionStore store = new VersionStore();
+        store.version("v1", null);
+        store.row("v1", "a0", null, MONDAY, "r0");
+        store.row("v1", "a1", "t1", TUESDAY, "r1");
+        store.current.add(current("a0", "t0", MONDAY, "r0"));
+        store.current.add(current("a1", "t1", TUESDAY, "r1"));
+
+        // When
+        ScheduleVersionDTO published = store.service().publishVersion("v1");
+
+        // Then - 只写回 a0，教师写为空，其余字段取版本中的值
+        assertEquals(Integer.valueOf(1), published.getChangedCount());
+        assertEquals(Integer.valueOf(SystemConstant.ScheduleVersion.PUBLISHED), published.getVersionStatus());
+        assertEquals(1, store.replaced.size());
+        ClassAssignmentDO row = store.replaced.get(0);
+        assertEquals("a0", row.getClassAssignmentUuid());
+        assertNull(row.getTeacherUuid());
+        assertEquals(MONDAY, row.getClassTime());
+        assertEquals("r0", row.getClassroomUuid());
+        assertEquals("b0", row.getBuildingUuid());
+    }
+
+    private static ClassAssignmentDO current(String assignment, String teacher, String classTime, String room) {
+        return new ClassAssignmentDO()
+                .setClassAssignmentUuid(assignment)
+                .setTeacherUuid(teacher)
+                .setClassTime(classTime)
+                .setClassroomUuid(room)
+                .setBuildingUuid("b0")
+                .setCampusUuid("p0");
+    }
+
+    /**
+     * 内存中的版本、版本排课与当前课表
+     */
+    private static final class VersionStore {
+
+        private final Map<String, ScheduleVersionDO> versions = new HashMap<>();
+        private final List<ScheduleVersionAssignmentDO> rows = new ArrayList<>();
+        private final List<ClassAssignmentDO> current = new ArrayList<>();
+        private final List<ClassAssignmentDO> replaced = new ArrayList<>();
+        private final Set<String> publishedConcurrently = new HashSet<>();
+
+        private ScheduleVersionDO version(String uuid, String parent) {
+            ScheduleVersionDO version = new ScheduleVersionDO()
+                    .setScheduleVersionUuid(uuid)
+                    .setSchoolUuid("school")
+                    .setSemesterUuid("semester")
+                    .setParentVersionUuid(parent)
+                    .setVersionStatus(SystemConstant.ScheduleVersion.DRAFT);
+            versions.put(uuid, version);
+            return version;
+        }
+
+        private void row(String version, String assignment, String teacher, String classTime, String room) {
+            rows.add(new ScheduleVersionAssignmentDO()
+                    .setScheduleVersionUuid(version)
+                    .setClassAssignmentUuid(assignment)
+                    .setTeacherUuid(teacher)
+                    .setClassTime(classTime)
+                    .setClassroomUuid(room)
+                    .setBuildingUuid("b0")
+                    .setCampusUuid("p0"));
+        }
+
+        private ScheduleVersionServiceLogic service() {
+            ScheduleVersionDAO versionDAO = new ScheduleVersionDAO() {
+                @Override
+                public ScheduleVersionDO getById(Serializable id) {
+                    return versions.get(id);
+                }
+
+                @Override
+                public ScheduleVersionDO selectPublished(String schoolUuid, String semesterUuid) {
+                    return versions.values().stream()
+                            .filter(version -> Objects.equals(version.getVersionStatus(),
+                                    SystemConstant.ScheduleVersion.PUBLISHED))
+                            .findFirst()
+                            .orElse(null);
+                }
+
+                @Override
+                public boolean updateById(ScheduleVersionDO entity) {
+                    return true;
+                }
+
+                @Override
+                public boolean publishDraft(String versionUuid, LocalDateTime publishedAt) {
+                    return !publishedConcurrently.contains(versionUuid);
+                }
+            };
+            ScheduleVersionAssignmentDAO assignmentDAO = new ScheduleVersionAssignmentDAO() {
+                @Override
+                public List<ScheduleVersionAssignmentDO> selectByVersions(Collection<String> versionUuids) {
+                    return rows.stream().filter(row -> versionUuids.contains(row.getScheduleVersionUuid())).toList();
+                }
+            };
+            ClassAssignmentDAO classAssignmentDAO = new ClassAssignmentDAO() {
+                @Override
+                public List<ClassAssignmentDO> selectBySemester(String schoolUuid, String semesterUuid) {
+                    return current;
+                }
+            };
+            ClassAssignmentBulkWriter writer = new ClassAssignmentBulkWriter(null) {
+                @Override
+                public Set<String> replace(String semesterUuid, Collection<ClassAssignmentDO> changed) {
+                    replaced.addAll(changed);
+                    Set<String> updated = new HashSet<>();
+                    changed.forEach(row -> updated.add(row.getClassAssignmentUuid()));
+                    return updated;
+                }
+            };
+            return new ScheduleVersionServiceLogic(versionDAO, assignmentDAO, classAssignmentDAO, writer,
+                    new AutoScheduleTests.NoopOccupancyIndexService());
+        }
+    }
+}
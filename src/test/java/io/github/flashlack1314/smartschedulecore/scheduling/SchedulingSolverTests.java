@@ -0,0 +1,589 @@
+package io.github.flashlack1314.smartschedulecore.scheduling;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.CampusDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.SemesterDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherCourseQualificationDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeacherPreferencesDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.index.QualificationIndex;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelMatrix;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.CampusTravelOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.DomainPropagation;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.PropagationOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TeacherPreferenceScorer;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlot;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.TimeSlotCodec;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.EntityKind;
+import io.github.flashlack1314.smartschedulecore.scheduling.snapshot.SemesterSnapshot;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.AnnealingOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.DepartmentDecomposer;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.GeneticOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.GreedyScheduler;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.IslandGeneticSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.PortfolioOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.PortfolioSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SimulatedAnnealingSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.SolveControl;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TabuOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TabuSearchSolver;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TeacherAssigner;
+import io.github.flashlack1314.smartschedulecore.scheduling.solver.TimetableEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 排课求解器单元测试
+ *
+ * @author flash
+ */
+class SchedulingSolverTests {
+
+    @Test
+    @DisplayName("贪心排课无资源冲突")
+    void testGreedyProducesFeasibleTimetable() {
+        // Given - 2 天 × 4 节，2 间教室，4 个教学班共 8 条 2 节连堂排课（教室恰好排满）
+        SchedulingProblem problem = problem(8, 4);
+
+        // When
+        Timetable timetable = new GreedyScheduler().solve(problem);
+
+        // Then
+        assertEquals(problem.assignmentCount(), timetable.assignedCount());
+        assertNoClash(problem, timetable);
+    }
+
+    @Test
+    @DisplayName("贪心排课遵守固定时间并保留已有安排")
+    void testGreedyKeepsFixedAndSeeded() {
+        // Given
+        List<ClassAssignmentDO> assignments = new ArrayList<>();
+        assignments.add(assignment("a0", "t0", "c0")
+                .setSpecifiedTime("{\"weekday\":2,\"periods\":[3,4]}"));
+        assignments.add(assignment("a1", "t1", "c1")
+                .setClassTime("{\"weeks\":[1,2],\"weekday\":1,\"periods\":[1,2]}")
+                .setClassroomUuid("r1"));
+        SchedulingProblem problem = build(assignments);
+
+        // When
+        Timetable timetable = new GreedyScheduler().solve(problem, Timetable.initial(problem));
+
+        // Then
+        assertEquals(TimeSlot.of(0b11L, 2, 0b1100), problem.timeSlotOf(0, timetable.slotOf(0)));
+        assertEquals(problem.getInitialSlotOf()[1], timetable.slotOf(1));
+        assertEquals("r1", problem.getRoomIds().uuidOf(timetable.roomOf(1)));
+    }
+
+    @Test
+    @DisplayName("贪心排课避开共享行政班的教学班")
+    void testGreedyAvoidsAdministrativeClassClash() {
+        // Given - 1 天 × 2 节，两个教学班共享行政班 x1，各有一条 2 节连堂排课
+        List<ClassAssignmentDO> assignments = List.of(
+                assignment("a0", "t0", "c0"),
+                assignment("a1", "t1", "c1"));
+        SchedulingProblem problem = SchedulingProblem.builder()
+                .schoolUuid("school")
+                .semesterUuid("semester")
+                .daysPerWeek(1)
+                .periodsPerDay(2)
+                .semesterWeeks(2)
+                .assignments(assignments)
+                .classrooms(List.of(
+                        new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true),
+                        new ClassroomDO().setClassroomUuid("r1").setCapacity(40).setIsEnabled(true)))
+                .teachingClasses(List.of(
+                        new TeachingClassDO().setTeachingClassUuid("c0").setAdministrativeClasses("[\"x1\"]"),
+                        new TeachingClassDO().setTeachingClassUuid("c1").setAdministrativeClasses("[\"x1\",\"x2\"]")))
+                .build();
+
+        // When
+        Timetable timetable = new GreedyScheduler().solve(problem);
+        Timetable clashing = new Timetable(2);
+        clashing.assign(0, 0, 0);
+        clashing.assign(1, 0, 1);
+
+        // Then - 只能安排其中一条，同时上课视为冲突
+        assertEquals(2, problem.administrativeClassCount());
+        assertEquals(1, timetable.assignedCount());
+        assertFalse(TimetableEvaluator.isFeasible(new TimetableEvaluator(problem).evaluate(clashing)));
+    }
+
+    @Test
+    @DisplayName("学期快照构建排课问题时使用时间打包列")
+    void testSnapshotUsesPackedColumns() {
+        // Given - 只有生成列、没有 JSON 的排课；学期共 3 周
+        SemesterSnapshot.Builder builder = SemesterSnapshot.builder(new SemesterDO()
+                .setSemesterUuid("semester")
+                .setSchoolUuid("school")
+                .setStartDate(LocalDate.of(2026, 9, 1))
+                .setEndDate(LocalDate.of(2026, 9, 15)));
+        builder.addClassroom(new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c0").setClassSize(30));
+        builder.addAssignment(assignment("a0", "t0", "c0")
+                .setClassWeekMask(0b11L)
+                .setClassDayPeriods(TimeSlotCodec.pack(TimeSlot.of(0b11L, 2, 0b110)))
+                .setClassroomUuid("r0"));
+        builder.addAssignment(assignment("a1", "t0", "c0")
+                .setSpecifiedDayPeriods(TimeSlotCodec.pack(TimeSlot.of(1L, 1, 0b11))));
+        SemesterSnapshot snapshot = builder.build();
+
+        // When
+        SchedulingProblem problem = SchedulingProblem.builder()
+                .snapshot(snapshot)
+                .daysPerWeek(2)
+                .periodsPerDay(4)
+                .build();
+
+        // Then
+        assertEquals(3, snapshot.weekCount());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getAssignments().clear());
+        assertEquals(TimeSlot.of(0b11L, 2, 0b110), problem.timeSlotOf(0, problem.getInitialSlotOf()[0]));
+        assertEquals(0, problem.getInitialRoomOf()[0]);
+        assertEquals(0b111L, problem.getWeeksOf()[1]);
+        assertEquals(0, problem.getFixedSlotOf()[1]);
+        assertEquals(0, snapshot.dictionary(EntityKind.CLASS_ASSIGNMENT).idOf("a0"));
+        assertEquals("t0", snapshot.dictionary(EntityKind.TEACHER).uuidOf(0));
+    }
+
+    @Test
+    @DisplayName("约束传播按固定排课收缩定义域并发现固定排课之间的冲突")
+    void testDomainPropagation() {
+        // Given - a0 固定在周一 1-2 节，a1 与 a0 同一教师；a2、a3 固定在同一时间且同一教师
+        List<ClassAssignmentDO> assignments = new ArrayList<>();
+        assignments.add(assignment("a0", "t0", "c0")
+                .setSpecifiedTime("{\"weekday\":1,\"periods\":[1,2]}"));
+        assignments.add(assignment("a1", "t0", "c1"));
+        assignments.add(assignment("a2", "t1", "c2")
+                .setSpecifiedTime("{\"weekday\":2,\"periods\":[3,4]}"));
+        assignments.add(assignment("a3", "t1", "c3")
+                .setSpecifiedTime("{\"weekday\":2,\"periods\":[3,4]}"));
+        SchedulingProblem problem = build(assignments);
+        int pinned = problem.getFixedSlotOf()[0];
+
+        int[] unrestricted = problem.startSlotsOf(1);
+
+        // When
+        DomainPropagation propagation = DomainPropagation.propagate(problem, new PropagationOptions());
+        SchedulingProblem restricted = propagation.getProblem();
+
+        // Then - 原问题不变，副本中 a1 不能再与 a0 同时上课
+        assertSame(unrestricted, problem.startSlotsOf(1));
+        assertTrue(propagation.prunedSizeOf(1) < propagation.initialSizeOf(1));
+        assertTrue(restricted.startSlotsOf(1).length < unrestricted.length);
+        for (int slot : restricted.startSlotsOf(1)) {
+            assertFalse(problem.timeSlotOf(1, slot).overlaps(problem.timeSlotOf(0, pinned)));
+        }
+        // Then - a2、a3 同一教师同一时间，后者不可行
+        assertFalse(propagation.isFeasible());
+        assertFalse(propagation.isInfeasible(2));
+        assertTrue(propagation.isInfeasible(3));
+        assertEquals(0, propagation.prunedSizeOf(3));
+        assertTrue(propagation.totalPrunedSize() < propagation.totalInitialSize());
+
+        // Then - 贪心排课只在收缩后的定义域内安排 a1
+        Timetable timetable = new GreedyScheduler().solve(restricted, Timetable.initial(restricted));
+        assertTrue(timetable.isAssigned(1));
+        assertFalse(problem.timeSlotOf(1, timetable.slotOf(1)).overlaps(problem.timeSlotOf(0, timetable.slotOf(0))));
+    }
+
+    @Test
+    @DisplayName("遗传算法不劣于种子解且修复后无冲突")
+    void testGeneticImprovesSeed() {
+        // Given - 从全部未安排的课表出发
+        SchedulingProblem problem = problem(8, 4);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        TimetableEvaluator evaluator = new TimetableEvaluator(problem);
+        GeneticOptions options = new GeneticOptions()
+                .setIslands(3)
+                .setPopulationSize(20)
+                .setGenerations(200)
+                .setMigrationInterval(10)
+                .setMutationRate(0.1)
+                .setTimeLimitMillis(5_000L);
+        ForkJoinPool pool = new ForkJoinPool(3);
+
+        // When
+        Timetable evolved;
+        try {
+            evolved = new IslandGeneticSolver(pool, options).solve(problem, seed);
+        } finally {
+            pool.shutdown();
+        }
+        Timetable repaired = new GreedyScheduler().repair(problem, evolved);
+
+        // Then
+        assertTrue(evaluator.evaluate(evolved) < evaluator.evaluate(seed));
+        assertEquals(problem.assignmentCount(), repaired.assignedCount());
+        assertTrue(TimetableEvaluator.isFeasible(evaluator.evaluate(repaired)));
+        assertNoClash(problem, repaired);
+    }
+
+    @Test
+    @DisplayName("模拟退火消除初始冲突")
+    void testAnnealingRemovesClashes() {
+        // Given - 所有排课挤在同一时间、同一教室
+        SchedulingProblem problem = problem(8, 4);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        for (int a = 0; a < seed.size(); a++) {
+            seed.assign(a, 0, 0);
+        }
+        TimetableEvaluator evaluator = new TimetableEvaluator(problem);
+        AnnealingOptions options = new AnnealingOptions()
+                .setMaxIterations(200_000L)
+                .setTimeLimitMillis(5_000L);
+
+        // When
+        Timetable annealed = new SimulatedAnnealingSolver(options).solve(problem, seed);
+
+        // Then
+        assertEquals(problem.assignmentCount(), annealed.assignedCount());
+        assertTrue(TimetableEvaluator.isFeasible(evaluator.evaluate(annealed)));
+        assertNoClash(problem, annealed);
+    }
+
+    @Test
+    @DisplayName("禁忌搜索消除初始冲突")
+    void testTabuRemovesClashes() {
+        // Given - 所有排课挤在同一时间、同一教室
+        SchedulingProblem problem = problem(8, 4);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        for (int a = 0; a < seed.size(); a++) {
+            seed.assign(a, 0, 0);
+        }
+        TimetableEvaluator evaluator = new TimetableEvaluator(problem);
+        TabuOptions options = new TabuOptions()
+                .setMaxIterations(20_000L)
+                .setTimeLimitMillis(5_000L);
+
+        // When
+        Timetable searched = new TabuSearchSolver(options).solve(problem, seed);
+
+        // Then
+        assertEquals(problem.assignmentCount(), searched.assignedCount());
+        assertTrue(TimetableEvaluator.isFeasible(evaluator.evaluate(searched)));
+        assertNoClash(problem, searched);
+    }
+
+    @Test
+    @DisplayName("组合求解并行运行各策略并返回代价最小的结果")
+    void testPortfolioPicksBestStrategy() {
+        // Given - 从全部未安排的课表出发，三个优化策略共享 2 秒预算
+        SchedulingProblem problem = problem(8, 4);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        TimetableEvaluator evaluator = new TimetableEvaluator(problem);
+        PortfolioOptions options = new PortfolioOptions().setTimeLimitMillis(2_000L);
+        GeneticOptions genetic = new GeneticOptions()
+                .setIslands(2)
+                .setPopulationSize(20)
+                .setGenerations(100);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        SolveControl control = new SolveControl();
+
+        // When
+        PortfolioSolver.Result result;
+        try {
+            result = new PortfolioSolver(executor, pool, options, new AnnealingOptions(), new TabuOptions(), genetic)
+                    .solve(problem, seed, control);
+        } finally {
+            executor.shutdown();
+            pool.shutdown();
+        }
+
+        // Then - 每个策略都有代价，胜者的代价最小且课表无冲突
+        assertEquals(List.of(PortfolioSolver.GREEDY, PortfolioSolver.ANNEALING, PortfolioSolver.TABU,
+                PortfolioSolver.GENETIC), new ArrayList<>(result.getCosts().keySet()));
+        long winnerCost = result.getCosts().get(result.getStrategy());
+        assertEquals(winnerCost, evaluator.evaluate(result.getTimetable()));
+        result.getCosts().values().forEach(cost -> assertTrue(winnerCost <= cost));
+        assertEquals(problem.assignmentCount(), result.getTimetable().assignedCount());
+        assertNoClash(problem, result.getTimetable());
+        assertNotNull(control.getBestStrategy());
+    }
+
+    @Test
+    @DisplayName("按院系分解求解后消解共享教师冲突")
+    void testDepartmentDecomposition() {
+        // Given - 两个院系各有自管教室，另有一间公共教室；教师 t 同时在两个院系授课
+        SemesterSnapshot.Builder builder = SemesterSnapshot.builder(new SemesterDO()
+                .setSemesterUuid("semester")
+                .setSchoolUuid("school")
+                .setStartDate(LocalDate.of(2026, 9, 1))
+                .setEndDate(LocalDate.of(2026, 9, 8)));
+        builder.addClassroom(new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true)
+                .setManagementDepartmentUuid("d1"));
+        builder.addClassroom(new ClassroomDO().setClassroomUuid("r1").setCapacity(40).setIsEnabled(true)
+                .setManagementDepartmentUuid("d2"));
+        builder.addClassroom(new ClassroomDO().setClassroomUuid("r2").setCapacity(60).setIsEnabled(true));
+        for (int c = 0; c < 4; c++) {
+            builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c" + c).setClassSize(30)
+                    .setDepartmentUuid(c < 2 ? "d1" : "d2"));
+        }
+        builder.addAssignment(assignment("a0", "t", "c0"));
+        builder.addAssignment(assignment("a1", "t1", "c1"));
+        builder.addAssignment(assignment("a2", "t", "c2"));
+        builder.addAssignment(assignment("a3", "t3", "c3"));
+        SemesterSnapshot snapshot = builder.build();
+        SchedulingProblem problem = SchedulingProblem.builder().snapshot(snapshot).daysPerWeek(2).periodsPerDay(4)
+                .build();
+
+        // When
+        List<DepartmentDecomposer.Partition> partitions = DepartmentDecomposer.partition(snapshot);
+        DepartmentDecomposer.Result result = new DepartmentDecomposer(Runnable::run).solve(problem,
+                new Timetable(problem.assignmentCount()), partitions,
+                partition -> SchedulingProblem.builder().snapshot(snapshot).daysPerWeek(2).periodsPerDay(4)
+                        .assignments(partition.getAssignments())
+                        .classrooms(partition.getClassrooms())
+                        .build(),
+                (sub, seed, control) -> new GreedyScheduler().solve(sub, seed),
+                new SolveControl());
+
+        // Then - 每个院系只使用自管教室与公共教室，合并后共享教师的冲突被消解
+        assertEquals(2, partitions.size());
+        assertEquals(List.of("r0", "r2"), partitions.get(0).getClassrooms().stream()
+                .map(ClassroomDO::getClassroomUuid).toList());
+        assertEquals(2, result.getPartitionCount());
+        assertTrue(result.getReconciledCount() > 0);
+        assertEquals(problem.assignmentCount(), result.getTimetable().assignedCount());
+        assertNoClash(problem, result.getTimetable());
+    }
+
+    @Test
+    @DisplayName("请求停止后模拟退火立即返回并发布当前最优解")
+    void testAnnealingStopsOnRequest() {
+        // Given - 初始冲突课表，求解前已请求停止
+        SchedulingProblem problem = problem(8, 4);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        for (int a = 0; a < seed.size(); a++) {
+            seed.assign(a, 0, 0);
+        }
+        AnnealingOptions options = new AnnealingOptions()
+                .setMaxIterations(200_000L)
+                .setTimeLimitMillis(5_000L);
+        SolveControl control = new SolveControl();
+        control.requestStop();
+
+        // When
+        Timetable result = new SimulatedAnnealingSolver(options).solve(problem, seed, control);
+
+        // Then - 未做任何迭代，发布的最优解与返回结果一致且未被标记为取消
+        assertEquals(0L, control.getIterations());
+        assertFalse(control.isCancelled());
+        assertNotNull(control.getBestScore());
+        assertTrue(control.getBestScore().clashes() > 0);
+        assertEquals(new TimetableEvaluator(problem).evaluate(result), control.getBestScore().cost());
+        assertEquals(result.assignedCount(), control.getBestTimetable().assignedCount());
+    }
+
+    @Test
+    @DisplayName("教师偏好计入避免时间与连续节数超限")
+    void testTeacherPreferencePenalty() {
+        // Given - 同一教师周一 1-4 节连上，周一 1-2 节为避免时间，最多连续 2 节
+        List<ClassAssignmentDO> assignments = List.of(
+                assignment("a0", "t0", "c0"),
+                assignment("a1", "t0", "c1"));
+        SchedulingProblem plain = build(assignments);
+        SchedulingProblem preferred = SchedulingProblem.builder()
+                .schoolUuid("school")
+                .semesterUuid("semester")
+                .daysPerWeek(2)
+                .periodsPerDay(4)
+                .semesterWeeks(2)
+                .assignments(assignments)
+                .classrooms(List.of(new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true)))
+                .preferences(List.of(new TeacherPreferencesDO()
+                        .setTeacherUuid("t0")
+                        .setAvoidedTime("{\"weekday\":[1],\"period\":[1,2]}")
+                        .setMaxConsecutiveCourses(2)))
+                .build();
+        Timetable timetable = new Timetable(2);
+        timetable.assign(0, 0, 0);
+        timetable.assign(1, 2, 0);
+
+        // When
+        long extra = new TimetableEvaluator(preferred).evaluate(timetable)
+                - new TimetableEvaluator(plain).evaluate(timetable);
+        TeacherPreferenceScorer.TeacherSatisfaction row = preferred.getPreferenceScorer()
+                .breakdown(preferred, timetable.slots(), timetable.rooms()).get(0);
+
+        // Then - 避免时间 2 节 × 3，连续超出 2 节 × 5
+        assertTrue(plain.getPreferenceScorer().isEmpty());
+        assertEquals(16, extra);
+        assertEquals(16, row.getPenalty());
+        assertEquals(4, row.getAssignedPeriods());
+        assertEquals(2, row.getAvoidedPeriods());
+        assertEquals(2, row.getExcessConsecutivePeriods());
+        assertEquals(0.5, row.timeSatisfaction());
+    }
+
+    @Test
+    @DisplayName("按授课资格自动分配教师并均衡工作量")
+    void testTeacherAssignmentByQualification() {
+        // Given - 课程 m0：t1 主讲 3 级、t2 非主讲 5 级、t3 未审批；课程 m1 只有 t2；t1 已有 2 节课
+        SemesterSnapshot.Builder builder = SemesterSnapshot.builder(new SemesterDO()
+                .setSemesterUuid("semester")
+                .setSchoolUuid("school")
+                .setStartDate(LocalDate.of(2026, 9, 1))
+                .setEndDate(LocalDate.of(2026, 9, 15)));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c0").setCourseUuid("m0"));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c1").setCourseUuid("m0"));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c2").setCourseUuid("m1"));
+        builder.addTeachingClass(new TeachingClassDO().setTeachingClassUuid("c3").setCourseUuid("m9"));
+        builder.addAssignment(assignment("a0", null, "c0"));
+        builder.addAssignment(assignment("a1", null, "c1"));
+        builder.addAssignment(assignment("a2", null, "c2"));
+        builder.addAssignment(assignment("a3", "t1", "c3"));
+        builder.addQualification(qualification("t1", "m0", 3, true, 1));
+        builder.addQualification(qualification("t2", "m0", 5, false, 1));
+        builder.addQualification(qualification("t3", "m0", 5, true, 0));
+        builder.addQualification(qualification("t2", "m1", 4, true, 1));
+        SemesterSnapshot snapshot = builder.build();
+        QualificationIndex index = QualificationIndex.build(snapshot.getQualifications());
+
+        // When
+        TeacherAssigner.Result result = new TeacherAssigner().assign(snapshot, index);
+        SchedulingProblem problem = SchedulingProblem.builder()
+                .snapshot(snapshot)
+                .teacherOverrides(result.getTeacherByTeachingClass())
+                .build();
+
+        // Then - c2 只能由 t2 担任；c0 两人代价相同时取排名靠前的 t1；c1 因 t1 负载更高改由 t2 担任
+        assertEquals(List.of("t1", "t2"), index.qualifiedTeachers("m0"));
+        assertFalse(index.isQualified("t3", "m0"));
+        assertEquals("t2", result.getTeacherByTeachingClass().get("c2"));
+        assertEquals("t1", result.getTeacherByTeachingClass().get("c0"));
+        assertEquals("t2", result.getTeacherByTeachingClass().get("c1"));
+        assertTrue(result.getUnstaffedTeachingClassUuids().isEmpty());
+        assertEquals(problem.getTeacherOf()[3], problem.getTeacherOf()[0]);
+        assertEquals(2, problem.teacherCount());
+    }
+
+    @Test
+    @DisplayName("同一教师跨校区上课时前后课之间留出通行时间")
+    void testCampusTravelGap() {
+        // Given - 两校区相距约 10 千米（通行约 34 分钟，需空出 1 节）；a0 已排在东校区第 1-2 节，a1 只能用西校区实验室
+        List<ClassAssignmentDO> assignments = List.of(
+                assignment("a0", "t0", "c0"),
+                assignment("a1", "t0", "c1").setClassroomTypeUuid("lab"));
+        List<ClassroomDO> rooms = List.of(
+                new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true)
+                        .setCampusUuid("east"),
+                new ClassroomDO().setClassroomUuid("r1").setCapacity(60).setIsEnabled(true)
+                        .setCampusUuid("west").setClassroomTypeUuid("lab"));
+        List<CampusDO> campuses = List.of(
+                new CampusDO().setCampusUuid("east")
+                        .setLatitude(new BigDecimal("30.0"))
+                        .setLongitude(new BigDecimal("120.0")),
+                new CampusDO().setCampusUuid("west")
+                        .setLatitude(new BigDecimal("30.09"))
+                        .setLongitude(new BigDecimal("120.0")));
+        SchedulingProblem.Builder builder = SchedulingProblem.builder()
+                .schoolUuid("school")
+                .semesterUuid("semester")
+                .daysPerWeek(1)
+                .periodsPerDay(6)
+                .semesterWeeks(2)
+                .assignments(assignments)
+                .classrooms(rooms)
+                .campuses(campuses);
+        SchedulingProblem problem = builder.build();
+        SchedulingProblem soft = builder.travel(new CampusTravelOptions().setHard(false)).build();
+        Timetable seed = new Timetable(2);
+        seed.assign(0, 0, 0);
+
+        // When
+        Timetable timetable = new GreedyScheduler().solve(problem, seed);
+        Timetable adjacent = seed.copy();
+        adjacent.assign(1, 2, 1);
+
+        // Then - 紧接的第 3 节来不及赶到，排到第 4-5 节；软约束时只计通行代价
+        CampusTravelMatrix travel = problem.getCampusTravel();
+        assertEquals(1, travel.gapPeriods(travel.campusOfRoom(0), travel.campusOfRoom(1)));
+        assertEquals(3, timetable.slotOf(1));
+        assertEquals(1, timetable.roomOf(1));
+        assertFalse(TimetableEvaluator.isFeasible(new TimetableEvaluator(problem).evaluate(adjacent)));
+        assertEquals(TimetableEvaluator.TRAVEL_WEIGHT, new TimetableEvaluator(soft).evaluate(adjacent));
+    }
+
+    /**
+     * 构造排课问题：排课轮流分配给各教学班，教师与教学班一一对应
+     */
+    static SchedulingProblem problem(int count, int classes) {
+        List<ClassAssignmentDO> assignments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int c = i % classes;
+            assignments.add(assignment("a" + i, "t" + c, "c" + c));
+        }
+        return build(assignments);
+    }
+
+    static SchedulingProblem build(List<ClassAssignmentDO> assignments) {
+        List<TeachingClassDO> classes = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            classes.add(new TeachingClassDO().setTeachingClassUuid("c" + c).setClassSize(30));
+        }
+        return SchedulingProblem.builder()
+                .schoolUuid("school")
+                .semesterUuid("semester")
+                .daysPerWeek(2)
+                .periodsPerDay(4)
+                .semesterWeeks(2)
+                .assignments(assignments)
+                .classrooms(List.of(
+                        new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true),
+                        new ClassroomDO().setClassroomUuid("r1").setCapacity(60).setIsEnabled(true)))
+                .teachingClasses(classes)
+                .build();
+    }
+
+    static ClassAssignmentDO assignment(String uuid, String teacher, String teachingClass) {
+        return new ClassAssignmentDO()
+                .setClassAssignmentUuid(uuid)
+                .setSchoolUuid("school")
+                .setSemesterUuid("semester")
+                .setTeacherUuid(teacher)
+                .setTeachingClassUuid(teachingClass)
+                .setConsecutiveSessions(2);
+    }
+
+    static TeacherCourseQualificationDO qualification(String teacher, String course, int level, boolean primary,
+                                                      int approvalStatus) {
+        return new TeacherCourseQualificationDO()
+                .setQualificationUuid(teacher + ":" + course)
+                .setTeacherUuid(teacher)
+                .setCourseUuid(course)
+                .setQualificationLevel(level)
+                .setIsPrimary(primary)
+                .setApprovalStatus(approvalStatus);
+    }
+
+    static void assertNoClash(SchedulingProblem problem, Timetable timetable) {
+        for (int a = 0; a < timetable.size(); a++) {
+            for (int b = a + 1; b < timetable.size(); b++) {
+                if (!timetable.isAssigned(a) || !timetable.isAssigned(b)) {
+                    continue;
+                }
+                boolean overlaps = problem.timeSlotOf(a, timetable.slotOf(a))
+                        .overlaps(problem.timeSlotOf(b, timetable.slotOf(b)));
+                if (overlaps) {
+                    assertNotEquals(timetable.roomOf(a), timetable.roomOf(b), "教室冲突");
+                    assertNotEquals(problem.getTeacherOf()[a], problem.getTeacherOf()[b], "教师冲突");
+                    assertNotEquals(problem.getTeachingClassOf()[a], problem.getTeachingClassOf()[b], "班级冲突");
+                }
+            }
+        }
+    }
+}
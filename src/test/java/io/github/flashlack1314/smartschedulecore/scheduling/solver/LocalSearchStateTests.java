@@ -0,0 +1,89 @@
+package io.github.flashlack1314.smartschedulecore.scheduling.solver;
+
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassAssignmentDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.ClassroomDO;
+import io.github.flashlack1314.smartschedulecore.models.entity.TeachingClassDO;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.DomainPropagation;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.PropagationOptions;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.SchedulingProblem;
+import io.github.flashlack1314.smartschedulecore.scheduling.model.Timetable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 局部搜索状态单元测试
+ *
+ * @author flash
+ */
+class LocalSearchStateTests {
+
+    @Test
+    @DisplayName("交换移动不把排课换到约束传播删除的开始位置")
+    void testSwapStaysWithinRestrictedDomain() {
+        // Given - a0 固定在周一 1-2 节，a1 与 a0 同一教师，传播后 a1 不能与 a0 重叠；a2 占着周一 1-2 节
+        List<ClassAssignmentDO> assignments = new ArrayList<>();
+        assignments.add(assignment("a0", "t0", "c0").setSpecifiedTime("{\"weekday\":1,\"periods\":[1,2]}"));
+        assignments.add(assignment("a1", "t0", "c1"));
+        assignments.add(assignment("a2", "t1", "c2"));
+        SchedulingProblem problem = DomainPropagation.propagate(build(assignments), new PropagationOptions())
+                .getProblem();
+        int monday = problem.getFixedSlotOf()[0];
+        int tuesday = problem.getPeriodsPerDay();
+        assertTrue(Arrays.binarySearch(problem.startSlotsOf(1), monday) < 0);
+        Timetable seed = new Timetable(problem.assignmentCount());
+        seed.assign(0, monday, 0);
+        seed.assign(1, tuesday, 0);
+        seed.assign(2, monday, 1);
+        LocalSearchState state = new LocalSearchState(problem, seed);
+        state.initialCost();
+        SplittableRandom random = new SplittableRandom(7L);
+
+        // When / Then - 每次交换后所有排课都在各自的定义域内
+        for (int i = 0; i < 500; i++) {
+            if (state.trySwap(random) == LocalSearchState.NO_MOVE) {
+                continue;
+            }
+            for (int a = 0; a < problem.assignmentCount(); a++) {
+                assertTrue(Arrays.binarySearch(problem.startSlotsOf(a), state.slotOf(a)) >= 0);
+            }
+            state.undo();
+        }
+        assertEquals(tuesday, state.slotOf(1));
+    }
+
+    private static SchedulingProblem build(List<ClassAssignmentDO> assignments) {
+        List<TeachingClassDO> classes = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            classes.add(new TeachingClassDO().setTeachingClassUuid("c" + c).setClassSize(30));
+        }
+        return SchedulingProblem.builder()
+                .schoolUuid("school")
+                .semesterUuid("semester")
+                .daysPerWeek(2)
+                .periodsPerDay(4)
+                .semesterWeeks(2)
+                .assignments(assignments)
+                .classrooms(List.of(
+                        new ClassroomDO().setClassroomUuid("r0").setCapacity(40).setIsEnabled(true),
+                        new ClassroomDO().setClassroomUuid("r1").setCapacity(60).setIsEnabled(true)))
+                .teachingClasses(classes)
+                .build();
+    }
+
+    private static ClassAssignmentDO assignment(String uuid, String teacher, String teachingClass) {
+        return new ClassAssignmentDO()
+                .setClassAssignmentUuid(uuid)
+                .setSchoolUuid("school")
+                .setSemesterUuid("semester")
+                .setTeacherUuid(teacher)
+                .setTeachingClassUuid(teachingClass)
+                .setConsecutiveSessions(2);
+    }
+}
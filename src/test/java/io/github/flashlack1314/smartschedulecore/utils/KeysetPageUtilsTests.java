@@ -0,0 +1,76 @@
+package io.github.flashlack1314.smartschedulecore.utils;
+
+import io.github.flashlack1314.smartschedulecore.exceptions.BusinessException;
+import io.github.flashlack1314.smartschedulecore.exceptions.ErrorCode;
+import io.github.flashlack1314.smartschedulecore.models.dto.KeysetPageDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 游标分页工具单元测试
+ *
+ * @author flash
+ */
+class KeysetPageUtilsTests {
+
+    @Test
+    @DisplayName("游标编码后可还原创建时间与主键")
+    void testCursorRoundTrip() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 9, 1, 8, 30, 15, 123_456_000);
+        String key = "0f1e2d3c4b5a69788796a5b4c3d2e1f0";
+
+        // When
+        String cursor = KeysetPageUtils.encode(createdAt, key);
+        Object[] decoded = KeysetPageUtils.decode(cursor);
+
+        // Then - 游标只含 URL 安全字符
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertEquals(createdAt, decoded[0]);
+        assertEquals(key, decoded[1]);
+    }
+
+    @Test
+    @DisplayName("格式错误的游标返回参数错误")
+    void testInvalidCursor() {
+        // When
+        BusinessException notBase64 = assertThrows(BusinessException.class,
+                () -> KeysetPageUtils.decode("not a cursor!"));
+        BusinessException noSeparator = assertThrows(BusinessException.class,
+                () -> KeysetPageUtils.decode(Base64.getUrlEncoder().encodeToString(
+                        "2026-09-01T08:30".getBytes(StandardCharsets.UTF_8))));
+
+        // Then
+        assertEquals(ErrorCode.PARAM_ERROR.getCode(), notBase64.getCode());
+        assertEquals(ErrorCode.PARAM_ERROR.getCode(), noSeparator.getCode());
+    }
+
+    @Test
+    @DisplayName("多取一行判断是否还有下一页")
+    void testHasMoreFromExtraRow() {
+        // Given - 每页 2 条，查询最多取 3 行
+        String clause = KeysetPageUtils.orderAndLimit("created_at", "school_uuid", 2);
+
+        // When
+        KeysetPageDTO<String> full = KeysetPageUtils.toPage(List.of("a", "b", "c"), 2,
+                String::toUpperCase, last -> "cursor-" + last);
+        KeysetPageDTO<String> lastPage = KeysetPageUtils.toPage(List.of("d", "e"), 2,
+                String::toUpperCase, last -> "cursor-" + last);
+
+        // Then - 有多余行时只返回 2 条，游标取本页最后一行；最后一页没有游标
+        assertEquals("ORDER BY created_at DESC, school_uuid DESC LIMIT 3", clause);
+        assertEquals(List.of("A", "B"), full.getRecords());
+        assertTrue(full.getHasMore());
+        assertEquals("cursor-b", full.getNextCursor());
+        assertEquals(List.of("D", "E"), lastPage.getRecords());
+        assertFalse(lastPage.getHasMore());
+        assertNull(lastPage.getNextCursor());
+    }
+}